@@ -0,0 +1,47 @@
+package no.unit.nva.benchmarks;
+
+import jakarta.xml.bind.JAXBException;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.doi.DataCiteMetadataDtoMapper;
+import no.unit.nva.model.Publication;
+import no.unit.nva.transformer.Transformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the transformation of a publication into DataCite XML, with the publisher lookup
+ * answered by {@link StubRawContentRetriever}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataCiteBenchmark {
+
+  @Param public PublicationSize size;
+
+  private final StubRawContentRetriever uriRetriever = new StubRawContentRetriever();
+  private Publication publication;
+
+  @Setup
+  public void setUp() {
+    publication = size.createPublication();
+  }
+
+  @Benchmark
+  public String toDataCiteXml() throws JAXBException {
+    var metadata = DataCiteMetadataDtoMapper.fromPublication(publication, uriRetriever);
+    return new Transformer(metadata).asXml();
+  }
+}
@@ -0,0 +1,67 @@
+package no.unit.nva.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.expansion.model.ExpandedResource;
+import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.queue.QueueClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+/**
+ * Measures expansion of a resource into its search index document, with every lookup answered by
+ * {@link StubRawContentRetriever}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExpansionBenchmark {
+
+  @Param public PublicationSize size;
+
+  private final StubRawContentRetriever uriRetriever = new StubRawContentRetriever();
+  private final QueueClient recoveryQueue = new DiscardingQueueClient();
+  private Resource resource;
+
+  @Setup
+  public void setUp() {
+    resource = Resource.fromPublication(size.createPublication());
+  }
+
+  @Benchmark
+  public ExpandedResource expand() {
+    return ExpandedResource.fromPublication(uriRetriever, null, recoveryQueue, resource);
+  }
+
+  private static final class DiscardingQueueClient implements QueueClient {
+
+    @Override
+    public void sendMessage(SendMessageRequest sendMessageRequest) {
+      // NO-OP
+    }
+
+    @Override
+    public List<Message> readMessages(int maximumNumberOfMessages) {
+      return List.of();
+    }
+
+    @Override
+    public void deleteMessages(List<Message> messages) {
+      // NO-OP
+    }
+  }
+}
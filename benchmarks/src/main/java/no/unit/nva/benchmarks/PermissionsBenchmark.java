@@ -0,0 +1,72 @@
+package no.unit.nva.benchmarks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.model.CuratingInstitution;
+import no.unit.nva.model.PublicationOperation;
+import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.publication.PublicationPermissions;
+import nva.commons.apigateway.AccessRight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the evaluation of every publication operation for an owner and for a curator. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PermissionsBenchmark {
+
+  private static final String CURATOR_USERNAME = "curator@benchmark";
+  private static final URI CURATOR_CRISTIN_ID =
+      URI.create("https://api.benchmark.nva.aws.unit.no/cristin/person/1");
+
+  @Param public PublicationSize size;
+
+  private Resource resource;
+  private UserInstance owner;
+  private UserInstance curator;
+
+  @Setup
+  public void setUp() {
+    var publication = size.createPublication();
+    resource = Resource.fromPublication(publication);
+    owner = UserInstance.fromPublication(publication);
+    var curatingInstitution =
+        publication.getCuratingInstitutions().stream()
+            .map(CuratingInstitution::id)
+            .findFirst()
+            .orElseThrow();
+    curator =
+        UserInstance.create(
+            CURATOR_USERNAME,
+            publication.getPublisher().getId(),
+            CURATOR_CRISTIN_ID,
+            List.of(AccessRight.values()),
+            curatingInstitution);
+  }
+
+  @Benchmark
+  public Set<PublicationOperation> allowedActionsForOwner() {
+    return PublicationPermissions.create(resource, owner).getAllAllowedActions();
+  }
+
+  @Benchmark
+  public Set<PublicationOperation> allowedActionsForCurator() {
+    return PublicationPermissions.create(resource, curator).getAllAllowedActions();
+  }
+}
@@ -0,0 +1,125 @@
+package no.unit.nva.benchmarks;
+
+import static no.unit.nva.model.testing.PublicationGenerator.randomPublication;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomOpenFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.model.Contributor;
+import no.unit.nva.model.CuratingInstitution;
+import no.unit.nva.model.Publication;
+import no.unit.nva.model.associatedartifacts.AssociatedArtifact;
+import no.unit.nva.model.associatedartifacts.AssociatedArtifactList;
+import no.unit.nva.model.instancetypes.journal.JournalArticle;
+import no.unit.nva.model.testing.PublicationGenerator;
+
+/**
+ * The shapes of publication the benchmarks are run with. The field values are random, but the
+ * number of contributors and files is fixed, and the contributors share a small set of
+ * affiliations like they do in real publications.
+ *
+ * <p>The generators of random publications cannot be seeded, so the publications are instead
+ * frozen as fixtures: when the environment variable {@value #FIXTURES_ENV} names a directory, each
+ * publication is generated once, written there, and read back by every later run. Runs on
+ * different commits with the same fixtures then measure the same input.
+ */
+public enum PublicationSize {
+  SMALL(2, 1),
+  MEDIAN(25, 4),
+  MANY_CONTRIBUTORS(5_000, 4),
+  MANY_FILES(25, 200);
+
+  public static final String FIXTURES_ENV = "BENCHMARK_FIXTURES";
+  private static final int DISTINCT_AFFILIATIONS = 20;
+  private static final String AFFILIATION_TEMPLATE =
+      "https://api.benchmark.nva.aws.unit.no/cristin/organization/%d.0.0.0";
+
+  private final int contributorCount;
+  private final int fileCount;
+
+  PublicationSize(int contributorCount, int fileCount) {
+    this.contributorCount = contributorCount;
+    this.fileCount = fileCount;
+  }
+
+  /**
+   * Returns the journal article of this size, from the fixtures when they are used. Journal
+   * articles are used because their expansion does not look up a parent publication in the
+   * database.
+   */
+  public Publication createPublication() {
+    return fixture().map(this::readOrWriteFixture).orElseGet(this::generatePublication);
+  }
+
+  private Optional<Path> fixture() {
+    return Optional.ofNullable(System.getenv(FIXTURES_ENV))
+        .map(Path::of)
+        .map(directory -> directory.resolve(name() + ".json"));
+  }
+
+  private Publication readOrWriteFixture(Path fixture) {
+    try {
+      if (Files.exists(fixture)) {
+        return JsonUtils.dtoObjectMapper.readValue(fixture.toFile(), Publication.class);
+      }
+      var publication = generatePublication();
+      Files.createDirectories(fixture.getParent());
+      var temporaryFile = Files.createTempFile(fixture.getParent(), name(), ".tmp");
+      JsonUtils.dtoObjectMapper.writeValue(temporaryFile.toFile(), publication);
+      Files.move(temporaryFile, fixture, StandardCopyOption.ATOMIC_MOVE);
+      return publication;
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private Publication generatePublication() {
+    var publication = randomPublication(JournalArticle.class);
+    var contributors = createContributors();
+    publication.getEntityDescription().setContributors(contributors);
+    publication.setCuratingInstitutions(curatingInstitutions(contributors));
+    publication.setAssociatedArtifacts(new AssociatedArtifactList(createFiles()));
+    return publication;
+  }
+
+  private List<Contributor> createContributors() {
+    return IntStream.range(0, contributorCount)
+        .mapToObj(index -> affiliation(index % DISTINCT_AFFILIATIONS))
+        .map(PublicationGenerator::randomContributorWithAffiliation)
+        .toList();
+  }
+
+  private static Set<CuratingInstitution> curatingInstitutions(List<Contributor> contributors) {
+    return IntStream.range(0, contributors.size())
+        .boxed()
+        .collect(
+            Collectors.groupingBy(
+                index -> affiliation(index % DISTINCT_AFFILIATIONS),
+                Collectors.mapping(
+                    index -> contributors.get(index).identity().getId(), Collectors.toSet())))
+        .entrySet()
+        .stream()
+        .map(entry -> new CuratingInstitution(entry.getKey(), entry.getValue()))
+        .collect(Collectors.toSet());
+  }
+
+  private List<AssociatedArtifact> createFiles() {
+    return IntStream.range(0, fileCount)
+        .<AssociatedArtifact>mapToObj(index -> randomOpenFile())
+        .toList();
+  }
+
+  private static URI affiliation(int index) {
+    return URI.create(AFFILIATION_TEMPLATE.formatted(index));
+  }
+}
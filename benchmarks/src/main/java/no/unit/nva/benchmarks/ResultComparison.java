@@ -0,0 +1,87 @@
+package no.unit.nva.benchmarks;
+
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import no.unit.nva.commons.json.JsonUtils;
+
+/**
+ * Compares the JSON results of a JMH run with the results of a baseline run, and fails when a
+ * benchmark takes longer or allocates more than the baseline by more than a tolerance. All
+ * benchmarks measure average time, so a higher score is worse. Allocations are compared when both
+ * runs were made with the GC profiler.
+ *
+ * <p>Arguments: the baseline results, the current results and the tolerance as a fraction, e.g.
+ * {@code 0.10} for ten percent.
+ */
+public final class ResultComparison {
+
+  private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+  private static final String ROW_FORMAT = "%-90s %14s %14s %8s%n";
+
+  private ResultComparison() {}
+
+  public static void main(String[] args) throws IOException {
+    var baseline = readScores(Path.of(args[0]));
+    var current = readScores(Path.of(args[1]));
+    var tolerance = Double.parseDouble(args[2]);
+
+    var regressions = 0;
+    System.out.printf(ROW_FORMAT, "Benchmark", "Baseline", "Current", "Change");
+    for (var entry : current.entrySet()) {
+      var baselineScore = baseline.get(entry.getKey());
+      if (isNull(baselineScore)) {
+        System.out.printf(ROW_FORMAT, entry.getKey(), "-", format(entry.getValue()), "new");
+        continue;
+      }
+      var change = entry.getValue() / baselineScore - 1;
+      var regressed = change > tolerance;
+      if (regressed) {
+        regressions++;
+      }
+      System.out.printf(
+          ROW_FORMAT,
+          entry.getKey(),
+          format(baselineScore),
+          format(entry.getValue()),
+          "%+.1f%%%s".formatted(change * 100, regressed ? " !" : ""));
+    }
+    if (regressions > 0) {
+      throw new IllegalStateException(
+          "%d results are more than %.0f%% worse than the baseline"
+              .formatted(regressions, tolerance * 100));
+    }
+  }
+
+  private static Map<String, Double> readScores(Path results) throws IOException {
+    var scores = new TreeMap<String, Double>();
+    for (var result : JsonUtils.dtoObjectMapper.readTree(results.toFile())) {
+      var name = nameOf(result);
+      scores.put(name, result.at("/primaryMetric/score").asDouble());
+      var allocation = result.at("/secondaryMetrics/" + ALLOCATION_METRIC + "/score");
+      if (!allocation.isMissingNode()) {
+        scores.put(name + " " + ALLOCATION_METRIC, allocation.asDouble());
+      }
+    }
+    return scores;
+  }
+
+  private static String nameOf(JsonNode result) {
+    var benchmark = result.get("benchmark").asText().replace("no.unit.nva.benchmarks.", "");
+    var params = new LinkedHashMap<String, String>();
+    result
+        .path("params")
+        .properties()
+        .forEach(param -> params.put(param.getKey(), param.getValue().asText()));
+    return params.isEmpty() ? benchmark : benchmark + " " + params;
+  }
+
+  private static String format(double score) {
+    return "%.3f".formatted(score);
+  }
+}
@@ -0,0 +1,40 @@
+package no.unit.nva.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.model.Publication;
+import no.unit.nva.schemaorg.SchemaOrgDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the transformation of a publication into its schema.org document. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaOrgBenchmark {
+
+  @Param public PublicationSize size;
+
+  private Publication publication;
+
+  @Setup
+  public void setUp() {
+    publication = size.createPublication();
+  }
+
+  @Benchmark
+  public String toSchemaOrg() {
+    return SchemaOrgDocument.fromPublication(publication);
+  }
+}
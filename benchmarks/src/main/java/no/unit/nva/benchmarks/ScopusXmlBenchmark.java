@@ -0,0 +1,106 @@
+package no.unit.nva.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import jakarta.xml.bind.JAXB;
+import jakarta.xml.bind.JAXBException;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import no.scopus.generated.AffiliationTp;
+import no.scopus.generated.AuthorGroupTp;
+import no.scopus.generated.AuthorTp;
+import no.scopus.generated.BibrecordTp;
+import no.scopus.generated.DocTp;
+import no.scopus.generated.HeadTp;
+import no.scopus.generated.ItemTp;
+import no.scopus.generated.OrigItemTp;
+import no.sikt.nva.scopus.conversion.ScopusDocumentReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a Scopus document from a string with {@link JAXB#unmarshal} against streaming it
+ * with {@link ScopusDocumentReader}, for documents with as many authors as a large conference
+ * proceeding. Run with {@code -prof gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScopusXmlBenchmark {
+
+  private static final int AUTHORS_PER_GROUP = 10;
+
+  @Param({"10", "1000", "5000"})
+  public int authorCount;
+
+  private byte[] xml;
+
+  @Setup
+  public void setUp() {
+    var writer = new StringWriter();
+    JAXB.marshal(documentWithAuthors(authorCount), writer);
+    xml = writer.toString().getBytes(UTF_8);
+  }
+
+  @Benchmark
+  public DocTp jaxbUnmarshal() {
+    return JAXB.unmarshal(new StringReader(new String(xml, UTF_8)), DocTp.class);
+  }
+
+  @Benchmark
+  public DocTp scopusDocumentReader() throws JAXBException {
+    return ScopusDocumentReader.read(new ByteArrayInputStream(xml));
+  }
+
+  private static DocTp documentWithAuthors(int authorCount) {
+    var head = new HeadTp();
+    for (var sequence = 1; sequence <= authorCount; sequence++) {
+      if (sequence % AUTHORS_PER_GROUP == 1) {
+        head.getAuthorGroup().add(authorGroup(sequence));
+      }
+      head.getAuthorGroup().getLast().getAuthorOrCollaboration().add(author(sequence));
+    }
+    var bibrecord = new BibrecordTp();
+    bibrecord.setHead(head);
+    var originalItem = new OrigItemTp();
+    originalItem.setBibrecord(bibrecord);
+    var item = new ItemTp();
+    item.setItem(originalItem);
+    var document = new DocTp();
+    document.setItem(item);
+    return document;
+  }
+
+  private static AuthorGroupTp authorGroup(int sequence) {
+    var affiliation = new AffiliationTp();
+    affiliation.setAfid(String.valueOf(60_000_000 + sequence));
+    var authorGroup = new AuthorGroupTp();
+    authorGroup.setAffiliation(affiliation);
+    return authorGroup;
+  }
+
+  private static AuthorTp author(int sequence) {
+    var author = new AuthorTp();
+    author.setAuid(String.valueOf(7_000_000_000L + sequence));
+    author.setSeq(String.valueOf(sequence));
+    author.setInitials("A.");
+    author.setIndexedName("Author" + sequence + " A.");
+    author.setSurname("Author" + sequence);
+    author.setGivenName("Anne");
+    return author;
+  }
+}
@@ -0,0 +1,51 @@
+package no.unit.nva.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.model.storage.Dao;
+import no.unit.nva.publication.model.storage.DataCompressor;
+import no.unit.nva.publication.model.storage.ResourceDao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/** Measures encoding and decoding of resources as they are stored in DynamoDB. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StorageCodecBenchmark {
+
+  @Param public PublicationSize size;
+
+  private ResourceDao dao;
+  private Map<String, AttributeValue> item;
+
+  @Setup
+  public void setUp() {
+    dao = new ResourceDao(Resource.fromPublication(size.createPublication()));
+    item = DataCompressor.compressDaoData(dao);
+  }
+
+  @Benchmark
+  public Map<String, AttributeValue> compress() {
+    return DataCompressor.compressDaoData(dao);
+  }
+
+  @Benchmark
+  public Dao decompress() {
+    return DataCompressor.decompressDao(item, Dao.class);
+  }
+}
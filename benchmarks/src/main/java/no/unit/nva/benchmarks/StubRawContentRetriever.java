@@ -0,0 +1,89 @@
+package no.unit.nva.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.net.ssl.SSLSession;
+import no.unit.nva.auth.uriretriever.RawContentRetriever;
+
+/**
+ * An in-process stand-in for the HTTP lookups done while expanding and transforming a publication,
+ * so that the benchmarks measure our own code and not the network. Organizations are answered with
+ * a minimal JSON-LD document, everything else with Not Found.
+ */
+public final class StubRawContentRetriever implements RawContentRetriever {
+
+  private static final String ORGANIZATION_PATH = "/cristin/organization/";
+  private static final String CONTENT_TYPE = "Content-Type";
+  private static final String MEDIA_TYPE = "application/ld+json";
+  private static final int OK = 200;
+  private static final int NOT_FOUND = 404;
+  private static final String ORGANIZATION_TEMPLATE =
+      """
+      {
+        "@context": {
+          "@vocab": "https://nva.sikt.no/ontology/publication#",
+          "id": "@id",
+          "type": "@type"
+        },
+        "id": "%s",
+        "type": "Organization",
+        "labels": {"nb": "Benchmarkinstitusjonen", "en": "The Benchmark Institution"}
+      }
+      """;
+
+  @Override
+  public Optional<String> getRawContent(URI uri, String mediaType) {
+    return isOrganization(uri) ? Optional.of(organization(uri)) : Optional.empty();
+  }
+
+  @Override
+  public Optional<HttpResponse<String>> fetchResponse(URI uri, String mediaType) {
+    return Optional.of(
+        isOrganization(uri)
+            ? new StubResponse(uri, OK, organization(uri))
+            : new StubResponse(uri, NOT_FOUND, ""));
+  }
+
+  private static boolean isOrganization(URI uri) {
+    return uri.getPath().contains(ORGANIZATION_PATH);
+  }
+
+  private static String organization(URI uri) {
+    return ORGANIZATION_TEMPLATE.formatted(uri);
+  }
+
+  private record StubResponse(URI uri, int statusCode, String body)
+      implements HttpResponse<String> {
+
+    @Override
+    public HttpRequest request() {
+      return null;
+    }
+
+    @Override
+    public Optional<HttpResponse<String>> previousResponse() {
+      return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+      return HttpHeaders.of(Map.of(CONTENT_TYPE, List.of(MEDIA_TYPE)), (name, value) -> true);
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+      return Optional.empty();
+    }
+
+    @Override
+    public Version version() {
+      return Version.HTTP_1_1;
+    }
+  }
+}
@@ -11,6 +11,7 @@ import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.model.Publication;
 import no.unit.nva.publication.model.ResourceWithId;
 import no.unit.nva.publication.model.SearchResourceApiResponse;
+import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.service.impl.ResourceService;
 import nva.commons.core.paths.UriWrapper;
 
@@ -35,18 +36,35 @@ public class SearchApiFinder {
 
   protected List<Publication> fetchPublicationsByParam(String searchParam, String value) {
     var uri = searchPublicationByParamUri(searchParam, value);
-    return uriRetriever
-        .getRawContent(uri, APPLICATION_JSON)
-        .map(this::toResponse)
-        .map(SearchResourceApiResponse::hits)
-        .stream()
-        .flatMap(List::stream)
-        .map(ResourceWithId::getIdentifier)
+    var identifiers =
+        uriRetriever
+            .getRawContent(uri, APPLICATION_JSON)
+            .map(this::toResponse)
+            .map(SearchResourceApiResponse::hits)
+            .stream()
+            .flatMap(List::stream)
+            .map(ResourceWithId::getIdentifier)
+            .toList();
+    return attempt(() -> resourceService.getResourcesByIdentifiers(identifiers))
+        .map(resources -> resources.stream().map(Resource::toPublication).toList())
+        .orElse(failure -> fetchPublicationsOneByOne(identifiers));
+  }
+
+  /**
+   * Falls back to reading the hits one at a time when the batch read fails, so that a hit that
+   * cannot be read is left out instead of failing the whole search.
+   */
+  private List<Publication> fetchPublicationsOneByOne(List<SortableIdentifier> identifiers) {
+    return identifiers.stream()
         .map(this::getPublicationByIdentifier)
         .flatMap(Optional::stream)
         .toList();
   }
 
+  private Optional<Publication> getPublicationByIdentifier(SortableIdentifier identifier) {
+    return attempt(() -> resourceService.getPublicationByIdentifier(identifier)).toOptional();
+  }
+
   private URI searchPublicationByParamUri(String searchParam, String value) {
     return UriWrapper.fromHost(apiHost)
         .addChild(SEARCH)
@@ -61,8 +79,4 @@ public class SearchApiFinder {
             () -> JsonUtils.dtoObjectMapper.readValue(response, SearchResourceApiResponse.class))
         .orElseThrow();
   }
-
-  private Optional<Publication> getPublicationByIdentifier(SortableIdentifier identifier) {
-    return attempt(() -> resourceService.getPublicationByIdentifier(identifier)).toOptional();
-  }
 }
@@ -5,7 +5,7 @@ import static no.unit.nva.expansion.ExpansionConfig.objectMapper;
 import static nva.commons.core.attempt.Try.attempt;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import java.net.URI;
 import java.util.Optional;
 import no.unit.nva.auth.uriretriever.RawContentRetriever;
@@ -118,12 +118,12 @@ public class ResourceExpansionServiceImpl implements ResourceExpansionService {
     var resourceQueryObject = Resource.resourceQueryObject(fileEntry.getResourceIdentifier());
     return resourceQueryObject
         .fetch(resourceService)
-        .map(resource -> attempt(() -> expandResource(resource, true)).orElseThrow())
+        .map(resource -> expandResource(resource, true))
         .orElseGet(() -> logAndProvideEmptyOptional(fileEntry));
   }
 
   private Optional<ExpandedDataEntry> fetchFullyPopulatedResourceAndExpand(
-      boolean useUriContext, Resource resourceFromEvent) throws JsonProcessingException {
+      boolean useUriContext, Resource resourceFromEvent) {
     var resourceQueryObject = Resource.resourceQueryObject(resourceFromEvent.getIdentifier());
     var resource = resourceQueryObject.fetch(resourceService).orElseThrow();
     return expandResource(resource, useUriContext);
@@ -137,22 +137,16 @@ public class ResourceExpansionServiceImpl implements ResourceExpansionService {
     return Optional.empty();
   }
 
-  private Optional<ExpandedDataEntry> expandResource(Resource resource, boolean useUriContext)
-      throws JsonProcessingException {
+  private Optional<ExpandedDataEntry> expandResource(Resource resource, boolean useUriContext) {
     logger.info("Expanding Resource: {}", resource.getIdentifier());
     var expandedResource =
         ExpandedResource.fromPublication(uriRetriever, resourceService, queueClient, resource);
-    var resourceWithContextUri =
-        useUriContext
-            ? replaceInlineContextWithUriContext(expandedResource)
-            : replaceContextWithInlineContext(expandedResource);
-
-    return Optional.of(
-        attempt(
-                () ->
-                    objectMapper.readValue(
-                        resourceWithContextUri.toString(), ExpandedResource.class))
-            .orElseThrow());
+    if (useUriContext) {
+      replaceInlineContextWithUriContext(expandedResource);
+    } else {
+      replaceContextWithInlineContext(expandedResource);
+    }
+    return Optional.of(expandedResource);
   }
 
   @Override
@@ -208,10 +202,6 @@ public class ResourceExpansionServiceImpl implements ResourceExpansionService {
     return ExpandedMessage.createEntry(message, this);
   }
 
-  private static boolean hasContextNode(ObjectNode objectNode) {
-    return !objectNode.at(CONTEXT_NODE_SELECTOR).isMissingNode();
-  }
-
   private static String extractCristinId(User owner) {
     return owner.toString().split(CRISTIN_ID_DELIMITER)[0];
   }
@@ -229,23 +219,16 @@ public class ResourceExpansionServiceImpl implements ResourceExpansionService {
         .build();
   }
 
-  private ObjectNode replaceInlineContextWithUriContext(ExpandedResource expandedResource) {
-    var objectNode =
-        (ObjectNode)
-            attempt(() -> objectMapper.readTree(expandedResource.toJsonString())).orElseThrow();
-    if (hasContextNode(objectNode)) {
-      objectNode.put(CONTEXT_FIELD_PROPERTY_NAME, CONTEXT_URI);
+  private static void replaceInlineContextWithUriContext(ExpandedResource expandedResource) {
+    if (expandedResource.hasJsonLdContext()) {
+      expandedResource.replaceJsonLdContext(TextNode.valueOf(CONTEXT_URI));
     }
-    return objectNode;
   }
 
-  private ObjectNode replaceContextWithInlineContext(ExpandedResource expandedResource) {
-    var objectNode = expandedResource.asJsonNode();
+  private static void replaceContextWithInlineContext(ExpandedResource expandedResource) {
     var jsonLdContext = Publication.getJsonLdContext(UriWrapper.fromHost(API_HOST).getUri());
-    objectNode.set(
-        CONTEXT_FIELD_PROPERTY_NAME,
+    expandedResource.replaceJsonLdContext(
         attempt(() -> JsonUtils.dtoObjectMapper.readTree(jsonLdContext)).orElseThrow());
-    return objectNode;
   }
 
   private ExpandedPerson getDefaultExpandedPerson(User owner) {
@@ -16,9 +16,10 @@ import static nva.commons.core.attempt.Try.attempt;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.core.JsonPointer;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
@@ -44,8 +45,6 @@ import no.unit.nva.publication.queue.QueueClient;
 import no.unit.nva.publication.service.impl.ResourceService;
 import nva.commons.core.JacocoGenerated;
 import nva.commons.core.paths.UriWrapper;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @SuppressWarnings("PMD.GodClass")
 @JsonTypeName(ExpandedResource.TYPE)
@@ -63,37 +62,35 @@ public final class ExpandedResource implements ExpandedDataEntry {
   public static final String LICENSE_FIELD = "license";
   public static final String ASSOCIATED_ARTIFACTS_FIELD = "associatedArtifacts";
   private static final String ID_FIELD_NAME = "id";
+  private static final String TYPE_FIELD_NAME = "type";
+  private static final TypeReference<Map<String, Object>> FIELDS_TYPE = new TypeReference<>() {};
   private static final String JSON_LD_CONTEXT_FIELD = "@context";
   private static final String CONTEXT_TYPE_ANTHOLOGY = "Anthology";
   private static final String INSTANCE_TYPE_ACADEMIC_CHAPTER = "AcademicChapter";
   public static final int MAX_CONTRIBUTORS_PREVIEW = 10;
   public static final String CONTRIBUTORS_COUNT = "contributorsCount";
   public static final String CONTRIBUTORS_PREVIEW = "contributorsPreview";
-
-  private static final Logger LOGGER = LoggerFactory.getLogger(ExpandedResource.class);
   public static final String CHILD_PUBLICATIONS = "childPublications";
 
-  @JsonAnySetter private final Map<String, Object> allFields;
+  private final ObjectNode document;
 
   public ExpandedResource() {
-    this.allFields = new LinkedHashMap<>();
+    this(objectMapper.createObjectNode());
+  }
+
+  private ExpandedResource(ObjectNode document) {
+    this.document = document;
   }
 
   public static ExpandedResource fromPublication(
       RawContentRetriever uriRetriever,
       ResourceService resourceService,
       QueueClient queueClient,
-      Resource resource)
-      throws JsonProcessingException {
+      Resource resource) {
     var documentWithId = transformToJsonLd(resource.toPublication());
     var enrichedJson = enrichJson(uriRetriever, resourceService, queueClient, documentWithId);
     var jsonWithAddedFields = addFields(enrichedJson, resource);
-    try {
-      return objectMapper.treeToValue(jsonWithAddedFields, ExpandedResource.class);
-    } catch (JsonProcessingException exception) {
-      LOGGER.error("Failed to parse expanded resource from JSON: {}", jsonWithAddedFields);
-      throw exception;
-    }
+    return fromJsonNode(jsonWithAddedFields);
   }
 
   public static List<URI> extractPublicationContextUris(JsonNode indexDocument) {
@@ -137,14 +134,37 @@ public final class ExpandedResource implements ExpandedDataEntry {
   }
 
   public List<URI> getPublicationContextUris() {
-    ObjectNode docAsObjectNode = objectMapper.convertValue(this.allFields, ObjectNode.class);
-    return extractPublicationContextUris(docAsObjectNode);
+    return extractPublicationContextUris(document);
   }
 
   @JacocoGenerated
-  @JsonAnyGetter
+  @JsonIgnore
   public Map<String, Object> getAllFields() {
-    return this.allFields;
+    return objectMapper.convertValue(document, FIELDS_TYPE);
+  }
+
+  @JsonAnyGetter
+  public Map<String, JsonNode> getDocumentFields() {
+    var fields = new LinkedHashMap<String, JsonNode>();
+    document.fields().forEachRemaining(field -> fields.put(field.getKey(), field.getValue()));
+    return fields;
+  }
+
+  @JsonAnySetter
+  public void setDocumentField(String name, JsonNode value) {
+    document.set(name, value);
+  }
+
+  public boolean hasJsonLdContext() {
+    return document.has(JSON_LD_CONTEXT_FIELD);
+  }
+
+  /**
+   * Replaces the JSON-LD context of the document in place, keeping its position among the
+   * fields.
+   */
+  public void replaceJsonLdContext(JsonNode context) {
+    document.set(JSON_LD_CONTEXT_FIELD, context);
   }
 
   @Override
@@ -153,8 +173,7 @@ public final class ExpandedResource implements ExpandedDataEntry {
   }
 
   public URI fetchId() {
-    return URI.create(
-        objectMapper.convertValue(this.allFields, ObjectNode.class).at(ID_JSON_PTR).textValue());
+    return URI.create(document.at(ID_JSON_PTR).textValue());
   }
 
   @JacocoGenerated
@@ -192,15 +211,23 @@ public final class ExpandedResource implements ExpandedDataEntry {
     return toJsonString();
   }
 
-  private static ObjectNode addFields(String jsonString, Resource resource) {
+  /**
+   * Wraps the expanded document without copying it. The type property is written from the type
+   * name of the class, so it is removed from the document like Jackson does when deserializing.
+   */
+  private static ExpandedResource fromJsonNode(ObjectNode json) {
+    json.remove(TYPE_FIELD_NAME);
+    return new ExpandedResource(json);
+  }
+
+  private static ObjectNode addFields(ObjectNode objectNode, Resource resource) {
     var publication = resource.toPublication();
-    var objectNode = strToJson(jsonString);
     sortContributors(objectNode);
     injectHasFileEnum(publication, objectNode);
     expandLicenses(objectNode);
     injectContributorCount(objectNode);
     injectContributorsPreview(objectNode);
-    objectNode.putPOJO(CHILD_PUBLICATIONS, resource.getRelatedResources());
+    objectNode.set(CHILD_PUBLICATIONS, objectMapper.valueToTree(resource.getRelatedResources()));
     return objectNode;
   }
 
@@ -281,10 +308,6 @@ public final class ExpandedResource implements ExpandedDataEntry {
         FilesStatus.fromAssociatedArtifacts(publication.getAssociatedArtifacts()).getValue());
   }
 
-  private static ObjectNode strToJson(String jsonStr) {
-    return (ObjectNode) attempt(() -> objectMapper.readTree(jsonStr)).orElseThrow();
-  }
-
   private static JsonNode sortContributors(JsonNode json) {
     var contributors = json.at(CONTRIBUTORS_PTR);
     if (!contributors.isMissingNode()) {
@@ -319,7 +342,7 @@ public final class ExpandedResource implements ExpandedDataEntry {
     return root.at(INSTANCE_TYPE_JSON_PTR).asText();
   }
 
-  private static String enrichJson(
+  private static ObjectNode enrichJson(
       RawContentRetriever uriRetriever,
       ResourceService resourceService,
       QueueClient queueClient,
@@ -330,10 +353,8 @@ public final class ExpandedResource implements ExpandedDataEntry {
         .orElseThrow();
   }
 
-  private static ObjectNode transformToJsonLd(Publication publication)
-      throws JsonProcessingException {
-    var jsonString = objectMapper.writeValueAsString(publication);
-    var json = (ObjectNode) objectMapper.readTree(jsonString);
+  private static ObjectNode transformToJsonLd(Publication publication) {
+    ObjectNode json = objectMapper.valueToTree(publication);
     json.put(ID_FIELD_NAME, extractJsonLdId(publication).toString());
     json.set(JSON_LD_CONTEXT_FIELD, extractJsonLdContext());
     return json;
@@ -31,14 +31,20 @@ import no.unit.nva.commons.json.JsonUtils;
 import no.unit.nva.expansion.model.cristin.CristinOrganization;
 import no.unit.nva.expansion.model.nvi.NviCandidateResponse;
 import no.unit.nva.expansion.model.nvi.ScientificIndex;
+import no.unit.nva.expansion.utils.ConcurrentFetcher;
+import no.unit.nva.expansion.utils.ConcurrentFetcher.Lookup;
 import no.unit.nva.expansion.utils.FramedJsonGenerator;
 import no.unit.nva.expansion.utils.SearchIndexFrame;
 import no.unit.nva.identifiers.SortableIdentifier;
+import no.unit.nva.jsonld.JsonLdGraphBuilder;
+import no.unit.nva.jsonld.JsonLdGraphBuilder.UnsupportedJsonLdException;
 import no.unit.nva.publication.queue.QueueClient;
 import no.unit.nva.publication.queue.RecoveryEntry;
 import no.unit.nva.publication.service.impl.ResourceService;
+import no.unit.nva.publication.utils.RdfUtils;
 import nva.commons.core.ioutils.IoUtils;
 import nva.commons.core.paths.UriWrapper;
+import org.apache.jena.rdf.model.Model;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,8 +62,11 @@ public class IndexDocumentWrapperLinkedData {
   private static final int ONE_HUNDRED = 100;
   private static final int SUCCESS_FAMILY = 2;
   private static final String TYPE = "type";
+  private static final String UNSUPPORTED_JSON_LD_MESSAGE =
+      "Parsing index document as JSON-LD: {}";
   private static final String REPORT_STATUS = "report-status";
   private static final String CONTENT_TYPE_JSON = "application/json";
+  private static final String LOOKUP_TIMED_OUT_MESSAGE = "Lookup timed out: ";
   private final RawContentRetriever uriRetriever;
   private final ResourceService resourceService;
   private final QueueClient queueClient;
@@ -69,13 +78,26 @@ public class IndexDocumentWrapperLinkedData {
     this.queueClient = queueClient;
   }
 
-  public String toFramedJsonLd(JsonNode indexDocument) {
+  public ObjectNode toFramedJsonLd(JsonNode indexDocument) {
     var frame = SearchIndexFrame.getFrameWithContext(Path.of(FRAME_JSON));
     var inputStreams = getInputStreams(indexDocument);
-    return new FramedJsonGenerator(inputStreams, frame, uriRetriever).getFramedJson();
+    var documentModel = toModel(indexDocument);
+    return new FramedJsonGenerator(documentModel, inputStreams, frame, uriRetriever)
+        .getFramedJson();
   }
 
-  // TODO: parallelize
+  /**
+   * Builds the graph of the document straight from its JSON tree, and only falls back to parsing
+   * it as JSON-LD when it uses a feature the graph builder does not support.
+   */
+  private static Model toModel(JsonNode indexDocument) {
+    try {
+      return JsonLdGraphBuilder.toModel(indexDocument);
+    } catch (UnsupportedJsonLdException exception) {
+      logger.warn(UNSUPPORTED_JSON_LD_MESSAGE, exception.getMessage());
+      return RdfUtils.createModel(stringToStream(toJsonString(indexDocument)));
+    }
+  }
 
   private static URI fetchNviCandidateUri(String publicationId) {
     var urlEncodedPublicationId = URLEncoder.encode(publicationId, StandardCharsets.UTF_8);
@@ -84,28 +106,80 @@ public class IndexDocumentWrapperLinkedData {
     return URI.create(String.format("%s/%s/%s", uri, urlEncodedPublicationId, REPORT_STATUS));
   }
 
+  /**
+   * Starts every external lookup the document needs at once, adds the scientific index status to
+   * the document, and assembles the results in a fixed order: the anthology, the affiliations and
+   * the publication contexts. The anthology is awaited first, because it is the only lookup that
+   * may write to the recovery queue itself; every other recovery message is written from this
+   * thread.
+   */
   private List<InputStream> getInputStreams(JsonNode indexDocument) {
-    final List<InputStream> inputStreams = new ArrayList<>();
-    injectScientificIndexStatus(indexDocument);
-    inputStreams.add(stringToStream(toJsonString(indexDocument)));
-    fetchAnthologyContent(indexDocument).ifPresent(inputStreams::add);
-    inputStreams.addAll(fetchAllAffiliationContent(indexDocument));
-    inputStreams.addAll(fetchAll(extractPublicationContextUris(indexDocument), indexDocument));
-    inputStreams.removeIf(Objects::isNull);
-    return inputStreams;
+    var documentIdentifier = getIdentifier(indexDocument);
+    var publicationId = getId(indexDocument);
+    var anthologyUri = findAnthologyUri(indexDocument);
+    var affiliationUris = extractAffiliationUris(indexDocument).stream().distinct().toList();
+    var publicationContextUris =
+        extractPublicationContextUris(indexDocument).stream().filter(Objects::nonNull).toList();
+
+    try (var fetcher = new ConcurrentFetcher()) {
+      var nviCandidate =
+          fetcher.submit(
+              fetchNviCandidateUri(publicationId), () -> fetchNviCandidate(publicationId));
+      var anthology = anthologyUri.map(uri -> fetcher.submit(uri, () -> getAnthology(uri)));
+      var affiliations = submitAll(fetcher, affiliationUris);
+      var publicationContexts = submitAll(fetcher, publicationContextUris);
+
+      final List<InputStream> inputStreams = new ArrayList<>();
+      var anthologyContent =
+          anthology.flatMap(lookup -> awaitOrRecover(lookup, documentIdentifier));
+      injectScientificIndexStatus(indexDocument, nviCandidate, documentIdentifier);
+      anthologyContent.map(IoUtils::stringToStream).ifPresent(inputStreams::add);
+      inputStreams.addAll(processAffiliations(affiliations, documentIdentifier));
+      inputStreams.addAll(processAll(publicationContexts, documentIdentifier));
+      inputStreams.removeIf(Objects::isNull);
+      return inputStreams;
+    }
   }
 
-  private void injectScientificIndexStatus(JsonNode indexDocument) {
-    ((ObjectNode) indexDocument)
-        .set(ScientificIndex.SCIENTIFIC_INDEX_FIELD, fetchNviStatus(indexDocument));
+  private static SortableIdentifier getIdentifier(JsonNode indexDocument) {
+    return new SortableIdentifier(indexDocument.get("identifier").asText());
   }
 
-  private JsonNode fetchNviStatus(JsonNode indexDocument) {
-    var publicationId = getId(indexDocument);
-    var publicationIdentifier = new SortableIdentifier(indexDocument.get("identifier").asText());
+  private List<Lookup<HttpResponse<String>>> submitAll(
+      ConcurrentFetcher fetcher, Collection<URI> uris) {
+    return uris.stream().map(uri -> fetcher.submit(uri, () -> fetch(uri))).toList();
+  }
 
+  private <T> Optional<T> awaitOrRecover(Lookup<T> lookup, SortableIdentifier documentIdentifier) {
+    var result = lookup.await();
+    if (result.isEmpty()) {
+      createRecoveryMessage(
+          ExpansionException.withMessage(LOOKUP_TIMED_OUT_MESSAGE + lookup.uri()),
+          documentIdentifier);
+    }
+    return result;
+  }
+
+  private void injectScientificIndexStatus(
+      JsonNode indexDocument,
+      Lookup<Optional<HttpResponse<String>>> nviCandidate,
+      SortableIdentifier publicationIdentifier) {
+    ((ObjectNode) indexDocument)
+        .set(
+            ScientificIndex.SCIENTIFIC_INDEX_FIELD,
+            processNviStatus(getId(indexDocument), nviCandidate, publicationIdentifier));
+  }
+
+  private JsonNode processNviStatus(
+      String publicationId,
+      Lookup<Optional<HttpResponse<String>>> nviCandidate,
+      SortableIdentifier publicationIdentifier) {
     try {
-      return fetchNviCandidate(publicationId).map(this::processNviCandidateResponse).orElseThrow();
+      var response =
+          nviCandidate
+              .await()
+              .orElseThrow(() -> ExpansionException.withMessage(LOOKUP_TIMED_OUT_MESSAGE));
+      return response.map(this::processNviCandidateResponse).orElseThrow();
     } catch (Exception e) {
       logger.error(FETCHING_NVI_CANDIDATE_ERROR_MESSAGE, publicationId);
       logger.error(EXCEPTION, e.toString());
@@ -141,11 +215,11 @@ public class IndexDocumentWrapperLinkedData {
         .orElseThrow();
   }
 
-  private Collection<? extends InputStream> fetchAll(Collection<URI> uris, JsonNode indexDocument) {
-    var documentIdentifier = new SortableIdentifier(indexDocument.get("identifier").asText());
-    return uris.stream()
-        .filter(Objects::nonNull)
-        .map(this::fetch)
+  private Collection<? extends InputStream> processAll(
+      List<Lookup<HttpResponse<String>>> lookups, SortableIdentifier documentIdentifier) {
+    return lookups.stream()
+        .map(lookup -> awaitOrRecover(lookup, documentIdentifier))
+        .flatMap(Optional::stream)
         .map(response -> processResponse(response, documentIdentifier))
         .filter(Objects::nonNull)
         .toList();
@@ -175,19 +249,15 @@ public class IndexDocumentWrapperLinkedData {
     return attempt(() -> objectMapper.writeValueAsString(objectNode)).orElseThrow();
   }
 
-  private Optional<InputStream> fetchAnthologyContent(JsonNode indexDocument) {
+  private static Optional<URI> findAnthologyUri(JsonNode indexDocument) {
     return isAcademicChapter(indexDocument) || isPublicationContextTypeAnthology(indexDocument)
-        ? getAnthology(indexDocument)
+        ? extractPublicationContextUri(indexDocument)
         : Optional.empty();
   }
 
-  private Optional<InputStream> getAnthology(JsonNode indexDocument) {
-    return extractPublicationContextUri(indexDocument)
-        .map(
-            uri ->
-                new ExpandedParentPublication(uriRetriever, resourceService, queueClient)
-                    .getExpandedParentPublication(uri))
-        .map(IoUtils::stringToStream);
+  private String getAnthology(URI uri) {
+    return new ExpandedParentPublication(uriRetriever, resourceService, queueClient)
+        .getExpandedParentPublication(uri);
   }
 
   private HttpResponse<String> fetch(URI externalReference) {
@@ -196,9 +266,8 @@ public class IndexDocumentWrapperLinkedData {
         .orElseThrow();
   }
 
-  private Optional<CristinOrganization> fetchOrganization(
-      URI externalReference, SortableIdentifier documentIdentifier) {
-    var response = fetch(externalReference);
+  private Optional<CristinOrganization> processOrganization(
+      HttpResponse<String> response, SortableIdentifier documentIdentifier) {
     if (response.statusCode() / ONE_HUNDRED == SUCCESS_FAMILY) {
       var body = response.body();
       return Optional.of(mapToCristinOrganization(body));
@@ -209,13 +278,13 @@ public class IndexDocumentWrapperLinkedData {
     }
   }
 
-  private Collection<? extends InputStream> fetchAllAffiliationContent(JsonNode indexDocument) {
-    var documentIdentifier = new SortableIdentifier(indexDocument.get("identifier").asText());
-    return extractAffiliationUris(indexDocument).stream()
-        .distinct()
-        .map(organizationId -> fetchOrganization(organizationId, documentIdentifier))
-        .filter(Optional::isPresent)
-        .map(Optional::get)
+  private Collection<? extends InputStream> processAffiliations(
+      List<Lookup<HttpResponse<String>>> lookups, SortableIdentifier documentIdentifier) {
+    return lookups.stream()
+        .map(lookup -> awaitOrRecover(lookup, documentIdentifier))
+        .flatMap(Optional::stream)
+        .map(response -> processOrganization(response, documentIdentifier))
+        .flatMap(Optional::stream)
         .map(CristinOrganization::toJsonString)
         .map(IoUtils::stringToStream)
         .toList();
@@ -2,20 +2,38 @@ package no.unit.nva.expansion.utils;
 
 import java.nio.file.Path;
 import nva.commons.core.ioutils.IoUtils;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryFactory;
 
+/**
+ * The SPARQL queries used while expanding publications. They are parsed once per JVM and shared by
+ * every expansion, so they must not be modified.
+ */
 public final class AffiliationQueries {
 
-  public static final String TOP_LEVEL_ORGANIZATION =
-      IoUtils.stringFromResources(Path.of("constructTopLevelAffiliationQuery.sparql"));
+  public static final Query TOP_LEVEL_ORGANIZATION =
+      compile(Path.of("constructTopLevelAffiliationQuery.sparql"));
 
-  public static final String HAS_PART =
-      IoUtils.stringFromResources(Path.of("constructHasPartAsInverseOfPartOf.sparql"));
+  public static final Query HAS_PART =
+      compile(Path.of("constructHasPartAsInverseOfPartOf.sparql"));
 
-  public static final String CONTRIBUTOR_ORGANIZATION =
-      IoUtils.stringFromResources(Path.of("constructContributorOrganization.sparql"));
+  public static final Query CONTRIBUTOR_ORGANIZATION =
+      compile(Path.of("constructContributorOrganization.sparql"));
 
-  public static final String CONTRIBUTOR_INSTITUTION =
-      IoUtils.stringFromResources(Path.of("constructContributorInstitution.sparql"));
+  public static final Query CONTRIBUTOR_INSTITUTION =
+      compile(Path.of("constructContributorInstitution.sparql"));
+
+  public static final Query FUNDINGS_FROM_PROJECTS = compile(Path.of("funding_query.sparql"));
 
   private AffiliationQueries() {}
+
+  /**
+   * Parses the query, and sets its result variables up front so that concurrent executions only
+   * read it.
+   */
+  private static Query compile(Path path) {
+    var query = QueryFactory.create(IoUtils.stringFromResources(path));
+    query.setResultVars();
+    return query;
+  }
 }
@@ -0,0 +1,120 @@
+package no.unit.nva.expansion.utils;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs external lookups concurrently on virtual threads, with a limit on the number of calls in
+ * flight to each host and a timeout for each call. The timeout starts when the call gets its
+ * permit, so lookups queued behind others for the same host get their full time, and a call that
+ * times out is cancelled and gives its permit to the next one. Lookups are submitted and awaited in
+ * the order the caller needs them, so the results come back in a deterministic order. Closing the
+ * fetcher cancels lookups that were never awaited.
+ */
+public final class ConcurrentFetcher implements AutoCloseable {
+
+  public static final int DEFAULT_MAX_CONCURRENCY_PER_HOST = 4;
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(20);
+  private static final Logger logger = LoggerFactory.getLogger(ConcurrentFetcher.class);
+  private static final String TIMEOUT_MESSAGE = "Lookup of {} timed out after {}";
+  private static final String NO_HOST = "";
+
+  private final ExecutorService executor;
+  private final Map<String, Semaphore> permitsByHost = new ConcurrentHashMap<>();
+  private final int maxConcurrencyPerHost;
+  private final Duration timeout;
+
+  public ConcurrentFetcher() {
+    this(DEFAULT_MAX_CONCURRENCY_PER_HOST, DEFAULT_TIMEOUT);
+  }
+
+  @SuppressWarnings("PMD.DoNotUseThreads")
+  public ConcurrentFetcher(int maxConcurrencyPerHost, Duration timeout) {
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+    this.timeout = timeout;
+  }
+
+  /** Starts a lookup against the host of the given URI. */
+  public <T> Lookup<T> submit(URI uri, Callable<T> call) {
+    var permits =
+        permitsByHost.computeIfAbsent(hostOf(uri), host -> new Semaphore(maxConcurrencyPerHost));
+    return new Lookup<>(uri, executor.submit(() -> callWithPermit(permits, call)));
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    executor.close();
+  }
+
+  private <T> T callWithPermit(Semaphore permits, Callable<T> call) throws Exception {
+    permits.acquire();
+    var running = executor.submit(call);
+    try {
+      return running.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof Exception exception ? exception : e;
+    } finally {
+      running.cancel(true);
+      permits.release();
+    }
+  }
+
+  private static String hostOf(URI uri) {
+    return Optional.ofNullable(uri).map(URI::getHost).orElse(NO_HOST);
+  }
+
+  /** A lookup that has been started and can be awaited once. */
+  public final class Lookup<T> {
+
+    private final URI uri;
+    private final Future<T> future;
+
+    private Lookup(URI uri, Future<T> future) {
+      this.uri = uri;
+      this.future = future;
+    }
+
+    public URI uri() {
+      return uri;
+    }
+
+    /**
+     * Waits for the result of the lookup.
+     *
+     * @return the result, or empty if the lookup timed out
+     * @throws RuntimeException the exception thrown by the lookup, if any
+     */
+    public Optional<T> await() {
+      try {
+        return Optional.ofNullable(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } catch (ExecutionException e) {
+        return switch (e.getCause()) {
+          case TimeoutException ignored -> {
+            logger.warn(TIMEOUT_MESSAGE, uri, timeout);
+            yield Optional.empty();
+          }
+          case RuntimeException runtimeException -> throw runtimeException;
+          default -> throw new IllegalStateException(e.getCause());
+        };
+      }
+    }
+  }
+}
@@ -1,26 +1,24 @@
 package no.unit.nva.expansion.utils;
 
 import static java.util.Objects.isNull;
-import static no.unit.nva.expansion.utils.JsonLdDefaults.frameJsonLd;
+import static no.unit.nva.expansion.utils.JsonLdDefaults.frameJsonLdAsTree;
 import static org.apache.http.HttpStatus.SC_OK;
 
 import com.apicatalog.jsonld.document.Document;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import no.unit.nva.auth.uriretriever.RawContentRetriever;
 import nva.commons.apigateway.MediaTypes;
 import nva.commons.core.JacocoGenerated;
-import nva.commons.core.ioutils.IoUtils;
-import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QueryExecutionFactory;
-import org.apache.jena.query.QueryFactory;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
@@ -46,18 +44,30 @@ public class FramedJsonGenerator {
       "https://nva.sikt.no/ontology/publication#source";
   private static final String PROJECT_SOURCE_URI =
       "https://example.org/project-ontology.ttl#source";
-  private static final Path FUNDING_QUERY_FILE_PATH = Path.of("funding_query.sparql");
-  private final String framedJson;
+  private static final String PUBLICATION_VARIABLE = "publication";
+  private final ObjectNode framedJson;
   private final RawContentRetriever uriRetriever;
 
   public FramedJsonGenerator(
       List<InputStream> streams, Document frame, RawContentRetriever uriRetriever) {
+    this(ModelFactory.createDefaultModel(), streams, frame, uriRetriever);
+  }
+
+  /**
+   * Frames the document model together with the JSON-LD streams. The document model is extended
+   * in place, so it must not be shared.
+   */
+  public FramedJsonGenerator(
+      Model document,
+      List<InputStream> streams,
+      Document frame,
+      RawContentRetriever uriRetriever) {
     this.uriRetriever = uriRetriever;
-    var model = createModel(streams);
-    framedJson = frameJsonLd(model, frame);
+    var model = createModel(document, streams);
+    framedJson = frameJsonLdAsTree(model, frame);
   }
 
-  public String getFramedJson() {
+  public ObjectNode getFramedJson() {
     return framedJson;
   }
 
@@ -65,8 +75,7 @@ public class FramedJsonGenerator {
     logger.warn("Invalid JSON LD input encountered: ", exception);
   }
 
-  private Model createModel(List<InputStream> streams) {
-    var model = ModelFactory.createDefaultModel();
+  private Model createModel(Model model, List<InputStream> streams) {
     streams.forEach(s -> loadDataIntoModel(model, s));
     addTopLevelOrganizations(model);
     addContributorOrganizations(model);
@@ -79,7 +88,12 @@ public class FramedJsonGenerator {
   private Model constructFundingsFromProjects(Model model) {
     var projectsModel = assembleProjectData(model);
 
-    try (var qexec = QueryExecutionFactory.create(constructFundingsQuery(model), projectsModel)) {
+    try (var qexec =
+        QueryExecution.create()
+            .query(AffiliationQueries.FUNDINGS_FROM_PROJECTS)
+            .model(projectsModel)
+            .substitution(PUBLICATION_VARIABLE, findPublication(model))
+            .build()) {
       return qexec.execConstruct();
     }
   }
@@ -100,31 +114,40 @@ public class FramedJsonGenerator {
     return projectsModel;
   }
 
+  /**
+   * Fetches every resource the property points to concurrently. The responses are returned in the
+   * order the model lists them, so that they are loaded into the model from a single thread.
+   */
   private Stream<InputStream> fetchDataFromModelResource(Model model, Property property) {
-    return model.listObjectsOfProperty(property).toList().stream()
-        .filter(RDFNode::isURIResource)
-        .map(RDFNode::asResource)
-        .map(Resource::getURI)
-        .map(URI::create)
-        .map(a -> uriRetriever.fetchResponse(a, MediaTypes.APPLICATION_JSON_LD.toString()))
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .filter(a -> a.statusCode() == SC_OK)
-        .map(HttpResponse::body)
-        .map(body -> new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    var uris =
+        model.listObjectsOfProperty(property).toList().stream()
+            .filter(RDFNode::isURIResource)
+            .map(RDFNode::asResource)
+            .map(Resource::getURI)
+            .map(URI::create)
+            .toList();
+    try (var fetcher = new ConcurrentFetcher()) {
+      var lookups = uris.stream().map(uri -> fetcher.submit(uri, () -> fetch(uri))).toList();
+      return lookups.stream()
+          .map(ConcurrentFetcher.Lookup::await)
+          .flatMap(Optional::stream)
+          .flatMap(Optional::stream)
+          .filter(a -> a.statusCode() == SC_OK)
+          .map(HttpResponse::body)
+          .<InputStream>map(body -> new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))
+          .toList()
+          .stream();
+    }
   }
 
-  private static Query constructFundingsQuery(Model model) {
-    var publicationUri =
-        model
-            .listSubjectsWithProperty(
-                RDF.type, ResourceFactory.createResource(PUBLICATION_CLASS_URI))
-            .nextResource()
-            .getURI();
-
-    var query = IoUtils.stringFromResources(FUNDING_QUERY_FILE_PATH).formatted(publicationUri);
+  private Optional<HttpResponse<String>> fetch(URI uri) {
+    return uriRetriever.fetchResponse(uri, MediaTypes.APPLICATION_JSON_LD.toString());
+  }
 
-    return QueryFactory.create(query);
+  private static Resource findPublication(Model model) {
+    return model
+        .listSubjectsWithProperty(RDF.type, ResourceFactory.createResource(PUBLICATION_CLASS_URI))
+        .nextResource();
   }
 
   private void loadDataIntoModel(Model model, InputStream inputStream) {
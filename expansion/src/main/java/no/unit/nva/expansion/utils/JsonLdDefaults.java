@@ -6,8 +6,16 @@ import com.apicatalog.jsonld.JsonLdOptions;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.http.media.MediaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -18,19 +26,75 @@ import org.apache.jena.riot.RDFFormat;
 
 public final class JsonLdDefaults {
 
+  private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
   private JsonLdDefaults() {}
 
   public static String frameJsonLd(Model model, Document frame) {
+    return write(frame(model, frame));
+  }
+
+  /**
+   * Frames the model like {@link #frameJsonLd(Model, Document)}, but returns the framed document
+   * as a Jackson tree, so that it can be enriched further without being written and read again.
+   */
+  public static ObjectNode frameJsonLdAsTree(Model model, Document frame) {
+    return (ObjectNode) toJsonNode(frame(model, frame));
+  }
+
+  private static JsonObject frame(Model model, Document frame) {
     var outputStream = new ByteArrayOutputStream();
     RDFDataMgr.write(outputStream, model, RDFFormat.JSONLD);
     try (var inputStream = new ByteArrayInputStream(outputStream.toByteArray())) {
       var jsonDocument = JsonDocument.of(MediaType.JSON_LD, inputStream);
-      return write(JsonLd.frame(jsonDocument, frame).options(getJsonLdOptions()).get());
+      return JsonLd.frame(jsonDocument, frame).options(getJsonLdOptions()).get();
     } catch (IOException | JsonLdError e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Copies a JSON-P value into a Jackson tree. Numbers get the node types that Jackson would give
+   * them when parsing the written value, so the tree serializes to the same text.
+   */
+  private static JsonNode toJsonNode(JsonValue value) {
+    return switch (value.getValueType()) {
+      case OBJECT -> toObjectNode(value.asJsonObject());
+      case ARRAY -> toArrayNode(value.asJsonArray());
+      case STRING -> NODE_FACTORY.textNode(((JsonString) value).getString());
+      case NUMBER -> toNumberNode((JsonNumber) value);
+      case TRUE -> NODE_FACTORY.booleanNode(true);
+      case FALSE -> NODE_FACTORY.booleanNode(false);
+      case NULL -> NODE_FACTORY.nullNode();
+    };
+  }
+
+  private static ObjectNode toObjectNode(JsonObject object) {
+    var node = NODE_FACTORY.objectNode();
+    object.forEach((name, value) -> node.set(name, toJsonNode(value)));
+    return node;
+  }
+
+  private static ArrayNode toArrayNode(JsonArray array) {
+    var node = NODE_FACTORY.arrayNode(array.size());
+    array.forEach(value -> node.add(toJsonNode(value)));
+    return node;
+  }
+
+  private static JsonNode toNumberNode(JsonNumber number) {
+    if (!number.isIntegral()) {
+      return NODE_FACTORY.numberNode(number.doubleValue());
+    }
+    var integer = number.bigIntegerValue();
+    if (integer.bitLength() < Integer.SIZE) {
+      return NODE_FACTORY.numberNode(integer.intValue());
+    }
+    if (integer.bitLength() < Long.SIZE) {
+      return NODE_FACTORY.numberNode(integer.longValue());
+    }
+    return NODE_FACTORY.numberNode(integer);
+  }
+
   private static String write(JsonObject framedObject) {
     var stringWriter = new StringWriter();
     try (var jsonWriter = Json.createWriter(stringWriter)) {
@@ -7,6 +7,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import no.unit.nva.commons.json.JsonUtils;
 import no.unit.nva.expansion.ExpansionConfig;
 import no.unit.nva.model.Publication;
@@ -15,7 +17,17 @@ import nva.commons.core.ioutils.IoUtils;
 
 public final class SearchIndexFrame {
 
+  private static final Map<Path, JsonDocument> FRAMES = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the frame with the publication context, parsed on first use and shared by later
+   * callers.
+   */
   public static JsonDocument getFrameWithContext(Path framePath) {
+    return FRAMES.computeIfAbsent(framePath, SearchIndexFrame::parseFrameWithContext);
+  }
+
+  private static JsonDocument parseFrameWithContext(Path framePath) {
     return attempt(() -> JsonDocument.of(generateFrameWithContext(framePath))).orElseThrow();
   }
 
@@ -0,0 +1,124 @@
+package no.unit.nva.expansion.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentFetcherTest {
+
+  private static final URI SOME_HOST = URI.create("https://example.org/resource");
+  private static final Duration LONG_TIMEOUT = Duration.ofSeconds(10);
+
+  @Test
+  void shouldReturnResultsInSubmissionOrder() {
+    try (var fetcher = new ConcurrentFetcher(4, LONG_TIMEOUT)) {
+      var lookups =
+          IntStream.range(0, 10)
+              .mapToObj(i -> fetcher.submit(SOME_HOST, () -> sleepAndReturn(10 - i, i)))
+              .toList();
+
+      var results = lookups.stream().map(lookup -> lookup.await().orElseThrow()).toList();
+
+      assertThat(results, is(equalTo(IntStream.range(0, 10).boxed().toList())));
+    }
+  }
+
+  @Test
+  void shouldReturnEmptyWhenLookupTimesOut() {
+    try (var fetcher = new ConcurrentFetcher(4, Duration.ofMillis(10))) {
+      var blocked = new CountDownLatch(1);
+      var lookup =
+          fetcher.submit(
+              SOME_HOST,
+              () -> {
+                blocked.await();
+                return SOME_HOST;
+              });
+
+      assertThat(lookup.await(), is(equalTo(Optional.empty())));
+    }
+  }
+
+  @Test
+  void shouldRethrowExceptionThrownByLookup() {
+    try (var fetcher = new ConcurrentFetcher(4, LONG_TIMEOUT)) {
+      var lookup =
+          fetcher.submit(
+              SOME_HOST,
+              () -> {
+                throw new IllegalArgumentException("broken");
+              });
+
+      assertThrows(IllegalArgumentException.class, lookup::await);
+    }
+  }
+
+  @Test
+  void shouldNotExceedConcurrencyLimitForSameHost() {
+    var inFlight = new AtomicInteger();
+    var maximumInFlight = new AtomicInteger();
+    try (var fetcher = new ConcurrentFetcher(2, LONG_TIMEOUT)) {
+      var lookups =
+          IntStream.range(0, 10)
+              .mapToObj(
+                  i ->
+                      fetcher.submit(
+                          SOME_HOST,
+                          () -> {
+                            maximumInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            Thread.sleep(5);
+                            inFlight.decrementAndGet();
+                            return i;
+                          }))
+              .toList();
+
+      lookups.forEach(ConcurrentFetcher.Lookup::await);
+    }
+    assertThat(maximumInFlight.get(), is(lessThanOrEqualTo(2)));
+  }
+
+  @Test
+  void shouldStartTimeoutWhenLookupGetsItsPermit() {
+    try (var fetcher = new ConcurrentFetcher(1, Duration.ofMillis(300))) {
+      var lookups =
+          IntStream.range(0, 4)
+              .mapToObj(i -> fetcher.submit(SOME_HOST, () -> sleepAndReturn(150, i)))
+              .toList();
+
+      var results = lookups.stream().map(ConcurrentFetcher.Lookup::await).toList();
+
+      assertThat(results, is(equalTo(IntStream.range(0, 4).mapToObj(Optional::of).toList())));
+    }
+  }
+
+  @Test
+  void shouldGivePermitToQueuedLookupWhenLookupTimesOut() {
+    try (var fetcher = new ConcurrentFetcher(1, Duration.ofMillis(50))) {
+      var blocked = new CountDownLatch(1);
+      fetcher.submit(
+          SOME_HOST,
+          () -> {
+            blocked.await();
+            return SOME_HOST;
+          });
+      var queued = fetcher.submit(SOME_HOST, () -> SOME_HOST);
+
+      assertThat(queued.await(), is(equalTo(Optional.of(SOME_HOST))));
+    }
+  }
+
+  private static Integer sleepAndReturn(long millis, int value) throws InterruptedException {
+    Thread.sleep(millis);
+    return value;
+  }
+}
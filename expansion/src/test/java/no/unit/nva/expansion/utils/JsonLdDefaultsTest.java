@@ -0,0 +1,89 @@
+package no.unit.nva.expansion.utils;
+
+import static no.unit.nva.expansion.ExpansionConfig.objectMapper;
+import static nva.commons.core.ioutils.IoUtils.stringFromResources;
+import static nva.commons.core.ioutils.IoUtils.stringToStream;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.co.datumedge.hamcrest.json.SameJSONAs.sameJSONAs;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.file.Path;
+import no.unit.nva.publication.utils.RdfUtils;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.jupiter.api.Test;
+
+class JsonLdDefaultsTest {
+
+  private static final String DOCUMENT =
+      """
+      {
+        "@context": {
+          "@vocab": "https://nva.sikt.no/ontology/publication#",
+          "xsd": "http://www.w3.org/2001/XMLSchema#",
+          "id": "@id",
+          "type": "@type",
+          "ratio": {"@type": "xsd:double"},
+          "amount": {"@type": "xsd:decimal"},
+          "large": {"@type": "xsd:integer"}
+        },
+        "id": "https://example.org/publication/1",
+        "type": "Publication",
+        "mainTitle": "Some title",
+        "count": 3,
+        "ratio": "1.0E10",
+        "amount": "12.50",
+        "large": "123456789012345678901234567890",
+        "open": true,
+        "tags": ["a", "b"],
+        "owner": {"type": "Owner", "sequence": 2147483648}
+      }
+      """;
+  private static final String FRAME_JSON = "frame.json";
+  private static final String FRAMED_JSON = "framed-json";
+  private static final String FRAME =
+      """
+      {
+        "@context": {
+          "@vocab": "https://nva.sikt.no/ontology/publication#",
+          "id": "@id",
+          "type": "@type"
+        },
+        "type": "Publication"
+      }
+      """;
+
+  @Test
+  void shouldFrameToTreeThatSerializesLikeTheRecordedFramedDocument()
+      throws JsonLdError, JsonProcessingException {
+    var model = ModelFactory.createDefaultModel();
+    RDFDataMgr.read(model, stringToStream(DOCUMENT), Lang.JSONLD);
+    var frame = JsonDocument.of(MediaType.JSON_LD, stringToStream(FRAME));
+
+    assertFramesLike(model, frame, "framed_document.json");
+  }
+
+  @Test
+  void shouldFramePublicationLikeTheRecordedFramedPublication() throws JsonProcessingException {
+    var document = stringFromResources(Path.of(FRAMED_JSON, "publication_document.json"));
+    var model = RdfUtils.createModel(stringToStream(document));
+    var frame = SearchIndexFrame.getFrameWithContext(Path.of(FRAME_JSON));
+
+    assertFramesLike(model, frame, "framed_publication_document.json");
+  }
+
+  private static void assertFramesLike(Model model, Document frame, String recordedFramedDocument)
+      throws JsonProcessingException {
+    var tree = JsonLdDefaults.frameJsonLdAsTree(model, frame);
+    var expected = stringFromResources(Path.of(FRAMED_JSON, recordedFramedDocument));
+
+    assertThat(
+        objectMapper.writeValueAsString(tree), sameJSONAs(expected).allowingAnyArrayOrdering());
+  }
+}
@@ -21,6 +21,8 @@ import static no.unit.nva.testutils.RandomDataGenerator.randomInteger;
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static nva.commons.apigateway.MediaTypes.APPLICATION_JSON_LD;
 import static nva.commons.core.attempt.Try.attempt;
+import static nva.commons.core.ioutils.IoUtils.stringFromResources;
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -36,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.co.datumedge.hamcrest.json.SameJSONAs.sameJSONAs;
 
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -46,6 +49,7 @@ import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -64,6 +68,7 @@ import no.unit.nva.model.Identity;
 import no.unit.nva.model.Organization;
 import no.unit.nva.model.Publication;
 import no.unit.nva.model.associatedartifacts.AssociatedLink;
+import no.unit.nva.model.config.ResourcesBuildConfig;
 import no.unit.nva.model.associatedartifacts.RelationType;
 import no.unit.nva.model.contexttypes.Anthology;
 import no.unit.nva.model.contexttypes.Book;
@@ -682,6 +687,26 @@ class ExpandedResourceTest extends ResourcesLocalTest {
     assertThat(actualUri, is(equalTo(expectedUri)));
   }
 
+  @Test
+  void shouldExpandPublicationToRecordedExpandedDocument() throws JsonProcessingException {
+    var publication =
+        objectMapper.readValue(
+            stringFromResources(Path.of("expanded-json", "publication.json")), Publication.class);
+    FakeUriResponse.setUpNviResponse(fakeUriRetriever, SC_NOT_FOUND, publication, "");
+
+    var expandedResource =
+        fromPublication(
+            fakeUriRetriever, resourceService, sqsClient, Resource.fromPublication(publication));
+
+    var expected =
+        (ObjectNode)
+            objectMapper.readTree(
+                stringFromResources(Path.of("expanded-json", "expanded_publication.json")));
+    // the model version follows the release, so the recorded value is not part of the comparison
+    expected.put("modelVersion", ResourcesBuildConfig.RESOURCES_MODEL_VERSION);
+    assertThat(expandedResource.toJsonString(), sameJSONAs(expected.toString()));
+  }
+
   @Test
   void shouldReturnIndexDocumentContainingConfirmedSeriesUriFromNsdPublicationChannels()
       throws JsonProcessingException, BadRequestException {
@@ -1,9 +1,13 @@
 package no.unit.nva.publication;
 
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static nva.commons.core.attempt.Try.attempt;
 import static org.apache.http.HttpHeaders.IF_MATCH;
+import static org.apache.http.HttpHeaders.IF_MODIFIED_SINCE;
 import static org.apache.http.HttpHeaders.IF_NONE_MATCH;
 
+import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import no.unit.nva.clients.IdentityServiceClient;
@@ -94,6 +98,20 @@ public final class RequestUtil {
     return requestInfo.getHeaderOptional(IF_NONE_MATCH);
   }
 
+  /**
+   * Reads the If-Modified-Since header as an instant. A header that is not a valid HTTP date is
+   * ignored, as RFC 9110 requires.
+   */
+  public static Optional<Instant> getInstantFromIfModifiedSinceHeader(RequestInfo requestInfo) {
+    return requestInfo
+        .getHeaderOptional(IF_MODIFIED_SINCE)
+        .flatMap(value -> attempt(() -> parseHttpDate(value)).toOptional());
+  }
+
+  private static Instant parseHttpDate(String value) {
+    return ZonedDateTime.parse(value, RFC_1123_DATE_TIME).toInstant();
+  }
+
   private static UserInstance createClientCredentialUserInstance(
       RequestInfo requestInfo, IdentityServiceClient identityServiceClient)
       throws UnauthorizedException {
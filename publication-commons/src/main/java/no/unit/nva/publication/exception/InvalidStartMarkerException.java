@@ -0,0 +1,9 @@
+package no.unit.nva.publication.exception;
+
+/** Thrown when the start marker of a page does not belong to the listing that is read. */
+public class InvalidStartMarkerException extends IllegalArgumentException {
+
+  public InvalidStartMarkerException(String message) {
+    super(message);
+  }
+}
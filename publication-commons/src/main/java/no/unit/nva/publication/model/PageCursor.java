@@ -0,0 +1,66 @@
+package no.unit.nva.publication.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static no.unit.nva.commons.json.JsonUtils.dtoObjectMapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Opaque cursor for paginated listings. Wraps the DynamoDB {@code lastEvaluatedKey} of a page,
+ * whose attributes are all strings in this table, as URL-safe Base64 encoded JSON.
+ */
+public final class PageCursor {
+
+  private static final TypeReference<Map<String, String>> KEY_TYPE = new TypeReference<>() {};
+  private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor: ";
+
+  private PageCursor() {}
+
+  public static String encode(Map<String, AttributeValue> startMarker) {
+    if (isNull(startMarker) || startMarker.isEmpty()) {
+      return null;
+    }
+    var key =
+        startMarker.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().s()));
+    try {
+      var json = dtoObjectMapper.writeValueAsBytes(key);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Decodes a cursor produced by {@link #encode}.
+   *
+   * @throws IllegalArgumentException if the cursor is not a valid encoded start marker
+   */
+  public static Map<String, AttributeValue> decode(String cursor) {
+    if (isNull(cursor) || cursor.isBlank()) {
+      return null;
+    }
+    var key = readKey(cursor);
+    if (isNull(key) || key.isEmpty() || key.containsValue(null)) {
+      throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE + cursor);
+    }
+    return key.entrySet().stream()
+        .collect(
+            Collectors.toMap(Map.Entry::getKey, entry -> AttributeValue.fromS(entry.getValue())));
+  }
+
+  private static Map<String, String> readKey(String cursor) {
+    try {
+      var json = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+      return dtoObjectMapper.readValue(json, KEY_TYPE);
+    } catch (IllegalArgumentException | IOException e) {
+      throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE + cursor, e);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package no.unit.nva.publication.model;
+
+import static nva.commons.core.attempt.Try.attempt;
+
+import java.util.Map;
+import no.unit.nva.publication.exception.InvalidStartMarkerException;
+import nva.commons.apigateway.RequestInfo;
+import nva.commons.apigateway.exceptions.BadRequestException;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * The size and start marker of a requested page of a listing, read from the {@code size} and
+ * {@code cursor} query parameters. Paging is opt-in, so a request with neither parameter asks for
+ * the whole listing.
+ */
+public record PageRequest(int pageSize, Map<String, AttributeValue> startMarker) {
+
+  public static final String SIZE_QUERY_PARAMETER = "size";
+  public static final String CURSOR_QUERY_PARAMETER = "cursor";
+  private static final String INVALID_SIZE_MESSAGE =
+      "Query parameter size must be a number between 1 and ";
+  private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor";
+
+  public static boolean isPaginated(RequestInfo requestInfo) {
+    return requestInfo.getQueryParameterOpt(SIZE_QUERY_PARAMETER).isPresent()
+        || requestInfo.getQueryParameterOpt(CURSOR_QUERY_PARAMETER).isPresent();
+  }
+
+  /**
+   * Reads the requested page size and start marker.
+   *
+   * @throws BadRequestException if the size is not a number between 1 and the maximum page size,
+   *     or the cursor is not one that was returned with a page
+   */
+  public static PageRequest fromRequestInfo(
+      RequestInfo requestInfo, int defaultPageSize, int maxPageSize) throws BadRequestException {
+    return new PageRequest(
+        readPageSize(requestInfo, defaultPageSize, maxPageSize), readStartMarker(requestInfo));
+  }
+
+  /**
+   * Reads the requested page with the given reader.
+   *
+   * @throws BadRequestException if the start marker belongs to another listing
+   */
+  public <T> ListingResult<T> read(PageReader<T> reader) throws BadRequestException {
+    try {
+      return reader.read(pageSize, startMarker);
+    } catch (InvalidStartMarkerException e) {
+      throw new BadRequestException(INVALID_CURSOR_MESSAGE);
+    }
+  }
+
+  private static int readPageSize(RequestInfo requestInfo, int defaultPageSize, int maxPageSize)
+      throws BadRequestException {
+    var size = requestInfo.getQueryParameterOpt(SIZE_QUERY_PARAMETER);
+    if (size.isEmpty()) {
+      return defaultPageSize;
+    }
+    var pageSize = attempt(() -> Integer.parseInt(size.get())).orElse(failure -> 0);
+    if (pageSize < 1 || pageSize > maxPageSize) {
+      throw new BadRequestException(INVALID_SIZE_MESSAGE + maxPageSize);
+    }
+    return pageSize;
+  }
+
+  private static Map<String, AttributeValue> readStartMarker(RequestInfo requestInfo)
+      throws BadRequestException {
+    var cursor = requestInfo.getQueryParameterOpt(CURSOR_QUERY_PARAMETER).orElse(null);
+    try {
+      return PageCursor.decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException(INVALID_CURSOR_MESSAGE);
+    }
+  }
+
+  @FunctionalInterface
+  public interface PageReader<T> {
+
+    ListingResult<T> read(int pageSize, Map<String, AttributeValue> startMarker);
+  }
+}
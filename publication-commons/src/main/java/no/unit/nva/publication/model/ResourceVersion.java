@@ -0,0 +1,22 @@
+package no.unit.nva.publication.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import java.util.UUID;
+import no.unit.nva.model.PublicationStatus;
+import no.unit.nva.publication.model.business.Resource;
+
+/**
+ * The attributes of a resource that conditional reads are decided on. They are stored next to the
+ * compressed data of the resource row, so they can be read without decompressing anything.
+ */
+public record ResourceVersion(
+    @JsonProperty("version") UUID version,
+    @JsonProperty("modifiedDate") Instant modifiedDate,
+    @JsonProperty("status") PublicationStatus status) {
+
+  public static ResourceVersion fromResource(Resource resource) {
+    return new ResourceVersion(
+        resource.getVersion(), resource.getModifiedDate(), resource.getStatus());
+  }
+}
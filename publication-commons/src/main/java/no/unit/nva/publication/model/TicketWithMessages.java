@@ -0,0 +1,11 @@
+package no.unit.nva.publication.model;
+
+import java.util.List;
+import no.unit.nva.publication.model.business.Message;
+import no.unit.nva.publication.model.business.TicketEntry;
+
+/**
+ * A ticket together with its messages, as read from the resource partition in one listing. The
+ * messages are empty when the listing was made without messages.
+ */
+public record TicketWithMessages(TicketEntry ticket, List<Message> messages) {}
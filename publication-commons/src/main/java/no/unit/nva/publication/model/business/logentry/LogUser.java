@@ -1,5 +1,7 @@
 package no.unit.nva.publication.model.business.logentry;
 
+import static java.util.Objects.isNull;
+
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeName;
@@ -27,7 +29,7 @@ public record LogUser(
 
   public static LogUser fromResourceEvent(User username, URI topLevelOrgCristinId) {
     return new LogUser(
-        username.toString(),
+        isNull(username) ? null : username.toString(),
         null,
         null,
         null,
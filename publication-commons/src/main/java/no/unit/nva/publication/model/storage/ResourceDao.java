@@ -1,6 +1,8 @@
 package no.unit.nva.publication.model.storage;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static no.unit.nva.publication.model.business.StorageModelConfig.dynamoDbObjectMapper;
 import static no.unit.nva.publication.model.storage.DynamoEntry.parseAttributeValuesMap;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.CRISTIN_IDENTIFIER_INDEX_FIELD_PREFIX;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.GSI_1_PARTITION_KEY_NAME;
@@ -12,8 +14,11 @@ import static no.unit.nva.publication.storage.model.DatabaseConstants.RESOURCES_
 import static no.unit.nva.publication.storage.model.DatabaseConstants.RESOURCES_TABLE_NAME;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.RESOURCE_BY_CRISTIN_ID_INDEX_NAME;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.SCOPUS_IDENTIFIER_INDEX_FIELD_PREFIX;
+import static nva.commons.core.attempt.Try.attempt;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeName;
@@ -27,7 +32,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import no.unit.nva.commons.json.JsonSerializable;
 import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.model.ImportDetail;
@@ -56,11 +60,12 @@ public class ResourceDao extends Dao implements JoinWithResource, JsonSerializab
   private static final String NVA_SOURCE = "nva";
   public static final String TYPE = "Resource";
   private static final String BY_RESOURCE_INDEX_ORDER_PREFIX = "a";
-  private static final String STATUS_FIELD = "status";
-  private static final String MODIFIED_DATA_FIELD = "modifiedDate";
+  public static final String STATUS_FIELD = "status";
+  public static final String MODIFIED_DATA_FIELD = "modifiedDate";
   private static final String DOI_FIELD = "doi";
   private static final String IMPORT_DETAILS_FIELD = "importDetails";
   private static final String BRAGE_SOURCE = "brage";
+  public static final String SUMMARY_FIELD = "summary";
 
   @JsonProperty(STATUS_FIELD)
   private PublicationStatus status;
@@ -192,9 +197,34 @@ public class ResourceDao extends Dao implements JoinWithResource, JsonSerializab
             .indexName(DatabaseConstants.BY_CUSTOMER_RESOURCE_INDEX_NAME)
             .keyConditions(joinAllRelatedTicketsForResource())
             .build();
-    return client.query(queryRequest).items().stream()
-        .map(item -> parseAttributeValuesMap(item, TicketDao.class))
-        .collect(Collectors.toList());
+    var tickets = new ArrayList<TicketDao>();
+    Map<String, AttributeValue> lastEvaluatedKey = null;
+    do {
+      var queryResult =
+          client.query(queryRequest.toBuilder().exclusiveStartKey(lastEvaluatedKey).build());
+      queryResult.items().stream()
+          .map(item -> parseAttributeValuesMap(item, TicketDao.class))
+          .forEach(tickets::add);
+      lastEvaluatedKey = queryResult.lastEvaluatedKey();
+    } while (nonNull(lastEvaluatedKey) && !lastEvaluatedKey.isEmpty());
+    return tickets;
+  }
+
+  /**
+   * Listing summary stored uncompressed next to the compressed data, so owner listings can use a
+   * projection and skip inflating the resource. Stored as JSON text to keep the property order
+   * {@link no.unit.nva.publication.model.PublicationSummary} relies on when it is read back. It is
+   * derived from the resource on every write of the row, so it is as fresh as the data blob. The
+   * version refresh is the only partial update of resource rows, and it changes no summary field.
+   */
+  @JsonProperty(SUMMARY_FIELD)
+  @JsonInclude(Include.NON_NULL)
+  public String getSummary() {
+    if (isNull(getIdentifier()) || isNull(getResource().getResourceOwner())) {
+      return null;
+    }
+    return attempt(() -> dynamoDbObjectMapper.writeValueAsString(getResource().toSummary()))
+        .orElse(failure -> null);
   }
 
   @JsonProperty(RESOURCES_BY_CRISTIN_ID_INDEX_PARTITION_KEY_NAME)
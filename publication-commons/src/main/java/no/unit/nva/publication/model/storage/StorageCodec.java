@@ -0,0 +1,195 @@
+package no.unit.nva.publication.model.storage;
+
+import static java.util.Objects.isNull;
+import static no.unit.nva.publication.model.business.StorageModelConfig.dynamoDbObjectMapper;
+import static no.unit.nva.publication.model.storage.DynamoEntry.CONTAINED_DATA_FIELD_NAME;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import no.unit.nva.publication.model.storage.compression.DataCompression;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Single-pass codec between storage objects and DynamoDB items with a compressed {@code data}
+ * attribute.
+ *
+ * <p>Key attributes are built straight from the serialized getters of the entry, and the {@code
+ * data} blob is compressed while it is written and decompressed while it is parsed, using the codec
+ * selected by {@link DataCompression}. Neither direction goes through an intermediate JSON string.
+ */
+final class StorageCodec {
+
+  private static final int INITIAL_OUTPUT_SIZE = 4 * 1024;
+
+  private StorageCodec() {}
+
+  static Map<String, AttributeValue> encode(Object value) {
+    var tree = (ObjectNode) dynamoDbObjectMapper.valueToTree(value);
+    var data = tree.remove(CONTAINED_DATA_FIELD_NAME);
+    var attributeValues = toAttributeValues(tree);
+    attributeValues.put(CONTAINED_DATA_FIELD_NAME, compressedAttributeValue(data));
+    return attributeValues;
+  }
+
+  static <T> T decode(Map<String, AttributeValue> valuesMap, Class<T> type) throws IOException {
+    try (var buffer = new TokenBuffer(dynamoDbObjectMapper, false)) {
+      buffer.writeStartObject();
+      for (Entry<String, AttributeValue> entry : valuesMap.entrySet()) {
+        buffer.writeFieldName(entry.getKey());
+        if (isCompressedData(entry)) {
+          copyDecompressed(entry.getValue().b(), buffer);
+        } else {
+          writeAttributeValue(entry.getValue(), buffer);
+        }
+      }
+      buffer.writeEndObject();
+      try (var parser = buffer.asParser(dynamoDbObjectMapper)) {
+        return dynamoDbObjectMapper.readValue(parser, type);
+      }
+    }
+  }
+
+  static byte[] compress(JsonNode data) throws IOException {
+    var outputStream = new ByteArrayOutputStream(INITIAL_OUTPUT_SIZE);
+    var compressingStream = DataCompression.defaultCompression().compressingStream(outputStream);
+    try (var generator = dynamoDbObjectMapper.createGenerator(compressingStream)) {
+      dynamoDbObjectMapper.writeTree(generator, isNull(data) ? NullNode.getInstance() : data);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static AttributeValue compressedAttributeValue(JsonNode data) {
+    try {
+      return AttributeValue.fromB(SdkBytes.fromByteArrayUnsafe(compress(data)));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean isCompressedData(Entry<String, AttributeValue> entry) {
+    return CONTAINED_DATA_FIELD_NAME.equals(entry.getKey()) && !isNull(entry.getValue().b());
+  }
+
+  private static void copyDecompressed(SdkBytes compressedData, JsonGenerator generator)
+      throws IOException {
+    try (InputStream inputStream =
+            DataCompression.defaultCompression()
+                .decompressingStream(compressedData.asByteArrayUnsafe());
+        var parser = dynamoDbObjectMapper.createParser(inputStream)) {
+      parser.nextToken();
+      generator.copyCurrentStructure(parser);
+    }
+  }
+
+  private static void writeAttributeValue(AttributeValue value, JsonGenerator generator)
+      throws IOException {
+    switch (value.type()) {
+      case S -> generator.writeString(value.s());
+      case N -> writeNumber(value.n(), generator);
+      case B -> generator.writeString(toBase64(value.b()));
+      case BOOL -> generator.writeBoolean(value.bool());
+      case SS -> writeStrings(value.ss(), generator);
+      case NS -> writeNumbers(value.ns(), generator);
+      case BS -> writeBinaries(value.bs(), generator);
+      case L -> writeList(value.l(), generator);
+      case M -> writeMap(value.m(), generator);
+      default -> generator.writeNull();
+    }
+  }
+
+  private static void writeNumber(String number, JsonGenerator generator) throws IOException {
+    try (var parser = dynamoDbObjectMapper.createParser(number)) {
+      parser.nextToken();
+      generator.copyCurrentEvent(parser);
+    }
+  }
+
+  private static void writeStrings(List<String> values, JsonGenerator generator)
+      throws IOException {
+    generator.writeStartArray();
+    for (var value : values) {
+      generator.writeString(value);
+    }
+    generator.writeEndArray();
+  }
+
+  private static void writeNumbers(List<String> values, JsonGenerator generator)
+      throws IOException {
+    generator.writeStartArray();
+    for (var value : values) {
+      writeNumber(value, generator);
+    }
+    generator.writeEndArray();
+  }
+
+  private static void writeBinaries(List<SdkBytes> values, JsonGenerator generator)
+      throws IOException {
+    generator.writeStartArray();
+    for (var value : values) {
+      generator.writeString(toBase64(value));
+    }
+    generator.writeEndArray();
+  }
+
+  private static void writeList(List<AttributeValue> values, JsonGenerator generator)
+      throws IOException {
+    generator.writeStartArray();
+    for (var value : values) {
+      writeAttributeValue(value, generator);
+    }
+    generator.writeEndArray();
+  }
+
+  private static void writeMap(Map<String, AttributeValue> values, JsonGenerator generator)
+      throws IOException {
+    generator.writeStartObject();
+    for (var entry : values.entrySet()) {
+      generator.writeFieldName(entry.getKey());
+      writeAttributeValue(entry.getValue(), generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private static String toBase64(SdkBytes bytes) {
+    return Base64.getEncoder().encodeToString(bytes.asByteArrayUnsafe());
+  }
+
+  private static Map<String, AttributeValue> toAttributeValues(ObjectNode node) {
+    var attributeValues = new HashMap<String, AttributeValue>();
+    node.fields()
+        .forEachRemaining(
+            field -> attributeValues.put(field.getKey(), toAttributeValue(field.getValue())));
+    return attributeValues;
+  }
+
+  private static AttributeValue toAttributeValue(JsonNode node) {
+    return switch (node.getNodeType()) {
+      case OBJECT -> AttributeValue.fromM(toAttributeValues((ObjectNode) node));
+      case ARRAY -> AttributeValue.fromL(toAttributeValueList(node));
+      case STRING -> AttributeValue.fromS(node.textValue());
+      case NUMBER -> AttributeValue.fromN(node.asText());
+      case BOOLEAN -> AttributeValue.fromBool(node.booleanValue());
+      case NULL, MISSING -> AttributeValue.fromNul(true);
+      default -> AttributeValue.fromS(node.asText());
+    };
+  }
+
+  private static List<AttributeValue> toAttributeValueList(JsonNode arrayNode) {
+    var values = new ArrayList<AttributeValue>(arrayNode.size());
+    arrayNode.forEach(element -> values.add(toAttributeValue(element)));
+    return values;
+  }
+}
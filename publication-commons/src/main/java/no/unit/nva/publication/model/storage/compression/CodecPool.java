@@ -0,0 +1,103 @@
+package no.unit.nva.publication.model.storage.compression;
+
+import static java.util.Objects.isNull;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Bounded pool of {@link Deflater} and {@link Inflater} instances.
+ *
+ * <p>Creating a zlib stream allocates native memory that is only released by {@code end()} or
+ * finalization, so bulk scans and migrations that compress or decompress thousands of items per
+ * second should reuse instances instead. The pool is a set of lock-free queues rather than thread
+ * locals, so it stays bounded when used from virtual threads. Instances returned while the pool is
+ * full are ended immediately.
+ */
+public final class CodecPool {
+
+  private static final boolean NO_WRAP = true;
+  private static final int MINIMUM_CAPACITY = 4;
+  private static final CodecPool SHARED =
+      new CodecPool(Math.max(MINIMUM_CAPACITY, Runtime.getRuntime().availableProcessors() * 2));
+
+  private final int capacity;
+  private final Map<Integer, Queue<Deflater>> deflaters = new ConcurrentHashMap<>();
+  private final Queue<Inflater> inflaters;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder discarded = new LongAdder();
+  private final LongAdder bytesIn = new LongAdder();
+  private final LongAdder bytesOut = new LongAdder();
+
+  public CodecPool(int capacity) {
+    this.capacity = capacity;
+    this.inflaters = new ArrayBlockingQueue<>(capacity);
+  }
+
+  public static CodecPool shared() {
+    return SHARED;
+  }
+
+  /** Raw (no zlib header) deflater for the given level. Must be returned with {@link #release}. */
+  public Deflater borrowDeflater(int level) {
+    var deflater = deflatersFor(level).poll();
+    if (isNull(deflater)) {
+      misses.increment();
+      return new Deflater(level, NO_WRAP);
+    }
+    hits.increment();
+    return deflater;
+  }
+
+  public void release(int level, Deflater deflater) {
+    bytesIn.add(deflater.getBytesRead());
+    bytesOut.add(deflater.getBytesWritten());
+    deflater.reset();
+    if (!deflatersFor(level).offer(deflater)) {
+      discarded.increment();
+      deflater.end();
+    }
+  }
+
+  /** Raw (no zlib header) inflater. Must be returned with {@link #release(Inflater)}. */
+  public Inflater borrowInflater() {
+    var inflater = inflaters.poll();
+    if (isNull(inflater)) {
+      misses.increment();
+      return new Inflater(NO_WRAP);
+    }
+    hits.increment();
+    return inflater;
+  }
+
+  public void release(Inflater inflater) {
+    bytesIn.add(inflater.getBytesRead());
+    bytesOut.add(inflater.getBytesWritten());
+    inflater.reset();
+    if (!inflaters.offer(inflater)) {
+      discarded.increment();
+      inflater.end();
+    }
+  }
+
+  public Statistics statistics() {
+    return new Statistics(
+        hits.sum(), misses.sum(), discarded.sum(), bytesIn.sum(), bytesOut.sum());
+  }
+
+  private Queue<Deflater> deflatersFor(int level) {
+    return deflaters.computeIfAbsent(level, ignored -> new ArrayBlockingQueue<>(capacity));
+  }
+
+  /**
+   * Cumulative pool counters. Bytes are counted from the point of view of the codec: {@code
+   * bytesIn} is what was fed to deflaters and inflaters, {@code bytesOut} is what they produced.
+   */
+  public record Statistics(long hits, long misses, long discarded, long bytesIn, long bytesOut) {}
+}
@@ -0,0 +1,36 @@
+package no.unit.nva.publication.model.storage.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Compression algorithm for the {@code data} attribute of stored entries.
+ *
+ * <p>Additional codecs (e.g. zstd or LZ4) can be plugged in through {@link
+ * java.util.ServiceLoader} by listing the implementation in {@code
+ * META-INF/services/no.unit.nva.publication.model.storage.compression.CompressionCodec}.
+ */
+public interface CompressionCodec {
+
+  /**
+   * Identifier written to the header byte of every blob produced by this codec. Must be between
+   * {@code 1} and {@link DataCompression#MAX_CODEC_IDENTIFIER} and unique among registered codecs.
+   */
+  int identifier();
+
+  /** Name used to select this codec for writing through configuration. */
+  String name();
+
+  /**
+   * Wraps the target so that everything written is compressed. Closing the returned stream must
+   * finish the compressed output, release any native resources and close the target.
+   */
+  OutputStream compressingStream(OutputStream target, int level) throws IOException;
+
+  /**
+   * Wraps the source so that everything read is decompressed. Closing the returned stream must
+   * release any native resources and close the source.
+   */
+  InputStream decompressingStream(InputStream source) throws IOException;
+}
@@ -0,0 +1,174 @@
+package no.unit.nva.publication.model.storage.compression;
+
+import static java.util.Objects.isNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+import nva.commons.core.Environment;
+
+/**
+ * Self-describing compression of the {@code data} attribute.
+ *
+ * <p>Blobs written by a registered {@link CompressionCodec} start with one header byte holding the
+ * codec identifier in the five high bits and {@code 0b110} in bits one and two. Those bits form the
+ * reserved block type {@code 11} of raw deflate, so a header can never be confused with the start
+ * of a legacy blob, which is headerless raw deflate. Readers detect the codec from the first byte,
+ * which lets one table hold blobs from several codecs while rows are migrated.
+ */
+public final class DataCompression {
+
+  public static final String CODEC_ENV = "DATA_COMPRESSION_CODEC";
+  public static final String LEVEL_ENV = "DATA_COMPRESSION_LEVEL";
+  public static final String LEGACY_DEFLATE = "deflate-legacy";
+  public static final int DEFAULT_LEVEL = 9;
+  public static final int MAX_CODEC_IDENTIFIER = 31;
+  private static final int HEADER_MARKER = 0b110;
+  private static final int IDENTIFIER_SHIFT = 3;
+  private static final int UNSIGNED_BYTE_MASK = 0xFF;
+  private static final CompressionCodec LEGACY_CODEC = new DeflateCodec();
+  private static final DataCompression DEFAULT = fromEnvironment(new Environment());
+
+  private final Map<Integer, CompressionCodec> codecs;
+  private final CompressionCodec writer;
+  private final int level;
+
+  private DataCompression(Map<Integer, CompressionCodec> codecs, String writerName, int level) {
+    this.codecs = Map.copyOf(codecs);
+    this.writer = LEGACY_DEFLATE.equals(writerName) ? null : findByName(writerName);
+    this.level = level;
+  }
+
+  /** Compression configured through {@value CODEC_ENV} and {@value LEVEL_ENV} for this JVM. */
+  public static DataCompression defaultCompression() {
+    return DEFAULT;
+  }
+
+  /**
+   * Compression writing with the named codec ({@value LEGACY_DEFLATE} for headerless deflate) and
+   * reading every built-in and {@link ServiceLoader}-provided codec.
+   */
+  public static DataCompression create(String writerName, int level) {
+    return create(writerName, level, List.of());
+  }
+
+  public static DataCompression create(
+      String writerName, int level, Collection<CompressionCodec> additionalCodecs) {
+    var codecs = new HashMap<Integer, CompressionCodec>();
+    Stream.concat(availableCodecs(), additionalCodecs.stream())
+        .forEach(codec -> register(codecs, codec));
+    return new DataCompression(codecs, writerName, level);
+  }
+
+  public static DataCompression fromEnvironment(Environment environment) {
+    var writerName = environment.readEnvOpt(CODEC_ENV).orElse(LEGACY_DEFLATE);
+    var level = environment.readEnvOpt(LEVEL_ENV).map(Integer::parseInt).orElse(DEFAULT_LEVEL);
+    return create(writerName, level);
+  }
+
+  public String writerName() {
+    return isLegacyWriter() ? LEGACY_DEFLATE : writer.name();
+  }
+
+  /** Wraps the target so that everything written to it is compressed with the writer codec. */
+  public OutputStream compressingStream(OutputStream target) throws IOException {
+    if (isLegacyWriter()) {
+      return LEGACY_CODEC.compressingStream(target, level);
+    }
+    target.write(header(writer));
+    return writer.compressingStream(target, level);
+  }
+
+  /** Decompresses a blob written by any registered codec, or a headerless legacy blob. */
+  public InputStream decompressingStream(byte[] blob) throws IOException {
+    if (hasHeader(blob)) {
+      var codec = codecFor(blob);
+      return codec.decompressingStream(new ByteArrayInputStream(blob, 1, blob.length - 1));
+    }
+    return LEGACY_CODEC.decompressingStream(new ByteArrayInputStream(blob));
+  }
+
+  public byte[] compress(byte[] data) throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    try (var compressingStream = compressingStream(outputStream)) {
+      compressingStream.write(data);
+    }
+    return outputStream.toByteArray();
+  }
+
+  public byte[] decompress(byte[] blob) throws IOException {
+    try (var decompressingStream = decompressingStream(blob)) {
+      return decompressingStream.readAllBytes();
+    }
+  }
+
+  /** Whether the blob is already encoded with the codec this instance writes. */
+  public boolean isWrittenByWriter(byte[] blob) {
+    if (isLegacyWriter()) {
+      return !hasHeader(blob);
+    }
+    return hasHeader(blob) && codecIdentifier(blob) == writer.identifier();
+  }
+
+  /** Re-encodes a blob written by any registered codec with the writer codec. */
+  public byte[] recompress(byte[] blob) throws IOException {
+    return compress(decompress(blob));
+  }
+
+  private static Stream<CompressionCodec> availableCodecs() {
+    var provided =
+        ServiceLoader.load(CompressionCodec.class).stream().map(ServiceLoader.Provider::get);
+    return Stream.concat(Stream.of(new DeflateCodec()), provided);
+  }
+
+  private static void register(Map<Integer, CompressionCodec> codecs, CompressionCodec codec) {
+    if (codec.identifier() < 1 || codec.identifier() > MAX_CODEC_IDENTIFIER) {
+      throw new IllegalArgumentException("Invalid codec identifier: " + codec.identifier());
+    }
+    var existing = codecs.putIfAbsent(codec.identifier(), codec);
+    if (!isNull(existing) && !existing.getClass().equals(codec.getClass())) {
+      throw new IllegalArgumentException(
+          "Codec identifier %d is used by both %s and %s"
+              .formatted(codec.identifier(), existing.name(), codec.name()));
+    }
+  }
+
+  private static boolean hasHeader(byte[] blob) {
+    return blob.length > 0 && (blob[0] & HEADER_MARKER) == HEADER_MARKER;
+  }
+
+  private static int codecIdentifier(byte[] blob) {
+    return (blob[0] & UNSIGNED_BYTE_MASK) >>> IDENTIFIER_SHIFT;
+  }
+
+  private static int header(CompressionCodec codec) {
+    return codec.identifier() << IDENTIFIER_SHIFT | HEADER_MARKER;
+  }
+
+  private boolean isLegacyWriter() {
+    return isNull(writer);
+  }
+
+  private CompressionCodec codecFor(byte[] blob) {
+    var codec = codecs.get(codecIdentifier(blob));
+    if (isNull(codec)) {
+      throw new IllegalStateException("Unknown compression codec: " + codecIdentifier(blob));
+    }
+    return codec;
+  }
+
+  private CompressionCodec findByName(String name) {
+    return codecs.values().stream()
+        .filter(codec -> codec.name().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown compression codec: " + name));
+  }
+}
@@ -0,0 +1,81 @@
+package no.unit.nva.publication.model.storage.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Raw deflate at a configurable level. Without the {@link DataCompression} header byte this is the
+ * legacy format the {@code data} attribute has always been written in. Deflaters and inflaters are
+ * borrowed from a {@link CodecPool} and returned when the stream is closed.
+ */
+public final class DeflateCodec implements CompressionCodec {
+
+  public static final int IDENTIFIER = 1;
+  public static final String NAME = "deflate";
+  // Most data blobs deflate to a few kilobytes; the JDK default of 512 bytes means many small
+  // native calls per item.
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private final CodecPool pool;
+
+  public DeflateCodec() {
+    this(CodecPool.shared());
+  }
+
+  public DeflateCodec(CodecPool pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public int identifier() {
+    return IDENTIFIER;
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public OutputStream compressingStream(OutputStream target, int level) {
+    var deflater = pool.borrowDeflater(level);
+    return new DeflaterOutputStream(target, deflater, BUFFER_SIZE) {
+      private boolean released;
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          if (!released) {
+            released = true;
+            pool.release(level, deflater);
+          }
+        }
+      }
+    };
+  }
+
+  @Override
+  public InputStream decompressingStream(InputStream source) {
+    var inflater = pool.borrowInflater();
+    return new InflaterInputStream(source, inflater, BUFFER_SIZE) {
+      private boolean released;
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          if (!released) {
+            released = true;
+            pool.release(inflater);
+          }
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,152 @@
+package no.unit.nva.publication.permissions.file;
+
+import static java.util.Objects.isNull;
+import static no.unit.nva.model.FileOperation.DELETE;
+import static no.unit.nva.model.FileOperation.DOWNLOAD;
+import static no.unit.nva.model.FileOperation.WRITE_METADATA;
+import static no.unit.nva.model.associatedartifacts.file.File.FINALIZED_FILE_TYPES;
+import static nva.commons.apigateway.AccessRight.MANAGE_DEGREE;
+import static nva.commons.apigateway.AccessRight.MANAGE_DEGREE_EMBARGO;
+
+import java.util.Optional;
+import no.unit.nva.model.FileOperation;
+import no.unit.nva.model.PublicationStatus;
+import no.unit.nva.model.associatedartifacts.file.File;
+import no.unit.nva.publication.model.business.FileEntry;
+import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
+import nva.commons.apigateway.AccessRight;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The facts about a user, a file and the resource it belongs to that the file strategies decide
+ * on. The facts about the resource come from {@link PublicationAccessFacts}, so that the files of
+ * one resource share them, and the facts about the file are computed once per file.
+ */
+public final class FileAccessFacts {
+
+  private static final Logger logger = LoggerFactory.getLogger(FileAccessFacts.class);
+
+  private final FileEntry file;
+  private final PublicationAccessFacts resourceFacts;
+  private final boolean embargo;
+  private final boolean finalized;
+  private final boolean fileOwner;
+  private Boolean topLevelRelation;
+
+  public FileAccessFacts(FileEntry file, PublicationAccessFacts resourceFacts) {
+    this.file = file;
+    this.resourceFacts = resourceFacts;
+    this.embargo = file.getFile().hasActiveEmbargo();
+    this.finalized = FINALIZED_FILE_TYPES.contains(file.getFile().getClass());
+    this.fileOwner =
+        Optional.ofNullable(resourceFacts.userInstance())
+            .map(UserInstance::getUser)
+            .map(user -> user.equals(file.getOwner()))
+            .orElse(false);
+  }
+
+  public File file() {
+    return file.getFile();
+  }
+
+  public PublicationStatus resourceStatus() {
+    return resourceFacts.resource().getStatus();
+  }
+
+  public boolean fileHasEmbargo() {
+    return embargo;
+  }
+
+  public boolean fileIsFinalized() {
+    return finalized;
+  }
+
+  public boolean currentUserIsFileOwner() {
+    return fileOwner;
+  }
+
+  public boolean hasAccessRight(AccessRight accessRight) {
+    return resourceFacts.hasAccessRight(accessRight);
+  }
+
+  public boolean resourceIsDegree() {
+    return resourceFacts.isDegree();
+  }
+
+  public boolean hasClaimedPublicationChannel() {
+    return resourceFacts.claimedPublicationChannelWithinScope().isPresent();
+  }
+
+  public boolean userRelatesToPublication() {
+    return resourceFacts.userRelatesToPublication();
+  }
+
+  public boolean userBelongsToPublicationChannelOwner() {
+    return resourceFacts.userBelongsToPublicationChannelOwner();
+  }
+
+  public boolean currentUserIsContributor() {
+    return resourceFacts.userIsVerifiedContributor();
+  }
+
+  public boolean isExternalClientWithRelation() {
+    return resourceFacts.isExternalClientWithRelation();
+  }
+
+  public boolean currentUserIsFileCuratorForGivenFile() {
+    return hasAccessRight(AccessRight.MANAGE_RESOURCE_FILES)
+        && (haveTopLevelRelationForCurrentFile() || userBelongsToPublicationChannelOwner());
+  }
+
+  public boolean currentUserIsFileCurator() {
+    return hasAccessRight(AccessRight.MANAGE_RESOURCE_FILES) && userRelatesToPublication();
+  }
+
+  public boolean currentUserIsSupportCuratorForGivenFile() {
+    return hasAccessRight(AccessRight.SUPPORT)
+        && userRelatesToPublication()
+        && haveTopLevelRelationForCurrentFile();
+  }
+
+  public boolean currentUserIsCuratorForGivenFile() {
+    return hasAccessRight(AccessRight.MANAGE_RESOURCES_STANDARD)
+        && userRelatesToPublication()
+        && haveTopLevelRelationForCurrentFile();
+  }
+
+  public boolean currentUserIsDegreeEmbargoFileCuratorForGivenFile() {
+    return hasAccessRight(MANAGE_DEGREE_EMBARGO)
+        && (haveTopLevelRelationForCurrentFile() || userBelongsToPublicationChannelOwner());
+  }
+
+  public boolean currentUserIsDegreeFileCuratorForGivenFile() {
+    return hasAccessRight(MANAGE_DEGREE)
+        && (haveTopLevelRelationForCurrentFile() || userBelongsToPublicationChannelOwner());
+  }
+
+  public static boolean isWriteOrDelete(FileOperation permission) {
+    return permission == WRITE_METADATA || permission == DELETE;
+  }
+
+  public static boolean isWriteOrDeleteOrDownload(FileOperation permission) {
+    return permission == WRITE_METADATA || permission == DELETE || permission == DOWNLOAD;
+  }
+
+  private boolean haveTopLevelRelationForCurrentFile() {
+    if (isNull(topLevelRelation)) {
+      var userInstance = resourceFacts.userInstance();
+      var userTopLevelOrg = userInstance.getTopLevelOrgCristinId();
+
+      logger.info(
+          "checking if file top level affiliation {} for user {} is equal to {}.",
+          file.getOwnerAffiliation(),
+          userInstance.getUser(),
+          userTopLevelOrg);
+
+      topLevelRelation = file.getOwnerAffiliation().equals(userTopLevelOrg);
+    }
+    return topLevelRelation;
+  }
+}
@@ -1,9 +1,10 @@
 package no.unit.nva.publication.permissions.file;
 
-import java.util.Arrays;
+import static java.util.Objects.isNull;
+
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import no.unit.nva.model.FileOperation;
 import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Resource;
@@ -26,44 +27,57 @@ import no.unit.nva.publication.permissions.file.grant.ExternalClientGrantStrateg
 import no.unit.nva.publication.permissions.file.grant.FileCuratorFileGrantStrategy;
 import no.unit.nva.publication.permissions.file.grant.FileOwnerGrantStrategy;
 import no.unit.nva.publication.permissions.file.grant.SupportCuratorFileGrantStrategy;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import nva.commons.apigateway.exceptions.UnauthorizedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Decides which operations a user may perform on a file. The strategies are stateless and shared,
+ * and decide on {@link FileAccessFacts}. Permissions for several files of one resource should be
+ * created from the same {@link PublicationAccessFacts}, so that the facts about the resource are
+ * computed once for all of them.
+ */
 public class FilePermissions {
 
   private static final Logger logger = LoggerFactory.getLogger(FilePermissions.class);
   public static final String COMMA_DELIMITER = ", ";
-  private final Set<FileGrantStrategy> grantStrategies;
-  private final Set<FileDenyStrategy> denyStrategies;
+  private static final List<FileGrantStrategy> GRANT_STRATEGIES =
+      List.of(
+          new EveryoneGrantStrategy(),
+          new FileCuratorFileGrantStrategy(),
+          new FileOwnerGrantStrategy(),
+          new ContributorFileGrantStrategy(),
+          new ExternalClientGrantStrategy(),
+          new DegreeEmbargoCuratorFileGrantStrategy(),
+          new DegreeCuratorFileGrantStrategy(),
+          new EmbargoCuratorFileGrantStrategy(),
+          new EditorFileGrantStrategy(),
+          new CuratorFileGrantStrategy(),
+          new SupportCuratorFileGrantStrategy());
+  private static final List<FileDenyStrategy> DENY_STRATEGIES =
+      List.of(
+          new HiddenFileDenyStrategy(),
+          new UploadedFileDenyStrategy(),
+          new EmbargoReadDenyStrategy(),
+          new EmbargoWriteDeleteDenyStrategy(),
+          new DegreeWriteDeleteDenyStrategy(),
+          new DegreeEmbargoWriteDeleteDenyStrategy(),
+          new ClaimedChannelFileDenyStrategy());
+  private static final FileOperation[] OPERATIONS = FileOperation.values();
   private final UserInstance userInstance;
   private final FileEntry file;
+  private final FileAccessFacts facts;
+  private Set<FileOperation> allowedActions;
 
   public FilePermissions(FileEntry file, UserInstance userInstance, Resource resource) {
-    this.userInstance = userInstance;
+    this(file, new PublicationAccessFacts(resource, userInstance));
+  }
+
+  public FilePermissions(FileEntry file, PublicationAccessFacts resourceFacts) {
+    this.userInstance = resourceFacts.userInstance();
     this.file = file;
-    this.grantStrategies =
-        Set.of(
-            new EveryoneGrantStrategy(file, userInstance, resource),
-            new FileCuratorFileGrantStrategy(file, userInstance, resource),
-            new FileOwnerGrantStrategy(file, userInstance, resource),
-            new ContributorFileGrantStrategy(file, userInstance, resource),
-            new ExternalClientGrantStrategy(file, userInstance, resource),
-            new DegreeEmbargoCuratorFileGrantStrategy(file, userInstance, resource),
-            new DegreeCuratorFileGrantStrategy(file, userInstance, resource),
-            new EmbargoCuratorFileGrantStrategy(file, userInstance, resource),
-            new EditorFileGrantStrategy(file, userInstance, resource),
-            new CuratorFileGrantStrategy(file, userInstance, resource),
-            new SupportCuratorFileGrantStrategy(file, userInstance, resource));
-    this.denyStrategies =
-        Set.of(
-            new HiddenFileDenyStrategy(file, userInstance, resource),
-            new UploadedFileDenyStrategy(file, userInstance, resource),
-            new EmbargoReadDenyStrategy(file, userInstance, resource),
-            new EmbargoWriteDeleteDenyStrategy(file, userInstance, resource),
-            new DegreeWriteDeleteDenyStrategy(file, userInstance, resource),
-            new DegreeEmbargoWriteDeleteDenyStrategy(file, userInstance, resource),
-            new ClaimedChannelFileDenyStrategy(file, userInstance, resource));
+    this.facts = new FileAccessFacts(file, resourceFacts);
   }
 
   public static FilePermissions create(
@@ -71,14 +85,26 @@ public class FilePermissions {
     return new FilePermissions(file, userInstance, resource);
   }
 
+  public static FilePermissions create(FileEntry file, PublicationAccessFacts resourceFacts) {
+    return new FilePermissions(file, resourceFacts);
+  }
+
   public boolean allowsAction(FileOperation permission) {
-    return !findAllowances(permission).isEmpty() && findDenials(permission).isEmpty();
+    return isGranted(permission) && !isDenied(permission);
   }
 
+  /** Resolves every operation in one pass over the shared facts, and keeps the result. */
   public Set<FileOperation> getAllAllowedActions() {
-    return Arrays.stream(FileOperation.values())
-        .filter(this::allowsAction)
-        .collect(Collectors.toSet());
+    if (isNull(allowedActions)) {
+      var allowed = EnumSet.noneOf(FileOperation.class);
+      for (var operation : OPERATIONS) {
+        if (allowsAction(operation)) {
+          allowed.add(operation);
+        }
+      }
+      allowedActions = allowed;
+    }
+    return EnumSet.copyOf(allowedActions);
   }
 
   public void authorize(FileOperation requestedPermission) throws UnauthorizedException {
@@ -86,12 +112,34 @@ public class FilePermissions {
     validateGrantStrategies(requestedPermission);
   }
 
+  private boolean isGranted(FileOperation permission) {
+    for (var strategy : GRANT_STRATEGIES) {
+      if (strategy.allowsAction(permission, facts)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isDenied(FileOperation permission) {
+    for (var strategy : DENY_STRATEGIES) {
+      if (strategy.deniesAction(permission, facts)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private List<FileGrantStrategy> findAllowances(FileOperation permission) {
-    return grantStrategies.stream().filter(strategy -> strategy.allowsAction(permission)).toList();
+    return GRANT_STRATEGIES.stream()
+        .filter(strategy -> strategy.allowsAction(permission, facts))
+        .toList();
   }
 
   private List<FileDenyStrategy> findDenials(FileOperation permission) {
-    return denyStrategies.stream().filter(strategy -> strategy.deniesAction(permission)).toList();
+    return DENY_STRATEGIES.stream()
+        .filter(strategy -> strategy.deniesAction(permission, facts))
+        .toList();
   }
 
   private void validateDenyStrategiesRestrictions(FileOperation requestedPermission)
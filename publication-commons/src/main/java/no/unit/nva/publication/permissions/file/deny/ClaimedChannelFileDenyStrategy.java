@@ -1,45 +1,36 @@
 package no.unit.nva.publication.permissions.file.deny;
 
+import static no.unit.nva.publication.permissions.file.FileAccessFacts.isWriteOrDelete;
+import static no.unit.nva.publication.permissions.file.FileAccessFacts.isWriteOrDeleteOrDownload;
+
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileDenyStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
-
-public class ClaimedChannelFileDenyStrategy extends FileStrategyBase implements FileDenyStrategy {
 
-  public ClaimedChannelFileDenyStrategy(
-      FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class ClaimedChannelFileDenyStrategy implements FileDenyStrategy {
 
   @Override
-  public boolean deniesAction(FileOperation permission) {
-    if (currentUserIsFileOwner() && !fileIsFinalized()) {
+  public boolean deniesAction(FileOperation permission, FileAccessFacts facts) {
+    if (facts.currentUserIsFileOwner() && !facts.fileIsFinalized()) {
       return false;
     }
 
-    return isDeniedOperation(permission)
-        && !isExternalClientWithRelation()
-        && isDeniedUserByClaimedChannelWithinScope();
+    return isDeniedOperation(permission, facts)
+        && !facts.isExternalClientWithRelation()
+        && isDeniedUserByClaimedChannelWithinScope(facts);
   }
 
-  private boolean isDeniedOperation(FileOperation permission) {
-    return resourceIsDegreeWithEmbargo()
+  private static boolean isDeniedOperation(FileOperation permission, FileAccessFacts facts) {
+    return resourceIsDegreeWithEmbargo(facts)
         ? isWriteOrDeleteOrDownload(permission)
         : isWriteOrDelete(permission);
   }
 
-  private boolean resourceIsDegreeWithEmbargo() {
-    return resourceIsDegree() && fileHasEmbargo();
-  }
-
-  private boolean isDeniedUserByClaimedChannelWithinScope() {
-    return hasClaimedPublicationChannel() && !userBelongsToPublicationChannelOwner();
+  private static boolean resourceIsDegreeWithEmbargo(FileAccessFacts facts) {
+    return facts.resourceIsDegree() && facts.fileHasEmbargo();
   }
 
-  private boolean hasClaimedPublicationChannel() {
-    return resource.getPrioritizedClaimedPublicationChannelWithinScope().isPresent();
+  private static boolean isDeniedUserByClaimedChannelWithinScope(FileAccessFacts facts) {
+    return facts.hasClaimedPublicationChannel() && !facts.userBelongsToPublicationChannelOwner();
   }
 }
@@ -1,31 +1,28 @@
 package no.unit.nva.publication.permissions.file.deny;
 
+import static no.unit.nva.publication.permissions.file.FileAccessFacts.isWriteOrDelete;
+
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileDenyStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
-
-public class DegreeWriteDeleteDenyStrategy extends FileStrategyBase implements FileDenyStrategy {
 
-  public DegreeWriteDeleteDenyStrategy(
-      FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class DegreeWriteDeleteDenyStrategy implements FileDenyStrategy {
 
   @Override
-  public boolean deniesAction(FileOperation permission) {
-    if (currentUserIsFileOwner() && !fileIsFinalized()) {
+  public boolean deniesAction(FileOperation permission, FileAccessFacts facts) {
+    if (facts.currentUserIsFileOwner() && !facts.fileIsFinalized()) {
       return false;
     }
 
-    return resourceIsDegree() && !fileHasEmbargo() && isWriteOrDelete(permission) && isDeniedUser();
+    return facts.resourceIsDegree()
+        && !facts.fileHasEmbargo()
+        && isWriteOrDelete(permission)
+        && isDeniedUser(facts);
   }
 
-  private boolean isDeniedUser() {
-    return !(currentUserIsDegreeFileCuratorForGivenFile()
-        || currentUserIsDegreeEmbargoFileCuratorForGivenFile()
-        || isExternalClientWithRelation());
+  private static boolean isDeniedUser(FileAccessFacts facts) {
+    return !(facts.currentUserIsDegreeFileCuratorForGivenFile()
+        || facts.currentUserIsDegreeEmbargoFileCuratorForGivenFile()
+        || facts.isExternalClientWithRelation());
   }
 }
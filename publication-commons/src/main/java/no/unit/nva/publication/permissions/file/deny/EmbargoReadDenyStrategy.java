@@ -5,52 +5,48 @@ import static no.unit.nva.model.FileOperation.READ_METADATA;
 
 import java.util.List;
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileDenyStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class EmbargoReadDenyStrategy extends FileStrategyBase implements FileDenyStrategy {
-
-  public EmbargoReadDenyStrategy(FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class EmbargoReadDenyStrategy implements FileDenyStrategy {
 
   @Override
-  public boolean deniesAction(FileOperation permission) {
-    if (!fileHasEmbargo() || !List.of(READ_METADATA, DOWNLOAD).contains(permission)) {
+  public boolean deniesAction(FileOperation permission, FileAccessFacts facts) {
+    if (!facts.fileHasEmbargo() || !List.of(READ_METADATA, DOWNLOAD).contains(permission)) {
       return false;
     }
 
-    if (shouldAllowMetadataReadOnFinalizedFiles(permission)) {
+    if (shouldAllowMetadataReadOnFinalizedFiles(permission, facts)) {
       return false;
     }
 
-    return isDeniedUser();
+    return isDeniedUser(facts);
   }
 
-  private boolean shouldAllowMetadataReadOnFinalizedFiles(FileOperation permission) {
-    return permission == READ_METADATA && (fileIsFinalized() || userRelatesToPublication());
+  private static boolean shouldAllowMetadataReadOnFinalizedFiles(
+      FileOperation permission, FileAccessFacts facts) {
+    return permission == READ_METADATA
+        && (facts.fileIsFinalized() || facts.userRelatesToPublication());
   }
 
-  private boolean isDeniedUser() {
-    if (currentUserIsFileOwner()) {
+  private static boolean isDeniedUser(FileAccessFacts facts) {
+    if (facts.currentUserIsFileOwner()) {
       return false;
     }
 
-    return resourceIsDegree() ? isDegreeEmbargoDeniedUser() : isEmbargoDeniedUser();
+    return facts.resourceIsDegree() ? isDegreeEmbargoDeniedUser(facts) : isEmbargoDeniedUser(facts);
   }
 
-  private boolean isDegreeEmbargoDeniedUser() {
-    return !(currentUserIsDegreeEmbargoFileCuratorForGivenFile() || isExternalClientWithRelation());
+  private static boolean isDegreeEmbargoDeniedUser(FileAccessFacts facts) {
+    return !(facts.currentUserIsDegreeEmbargoFileCuratorForGivenFile()
+        || facts.isExternalClientWithRelation());
   }
 
-  private boolean isEmbargoDeniedUser() {
-    return !(currentUserIsFileOwner()
-        || currentUserIsContributor()
-        || currentUserIsFileCuratorForGivenFile()
-        || currentUserIsFileCurator()
-        || isExternalClientWithRelation());
+  private static boolean isEmbargoDeniedUser(FileAccessFacts facts) {
+    return !(facts.currentUserIsFileOwner()
+        || facts.currentUserIsContributor()
+        || facts.currentUserIsFileCuratorForGivenFile()
+        || facts.currentUserIsFileCurator()
+        || facts.isExternalClientWithRelation());
   }
 }
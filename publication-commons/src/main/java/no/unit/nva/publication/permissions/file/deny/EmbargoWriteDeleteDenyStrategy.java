@@ -1,29 +1,26 @@
 package no.unit.nva.publication.permissions.file.deny;
 
+import static no.unit.nva.publication.permissions.file.FileAccessFacts.isWriteOrDelete;
+
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileDenyStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
-
-public class EmbargoWriteDeleteDenyStrategy extends FileStrategyBase implements FileDenyStrategy {
 
-  public EmbargoWriteDeleteDenyStrategy(
-      FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class EmbargoWriteDeleteDenyStrategy implements FileDenyStrategy {
 
   @Override
-  public boolean deniesAction(FileOperation permission) {
-    if (currentUserIsFileOwner() && !fileIsFinalized()) {
+  public boolean deniesAction(FileOperation permission, FileAccessFacts facts) {
+    if (facts.currentUserIsFileOwner() && !facts.fileIsFinalized()) {
       return false;
     }
 
-    return fileHasEmbargo() && !resourceIsDegree() && isWriteOrDelete(permission) && isDeniedUser();
+    return facts.fileHasEmbargo()
+        && !facts.resourceIsDegree()
+        && isWriteOrDelete(permission)
+        && isDeniedUser(facts);
   }
 
-  private boolean isDeniedUser() {
-    return !(currentUserIsFileCuratorForGivenFile() || isExternalClientWithRelation());
+  private static boolean isDeniedUser(FileAccessFacts facts) {
+    return !(facts.currentUserIsFileCuratorForGivenFile() || facts.isExternalClientWithRelation());
   }
 }
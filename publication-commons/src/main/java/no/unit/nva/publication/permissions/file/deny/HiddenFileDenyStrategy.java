@@ -2,34 +2,27 @@ package no.unit.nva.publication.permissions.file.deny;
 
 import no.unit.nva.model.FileOperation;
 import no.unit.nva.model.associatedartifacts.file.HiddenFile;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileDenyStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public final class HiddenFileDenyStrategy extends FileStrategyBase implements FileDenyStrategy {
-
-  public HiddenFileDenyStrategy(FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class HiddenFileDenyStrategy implements FileDenyStrategy {
 
   @Override
-  public boolean deniesAction(FileOperation permission) {
-    if (!fileIsHidden()) {
+  public boolean deniesAction(FileOperation permission, FileAccessFacts facts) {
+    if (!fileIsHidden(facts)) {
       return false;
     }
 
-    if (resourceIsDegree()) {
-      return fileHasEmbargo()
-          ? !currentUserIsDegreeEmbargoFileCuratorForGivenFile()
-          : !currentUserIsDegreeFileCuratorForGivenFile();
+    if (facts.resourceIsDegree()) {
+      return facts.fileHasEmbargo()
+          ? !facts.currentUserIsDegreeEmbargoFileCuratorForGivenFile()
+          : !facts.currentUserIsDegreeFileCuratorForGivenFile();
     }
 
-    return !currentUserIsFileCuratorForGivenFile();
+    return !facts.currentUserIsFileCuratorForGivenFile();
   }
 
-  private boolean fileIsHidden() {
-    return file.getFile() instanceof HiddenFile;
+  private static boolean fileIsHidden(FileAccessFacts facts) {
+    return facts.file() instanceof HiddenFile;
   }
 }
@@ -1,43 +1,38 @@
 package no.unit.nva.publication.permissions.file.deny;
 
+import static no.unit.nva.publication.permissions.file.FileAccessFacts.isWriteOrDelete;
+
 import no.unit.nva.model.FileOperation;
 import no.unit.nva.model.associatedartifacts.file.UploadedFile;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileDenyStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
-
-public class UploadedFileDenyStrategy extends FileStrategyBase implements FileDenyStrategy {
 
-  public UploadedFileDenyStrategy(FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class UploadedFileDenyStrategy implements FileDenyStrategy {
 
   @Override
-  public boolean deniesAction(FileOperation permission) {
-    if (!fileTypeIsUploadedFile()) {
+  public boolean deniesAction(FileOperation permission, FileAccessFacts facts) {
+    if (!fileTypeIsUploadedFile(facts)) {
       return false;
     }
 
-    if (currentUserIsFileOwner()) {
+    if (facts.currentUserIsFileOwner()) {
       return false;
     }
 
-    if (resourceIsDegree() && isWriteOrDelete(permission)) {
-      return !currentUserIsDegreeFileCuratorForGivenFile();
+    if (facts.resourceIsDegree() && isWriteOrDelete(permission)) {
+      return !facts.currentUserIsDegreeFileCuratorForGivenFile();
     }
 
-    return isDeniedUser();
+    return isDeniedUser(facts);
   }
 
-  private boolean isDeniedUser() {
-    return !(currentUserIsFileCuratorForGivenFile()
-        || currentUserIsDegreeFileCuratorForGivenFile()
-        || currentUserIsSupportCuratorForGivenFile());
+  private static boolean isDeniedUser(FileAccessFacts facts) {
+    return !(facts.currentUserIsFileCuratorForGivenFile()
+        || facts.currentUserIsDegreeFileCuratorForGivenFile()
+        || facts.currentUserIsSupportCuratorForGivenFile());
   }
 
-  private boolean fileTypeIsUploadedFile() {
-    return file.getFile() instanceof UploadedFile;
+  private static boolean fileTypeIsUploadedFile(FileAccessFacts facts) {
+    return facts.file() instanceof UploadedFile;
   }
 }
@@ -1,33 +1,25 @@
 package no.unit.nva.publication.permissions.file.grant;
 
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class ContributorFileGrantStrategy extends FileStrategyBase implements FileGrantStrategy {
-
-  public ContributorFileGrantStrategy(
-      FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class ContributorFileGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    if (!currentUserIsContributor()) {
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    if (!facts.currentUserIsContributor()) {
       return false;
     }
 
     return switch (permission) {
       case READ_METADATA -> true;
-      case DOWNLOAD -> isNotFinalizedEmbargo();
+      case DOWNLOAD -> isNotFinalizedEmbargo(facts);
       case WRITE_METADATA, DELETE -> false;
     };
   }
 
-  private boolean isNotFinalizedEmbargo() {
-    return !(fileIsFinalized() && fileHasEmbargo());
+  private static boolean isNotFinalizedEmbargo(FileAccessFacts facts) {
+    return !(facts.fileIsFinalized() && facts.fileHasEmbargo());
   }
 }
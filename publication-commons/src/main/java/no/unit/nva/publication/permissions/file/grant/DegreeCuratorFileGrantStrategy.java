@@ -1,21 +1,15 @@
 package no.unit.nva.publication.permissions.file.grant;
 
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class DegreeCuratorFileGrantStrategy extends FileStrategyBase implements FileGrantStrategy {
-
-  public DegreeCuratorFileGrantStrategy(
-      FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class DegreeCuratorFileGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    return resourceIsDegree() && !fileHasEmbargo() && currentUserIsDegreeFileCuratorForGivenFile();
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    return facts.resourceIsDegree()
+        && !facts.fileHasEmbargo()
+        && facts.currentUserIsDegreeFileCuratorForGivenFile();
   }
 }
@@ -1,24 +1,15 @@
 package no.unit.nva.publication.permissions.file.grant;
 
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class DegreeEmbargoCuratorFileGrantStrategy extends FileStrategyBase
-    implements FileGrantStrategy {
-
-  public DegreeEmbargoCuratorFileGrantStrategy(
-      FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class DegreeEmbargoCuratorFileGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    return resourceIsDegree()
-        && fileHasEmbargo()
-        && currentUserIsDegreeEmbargoFileCuratorForGivenFile();
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    return facts.resourceIsDegree()
+        && facts.fileHasEmbargo()
+        && facts.currentUserIsDegreeEmbargoFileCuratorForGivenFile();
   }
 }
@@ -5,23 +5,17 @@ import static nva.commons.apigateway.AccessRight.MANAGE_RESOURCES_ALL;
 import no.unit.nva.model.FileOperation;
 import no.unit.nva.model.associatedartifacts.file.PendingInternalFile;
 import no.unit.nva.model.associatedartifacts.file.PendingOpenFile;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class EditorFileGrantStrategy extends FileStrategyBase implements FileGrantStrategy {
-
-  public EditorFileGrantStrategy(FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class EditorFileGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    if (hasAccessRight(MANAGE_RESOURCES_ALL)) {
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    if (facts.hasAccessRight(MANAGE_RESOURCES_ALL)) {
       return switch (permission) {
-        case READ_METADATA, DOWNLOAD -> userRelatesToPublication() || isAllowedFileType();
+        case READ_METADATA, DOWNLOAD ->
+            facts.userRelatesToPublication() || isAllowedFileType(facts);
         case WRITE_METADATA, DELETE -> false;
       };
     }
@@ -29,8 +23,8 @@ public class EditorFileGrantStrategy extends FileStrategyBase implements FileGra
     return false;
   }
 
-  private boolean isAllowedFileType() {
-    return !(file.getFile() instanceof PendingInternalFile
-        || file.getFile() instanceof PendingOpenFile && file.getFile().hasActiveEmbargo());
+  private static boolean isAllowedFileType(FileAccessFacts facts) {
+    return !(facts.file() instanceof PendingInternalFile
+        || facts.file() instanceof PendingOpenFile && facts.file().hasActiveEmbargo());
   }
 }
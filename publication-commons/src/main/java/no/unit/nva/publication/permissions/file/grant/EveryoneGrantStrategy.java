@@ -4,22 +4,15 @@ import static no.unit.nva.model.PublicationStatus.PUBLISHED;
 
 import no.unit.nva.model.FileOperation;
 import no.unit.nva.model.associatedartifacts.file.OpenFile;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public final class EveryoneGrantStrategy extends FileStrategyBase implements FileGrantStrategy {
-
-  public EveryoneGrantStrategy(FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class EveryoneGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    if (file.getFile() instanceof OpenFile openFile) {
-      return PUBLISHED == resource.getStatus()
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    if (facts.file() instanceof OpenFile openFile) {
+      return PUBLISHED == facts.resourceStatus()
           && switch (permission) {
             case READ_METADATA -> true;
             case WRITE_METADATA, DELETE -> false;
@@ -3,24 +3,17 @@ package no.unit.nva.publication.permissions.file.grant;
 import no.unit.nva.model.FileOperation;
 import no.unit.nva.model.associatedartifacts.file.InternalFile;
 import no.unit.nva.model.associatedartifacts.file.OpenFile;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class ExternalClientGrantStrategy extends FileStrategyBase implements FileGrantStrategy {
-
-  public ExternalClientGrantStrategy(FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class ExternalClientGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    return isExternalClientWithRelation() && isAllowedFileType();
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    return facts.isExternalClientWithRelation() && isAllowedFileType(facts);
   }
 
-  private boolean isAllowedFileType() {
-    return file.getFile() instanceof OpenFile || file.getFile() instanceof InternalFile;
+  private static boolean isAllowedFileType(FileAccessFacts facts) {
+    return facts.file() instanceof OpenFile || facts.file() instanceof InternalFile;
   }
 }
@@ -1,25 +1,17 @@
 package no.unit.nva.publication.permissions.file.grant;
 
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class FileCuratorFileGrantStrategy extends FileStrategyBase implements FileGrantStrategy {
-
-  public FileCuratorFileGrantStrategy(
-      FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class FileCuratorFileGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    if (currentUserIsFileCurator()) {
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    if (facts.currentUserIsFileCurator()) {
       return switch (permission) {
         case READ_METADATA, DOWNLOAD -> true;
-        case WRITE_METADATA, DELETE -> currentUserIsFileCuratorForGivenFile();
+        case WRITE_METADATA, DELETE -> facts.currentUserIsFileCuratorForGivenFile();
       };
     }
 
@@ -2,24 +2,17 @@ package no.unit.nva.publication.permissions.file.grant;
 
 import no.unit.nva.model.FileOperation;
 import no.unit.nva.model.associatedartifacts.file.HiddenFile;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class FileOwnerGrantStrategy extends FileStrategyBase implements FileGrantStrategy {
-
-  public FileOwnerGrantStrategy(FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class FileOwnerGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    if (currentUserIsFileOwner()) {
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    if (facts.currentUserIsFileOwner()) {
       return switch (permission) {
-        case READ_METADATA -> !(file.getFile() instanceof HiddenFile);
-        case WRITE_METADATA, DELETE, DOWNLOAD -> !fileIsFinalized();
+        case READ_METADATA -> !(facts.file() instanceof HiddenFile);
+        case WRITE_METADATA, DELETE, DOWNLOAD -> !facts.fileIsFinalized();
       };
     }
 
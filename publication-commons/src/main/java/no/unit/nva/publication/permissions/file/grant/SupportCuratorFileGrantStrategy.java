@@ -3,24 +3,16 @@ package no.unit.nva.publication.permissions.file.grant;
 import static nva.commons.apigateway.AccessRight.SUPPORT;
 
 import no.unit.nva.model.FileOperation;
-import no.unit.nva.publication.model.business.FileEntry;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FileAccessFacts;
 import no.unit.nva.publication.permissions.file.FileGrantStrategy;
-import no.unit.nva.publication.permissions.file.FileStrategyBase;
 
-public class SupportCuratorFileGrantStrategy extends FileStrategyBase implements FileGrantStrategy {
-
-  public SupportCuratorFileGrantStrategy(
-      FileEntry file, UserInstance userInstance, Resource resource) {
-    super(file, userInstance, resource);
-  }
+public final class SupportCuratorFileGrantStrategy implements FileGrantStrategy {
 
   @Override
-  public boolean allowsAction(FileOperation permission) {
-    if (hasAccessRight(SUPPORT)) {
+  public boolean allowsAction(FileOperation permission, FileAccessFacts facts) {
+    if (facts.hasAccessRight(SUPPORT)) {
       return switch (permission) {
-        case READ_METADATA, DOWNLOAD -> currentUserIsSupportCuratorForGivenFile();
+        case READ_METADATA, DOWNLOAD -> facts.currentUserIsSupportCuratorForGivenFile();
         case WRITE_METADATA, DELETE -> false;
       };
     }
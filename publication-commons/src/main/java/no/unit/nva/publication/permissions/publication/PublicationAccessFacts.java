@@ -0,0 +1,291 @@
+package no.unit.nva.publication.permissions.publication;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static no.unit.nva.PublicationUtil.PROTECTED_DEGREE_INSTANCE_TYPES;
+import static no.unit.nva.model.PublicationStatus.DRAFT;
+import static no.unit.nva.model.PublicationStatus.PUBLISHED;
+import static no.unit.nva.model.PublicationStatus.UNPUBLISHED;
+import static no.unit.nva.model.associatedartifacts.file.File.APPROVED_FILE_TYPES;
+import static no.unit.nva.model.associatedartifacts.file.File.FINALIZED_FILE_TYPES;
+import static nva.commons.core.attempt.Try.attempt;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import no.unit.nva.model.Contributor;
+import no.unit.nva.model.EntityDescription;
+import no.unit.nva.model.Identity;
+import no.unit.nva.model.Reference;
+import no.unit.nva.model.additionalidentifiers.AdditionalIdentifier;
+import no.unit.nva.model.instancetypes.PublicationInstance;
+import no.unit.nva.model.pages.Pages;
+import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.model.business.publicationchannel.ClaimedPublicationChannel;
+import nva.commons.apigateway.AccessRight;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The facts about a user and a resource that the publication strategies decide on. Every fact is
+ * computed the first time a strategy asks for it and then reused, so that evaluating all
+ * operations looks at the resource only once.
+ */
+public final class PublicationAccessFacts {
+
+  private static final Logger logger = LoggerFactory.getLogger(PublicationAccessFacts.class);
+  private static final Set<String> IMPORT_IDENTIFIER_SOURCES = Set.of("inspera", "wiseflow");
+
+  private final Resource resource;
+  private final UserInstance userInstance;
+  private final Supplier<Boolean> owner = memoize(this::computeIsOwner);
+  private final Supplier<Boolean> sameInstitutionAsPublicationOwner =
+      memoize(this::computeUserIsFromSameInstitutionAsPublicationOwner);
+  private final Supplier<Boolean> curatingInstitutionMember =
+      memoize(this::computeUserBelongsToCuratingInstitution);
+  private final Supplier<Optional<ClaimedPublicationChannel>> claimedChannel;
+  private final Supplier<Boolean> publicationChannelOwner =
+      memoize(this::computeUserBelongsToPublicationChannelOwner);
+  private final Supplier<Boolean> verifiedContributor =
+      memoize(this::computeUserIsVerifiedContributor);
+  private final Supplier<Boolean> protectedDegreeInstanceType =
+      memoize(this::computeIsProtectedDegreeInstanceType);
+  private final Supplier<Boolean> degree;
+  private final Supplier<Boolean> approvedFiles = memoize(this::computeHasApprovedFiles);
+  private final Supplier<Boolean> finalizedFiles = memoize(this::computeHasFinalizedFiles);
+  private final Supplier<Boolean> importedStudentThesis =
+      memoize(this::computeIsImportedStudentThesis);
+  private final Supplier<Boolean> externalClientWithRelation =
+      memoize(this::computeIsExternalClientWithRelation);
+
+  public PublicationAccessFacts(Resource resource, UserInstance userInstance) {
+    this.resource = resource;
+    this.userInstance = userInstance;
+    this.claimedChannel = memoize(resource::getPrioritizedClaimedPublicationChannelWithinScope);
+    this.degree = memoize(resource::isDegree);
+  }
+
+  public Resource resource() {
+    return resource;
+  }
+
+  public UserInstance userInstance() {
+    return userInstance;
+  }
+
+  public boolean hasAccessRight(AccessRight accessRight) {
+    return nonNull(userInstance) && userInstance.getAccessRights().contains(accessRight);
+  }
+
+  public boolean isExternalClient() {
+    return userInstance.isExternalClient();
+  }
+
+  public boolean isBackendClient() {
+    return userInstance.isBackendClient();
+  }
+
+  public boolean isProtectedDegreeInstanceType() {
+    return protectedDegreeInstanceType.get();
+  }
+
+  public boolean isDegree() {
+    return degree.get();
+  }
+
+  public boolean userRelatesToPublicationThroughPublicationOwnerOrCuratingInstitution() {
+    return userIsFromSameInstitutionAsPublicationOwner() || userBelongsToCuratingInstitution();
+  }
+
+  public boolean userRelatesToPublication() {
+    return userRelatesToPublicationThroughPublicationOwnerOrCuratingInstitution()
+        || userBelongsToPublicationChannelOwner();
+  }
+
+  public boolean userBelongsToPublicationChannelOwner() {
+    return publicationChannelOwner.get();
+  }
+
+  public boolean userBelongsToCuratingInstitution() {
+    return curatingInstitutionMember.get();
+  }
+
+  public boolean userIsFromSameInstitutionAsPublicationOwner() {
+    return sameInstitutionAsPublicationOwner.get();
+  }
+
+  public boolean userIsVerifiedContributor() {
+    return verifiedContributor.get();
+  }
+
+  public Optional<ClaimedPublicationChannel> claimedPublicationChannelWithinScope() {
+    return claimedChannel.get();
+  }
+
+  public boolean hasApprovedFiles() {
+    return approvedFiles.get();
+  }
+
+  public boolean hasFinalizedFiles() {
+    return finalizedFiles.get();
+  }
+
+  public boolean isImportedStudentThesis() {
+    return importedStudentThesis.get();
+  }
+
+  public boolean isExternalClientWithRelation() {
+    return externalClientWithRelation.get();
+  }
+
+  public boolean isOwner() {
+    return owner.get();
+  }
+
+  public boolean isUsersDraft() {
+    return isDraft() && isOwner();
+  }
+
+  public boolean isDraft() {
+    return resource.getStatus() == DRAFT;
+  }
+
+  public boolean isUnpublished() {
+    return resource.getStatus() == UNPUBLISHED;
+  }
+
+  public boolean isPublished() {
+    return resource.getStatus() == PUBLISHED;
+  }
+
+  private static <T> Supplier<T> memoize(Supplier<T> supplier) {
+    return new Supplier<>() {
+      private T value;
+      private boolean computed;
+
+      @Override
+      public T get() {
+        if (!computed) {
+          value = supplier.get();
+          computed = true;
+        }
+        return value;
+      }
+    };
+  }
+
+  private boolean computeIsProtectedDegreeInstanceType() {
+    return Optional.ofNullable(resource.getEntityDescription())
+        .map(EntityDescription::getReference)
+        .map(Reference::getPublicationInstance)
+        .map(PublicationAccessFacts::publicationInstanceIsDegree)
+        .orElse(false);
+  }
+
+  private boolean computeUserBelongsToPublicationChannelOwner() {
+    if (Optional.ofNullable(userInstance).map(UserInstance::getTopLevelOrgCristinId).isEmpty()) {
+      return false;
+    }
+
+    var claimedPublicationChannel = claimedPublicationChannelWithinScope();
+
+    if (claimedPublicationChannel.isEmpty()) {
+      return false;
+    }
+
+    var channelOwner = claimedPublicationChannel.get().getOrganizationId();
+    return userInstance.getTopLevelOrgCristinId().equals(channelOwner);
+  }
+
+  private boolean computeUserBelongsToCuratingInstitution() {
+    if (isNull(userInstance)) {
+      return false;
+    }
+
+    var userTopLevelOrg = userInstance.getTopLevelOrgCristinId();
+
+    logger.info(
+        "found topLevels {} for user {} of {}.",
+        resource.getCuratingInstitutions(),
+        userInstance.getUser(),
+        userTopLevelOrg);
+    return resource.getCuratingInstitutions().stream()
+        .anyMatch(org -> org.id().equals(userTopLevelOrg));
+  }
+
+  private boolean computeUserIsFromSameInstitutionAsPublicationOwner() {
+    if (isNull(userInstance)
+        || isNull(userInstance.getTopLevelOrgCristinId())
+        || isNull(resource.getResourceOwner())) {
+      return false;
+    }
+
+    return userInstance
+        .getTopLevelOrgCristinId()
+        .equals(resource.getResourceOwner().getOwnerAffiliation());
+  }
+
+  private boolean computeUserIsVerifiedContributor() {
+    return nonNull(userInstance)
+        && nonNull(userInstance.getPersonCristinId())
+        && Optional.ofNullable(resource.getEntityDescription())
+            .map(EntityDescription::getContributors)
+            .stream()
+            .flatMap(List::stream)
+            .filter(PublicationAccessFacts::isVerifiedContributor)
+            .anyMatch(
+                contributor ->
+                    contributor.identity().getId().equals(userInstance.getPersonCristinId()));
+  }
+
+  private boolean computeHasApprovedFiles() {
+    return resource.getAssociatedArtifacts().stream()
+        .anyMatch(artifact -> APPROVED_FILE_TYPES.contains(artifact.getClass()));
+  }
+
+  private boolean computeHasFinalizedFiles() {
+    return resource.getAssociatedArtifacts().stream()
+        .anyMatch(artifact -> FINALIZED_FILE_TYPES.contains(artifact.getClass()));
+  }
+
+  private boolean computeIsImportedStudentThesis() {
+    return resource.getAdditionalIdentifiers().stream()
+        .filter(AdditionalIdentifier.class::isInstance)
+        .anyMatch(
+            identifier ->
+                IMPORT_IDENTIFIER_SOURCES.contains(
+                    identifier.sourceName().toLowerCase(Locale.ROOT)));
+  }
+
+  private boolean computeIsExternalClientWithRelation() {
+    return nonNull(userInstance)
+        && userInstance.isExternalClient()
+        && attempt(
+                () ->
+                    userInstance
+                        .getTopLevelOrgCristinId()
+                        .equals(resource.getResourceOwner().getOwnerAffiliation()))
+            .orElse(fail -> false);
+  }
+
+  private boolean computeIsOwner() {
+    var ownerUsername = UserInstance.fromPublication(resource.toPublication()).getUsername();
+    return Optional.ofNullable(userInstance)
+        .map(user -> ownerUsername.equals(user.getUsername()))
+        .orElse(false);
+  }
+
+  private static boolean isVerifiedContributor(Contributor contributor) {
+    return Optional.ofNullable(contributor.identity()).map(Identity::getId).isPresent();
+  }
+
+  private static Boolean publicationInstanceIsDegree(
+      PublicationInstance<? extends Pages> publicationInstance) {
+    return Arrays.stream(PROTECTED_DEGREE_INSTANCE_TYPES)
+        .anyMatch(instanceTypeClass -> instanceTypeClass.equals(publicationInstance.getClass()));
+  }
+}
@@ -3,5 +3,5 @@ package no.unit.nva.publication.permissions.publication;
 import no.unit.nva.model.PublicationOperation;
 
 public interface PublicationDenyStrategy {
-  boolean deniesAction(PublicationOperation permission);
+  boolean deniesAction(PublicationOperation permission, PublicationAccessFacts facts);
 }
@@ -3,5 +3,5 @@ package no.unit.nva.publication.permissions.publication;
 import no.unit.nva.model.PublicationOperation;
 
 public interface PublicationGrantStrategy {
-  boolean allowsAction(PublicationOperation permission);
+  boolean allowsAction(PublicationOperation permission, PublicationAccessFacts facts);
 }
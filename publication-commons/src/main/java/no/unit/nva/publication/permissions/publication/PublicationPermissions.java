@@ -1,12 +1,15 @@
 package no.unit.nva.publication.permissions.publication;
 
-import java.util.Arrays;
+import static java.util.Objects.isNull;
+
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import no.unit.nva.model.PublicationOperation;
+import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FilePermissions;
 import no.unit.nva.publication.permissions.publication.grant.BackendClientGrantStrategy;
 import no.unit.nva.publication.permissions.publication.grant.ContributorGrantStrategy;
 import no.unit.nva.publication.permissions.publication.grant.CuratorGrantStrategy;
@@ -21,32 +24,39 @@ import nva.commons.apigateway.exceptions.UnauthorizedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Decides which operations a user may perform on a resource. The strategies are stateless and
+ * shared, and decide on {@link PublicationAccessFacts} that are computed once per instance.
+ */
 public class PublicationPermissions {
 
   private static final Logger logger = LoggerFactory.getLogger(PublicationPermissions.class);
   public static final String COMMA_DELIMITER = ", ";
-  private final Set<PublicationGrantStrategy> grantStrategies;
-  private final Set<PublicationDenyStrategy> denyStrategies;
+  private static final PublicationGrantStrategy CURATOR_GRANT_STRATEGY = new CuratorGrantStrategy();
+  private static final List<PublicationGrantStrategy> GRANT_STRATEGIES =
+      List.of(
+          new EditorGrantStrategy(),
+          CURATOR_GRANT_STRATEGY,
+          new ContributorGrantStrategy(),
+          new ResourceOwnerGrantStrategy(),
+          new TrustedThirdPartyGrantStrategy(),
+          new BackendClientGrantStrategy(),
+          new ImporterGrantStrategy());
+  private static final List<PublicationDenyStrategy> DENY_STRATEGIES =
+      List.of(
+          new DegreeDenyStrategy(),
+          new DeletedUploadDenyStrategy(),
+          new ClaimedChannelDenyStrategy());
+  private static final PublicationOperation[] OPERATIONS = PublicationOperation.values();
   private final UserInstance userInstance;
   private final Resource resource;
+  private final PublicationAccessFacts facts;
+  private Set<PublicationOperation> allowedActions;
 
   public PublicationPermissions(Resource resource, UserInstance userInstance) {
     this.userInstance = userInstance;
     this.resource = resource;
-    this.grantStrategies =
-        Set.of(
-            new EditorGrantStrategy(resource, userInstance),
-            new CuratorGrantStrategy(resource, userInstance),
-            new ContributorGrantStrategy(resource, userInstance),
-            new ResourceOwnerGrantStrategy(resource, userInstance),
-            new TrustedThirdPartyGrantStrategy(resource, userInstance),
-            new BackendClientGrantStrategy(resource, userInstance),
-            new ImporterGrantStrategy(resource, userInstance));
-    this.denyStrategies =
-        Set.of(
-            new DegreeDenyStrategy(resource, userInstance),
-            new DeletedUploadDenyStrategy(resource, userInstance),
-            new ClaimedChannelDenyStrategy(resource, userInstance));
+    this.facts = new PublicationAccessFacts(resource, userInstance);
   }
 
   public static PublicationPermissions create(Resource resource, UserInstance userInstance) {
@@ -54,22 +64,34 @@ public class PublicationPermissions {
   }
 
   public boolean isCuratorOnPublication() {
-    return isCurator() && findDenials(PublicationOperation.UPDATE).isEmpty();
+    return isCurator() && !isDenied(PublicationOperation.UPDATE);
   }
 
   private boolean isCurator() {
-    return findAllowances(PublicationOperation.UPDATE).stream()
-        .anyMatch(CuratorGrantStrategy.class::isInstance);
+    return CURATOR_GRANT_STRATEGY.allowsAction(PublicationOperation.UPDATE, facts);
+  }
+
+  /** Creates the permissions for a file of the resource, sharing the facts about the resource. */
+  public FilePermissions filePermissions(FileEntry file) {
+    return FilePermissions.create(file, facts);
   }
 
   public boolean allowsAction(PublicationOperation permission) {
-    return !findAllowances(permission).isEmpty() && findDenials(permission).isEmpty();
+    return isGranted(permission) && !isDenied(permission);
   }
 
+  /** Resolves every operation in one pass over the shared facts, and keeps the result. */
   public Set<PublicationOperation> getAllAllowedActions() {
-    return Arrays.stream(PublicationOperation.values())
-        .filter(this::allowsAction)
-        .collect(Collectors.toSet());
+    if (isNull(allowedActions)) {
+      var allowed = EnumSet.noneOf(PublicationOperation.class);
+      for (var operation : OPERATIONS) {
+        if (allowsAction(operation)) {
+          allowed.add(operation);
+        }
+      }
+      allowedActions = allowed;
+    }
+    return EnumSet.copyOf(allowedActions);
   }
 
   public void authorize(PublicationOperation requestedPermission) throws UnauthorizedException {
@@ -77,12 +99,34 @@ public class PublicationPermissions {
     validateGrantStrategies(requestedPermission);
   }
 
+  private boolean isGranted(PublicationOperation permission) {
+    for (var strategy : GRANT_STRATEGIES) {
+      if (strategy.allowsAction(permission, facts)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isDenied(PublicationOperation permission) {
+    for (var strategy : DENY_STRATEGIES) {
+      if (strategy.deniesAction(permission, facts)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private List<PublicationGrantStrategy> findAllowances(PublicationOperation permission) {
-    return grantStrategies.stream().filter(strategy -> strategy.allowsAction(permission)).toList();
+    return GRANT_STRATEGIES.stream()
+        .filter(strategy -> strategy.allowsAction(permission, facts))
+        .toList();
   }
 
   private List<PublicationDenyStrategy> findDenials(PublicationOperation permission) {
-    return denyStrategies.stream().filter(strategy -> strategy.deniesAction(permission)).toList();
+    return DENY_STRATEGIES.stream()
+        .filter(strategy -> strategy.deniesAction(permission, facts))
+        .toList();
   }
 
   private void validateDenyStrategiesRestrictions(PublicationOperation requestedPermission)
@@ -3,20 +3,13 @@ package no.unit.nva.publication.permissions.publication.grant;
 import static java.util.Objects.nonNull;
 
 import no.unit.nva.model.PublicationOperation;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import no.unit.nva.publication.permissions.publication.PublicationGrantStrategy;
-import no.unit.nva.publication.permissions.publication.PublicationStrategyBase;
 
-public final class BackendClientGrantStrategy extends PublicationStrategyBase
-    implements PublicationGrantStrategy {
-
-  public BackendClientGrantStrategy(Resource resource, UserInstance userInstance) {
-    super(resource, userInstance);
-  }
+public final class BackendClientGrantStrategy implements PublicationGrantStrategy {
 
   @Override
-  public boolean allowsAction(PublicationOperation permission) {
-    return nonNull(userInstance) && userInstance.isBackendClient();
+  public boolean allowsAction(PublicationOperation permission, PublicationAccessFacts facts) {
+    return nonNull(facts.userInstance()) && facts.isBackendClient();
   }
 }
@@ -8,25 +8,14 @@ import static nva.commons.apigateway.AccessRight.MANAGE_RESOURCES_STANDARD;
 import static nva.commons.apigateway.AccessRight.SUPPORT;
 
 import no.unit.nva.model.PublicationOperation;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import no.unit.nva.publication.permissions.publication.PublicationGrantStrategy;
-import no.unit.nva.publication.permissions.publication.PublicationStrategyBase;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-public final class CuratorGrantStrategy extends PublicationStrategyBase
-    implements PublicationGrantStrategy {
-
-  public static final Logger logger = LoggerFactory.getLogger(CuratorGrantStrategy.class);
-
-  public CuratorGrantStrategy(Resource resource, UserInstance userInstance) {
-    super(resource, userInstance);
-  }
+public final class CuratorGrantStrategy implements PublicationGrantStrategy {
 
   @Override
-  public boolean allowsAction(PublicationOperation permission) {
-    if (!userRelatesToPublication()) {
+  public boolean allowsAction(PublicationOperation permission, PublicationAccessFacts facts) {
+    if (!facts.userRelatesToPublication()) {
       return false;
     }
 
@@ -37,22 +26,24 @@ public final class CuratorGrantStrategy extends PublicationStrategyBase
           DOI_REQUEST_CREATE,
           PUBLISHING_REQUEST_CREATE,
           UPLOAD_FILE ->
-          isCurator();
-      case UNPUBLISH -> isPublished() && (hasApprovedFiles() ? canApproveFiles() : isCurator());
-      case DOI_REQUEST_APPROVE -> hasAccessRight(MANAGE_DOI);
-      case READ_HIDDEN_FILES, APPROVE_FILES -> canApproveFiles();
-      case SUPPORT_REQUEST_APPROVE -> hasAccessRight(SUPPORT);
+          isCurator(facts);
+      case UNPUBLISH ->
+          facts.isPublished()
+              && (facts.hasApprovedFiles() ? canApproveFiles(facts) : isCurator(facts));
+      case DOI_REQUEST_APPROVE -> facts.hasAccessRight(MANAGE_DOI);
+      case READ_HIDDEN_FILES, APPROVE_FILES -> canApproveFiles(facts);
+      case SUPPORT_REQUEST_APPROVE -> facts.hasAccessRight(SUPPORT);
       default -> false;
     };
   }
 
-  private boolean isCurator() {
-    return hasAccessRight(MANAGE_RESOURCES_STANDARD);
+  private static boolean isCurator(PublicationAccessFacts facts) {
+    return facts.hasAccessRight(MANAGE_RESOURCES_STANDARD);
   }
 
-  private boolean canApproveFiles() {
-    return resource.isDegree()
-        ? hasAccessRight(MANAGE_DEGREE) || hasAccessRight(MANAGE_DEGREE_EMBARGO)
-        : hasAccessRight(MANAGE_PUBLISHING_REQUESTS);
+  private static boolean canApproveFiles(PublicationAccessFacts facts) {
+    return facts.isDegree()
+        ? facts.hasAccessRight(MANAGE_DEGREE) || facts.hasAccessRight(MANAGE_DEGREE_EMBARGO)
+        : facts.hasAccessRight(MANAGE_PUBLISHING_REQUESTS);
   }
 }
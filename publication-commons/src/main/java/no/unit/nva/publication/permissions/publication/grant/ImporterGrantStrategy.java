@@ -3,22 +3,15 @@ package no.unit.nva.publication.permissions.publication.grant;
 import static nva.commons.apigateway.AccessRight.MANAGE_IMPORT;
 
 import no.unit.nva.model.PublicationOperation;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import no.unit.nva.publication.permissions.publication.PublicationGrantStrategy;
-import no.unit.nva.publication.permissions.publication.PublicationStrategyBase;
 
-public final class ImporterGrantStrategy extends PublicationStrategyBase
-    implements PublicationGrantStrategy {
-
-  public ImporterGrantStrategy(Resource resource, UserInstance userInstance) {
-    super(resource, userInstance);
-  }
+public final class ImporterGrantStrategy implements PublicationGrantStrategy {
 
   @Override
-  public boolean allowsAction(PublicationOperation permission) {
+  public boolean allowsAction(PublicationOperation permission, PublicationAccessFacts facts) {
     if (permission == PublicationOperation.ADD_ADDITIONAL_IDENTIFIERS) {
-      return hasAccessRight(MANAGE_IMPORT);
+      return facts.hasAccessRight(MANAGE_IMPORT);
     }
     return false;
   }
@@ -1,21 +1,14 @@
 package no.unit.nva.publication.permissions.publication.grant;
 
 import no.unit.nva.model.PublicationOperation;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import no.unit.nva.publication.permissions.publication.PublicationGrantStrategy;
-import no.unit.nva.publication.permissions.publication.PublicationStrategyBase;
 
-public final class ResourceOwnerGrantStrategy extends PublicationStrategyBase
-    implements PublicationGrantStrategy {
-
-  public ResourceOwnerGrantStrategy(Resource resource, UserInstance userInstance) {
-    super(resource, userInstance);
-  }
+public final class ResourceOwnerGrantStrategy implements PublicationGrantStrategy {
 
   @Override
-  public boolean allowsAction(PublicationOperation permission) {
-    if (!isOwner()) {
+  public boolean allowsAction(PublicationOperation permission, PublicationAccessFacts facts) {
+    if (!facts.isOwner()) {
       return false;
     }
 
@@ -27,8 +20,8 @@ public final class ResourceOwnerGrantStrategy extends PublicationStrategyBase
           SUPPORT_REQUEST_CREATE,
           UPLOAD_FILE ->
           true;
-      case UNPUBLISH -> isPublished() && !hasApprovedFiles();
-      case DELETE -> isDraft();
+      case UNPUBLISH -> facts.isPublished() && !facts.hasApprovedFiles();
+      case DELETE -> facts.isDraft();
       default -> false;
     };
   }
@@ -5,44 +5,38 @@ import static no.unit.nva.model.PublicationOperation.UNPUBLISH;
 import static no.unit.nva.model.PublicationOperation.UPDATE;
 
 import no.unit.nva.model.PublicationOperation;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
 import no.unit.nva.publication.model.business.publicationchannel.ClaimedPublicationChannel;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import no.unit.nva.publication.permissions.publication.PublicationDenyStrategy;
-import no.unit.nva.publication.permissions.publication.PublicationStrategyBase;
 
-public class ClaimedChannelDenyStrategy extends PublicationStrategyBase
-    implements PublicationDenyStrategy {
-
-  public ClaimedChannelDenyStrategy(Resource resource, UserInstance userInstance) {
-    super(resource, userInstance);
-  }
+public class ClaimedChannelDenyStrategy implements PublicationDenyStrategy {
 
   @Override
-  public boolean deniesAction(PublicationOperation operation) {
-    if (isUsersDraft() || userInstance.isExternalClient() || userInstance.isBackendClient()) {
+  public boolean deniesAction(PublicationOperation operation, PublicationAccessFacts facts) {
+    if (facts.isUsersDraft() || facts.isExternalClient() || facts.isBackendClient()) {
       return false;
     }
     return isDeniedOperation(operation)
-        && (hasFinalizedFiles() || isImportedStudentThesis())
-        && isDeniedUserByClaimedChannelWithinScope();
+        && (facts.hasFinalizedFiles() || facts.isImportedStudentThesis())
+        && isDeniedUserByClaimedChannelWithinScope(facts);
   }
 
   private static boolean isDeniedOperation(PublicationOperation operation) {
     return UPDATE == operation || UNPUBLISH == operation || APPROVE_FILES == operation;
   }
 
-  private boolean isDeniedUserByClaimedChannelWithinScope() {
-    return resource
-        .getPrioritizedClaimedPublicationChannelWithinScope()
-        .map(this::channelPolicyDeniesEditing)
+  private static boolean isDeniedUserByClaimedChannelWithinScope(PublicationAccessFacts facts) {
+    return facts
+        .claimedPublicationChannelWithinScope()
+        .map(claim -> channelPolicyDeniesEditing(claim, facts))
         .orElse(false);
   }
 
-  private boolean channelPolicyDeniesEditing(ClaimedPublicationChannel claim) {
+  private static boolean channelPolicyDeniesEditing(
+      ClaimedPublicationChannel claim, PublicationAccessFacts facts) {
     return switch (claim.getConstraint().editingPolicy()) {
-      case OWNER_ONLY -> !userBelongsToPublicationChannelOwner();
-      case EVERYONE -> !userRelatesToPublication();
+      case OWNER_ONLY -> !facts.userBelongsToPublicationChannelOwner();
+      case EVERYONE -> !facts.userRelatesToPublication();
     };
   }
 }
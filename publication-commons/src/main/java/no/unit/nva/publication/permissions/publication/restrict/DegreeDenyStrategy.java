@@ -6,61 +6,57 @@ import static nva.commons.apigateway.AccessRight.MANAGE_DEGREE;
 import static nva.commons.apigateway.AccessRight.MANAGE_RESOURCES_ALL;
 
 import no.unit.nva.model.PublicationOperation;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import no.unit.nva.publication.permissions.publication.PublicationDenyStrategy;
-import no.unit.nva.publication.permissions.publication.PublicationStrategyBase;
 
-public class DegreeDenyStrategy extends PublicationStrategyBase implements PublicationDenyStrategy {
+public class DegreeDenyStrategy implements PublicationDenyStrategy {
 
   private static final boolean DENY = true;
   private static final boolean PASS = false;
 
-  public DegreeDenyStrategy(Resource resource, UserInstance userInstance) {
-    super(resource, userInstance);
-  }
-
   @Override
-  public boolean deniesAction(PublicationOperation operation) {
-    if (isUsersDraft()
-        || userInstance.isExternalClient()
-        || userInstance.isBackendClient()
-        || isRelatedEditor()) {
+  public boolean deniesAction(PublicationOperation operation, PublicationAccessFacts facts) {
+    if (facts.isUsersDraft()
+        || facts.isExternalClient()
+        || facts.isBackendClient()
+        || isRelatedEditor(facts)) {
       return PASS;
     }
 
-    return isDeniedOperation(operation) && isProtectedDegreeInstanceType() && handleDegree();
+    return isDeniedOperation(operation)
+        && facts.isProtectedDegreeInstanceType()
+        && handleDegree(facts);
   }
 
-  private boolean isRelatedEditor() {
-    return userInstance.getAccessRights().contains(MANAGE_RESOURCES_ALL)
-        && userRelatesToPublication();
+  private static boolean isRelatedEditor(PublicationAccessFacts facts) {
+    return facts.userInstance().getAccessRights().contains(MANAGE_RESOURCES_ALL)
+        && facts.userRelatesToPublication();
   }
 
   private static boolean isDeniedOperation(PublicationOperation operation) {
     return UPDATE == operation || UNPUBLISH == operation;
   }
 
-  private boolean handleDegree() {
-    if (hasFinalizedFiles() || isImportedStudentThesis()) {
-      return finalizedFilesStrategy();
+  private static boolean handleDegree(PublicationAccessFacts facts) {
+    if (facts.hasFinalizedFiles() || facts.isImportedStudentThesis()) {
+      return finalizedFilesStrategy(facts);
     } else {
-      return nonFinalizedFileStrategy();
+      return nonFinalizedFileStrategy(facts);
     }
   }
 
-  private boolean finalizedFilesStrategy() {
-    if (!hasAccessRight(MANAGE_DEGREE)) {
+  private static boolean finalizedFilesStrategy(PublicationAccessFacts facts) {
+    if (!facts.hasAccessRight(MANAGE_DEGREE)) {
       return DENY;
     }
-    if (resource.getPrioritizedClaimedPublicationChannelWithinScope().isEmpty()) {
-      return !userIsFromSameInstitutionAsPublicationOwner();
+    if (facts.claimedPublicationChannelWithinScope().isEmpty()) {
+      return !facts.userIsFromSameInstitutionAsPublicationOwner();
     } // else: ClaimedChannelDenyStrategy takes care of denying by channel claim
     return PASS;
   }
 
-  private boolean nonFinalizedFileStrategy() {
-    if (!userRelatesToPublication()) {
+  private static boolean nonFinalizedFileStrategy(PublicationAccessFacts facts) {
+    if (!facts.userRelatesToPublication()) {
       return DENY;
     }
     return PASS;
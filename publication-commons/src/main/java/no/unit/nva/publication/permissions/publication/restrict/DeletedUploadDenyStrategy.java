@@ -3,19 +3,14 @@ package no.unit.nva.publication.permissions.publication.restrict;
 import static no.unit.nva.model.PublicationStatus.DELETED;
 
 import no.unit.nva.model.PublicationOperation;
-import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import no.unit.nva.publication.permissions.publication.PublicationDenyStrategy;
-import no.unit.nva.publication.permissions.publication.PublicationStrategyBase;
 
-public class DeletedUploadDenyStrategy extends PublicationStrategyBase
-    implements PublicationDenyStrategy {
-  public DeletedUploadDenyStrategy(Resource resource, UserInstance userInstance) {
-    super(resource, userInstance);
-  }
+public class DeletedUploadDenyStrategy implements PublicationDenyStrategy {
 
   @Override
-  public boolean deniesAction(PublicationOperation permission) {
-    return DELETED == resource.getStatus() && permission == PublicationOperation.UPLOAD_FILE;
+  public boolean deniesAction(PublicationOperation permission, PublicationAccessFacts facts) {
+    return DELETED == facts.resource().getStatus()
+        && permission == PublicationOperation.UPLOAD_FILE;
   }
 }
@@ -0,0 +1,89 @@
+package no.unit.nva.publication.service.impl;
+
+import static java.util.Objects.isNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+import no.unit.nva.publication.model.storage.CounterDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands out Cristin identifiers from blocks reserved in the shared counter, so that only one
+ * update in a block goes to DynamoDB. The block size adapts to the allocation rate. It doubles when
+ * a block is used up within {@link #FAST_EXHAUSTION}, and halves when a block lasts longer than
+ * {@link #SLOW_EXHAUSTION}. This keeps bulk imports off the hot counter item without leaving large
+ * gaps behind containers that only create the occasional publication.
+ *
+ * <p>Identifiers stay unique across containers, because every block is claimed with an atomic
+ * update of the counter. Identifiers left in a block when a container is recycled are never used.
+ */
+public class BlockAllocatingCounterService implements CounterService {
+
+  public static final int MINIMUM_BLOCK_SIZE = 1;
+  public static final int MAXIMUM_BLOCK_SIZE = 1_000;
+  public static final Duration FAST_EXHAUSTION = Duration.ofSeconds(10);
+  public static final Duration SLOW_EXHAUSTION = Duration.ofMinutes(5);
+  private static final String RESERVED_BLOCK_MESSAGE = "Reserved identifier block {}-{}";
+  private static final Logger logger = LoggerFactory.getLogger(BlockAllocatingCounterService.class);
+
+  private final CristinIdentifierCounterService counter;
+  private final Clock clock;
+  private final ReentrantLock lock = new ReentrantLock();
+  private int blockSize = MINIMUM_BLOCK_SIZE;
+  private int next;
+  private int last = -1;
+  private Instant blockReservedAt;
+
+  public BlockAllocatingCounterService(CristinIdentifierCounterService counter) {
+    this(counter, Clock.systemUTC());
+  }
+
+  public BlockAllocatingCounterService(CristinIdentifierCounterService counter, Clock clock) {
+    this.counter = counter;
+    this.clock = clock;
+  }
+
+  @Override
+  public CounterDao fetch() {
+    return counter.fetch();
+  }
+
+  @Override
+  public CounterDao next() {
+    lock.lock();
+    try {
+      if (next > last) {
+        reserveBlock();
+      }
+      return CounterDao.fromValue(next++);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void reserveBlock() {
+    var now = clock.instant();
+    blockSize = adaptBlockSize(now);
+    last = counter.reserve(blockSize);
+    next = last - blockSize + 1;
+    blockReservedAt = now;
+    logger.info(RESERVED_BLOCK_MESSAGE, next, last);
+  }
+
+  private int adaptBlockSize(Instant now) {
+    if (isNull(blockReservedAt)) {
+      return blockSize;
+    }
+    var lifetime = Duration.between(blockReservedAt, now);
+    if (lifetime.compareTo(FAST_EXHAUSTION) < 0) {
+      return Math.min(MAXIMUM_BLOCK_SIZE, blockSize * 2);
+    }
+    if (lifetime.compareTo(SLOW_EXHAUSTION) > 0) {
+      return Math.max(MINIMUM_BLOCK_SIZE, blockSize / 2);
+    }
+    return blockSize;
+  }
+}
@@ -15,13 +15,15 @@ import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.Put;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 public class CristinIdentifierCounterService implements CounterService {
 
   public static final String UPDATING_COUNTER_EXCEPTION_MESSAGE = "Failed to update counter: {}";
   private static final String COLUMN_NAME = "value";
-  private static final String ONE = "1";
+  private static final String COUNTER_ALREADY_CREATED_MESSAGE = "Counter was created concurrently";
+  private static final int INITIAL_VALUE = 10_000_000;
   private final DynamoDbClient client;
   private final Logger logger = LoggerFactory.getLogger(CristinIdentifierCounterService.class);
   private final String tableName;
@@ -36,16 +38,36 @@ public class CristinIdentifierCounterService implements CounterService {
     return attempt(() -> CounterDao.toGetItemRequest(tableName))
         .map(client::getItem)
         .map(CounterDao::fromGetItemResponse)
-        .map(a -> a.orElse(new CounterDao(10_000_000)))
+        .map(a -> a.orElse(new CounterDao(INITIAL_VALUE)))
         .orElseThrow();
   }
 
   private CounterDao incrementAndReturn() {
+    return CounterDao.fromValue(add(1));
+  }
+
+  /**
+   * Reserves a range of {@code count} identifiers with a single conditional update, creating the
+   * counter first if it does not exist.
+   *
+   * @return the last identifier of the reserved range
+   */
+  int reserve(int count) {
+    return attempt(() -> add(count))
+        .orElse(
+            failure -> {
+              logger.error(UPDATING_COUNTER_EXCEPTION_MESSAGE, failure.getException().getMessage());
+              createCounterUnlessCreatedConcurrently(INITIAL_VALUE - 1);
+              return add(count);
+            });
+  }
+
+  private int add(int increment) {
     Map<String, String> expressionAttributeNames = new HashMap<>();
     expressionAttributeNames.put("#ctr", COLUMN_NAME);
 
     Map<String, AttributeValue> expressionAttributeValues = new HashMap<>();
-    expressionAttributeValues.put(":inc", AttributeValue.fromN(ONE));
+    expressionAttributeValues.put(":inc", AttributeValue.fromN(String.valueOf(increment)));
 
     var updateItemRequest =
         UpdateItemRequest.builder()
@@ -60,7 +82,7 @@ public class CristinIdentifierCounterService implements CounterService {
 
     var updateItemResponse = client.updateItem(updateItemRequest);
     var updatedCount = updateItemResponse.attributes().get(COLUMN_NAME);
-    return CounterDao.fromValue(Integer.parseInt(updatedCount.n()));
+    return Integer.parseInt(updatedCount.n());
   }
 
   public CounterDao fetchCount(DynamoDbClient client) {
@@ -83,14 +105,22 @@ public class CristinIdentifierCounterService implements CounterService {
             failure -> {
               logger.error(UPDATING_COUNTER_EXCEPTION_MESSAGE, failure.getException().getMessage());
               // Assuming the counter does not exist, we create it
-              createCounterStartingAt(client);
+              createCounter(INITIAL_VALUE);
               return fetchCount(client);
             });
   }
 
-  private void createCounterStartingAt(DynamoDbClient client) {
+  private void createCounterUnlessCreatedConcurrently(int value) {
+    try {
+      createCounter(value);
+    } catch (TransactionCanceledException e) {
+      logger.info(COUNTER_ALREADY_CREATED_MESSAGE);
+    }
+  }
+
+  private void createCounter(int value) {
     Map<String, AttributeValue> item = new HashMap<>(CounterDao.primaryKey());
-    item.put(COLUMN_NAME, AttributeValue.fromN(String.valueOf(10_000_000)));
+    item.put(COLUMN_NAME, AttributeValue.fromN(String.valueOf(value)));
 
     var putItemRequest =
         Put.builder()
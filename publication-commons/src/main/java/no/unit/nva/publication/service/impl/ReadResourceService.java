@@ -1,12 +1,17 @@
 package no.unit.nva.publication.service.impl;
 
 import static java.util.Objects.nonNull;
+import static no.unit.nva.publication.model.business.StorageModelConfig.dynamoDbObjectMapper;
 import static no.unit.nva.publication.model.business.Resource.resourceQueryObject;
 import static no.unit.nva.publication.model.storage.DynamoEntry.parseAttributeValuesMap;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.BY_CUSTOMER_RESOURCE_INDEX_NAME;
+import static no.unit.nva.publication.storage.model.DatabaseConstants.BY_CUSTOMER_RESOURCE_INDEX_PARTITION_KEY_NAME;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.BY_TYPE_AND_IDENTIFIER_INDEX_NAME;
+import static no.unit.nva.publication.storage.model.DatabaseConstants.BY_TYPE_AND_IDENTIFIER_INDEX_PARTITION_KEY_NAME;
+import static no.unit.nva.publication.storage.model.DatabaseConstants.BY_TYPE_AND_IDENTIFIER_INDEX_SORT_KEY_NAME;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.GSI_1_INDEX_NAME;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.IMPORT_CANDIDATE_KEY_PATTERN;
+import static no.unit.nva.publication.storage.model.DatabaseConstants.KEY_FIELDS_DELIMITER;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.PRIMARY_KEY_PARTITION_KEY_NAME;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.PRIMARY_KEY_SORT_KEY_NAME;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.RESOURCES_TABLE_NAME;
@@ -16,10 +21,14 @@ import static nva.commons.core.attempt.Try.attempt;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import no.unit.nva.identifiers.SortableIdentifier;
@@ -29,26 +38,36 @@ import no.unit.nva.model.additionalidentifiers.AdditionalIdentifier;
 import no.unit.nva.model.associatedartifacts.AssociatedArtifact;
 import no.unit.nva.model.associatedartifacts.AssociatedArtifactList;
 import no.unit.nva.model.associatedartifacts.file.File;
+import no.unit.nva.publication.exception.InvalidStartMarkerException;
+import no.unit.nva.publication.model.ListingResult;
 import no.unit.nva.publication.model.PublicationSummary;
+import no.unit.nva.publication.model.ResourceVersion;
+import no.unit.nva.publication.model.TicketWithMessages;
 import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.model.business.ResourceRelationship;
 import no.unit.nva.publication.model.business.TicketEntry;
 import no.unit.nva.publication.model.business.TicketStatus;
 import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.model.business.logentry.LogEntry;
 import no.unit.nva.publication.model.business.publicationchannel.PublicationChannel;
 import no.unit.nva.publication.model.business.publicationstate.FileDeletedEvent;
 import no.unit.nva.publication.model.storage.Dao;
 import no.unit.nva.publication.model.storage.DoiRequestDao;
 import no.unit.nva.publication.model.storage.FileDao;
+import no.unit.nva.publication.model.storage.LogEntryDao;
+import no.unit.nva.publication.model.storage.MessageDao;
 import no.unit.nva.publication.model.storage.PublicationChannelDao;
 import no.unit.nva.publication.model.storage.ResourceDao;
 import no.unit.nva.publication.model.storage.ResourceRelationshipDao;
 import no.unit.nva.publication.model.storage.TicketDao;
 import no.unit.nva.publication.model.storage.importcandidate.DatabaseEntryWithData;
 import no.unit.nva.publication.model.storage.importcandidate.ImportCandidateDao;
+import no.unit.nva.publication.utils.FutureUtils;
+import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
@@ -60,9 +79,21 @@ public class ReadResourceService {
   public static final String PUBLICATION_NOT_FOUND_CLIENT_MESSAGE = "Publication not found: ";
   public static final String RESOURCE_NOT_FOUND_MESSAGE = "Could not find resource ";
   public static final int DEFAULT_LIMIT = 100;
+  public static final int MAX_CONCURRENT_QUERIES = 16;
   private static final String ADDITIONAL_IDENTIFIER_CRISTIN = "Cristin";
   private static final String TYPE = "type";
+  private static final String NO_TYPE = "";
   private static final String VALUE_PLACEHOLDER = ":value";
+  private static final String SORT_VALUE_PLACEHOLDER = ":sortValue";
+  private static final String IDENTIFIER_FIELD = "identifier";
+  private static final Map<String, String> BY_TYPE_AND_IDENTIFIER_KEY_NAMES =
+      Map.of(
+          "#PK3", BY_TYPE_AND_IDENTIFIER_INDEX_PARTITION_KEY_NAME,
+          "#SK3", BY_TYPE_AND_IDENTIFIER_INDEX_SORT_KEY_NAME);
+  private static final String TICKET_IDENTIFIER_FIELD = "ticketIdentifier";
+  private static final int MAX_FILTER_VALUES = 100;
+  private static final String INVALID_START_MARKER_MESSAGE =
+      "Start marker does not belong to the requested listing";
   private final DynamoDbClient client;
   private final String tableName;
 
@@ -72,16 +103,322 @@ public class ReadResourceService {
   }
 
   public List<PublicationSummary> getResourcesByOwner(UserInstance userInstance) {
+    var summaries = new ArrayList<PublicationSummary>();
+    Map<String, AttributeValue> startMarker = null;
+    ListingResult<PublicationSummary> page;
+    do {
+      page = getResourcesByOwner(userInstance, DEFAULT_LIMIT, startMarker);
+      summaries.addAll(page.getDatabaseEntries());
+      startMarker = page.getStartMarker();
+    } while (page.isTruncated());
+    return summaries;
+  }
+
+  /**
+   * Reads one page of the resources owned by the user. Only the projected summary attribute is
+   * read, unless a row in the page was written before summaries were stored, in which case the
+   * page is read again in full.
+   *
+   * @param startMarker the start marker of the previous page, or {@code null} for the first page
+   * @throws InvalidStartMarkerException if the start marker does not belong to the user's partition
+   */
+  public ListingResult<PublicationSummary> getResourcesByOwner(
+      UserInstance userInstance, int pageSize, Map<String, AttributeValue> startMarker) {
     var partitionKey = constructPrimaryPartitionKey(userInstance);
-    var conditionExpression = "#PK = :value";
-    var namesMap = Map.of("#PK", PRIMARY_KEY_PARTITION_KEY_NAME);
-    var valuesMap = Map.of(VALUE_PLACEHOLDER, AttributeValue.fromS(partitionKey));
-    var result = performQuery(conditionExpression, valuesMap, namesMap, DEFAULT_LIMIT);
+    validateStartMarker(PRIMARY_KEY_PARTITION_KEY_NAME, partitionKey, startMarker);
+    var queryRequest =
+        QueryRequest.builder()
+            .tableName(tableName)
+            .keyConditionExpression("#PK = :value")
+            .expressionAttributeValues(
+                Map.of(VALUE_PLACEHOLDER, AttributeValue.fromS(partitionKey)))
+            .exclusiveStartKey(startMarker)
+            .limit(pageSize)
+            .build();
+
+    var projectedResult =
+        client.query(
+            queryRequest.toBuilder()
+                .projectionExpression("#SUMMARY")
+                .expressionAttributeNames(
+                    Map.of(
+                        "#PK", PRIMARY_KEY_PARTITION_KEY_NAME,
+                        "#SUMMARY", ResourceDao.SUMMARY_FIELD))
+                .build());
+    var summaries =
+        allHaveSummary(projectedResult)
+            ? projectedResult.items().stream().map(ReadResourceService::readSummary).toList()
+            : queryResultToListOfPublicationSummaries(
+                client.query(
+                    queryRequest.toBuilder()
+                        .expressionAttributeNames(Map.of("#PK", PRIMARY_KEY_PARTITION_KEY_NAME))
+                        .build()));
+
+    var lastEvaluatedKey = projectedResult.lastEvaluatedKey();
+    var truncated = nonNull(lastEvaluatedKey) && !lastEvaluatedKey.isEmpty();
+    return new ListingResult<>(summaries, truncated ? lastEvaluatedKey : null, truncated);
+  }
+
+  public List<LogEntry> getLogEntriesForResource(Resource resource) {
+    var logEntries = new ArrayList<LogEntry>();
+    Map<String, AttributeValue> startMarker = null;
+    ListingResult<LogEntry> page;
+    do {
+      page = getLogEntriesForResource(resource, DEFAULT_LIMIT, startMarker);
+      logEntries.addAll(page.getDatabaseEntries());
+      startMarker = page.getStartMarker();
+    } while (page.isTruncated());
+    return logEntries;
+  }
+
+  /**
+   * Reads one page of the log of a resource. Log entries are sorted by their identifiers, which
+   * are created together with the logged event, so the log is read oldest first.
+   *
+   * @param startMarker the start marker of the previous page, or {@code null} for the first page
+   * @throws InvalidStartMarkerException if the start marker does not belong to the resource's log
+   */
+  public ListingResult<LogEntry> getLogEntriesForResource(
+      Resource resource, int pageSize, Map<String, AttributeValue> startMarker) {
+    var partitionKey = LogEntryDao.getLogEntriesByResourceIdentifierPartitionKey(resource);
+    validateStartMarker(PRIMARY_KEY_PARTITION_KEY_NAME, partitionKey, startMarker);
+    var queryResult =
+        client.query(
+            QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("#PK = :value AND begins_with(#SK, :type)")
+                .expressionAttributeNames(
+                    Map.of(
+                        "#PK", PRIMARY_KEY_PARTITION_KEY_NAME,
+                        "#SK", PRIMARY_KEY_SORT_KEY_NAME))
+                .expressionAttributeValues(
+                    Map.of(
+                        VALUE_PLACEHOLDER, AttributeValue.fromS(partitionKey),
+                        ":type", AttributeValue.fromS(LogEntryDao.TYPE + KEY_FIELDS_DELIMITER)))
+                .exclusiveStartKey(startMarker)
+                .limit(pageSize)
+                .build());
+    var logEntries =
+        queryResult.items().stream()
+            .map(LogEntryDao::fromDynamoFormat)
+            .map(LogEntryDao::data)
+            .toList();
+
+    var lastEvaluatedKey = queryResult.lastEvaluatedKey();
+    var truncated = nonNull(lastEvaluatedKey) && !lastEvaluatedKey.isEmpty();
+    return new ListingResult<>(logEntries, truncated ? lastEvaluatedKey : null, truncated);
+  }
 
-    return queryResultToListOfPublicationSummaries(result);
+  private static void validateStartMarker(
+      String keyName, String partitionKey, Map<String, AttributeValue> startMarker) {
+    if (nonNull(startMarker) && !hasPartitionKey(startMarker, keyName, partitionKey)) {
+      throw new InvalidStartMarkerException(INVALID_START_MARKER_MESSAGE);
+    }
+  }
+
+  private static boolean hasPartitionKey(
+      Map<String, AttributeValue> startMarker, String keyName, String partitionKey) {
+    return Optional.ofNullable(startMarker.get(keyName))
+        .map(AttributeValue::s)
+        .filter(partitionKey::equals)
+        .isPresent();
+  }
+
+  private static boolean allHaveSummary(QueryResponse result) {
+    return result.items().stream()
+        .allMatch(item -> nonNull(item.get(ResourceDao.SUMMARY_FIELD)));
+  }
+
+  private static PublicationSummary readSummary(Map<String, AttributeValue> item) {
+    var json = item.get(ResourceDao.SUMMARY_FIELD).s();
+    return attempt(() -> dynamoDbObjectMapper.readValue(json, PublicationSummary.class))
+        .orElseThrow();
   }
 
   public Optional<Resource> getResourceByIdentifier(SortableIdentifier identifier) {
+    return assembleResource(fetchEntriesByTypeAndIdentifier(identifier));
+  }
+
+  /**
+   * Fetches a resource with its publication channels and the requested files only, for deciding
+   * permissions on those files without reading every file of the resource. The returned resource
+   * has no related resources, and its associated artifacts hold only the requested files.
+   */
+  public Optional<Resource> getResourceWithFiles(
+      SortableIdentifier resourceIdentifier, Collection<SortableIdentifier> fileIdentifiers) {
+    var queryObject = resourceQueryObject(resourceIdentifier).toDao();
+    var partitionKey = queryObject.getByTypeAndIdentifierPartitionKey();
+    var entries = fetchResourceAndPublicationChannels(partitionKey, queryObject);
+    if (entries.isEmpty()) {
+      return Optional.empty();
+    }
+    entries.addAll(fetchFiles(partitionKey, new LinkedHashSet<>(fileIdentifiers)));
+    return assembleResource(entries);
+  }
+
+  // Sort keys start with the entry type, and "PublicationChannel:" sorts right before "Resource:"
+  // among the types stored in the partition, so one range holds the channels and the resource.
+  private List<Map<String, AttributeValue>> fetchResourceAndPublicationChannels(
+      String partitionKey, Dao queryObject) {
+    var queryRequest =
+        byTypeAndIdentifierQuery(partitionKey, "#SK3 BETWEEN :sortValue AND :resourceSortValue")
+            .expressionAttributeValues(
+                Map.of(
+                    VALUE_PLACEHOLDER,
+                    AttributeValue.fromS(partitionKey),
+                    SORT_VALUE_PLACEHOLDER,
+                    AttributeValue.fromS(PublicationChannelDao.TYPE + KEY_FIELDS_DELIMITER),
+                    ":resourceSortValue",
+                    AttributeValue.fromS(queryObject.getByTypeAndIdentifierSortKey())))
+            .build();
+    return queryAllPages(queryRequest);
+  }
+
+  private List<Map<String, AttributeValue>> fetchFiles(
+      String partitionKey, Collection<SortableIdentifier> fileIdentifiers) {
+    if (fileIdentifiers.isEmpty()) {
+      return List.of();
+    }
+    if (fileIdentifiers.size() == 1) {
+      var fileIdentifier = fileIdentifiers.iterator().next();
+      var queryRequest =
+          byTypeAndIdentifierQuery(partitionKey, "#SK3 = :sortValue")
+              .expressionAttributeValues(
+                  Map.of(
+                      VALUE_PLACEHOLDER,
+                      AttributeValue.fromS(partitionKey),
+                      SORT_VALUE_PLACEHOLDER,
+                      AttributeValue.fromS(fileSortKey(fileIdentifier))))
+              .build();
+      return queryAllPages(queryRequest);
+    }
+    return fetchFilesByIdentifiers(partitionKey, fileIdentifiers);
+  }
+
+  // Key attributes cannot be filtered on, so the files are matched on their identifier attribute
+  private List<Map<String, AttributeValue>> fetchFilesByIdentifiers(
+      String partitionKey, Collection<SortableIdentifier> fileIdentifiers) {
+    var values = new HashMap<String, AttributeValue>();
+    values.put(VALUE_PLACEHOLDER, AttributeValue.fromS(partitionKey));
+    values.put(SORT_VALUE_PLACEHOLDER, AttributeValue.fromS(FileDao.TYPE + KEY_FIELDS_DELIMITER));
+    var placeholders = new ArrayList<String>();
+    for (var fileIdentifier : fileIdentifiers) {
+      var placeholder = ":file" + placeholders.size();
+      placeholders.add(placeholder);
+      values.put(placeholder, AttributeValue.fromS(fileIdentifier.toString()));
+    }
+    var attributeNames = new HashMap<>(BY_TYPE_AND_IDENTIFIER_KEY_NAMES);
+    attributeNames.put("#IDENTIFIER", IDENTIFIER_FIELD);
+    var queryRequest =
+        byTypeAndIdentifierQuery(partitionKey, "begins_with(#SK3, :sortValue)")
+            .filterExpression("#IDENTIFIER IN (" + String.join(", ", placeholders) + ")")
+            .expressionAttributeNames(attributeNames)
+            .expressionAttributeValues(values)
+            .build();
+    return queryAllPages(queryRequest);
+  }
+
+  private QueryRequest.Builder byTypeAndIdentifierQuery(
+      String partitionKey, String sortKeyCondition) {
+    return QueryRequest.builder()
+        .tableName(tableName)
+        .indexName(BY_TYPE_AND_IDENTIFIER_INDEX_NAME)
+        .keyConditionExpression("#PK3 = :value AND " + sortKeyCondition)
+        .expressionAttributeNames(BY_TYPE_AND_IDENTIFIER_KEY_NAMES);
+  }
+
+  private List<Map<String, AttributeValue>> queryAllPages(QueryRequest queryRequest) {
+    var items = new ArrayList<Map<String, AttributeValue>>();
+    Map<String, AttributeValue> lastEvaluatedKey = null;
+    do {
+      var queryResult =
+          client.query(queryRequest.toBuilder().exclusiveStartKey(lastEvaluatedKey).build());
+      items.addAll(queryResult.items());
+      lastEvaluatedKey = queryResult.lastEvaluatedKey();
+    } while (nonNull(lastEvaluatedKey) && !lastEvaluatedKey.isEmpty());
+    return items;
+  }
+
+  private static String fileSortKey(SortableIdentifier fileIdentifier) {
+    return FileDao.TYPE + KEY_FIELDS_DELIMITER + fileIdentifier;
+  }
+
+  /**
+   * Reads the version, modified date and status of a resource from the resource row alone. Neither
+   * the compressed data of the resource nor its files and publication channels are read.
+   */
+  public Optional<ResourceVersion> getResourceVersion(SortableIdentifier identifier) {
+    var queryObject = resourceQueryObject(identifier).toDao();
+    var queryRequest =
+        QueryRequest.builder()
+            .tableName(tableName)
+            .indexName(BY_TYPE_AND_IDENTIFIER_INDEX_NAME)
+            .keyConditionExpression("#PK3 = :value AND #SK3 = :sortValue")
+            .projectionExpression("#VERSION, #MODIFIED_DATE, #STATUS")
+            .expressionAttributeNames(
+                Map.of(
+                    "#PK3", BY_TYPE_AND_IDENTIFIER_INDEX_PARTITION_KEY_NAME,
+                    "#SK3", BY_TYPE_AND_IDENTIFIER_INDEX_SORT_KEY_NAME,
+                    "#VERSION", Dao.VERSION_FIELD,
+                    "#MODIFIED_DATE", ResourceDao.MODIFIED_DATA_FIELD,
+                    "#STATUS", ResourceDao.STATUS_FIELD))
+            .expressionAttributeValues(
+                Map.of(
+                    VALUE_PLACEHOLDER,
+                    AttributeValue.fromS(queryObject.getByTypeAndIdentifierPartitionKey()),
+                    SORT_VALUE_PLACEHOLDER,
+                    AttributeValue.fromS(queryObject.getByTypeAndIdentifierSortKey())))
+            .build();
+    return client.query(queryRequest).items().stream()
+        .findFirst()
+        .map(ReadResourceService::readResourceVersion);
+  }
+
+  private static ResourceVersion readResourceVersion(Map<String, AttributeValue> item) {
+    var json = EnhancedDocument.fromAttributeValueMap(item).toJson();
+    return attempt(() -> dynamoDbObjectMapper.readValue(json, ResourceVersion.class))
+        .orElseThrow();
+  }
+
+  /**
+   * Fetches the resources with the given identifiers together with their files, publication
+   * channels and relationships. The per-identifier queries run concurrently on virtual threads, at
+   * most {@link #MAX_CONCURRENT_QUERIES} at a time. Resources are returned in the order of the
+   * input, and identifiers that are not found are left out.
+   */
+  @SuppressWarnings("PMD.DoNotUseThreads")
+  public List<Resource> getResourcesByIdentifiers(Collection<SortableIdentifier> identifiers) {
+    var distinctIdentifiers = new LinkedHashSet<>(identifiers);
+    if (distinctIdentifiers.size() <= 1) {
+      return distinctIdentifiers.stream()
+          .map(this::getResourceByIdentifier)
+          .flatMap(Optional::stream)
+          .toList();
+    }
+    var permits = new Semaphore(MAX_CONCURRENT_QUERIES);
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures =
+          distinctIdentifiers.stream()
+              .map(
+                  identifier ->
+                      executor.submit(() -> getResourceByIdentifier(identifier, permits)))
+              .toList();
+      return futures.stream().map(FutureUtils::await).flatMap(Optional::stream).toList();
+    }
+  }
+
+  private Optional<Resource> getResourceByIdentifier(
+      SortableIdentifier identifier, Semaphore permits) throws InterruptedException {
+    permits.acquire();
+    try {
+      return getResourceByIdentifier(identifier);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private List<Map<String, AttributeValue>> fetchEntriesByTypeAndIdentifier(
+      SortableIdentifier identifier) {
     var partitionKey = resourceQueryObject(identifier).toDao().getByTypeAndIdentifierPartitionKey();
     var queryRequest =
         QueryRequest.builder()
@@ -92,13 +429,20 @@ public class ReadResourceService {
             .expressionAttributeValues(
                 Map.of(VALUE_PLACEHOLDER, AttributeValue.fromS(partitionKey)))
             .build();
+    return client.query(queryRequest).items();
+  }
 
-    var entries = client.query(queryRequest).items().stream().toList();
-
-    var resource = extractResource(entries);
-    var fileEntries = extractFileEntries(entries);
-    var publicationChannels = extractPublicationChannels(entries);
-    var resourceRelationships = extractResourceRelationships(entries);
+  private static Optional<Resource> assembleResource(List<Map<String, AttributeValue>> entries) {
+    var entriesByType =
+        entries.stream().collect(Collectors.groupingBy(ReadResourceService::typeOf));
+    var resource = extractResource(entriesByType.getOrDefault(ResourceDao.TYPE, List.of()));
+    var fileEntries = extractFileEntries(entriesByType.getOrDefault(FileDao.TYPE, List.of()));
+    var publicationChannels =
+        extractPublicationChannels(
+            entriesByType.getOrDefault(PublicationChannelDao.TYPE, List.of()));
+    var resourceRelationships =
+        extractResourceRelationships(
+            entriesByType.getOrDefault(ResourceRelationshipDao.TYPE, List.of()));
 
     resource.ifPresent(
         res -> {
@@ -121,10 +465,9 @@ public class ReadResourceService {
     return resource;
   }
 
-  private List<SortableIdentifier> extractResourceRelationships(
+  private static List<SortableIdentifier> extractResourceRelationships(
       Collection<Map<String, AttributeValue>> entries) {
     return entries.stream()
-        .filter(map -> hasTypeProperty(map, ResourceRelationshipDao.TYPE))
         .map(
             map -> DatabaseEntryWithData.fromAttributeValuesMap(map, ResourceRelationshipDao.class))
         .map(ResourceRelationshipDao::getData)
@@ -162,6 +505,139 @@ public class ReadResourceService {
         .filter(ReadResourceService::isNotRemoved);
   }
 
+  /**
+   * Fetches the tickets of a resource together with their messages in one query over the
+   * resource's partition of the by-customer-resource index, where the messages are sorted after
+   * the tickets. Removed tickets are left out.
+   *
+   * @param includeMessages whether to read the message rows, or only the tickets
+   */
+  public List<TicketWithMessages> fetchTicketsWithMessages(
+      Resource resource, boolean includeMessages) {
+    var dao = (ResourceDao) resource.toDao();
+    var lastSortKey =
+        includeMessages
+            ? MessageDao.joinByResourceOrderedContainedType()
+            : TicketDao.ALPHABETICALLY_ORDERED_LAST_TICKET_TYPE;
+    var queryRequest =
+        QueryRequest.builder()
+            .tableName(tableName)
+            .indexName(BY_CUSTOMER_RESOURCE_INDEX_NAME)
+            .keyConditions(
+                dao.byResource(TicketDao.ALPHABETICALLY_ORDERED_FIRST_TICKET_TYPE, lastSortKey))
+            .build();
+    var entries = new ArrayList<Dao>();
+    Map<String, AttributeValue> lastEvaluatedKey = null;
+    do {
+      var queryResult =
+          client.query(queryRequest.toBuilder().exclusiveStartKey(lastEvaluatedKey).build());
+      queryResult.items().stream()
+          .map(item -> parseAttributeValuesMap(item, Dao.class))
+          .forEach(entries::add);
+      lastEvaluatedKey = queryResult.lastEvaluatedKey();
+    } while (nonNull(lastEvaluatedKey) && !lastEvaluatedKey.isEmpty());
+
+    return groupMessagesByTicket(
+        entriesOfType(entries, TicketDao.class), entriesOfType(entries, MessageDao.class));
+  }
+
+  /**
+   * Fetches one page of the tickets of a resource together with their messages. The page of
+   * tickets is read first, and the messages of all tickets in the page are then read with a single
+   * query, so the number of queries does not grow with the number of tickets.
+   *
+   * @param startMarker the start marker of the previous page, or {@code null} for the first page
+   * @throws InvalidStartMarkerException if the start marker does not belong to the resource
+   */
+  public ListingResult<TicketWithMessages> fetchTicketsWithMessages(
+      Resource resource,
+      boolean includeMessages,
+      int pageSize,
+      Map<String, AttributeValue> startMarker) {
+    var dao = (ResourceDao) resource.toDao();
+    validateStartMarker(
+        BY_CUSTOMER_RESOURCE_INDEX_PARTITION_KEY_NAME,
+        dao.getByCustomerAndResourcePartitionKey(),
+        startMarker);
+    var queryResult =
+        client.query(
+            QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(BY_CUSTOMER_RESOURCE_INDEX_NAME)
+                .keyConditions(dao.joinAllRelatedTicketsForResource())
+                .exclusiveStartKey(startMarker)
+                .limit(pageSize)
+                .build());
+    var tickets =
+        queryResult.items().stream()
+            .map(item -> parseAttributeValuesMap(item, TicketDao.class))
+            .toList();
+    var messages =
+        includeMessages ? fetchMessagesOfTickets(dao, tickets) : List.<MessageDao>of();
+
+    var lastEvaluatedKey = queryResult.lastEvaluatedKey();
+    var truncated = nonNull(lastEvaluatedKey) && !lastEvaluatedKey.isEmpty();
+    return new ListingResult<>(
+        groupMessagesByTicket(tickets, messages), truncated ? lastEvaluatedKey : null, truncated);
+  }
+
+  private List<MessageDao> fetchMessagesOfTickets(ResourceDao dao, List<TicketDao> tickets) {
+    var messages = new ArrayList<MessageDao>();
+    for (var from = 0; from < tickets.size(); from += MAX_FILTER_VALUES) {
+      var ticketIdentifiers =
+          tickets.subList(from, Math.min(from + MAX_FILTER_VALUES, tickets.size())).stream()
+              .map(ticket -> AttributeValue.fromS(ticket.getIdentifier().toString()))
+              .toList();
+      var queryRequest =
+          QueryRequest.builder()
+              .tableName(tableName)
+              .indexName(BY_CUSTOMER_RESOURCE_INDEX_NAME)
+              .keyConditions(dao.byResource(MessageDao.joinByResourceOrderedContainedType()))
+              .queryFilter(
+                  Map.of(
+                      TICKET_IDENTIFIER_FIELD,
+                      Condition.builder()
+                          .comparisonOperator(ComparisonOperator.IN)
+                          .attributeValueList(ticketIdentifiers)
+                          .build()))
+              .build();
+      Map<String, AttributeValue> lastEvaluatedKey = null;
+      do {
+        var queryResult =
+            client.query(queryRequest.toBuilder().exclusiveStartKey(lastEvaluatedKey).build());
+        queryResult.items().stream()
+            .map(item -> parseAttributeValuesMap(item, MessageDao.class))
+            .forEach(messages::add);
+        lastEvaluatedKey = queryResult.lastEvaluatedKey();
+      } while (nonNull(lastEvaluatedKey) && !lastEvaluatedKey.isEmpty());
+    }
+    return messages;
+  }
+
+  private static <T extends Dao> List<T> entriesOfType(List<Dao> entries, Class<T> type) {
+    return entries.stream().filter(type::isInstance).map(type::cast).toList();
+  }
+
+  private static List<TicketWithMessages> groupMessagesByTicket(
+      List<TicketDao> tickets, List<MessageDao> messages) {
+    var messagesByTicket =
+        messages.stream()
+            .collect(
+                Collectors.groupingBy(
+                    MessageDao::getTicketIdentifier,
+                    Collectors.mapping(MessageDao::getMessage, Collectors.toList())));
+    return tickets.stream()
+        .map(TicketDao::getData)
+        .map(TicketEntry.class::cast)
+        .filter(ReadResourceService::isNotRemoved)
+        .map(
+            ticket ->
+                new TicketWithMessages(
+                    ticket,
+                    messagesByTicket.getOrDefault(ticket.getIdentifier(), List.of())))
+        .toList();
+  }
+
   public List<Dao> fetchAllResourceAssociatedEntries(
       URI customerId, SortableIdentifier resourceIdentifier) {
     var value =
@@ -204,7 +680,6 @@ public class ReadResourceService {
   private static Optional<Resource> extractResource(
       Collection<Map<String, AttributeValue>> entries) {
     return entries.stream()
-        .filter(map -> hasTypeProperty(map, ResourceDao.TYPE))
         .map(map -> parseAttributeValuesMap(map, Dao.class))
         .filter(ResourceDao.class::isInstance)
         .map(ResourceDao.class::cast)
@@ -212,14 +687,13 @@ public class ReadResourceService {
         .findFirst();
   }
 
-  private static boolean hasTypeProperty(Map<String, AttributeValue> map, String type) {
-    return type.equals(map.getOrDefault(TYPE, AttributeValue.builder().build()).s());
+  private static String typeOf(Map<String, AttributeValue> map) {
+    return Optional.ofNullable(map.get(TYPE)).map(AttributeValue::s).orElse(NO_TYPE);
   }
 
   private static List<FileEntry> extractFileEntries(
       Collection<Map<String, AttributeValue>> entries) {
     return entries.stream()
-        .filter(map -> hasTypeProperty(map, FileDao.TYPE))
         .map(map -> parseAttributeValuesMap(map, Dao.class))
         .filter(FileDao.class::isInstance)
         .map(FileDao.class::cast)
@@ -228,10 +702,9 @@ public class ReadResourceService {
         .toList();
   }
 
-  private List<PublicationChannel> extractPublicationChannels(
+  private static List<PublicationChannel> extractPublicationChannels(
       Collection<Map<String, AttributeValue>> entries) {
     return entries.stream()
-        .filter(map -> hasTypeProperty(map, PublicationChannelDao.TYPE))
         .map(map -> parseAttributeValuesMap(map, Dao.class))
         .filter(PublicationChannelDao.class::isInstance)
         .map(PublicationChannelDao.class::cast)
@@ -306,21 +779,6 @@ public class ReadResourceService {
     return queryResultToResourceList(result).stream().map(Resource::toSummary).toList();
   }
 
-  private QueryResponse performQuery(
-      String conditionExpression,
-      Map<String, AttributeValue> valuesMap,
-      Map<String, String> namesMap,
-      int limit) {
-    return client.query(
-        QueryRequest.builder()
-            .keyConditionExpression(conditionExpression)
-            .expressionAttributeNames(namesMap)
-            .expressionAttributeValues(valuesMap)
-            .tableName(tableName)
-            .limit(limit)
-            .build());
-  }
-
   private QueryRequest queryByResourceIndex(ResourceDao queryObject) {
     var doiRequestQueryObject = DoiRequestDao.queryObject(queryObject);
     Map<String, Condition> keyConditions =
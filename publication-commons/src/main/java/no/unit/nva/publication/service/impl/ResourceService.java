@@ -46,7 +46,9 @@ import no.unit.nva.publication.external.services.ChannelClaimClient;
 import no.unit.nva.publication.model.DeletePublicationStatusResponse;
 import no.unit.nva.publication.model.ListingResult;
 import no.unit.nva.publication.model.PublicationSummary;
+import no.unit.nva.publication.model.ResourceVersion;
 import no.unit.nva.publication.model.ScanResultWrapper;
+import no.unit.nva.publication.model.TicketWithMessages;
 import no.unit.nva.publication.model.business.Entity;
 import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Owner;
@@ -68,13 +70,16 @@ import no.unit.nva.publication.model.storage.ResourceRelationshipDao;
 import no.unit.nva.publication.model.storage.importcandidate.ImportCandidateDao;
 import no.unit.nva.publication.model.utils.CuratingInstitutionsUtil;
 import no.unit.nva.publication.model.utils.CustomerService;
+import no.unit.nva.publication.storage.BatchWriteResult;
+import no.unit.nva.publication.storage.BatchWriteResult.FailedBatch;
+import no.unit.nva.publication.storage.DynamoBatchReader;
+import no.unit.nva.publication.storage.DynamoBatchWriter;
 import no.unit.nva.publication.storage.model.DatabaseConstants;
 import no.unit.nva.publication.utils.CristinUnitsUtil;
 import nva.commons.apigateway.exceptions.ApiGatewayException;
 import nva.commons.apigateway.exceptions.BadMethodException;
 import nva.commons.apigateway.exceptions.BadRequestException;
 import nva.commons.apigateway.exceptions.NotFoundException;
-import nva.commons.core.CollectionUtils;
 import nva.commons.core.JacocoGenerated;
 import nva.commons.core.attempt.Failure;
 import nva.commons.core.attempt.Try;
@@ -83,12 +88,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.Delete;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.Put;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
@@ -108,7 +110,6 @@ public class ResourceService extends ServiceWithTransactions {
       "Resource has been refreshed successfully: {}";
   public static final String RESOURCE_CANNOT_BE_DELETED_ERROR_MESSAGE =
       "Resource cannot be deleted: ";
-  public static final int MAX_SIZE_OF_BATCH_REQUEST = 5;
   public static final String NOT_PUBLISHABLE =
       "Publication is not publishable. Check main title and doi";
   public static final String ONLY_PUBLISHED_PUBLICATIONS_CAN_BE_UNPUBLISHED_ERROR_MESSAGE =
@@ -120,7 +121,8 @@ public class ResourceService extends ServiceWithTransactions {
   private static final String IMPORT_CANDIDATE_HAS_BEEN_DELETED_MESSAGE =
       "Import candidate has been deleted: {}";
   private static final String SEPARATOR_ITEM = ",";
-  private static final String SEPARATOR_TABLE = ";";
+  private static final String FAILED_BATCH_WRITE_MESSAGE =
+      "Failed to write batch to dynamo for the following resources: ";
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
   private final String tableName;
   private final Clock clockForTimestamps;
@@ -132,6 +134,8 @@ public class ResourceService extends ServiceWithTransactions {
   private final CounterService counterService;
   private final CustomerService customerService;
   private final CristinUnitsUtil cristinUnitsUtil;
+  private final DynamoBatchWriter batchWriter;
+  private final DynamoBatchReader batchReader;
 
   public ResourceService(
       DynamoDbClient dynamoDBClient,
@@ -153,7 +157,9 @@ public class ResourceService extends ServiceWithTransactions {
     this.clockForTimestamps = clock;
     this.uriRetriever = uriRetriever;
     this.cristinUnitsUtil = cristinUnitsUtil;
-    this.counterService = new CristinIdentifierCounterService(dynamoDBClient, this.tableName);
+    this.counterService =
+        new BlockAllocatingCounterService(
+            new CristinIdentifierCounterService(dynamoDBClient, this.tableName));
     this.channelClaimClient = channelClaimClient;
     this.readResourceService = new ReadResourceService(client, this.tableName);
     this.customerService = customerService;
@@ -169,6 +175,8 @@ public class ResourceService extends ServiceWithTransactions {
             cristinUnitsUtil);
     this.deleteResourceService =
         new DeleteResourceService(client, this.tableName, readResourceService);
+    this.batchWriter = new DynamoBatchWriter(client, this.tableName);
+    this.batchReader = new DynamoBatchReader(client, this.tableName);
   }
 
   @JacocoGenerated
@@ -359,25 +367,15 @@ public class ResourceService extends ServiceWithTransactions {
         scanResult.items(), scanResult.lastEvaluatedKey(), isTruncated, scanResult.scannedCount());
   }
 
-  public void refreshResources(List<Entity> dataEntries) {
+  public BatchWriteResult refreshResources(List<Entity> dataEntries) {
     final var refreshedEntries = refreshAndMigrate(dataEntries);
     var writeRequests = createWriteRequestsForBatchJob(refreshedEntries);
-    writeToDynamoInBatches(writeRequests);
+    return writeToDynamoInBatches(writeRequests);
   }
 
-  public void refreshResourcesByKeys(Collection<Map<String, AttributeValue>> keys) {
-    var entities = getEntities(keys);
-    refreshResources(entities);
-  }
-
-  private List<Entity> getEntities(Collection<Map<String, AttributeValue>> keys) {
-    var batchGetItemRequest =
-        BatchGetItemRequest.builder()
-            .requestItems(Map.of(tableName, KeysAndAttributes.builder().keys(keys).build()))
-            .build();
-    var batchGetItemResult = client.batchGetItem(batchGetItemRequest);
-    var items = batchGetItemResult.responses().get(tableName);
-    return extractDatabaseEntries(items);
+  public BatchWriteResult refreshResourcesByKeys(Collection<Map<String, AttributeValue>> keys) {
+    var entities = extractDatabaseEntries(batchReader.read(keys));
+    return refreshResources(entities);
   }
 
   public Resource getResourceByIdentifier(SortableIdentifier identifier) throws NotFoundException {
@@ -386,24 +384,53 @@ public class ResourceService extends ServiceWithTransactions {
         .orElseThrow(() -> new NotFoundException(RESOURCE_NOT_FOUND_MESSAGE + identifier));
   }
 
+  /**
+   * Fetches a resource with only the requested files, for checking permissions on those files.
+   *
+   * @see ReadResourceService#getResourceWithFiles(SortableIdentifier, Collection)
+   */
+  public Resource getResourceWithFiles(
+      SortableIdentifier resourceIdentifier, Collection<SortableIdentifier> fileIdentifiers)
+      throws NotFoundException {
+    return readResourceService
+        .getResourceWithFiles(resourceIdentifier, fileIdentifiers)
+        .orElseThrow(() -> new NotFoundException(RESOURCE_NOT_FOUND_MESSAGE + resourceIdentifier));
+  }
+
+  /**
+   * Reads only the version attributes of a resource, for answering conditional requests.
+   *
+   * @see ReadResourceService#getResourceVersion(SortableIdentifier)
+   */
+  public Optional<ResourceVersion> getResourceVersion(SortableIdentifier identifier) {
+    return readResourceService.getResourceVersion(identifier);
+  }
+
+  /**
+   * Fetches the resources with the given identifiers in one concurrent batch.
+   *
+   * @see ReadResourceService#getResourcesByIdentifiers(Collection)
+   */
+  public List<Resource> getResourcesByIdentifiers(Collection<SortableIdentifier> identifiers) {
+    return readResourceService.getResourcesByIdentifiers(identifiers);
+  }
+
   public List<Publication> getPublicationsByCristinIdentifier(String cristinIdentifier) {
-    return readResourceService.getPublicationsByCristinIdentifier(cristinIdentifier).stream()
-        .map(Resource::fromPublication)
-        .map(Resource::getIdentifier)
-        .map(readResourceService::getResourceByIdentifier)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
+    var identifiers =
+        readResourceService.getPublicationsByCristinIdentifier(cristinIdentifier).stream()
+            .map(Publication::getIdentifier)
+            .toList();
+    return readResourceService.getResourcesByIdentifiers(identifiers).stream()
         .map(Resource::toPublication)
         .toList();
   }
 
   public List<Publication> getPublicationsByScopusIdentifier(ScopusIdentifier scopusIdentifier) {
-    return readResourceService.getPublicationsByScopusIdentifier(scopusIdentifier.value()).stream()
-        .map(Resource::fromPublication)
-        .map(Resource::getIdentifier)
-        .map(readResourceService::getResourceByIdentifier)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
+    var identifiers =
+        readResourceService.getPublicationsByScopusIdentifier(scopusIdentifier.value()).stream()
+            .map(Publication::getIdentifier)
+            .toList();
+    return readResourceService.getResourcesByIdentifiers(identifiers).stream()
         .map(Resource::toPublication)
         .toList();
   }
@@ -412,6 +439,11 @@ public class ResourceService extends ServiceWithTransactions {
     return readResourceService.getResourcesByOwner(sampleUser);
   }
 
+  public ListingResult<PublicationSummary> getPublicationSummaryByOwner(
+      UserInstance userInstance, int pageSize, Map<String, AttributeValue> startMarker) {
+    return readResourceService.getResourcesByOwner(userInstance, pageSize, startMarker);
+  }
+
   public Publication getPublicationByIdentifier(SortableIdentifier identifier)
       throws NotFoundException {
     return getResourceByIdentifier(identifier).toPublication();
@@ -493,6 +525,20 @@ public class ResourceService extends ServiceWithTransactions {
     return readResourceService.fetchAllTicketsForResource(resource);
   }
 
+  public List<TicketWithMessages> fetchTicketsWithMessages(
+      Resource resource, boolean includeMessages) {
+    return readResourceService.fetchTicketsWithMessages(resource, includeMessages);
+  }
+
+  public ListingResult<TicketWithMessages> fetchTicketsWithMessages(
+      Resource resource,
+      boolean includeMessages,
+      int pageSize,
+      Map<String, AttributeValue> startMarker) {
+    return readResourceService.fetchTicketsWithMessages(
+        resource, includeMessages, pageSize, startMarker);
+  }
+
   public void refreshResource(SortableIdentifier identifier) {
     try {
       var resource = getResourceByIdentifier(identifier);
@@ -540,19 +586,12 @@ public class ResourceService extends ServiceWithTransactions {
   }
 
   public List<LogEntry> getLogEntriesForResource(Resource resource) {
-    var partitionKeyValue = LogEntryDao.getLogEntriesByResourceIdentifierPartitionKey(resource);
-
-    var queryRequest =
-        QueryRequest.builder()
-            .tableName(tableName)
-            .keyConditionExpression("PK0 = :value")
-            .expressionAttributeValues(Map.of(":value", AttributeValue.fromS(partitionKeyValue)))
-            .build();
+    return readResourceService.getLogEntriesForResource(resource);
+  }
 
-    return client.query(queryRequest).items().stream()
-        .map(LogEntryDao::fromDynamoFormat)
-        .map(LogEntryDao::data)
-        .toList();
+  public ListingResult<LogEntry> getLogEntriesForResource(
+      Resource resource, int pageSize, Map<String, AttributeValue> startMarker) {
+    return readResourceService.getLogEntriesForResource(resource, pageSize, startMarker);
   }
 
   public void persistFile(FileEntry fileEntry) {
@@ -596,7 +635,7 @@ public class ResourceService extends ServiceWithTransactions {
     return new ListingResult<>(values, result.lastEvaluatedKey(), isTruncated);
   }
 
-  public void batchUpdateChannels(List<PublicationChannel> publicationChannels) {
+  public BatchWriteResult batchUpdateChannels(List<PublicationChannel> publicationChannels) {
     var writeRequests =
         publicationChannels.stream()
             .map(PublicationChannel::toDao)
@@ -604,10 +643,7 @@ public class ResourceService extends ServiceWithTransactions {
             .map(item -> PutRequest.builder().item(item).build())
             .map(putRequest -> WriteRequest.builder().putRequest(putRequest).build())
             .toList();
-    CollectionUtils.partition(writeRequests, 25).stream()
-        .map(
-            items -> BatchWriteItemRequest.builder().requestItems(Map.of(tableName, items)).build())
-        .forEach(this::writeBatchToDynamo);
+    return writeToDynamoInBatches(writeRequests);
   }
 
   private static List<PublicationChannel> getPublicationChannels(QueryResponse result) {
@@ -737,28 +773,16 @@ public class ResourceService extends ServiceWithTransactions {
     return nonNull(scanResult.lastEvaluatedKey()) && !scanResult.lastEvaluatedKey().isEmpty();
   }
 
-  private void writeToDynamoInBatches(List<WriteRequest> writeRequests) {
-    CollectionUtils.partition(writeRequests, MAX_SIZE_OF_BATCH_REQUEST).stream()
-        .map(
-            items -> BatchWriteItemRequest.builder().requestItems(Map.of(tableName, items)).build())
-        .forEach(this::writeBatchToDynamo);
-  }
-
-  private void writeBatchToDynamo(BatchWriteItemRequest batchWriteItemRequest) {
-    try {
-      getClient().batchWriteItem(batchWriteItemRequest);
-    } catch (Exception e) {
-      var recordIdentifiers = extractRecordIdentifiers(batchWriteItemRequest);
-      logger.warn(
-          "Failed to write batch to dynamo for the following resources: " + recordIdentifiers, e);
-      // intentionally swallowing this exception to continue writing next batches
-    }
+  private BatchWriteResult writeToDynamoInBatches(List<WriteRequest> writeRequests) {
+    var result = batchWriter.write(writeRequests);
+    // failed batches are reported and skipped so that the remaining batches are still written
+    result.failures().forEach(this::logFailedBatch);
+    return result;
   }
 
-  private String extractRecordIdentifiers(BatchWriteItemRequest batchWriteItemRequest) {
-    return batchWriteItemRequest.requestItems().values().stream()
-        .map(this::extractRecordIdentifiers)
-        .collect(Collectors.joining(SEPARATOR_TABLE));
+  private void logFailedBatch(FailedBatch failedBatch) {
+    var recordIdentifiers = extractRecordIdentifiers(failedBatch.unprocessedItems());
+    logger.warn(FAILED_BATCH_WRITE_MESSAGE + recordIdentifiers, failedBatch.cause());
   }
 
   private String extractRecordIdentifiers(List<WriteRequest> writeRequests) {
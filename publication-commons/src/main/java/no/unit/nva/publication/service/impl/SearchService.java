@@ -60,16 +60,20 @@ public final class SearchService {
   }
 
   private List<Resource> fetchResources(SearchResourceApiResponse searchResponse) {
-    return searchResponse.hits().stream()
-        .map(ResourceWithId::getIdentifier)
-        .map(this::fetchPublication)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .toList();
+    var identifiers = searchResponse.hits().stream().map(ResourceWithId::getIdentifier).toList();
+    return attempt(() -> resourceService.getResourcesByIdentifiers(identifiers))
+        .orElse(failure -> fetchResourcesOneByOne(identifiers));
   }
 
-  private Optional<Resource> fetchPublication(SortableIdentifier identifier) {
-    return Resource.resourceQueryObject(identifier).fetch(resourceService);
+  /**
+   * Falls back to reading the hits one at a time when the batch read fails, so that a hit that
+   * cannot be read is left out instead of failing the whole search.
+   */
+  private List<Resource> fetchResourcesOneByOne(List<SortableIdentifier> identifiers) {
+    return identifiers.stream()
+        .map(identifier -> Resource.resourceQueryObject(identifier).fetch(resourceService))
+        .flatMap(Optional::stream)
+        .toList();
   }
 
   private SearchResourceApiResponse toSearchResponse(HttpResponse<String> response) {
@@ -0,0 +1,48 @@
+package no.unit.nva.publication.storage;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Additive-increase/multiplicative-decrease limit on the number of batch requests in flight. The
+ * limit is halved every time DynamoDB throttles a request and grows by one for every request that
+ * goes through, so concurrent batches back off together instead of each retrying at full speed.
+ */
+final class AdaptiveConcurrencyLimit {
+
+  private static final int MINIMUM_LIMIT = 1;
+
+  private final int maximum;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = lock.newCondition();
+  private int limit;
+  private int inFlight;
+
+  AdaptiveConcurrencyLimit(int maximum) {
+    this.maximum = Math.max(MINIMUM_LIMIT, maximum);
+    this.limit = this.maximum;
+  }
+
+  void acquire() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (inFlight >= limit) {
+        permitReleased.await();
+      }
+      inFlight++;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void release(boolean throttled) {
+    lock.lock();
+    try {
+      inFlight--;
+      limit = throttled ? Math.max(MINIMUM_LIMIT, limit / 2) : Math.min(maximum, limit + 1);
+      permitReleased.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
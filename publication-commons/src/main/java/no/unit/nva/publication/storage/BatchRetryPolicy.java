@@ -0,0 +1,41 @@
+package no.unit.nva.publication.storage;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+
+/**
+ * Retry settings shared by {@link DynamoBatchWriter} and {@link DynamoBatchReader}. Delays use
+ * "full jitter": a random duration between zero and an exponentially growing, capped ceiling.
+ */
+public record BatchRetryPolicy(
+    int maxConcurrency, int maxAttempts, Duration baseDelay, Duration maxDelay) {
+
+  private static final int DEFAULT_MAX_CONCURRENCY = 8;
+  private static final int DEFAULT_MAX_ATTEMPTS = 8;
+  private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(50);
+  private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+  private static final int MAX_SHIFT = 20;
+
+  public static BatchRetryPolicy defaultPolicy() {
+    return new BatchRetryPolicy(
+        DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY);
+  }
+
+  static boolean isThrottling(Exception exception) {
+    return exception instanceof ProvisionedThroughputExceededException
+        || exception instanceof RequestLimitExceededException
+        || exception instanceof AwsServiceException serviceException
+            && serviceException.isThrottlingException();
+  }
+
+  void sleepBeforeRetry(int attempt) throws InterruptedException {
+    var ceiling =
+        Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt, MAX_SHIFT));
+    if (ceiling > 0) {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package no.unit.nva.publication.storage;
+
+import java.util.List;
+import java.util.stream.Stream;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Outcome of {@link DynamoBatchWriter#write}. A batch is failed when some of its items were still
+ * not written after the last attempt; only those items are listed in its {@link FailedBatch}.
+ */
+public record BatchWriteResult(
+    int succeededBatches,
+    int failedBatches,
+    int writtenItems,
+    int retries,
+    List<FailedBatch> failures) {
+
+  public static BatchWriteResult empty() {
+    return new BatchWriteResult(0, 0, 0, 0, List.of());
+  }
+
+  static BatchWriteResult succeeded(int writtenItems, int retries) {
+    return new BatchWriteResult(1, 0, writtenItems, retries, List.of());
+  }
+
+  static BatchWriteResult failed(int writtenItems, int retries, FailedBatch failure) {
+    return new BatchWriteResult(0, 1, writtenItems, retries, List.of(failure));
+  }
+
+  public boolean hasFailures() {
+    return !failures.isEmpty();
+  }
+
+  BatchWriteResult merge(BatchWriteResult other) {
+    return new BatchWriteResult(
+        succeededBatches + other.succeededBatches,
+        failedBatches + other.failedBatches,
+        writtenItems + other.writtenItems,
+        retries + other.retries,
+        Stream.concat(failures.stream(), other.failures.stream()).toList());
+  }
+
+  public record FailedBatch(List<WriteRequest> unprocessedItems, Exception cause) {}
+}
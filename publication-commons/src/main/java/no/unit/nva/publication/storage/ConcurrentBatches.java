@@ -0,0 +1,26 @@
+package no.unit.nva.publication.storage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import no.unit.nva.publication.utils.FutureUtils;
+
+/** Runs one task per batch on virtual threads and collects the results in batch order. */
+final class ConcurrentBatches {
+
+  private ConcurrentBatches() {}
+
+  @SuppressWarnings("PMD.DoNotUseThreads")
+  static <B, R> List<R> run(Collection<B> batches, BatchTask<B, R> task) {
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures = batches.stream().map(batch -> executor.submit(() -> task.run(batch))).toList();
+      return futures.stream().map(FutureUtils::await).toList();
+    }
+  }
+
+  @FunctionalInterface
+  interface BatchTask<B, R> {
+
+    R run(B batch) throws InterruptedException;
+  }
+}
@@ -0,0 +1,100 @@
+package no.unit.nva.publication.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import nva.commons.core.CollectionUtils;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+/**
+ * Reads items with {@code BatchGetItem} in batches of 100 keys. Batches are sent concurrently under
+ * an {@link AdaptiveConcurrencyLimit}, and unprocessed keys are resubmitted with jittered
+ * exponential backoff. Items are returned in no particular order; keys that do not exist are left
+ * out.
+ */
+public final class DynamoBatchReader {
+
+  public static final int MAX_KEYS_PER_BATCH = 100;
+  private static final String UNPROCESSED_KEYS_MESSAGE =
+      "%d keys were still unprocessed after %d attempts";
+
+  private final DynamoDbClient client;
+  private final String tableName;
+  private final BatchRetryPolicy retryPolicy;
+
+  public DynamoBatchReader(DynamoDbClient client, String tableName) {
+    this(client, tableName, BatchRetryPolicy.defaultPolicy());
+  }
+
+  public DynamoBatchReader(DynamoDbClient client, String tableName, BatchRetryPolicy retryPolicy) {
+    this.client = client;
+    this.tableName = tableName;
+    this.retryPolicy = retryPolicy;
+  }
+
+  /**
+   * Fetches the items with the given primary keys.
+   *
+   * @throws IllegalStateException if some keys are still unprocessed after the last attempt
+   */
+  public List<Map<String, AttributeValue>> read(Collection<Map<String, AttributeValue>> keys) {
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+    var limit = new AdaptiveConcurrencyLimit(retryPolicy.maxConcurrency());
+    var batches = CollectionUtils.partition(List.copyOf(keys), MAX_KEYS_PER_BATCH);
+    return ConcurrentBatches.run(batches, batch -> readBatch(batch, limit)).stream()
+        .flatMap(List::stream)
+        .toList();
+  }
+
+  private List<Map<String, AttributeValue>> readBatch(
+      List<Map<String, AttributeValue>> batch, AdaptiveConcurrencyLimit limit)
+      throws InterruptedException {
+    var items = new ArrayList<Map<String, AttributeValue>>();
+    var pending = batch;
+    var attempt = 0;
+    while (true) {
+      limit.acquire();
+      var throttled = false;
+      try {
+        pending = send(pending, items);
+        throttled = !pending.isEmpty();
+      } catch (SdkException e) {
+        throttled = BatchRetryPolicy.isThrottling(e);
+        if (!throttled) {
+          throw e;
+        }
+      } finally {
+        limit.release(throttled);
+      }
+      if (pending.isEmpty()) {
+        return items;
+      }
+      attempt++;
+      if (attempt >= retryPolicy.maxAttempts()) {
+        var message = UNPROCESSED_KEYS_MESSAGE.formatted(pending.size(), attempt);
+        throw new IllegalStateException(message);
+      }
+      retryPolicy.sleepBeforeRetry(attempt);
+    }
+  }
+
+  private List<Map<String, AttributeValue>> send(
+      List<Map<String, AttributeValue>> keys, List<Map<String, AttributeValue>> items) {
+    var request =
+        BatchGetItemRequest.builder()
+            .requestItems(Map.of(tableName, KeysAndAttributes.builder().keys(keys).build()))
+            .build();
+    var response = client.batchGetItem(request);
+    items.addAll(response.responses().getOrDefault(tableName, List.of()));
+    return response.hasUnprocessedKeys() && response.unprocessedKeys().containsKey(tableName)
+        ? response.unprocessedKeys().get(tableName).keys()
+        : List.of();
+  }
+}
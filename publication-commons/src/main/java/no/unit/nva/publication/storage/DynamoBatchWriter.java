@@ -0,0 +1,135 @@
+package no.unit.nva.publication.storage;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Writes items with {@code BatchWriteItem}. Requests are packed up to the DynamoDB limits of 25
+ * items and 16 MB, sent concurrently under an {@link AdaptiveConcurrencyLimit}, and every batch is
+ * retried with jittered exponential backoff until DynamoDB reports no unprocessed items or the
+ * attempts run out. Items that could not be written are returned in the {@link BatchWriteResult}
+ * rather than dropped.
+ */
+public final class DynamoBatchWriter {
+
+  public static final int MAX_ITEMS_PER_BATCH = 25;
+  public static final long MAX_BYTES_PER_BATCH = 16L * 1024 * 1024;
+  private static final String UNPROCESSED_ITEMS_MESSAGE =
+      "%d items were still unprocessed after %d attempts";
+  private static final String BATCH_WRITE_RESULT_MESSAGE =
+      "Batch write finished: {} batches succeeded, {} failed, {} items written, {} retries";
+  private static final Logger logger = LoggerFactory.getLogger(DynamoBatchWriter.class);
+
+  private final DynamoDbClient client;
+  private final String tableName;
+  private final BatchRetryPolicy retryPolicy;
+
+  public DynamoBatchWriter(DynamoDbClient client, String tableName) {
+    this(client, tableName, BatchRetryPolicy.defaultPolicy());
+  }
+
+  public DynamoBatchWriter(DynamoDbClient client, String tableName, BatchRetryPolicy retryPolicy) {
+    this.client = client;
+    this.tableName = tableName;
+    this.retryPolicy = retryPolicy;
+  }
+
+  public BatchWriteResult write(List<WriteRequest> writeRequests) {
+    if (writeRequests.isEmpty()) {
+      return BatchWriteResult.empty();
+    }
+    var limit = new AdaptiveConcurrencyLimit(retryPolicy.maxConcurrency());
+    var result =
+        ConcurrentBatches.run(partition(writeRequests), batch -> writeBatch(batch, limit)).stream()
+            .reduce(BatchWriteResult.empty(), BatchWriteResult::merge);
+    logger.info(
+        BATCH_WRITE_RESULT_MESSAGE,
+        result.succeededBatches(),
+        result.failedBatches(),
+        result.writtenItems(),
+        result.retries());
+    return result;
+  }
+
+  static List<List<WriteRequest>> partition(List<WriteRequest> writeRequests) {
+    var batches = new ArrayList<List<WriteRequest>>();
+    var currentBatch = new ArrayList<WriteRequest>();
+    var currentSize = 0L;
+    for (var writeRequest : writeRequests) {
+      var itemSize = ItemSize.of(itemOf(writeRequest));
+      if (!currentBatch.isEmpty()
+          && (currentBatch.size() == MAX_ITEMS_PER_BATCH
+              || currentSize + itemSize > MAX_BYTES_PER_BATCH)) {
+        batches.add(currentBatch);
+        currentBatch = new ArrayList<>();
+        currentSize = 0L;
+      }
+      currentBatch.add(writeRequest);
+      currentSize += itemSize;
+    }
+    batches.add(currentBatch);
+    return batches;
+  }
+
+  private static Map<String, AttributeValue> itemOf(WriteRequest writeRequest) {
+    return nonNull(writeRequest.putRequest())
+        ? writeRequest.putRequest().item()
+        : writeRequest.deleteRequest().key();
+  }
+
+  private BatchWriteResult writeBatch(List<WriteRequest> batch, AdaptiveConcurrencyLimit limit)
+      throws InterruptedException {
+    var pending = batch;
+    var attempt = 0;
+    while (true) {
+      limit.acquire();
+      var throttled = false;
+      try {
+        pending = send(pending);
+        throttled = !pending.isEmpty();
+      } catch (SdkException e) {
+        throttled = BatchRetryPolicy.isThrottling(e);
+        if (!throttled) {
+          return failed(batch, pending, attempt, e);
+        }
+      } finally {
+        limit.release(throttled);
+      }
+      if (pending.isEmpty()) {
+        return BatchWriteResult.succeeded(batch.size(), attempt);
+      }
+      attempt++;
+      if (attempt >= retryPolicy.maxAttempts()) {
+        var message = UNPROCESSED_ITEMS_MESSAGE.formatted(pending.size(), attempt);
+        return failed(batch, pending, attempt - 1, new IllegalStateException(message));
+      }
+      retryPolicy.sleepBeforeRetry(attempt);
+    }
+  }
+
+  private List<WriteRequest> send(List<WriteRequest> items) {
+    var request = BatchWriteItemRequest.builder().requestItems(Map.of(tableName, items)).build();
+    var response = client.batchWriteItem(request);
+    return response.hasUnprocessedItems()
+        ? response.unprocessedItems().getOrDefault(tableName, List.of())
+        : List.of();
+  }
+
+  private static BatchWriteResult failed(
+      List<WriteRequest> batch, List<WriteRequest> pending, int retries, Exception cause) {
+    return BatchWriteResult.failed(
+        batch.size() - pending.size(),
+        retries,
+        new BatchWriteResult.FailedBatch(pending, cause));
+  }
+}
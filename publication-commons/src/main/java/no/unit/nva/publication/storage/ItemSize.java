@@ -0,0 +1,50 @@
+package no.unit.nva.publication.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
+
+import java.util.Collection;
+import java.util.Map;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Estimates item sizes the way DynamoDB counts them: attribute names plus values, with a small
+ * overhead for lists, maps, booleans and nulls. Used to keep batch requests below the request size
+ * limit.
+ */
+final class ItemSize {
+
+  private static final int CONTAINER_OVERHEAD = 3;
+  private static final int SCALAR_OVERHEAD = 1;
+
+  private ItemSize() {}
+
+  static long of(Map<String, AttributeValue> item) {
+    return item.entrySet().stream()
+        .mapToLong(entry -> utf8Length(entry.getKey()) + of(entry.getValue()))
+        .sum();
+  }
+
+  private static long of(AttributeValue value) {
+    return switch (value.type()) {
+      case S -> utf8Length(value.s());
+      case N -> value.n().length();
+      case B -> value.b().asByteArray().length;
+      case SS -> sumOfStrings(value.ss());
+      case NS -> sumOfStrings(value.ns());
+      case BS -> value.bs().stream().map(SdkBytes::asByteArray).mapToLong(b -> b.length).sum();
+      case L -> CONTAINER_OVERHEAD + value.l().stream().mapToLong(ItemSize::of).sum();
+      case M -> CONTAINER_OVERHEAD + of(value.m());
+      case BOOL, NUL, UNKNOWN_TO_SDK_VERSION -> SCALAR_OVERHEAD;
+    };
+  }
+
+  private static long sumOfStrings(Collection<String> values) {
+    return values.stream().mapToLong(ItemSize::utf8Length).sum();
+  }
+
+  private static long utf8Length(String value) {
+    return nonNull(value) ? value.getBytes(UTF_8).length : 0;
+  }
+}
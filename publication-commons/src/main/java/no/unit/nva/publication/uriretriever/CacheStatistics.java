@@ -0,0 +1,4 @@
+package no.unit.nva.publication.uriretriever;
+
+/** Counters of an {@link ExpiringLruCache} since it was created. */
+public record CacheStatistics(long hits, long misses, long evictions, int size) {}
@@ -0,0 +1,133 @@
+package no.unit.nva.publication.uriretriever;
+
+import static no.unit.nva.publication.utils.RdfUtils.createModel;
+import static nva.commons.core.ioutils.IoUtils.stringToStream;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import no.unit.nva.auth.uriretriever.RawContentRetriever;
+import org.apache.jena.rdf.model.Model;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the responses of another {@link RawContentRetriever}, and the Jena models parsed from
+ * them. Only successful lookups are cached, and every entry expires after the time to live of the
+ * first {@link TimeToLive} rule whose pattern matches its URI. URIs that match no rule are fetched
+ * from the delegate every time, so that data that changes often, such as NVI report statuses and
+ * projects, is never served stale.
+ *
+ * <p>The cache is meant to be created once per Lambda container, so that organizations, channels
+ * and persons that are looked up again and again are shared across warm invocations.
+ */
+public class CachingRawContentRetriever implements RawContentRetriever {
+
+  public static final int DEFAULT_MAXIMUM_SIZE = 2_000;
+  public static final List<TimeToLive> DEFAULT_TIMES_TO_LIVE =
+      List.of(
+          new TimeToLive(Pattern.compile("/cristin/organization/"), Duration.ofHours(1)),
+          new TimeToLive(Pattern.compile("/publication-channels"), Duration.ofHours(1)),
+          new TimeToLive(Pattern.compile("/cristin/person/"), Duration.ofMinutes(10)));
+  private static final Logger logger = LoggerFactory.getLogger(CachingRawContentRetriever.class);
+  private static final String STATISTICS_MESSAGE = "URI cache statistics: {}";
+  private static final int STATISTICS_LOG_INTERVAL = 500;
+  private static final int SUCCESS_FAMILY = 2;
+  private static final int ONE_HUNDRED = 100;
+
+  private final RawContentRetriever delegate;
+  private final List<TimeToLive> timesToLive;
+  private final ExpiringLruCache<CacheKey, Optional<?>> cache;
+
+  public CachingRawContentRetriever(RawContentRetriever delegate) {
+    this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIMES_TO_LIVE, Clock.systemUTC());
+  }
+
+  public CachingRawContentRetriever(
+      RawContentRetriever delegate, int maximumSize, List<TimeToLive> timesToLive, Clock clock) {
+    this.delegate = delegate;
+    this.timesToLive = timesToLive;
+    this.cache =
+        new ExpiringLruCache<>(
+            maximumSize, key -> timeToLiveOf(key.uri()).orElseThrow(), clock);
+  }
+
+  @Override
+  public Optional<String> getRawContent(URI uri, String mediaType) {
+    return cached(
+        new CacheKey(Kind.RAW_CONTENT, uri, mediaType),
+        () -> delegate.getRawContent(uri, mediaType),
+        Optional::isPresent);
+  }
+
+  @Override
+  public Optional<HttpResponse<String>> fetchResponse(URI uri, String mediaType) {
+    return cached(
+        new CacheKey(Kind.RESPONSE, uri, mediaType),
+        () -> delegate.fetchResponse(uri, mediaType),
+        response -> response.filter(CachingRawContentRetriever::isSuccessful).isPresent());
+  }
+
+  /**
+   * Returns the JSON-LD document at the URI parsed into a model. The model is shared between
+   * callers and must not be modified.
+   */
+  public Optional<Model> getModel(URI uri, String mediaType) {
+    return cached(
+        new CacheKey(Kind.MODEL, uri, mediaType),
+        () -> getRawContent(uri, mediaType).map(body -> createModel(stringToStream(body))),
+        Optional::isPresent);
+  }
+
+  public CacheStatistics statistics() {
+    return cache.statistics();
+  }
+
+  private Optional<Duration> timeToLiveOf(URI uri) {
+    var path = uri.toString();
+    return timesToLive.stream()
+        .filter(rule -> rule.pattern().matcher(path).find())
+        .map(TimeToLive::duration)
+        .findFirst();
+  }
+
+  private static boolean isSuccessful(HttpResponse<String> response) {
+    return response.statusCode() / ONE_HUNDRED == SUCCESS_FAMILY;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Optional<T> cached(
+      CacheKey key, Supplier<Optional<T>> loader, Predicate<Optional<T>> cacheable) {
+    if (timeToLiveOf(key.uri()).isEmpty()) {
+      return loader.get();
+    }
+    var value =
+        cache.get(key, ignored -> loader.get(), result -> cacheable.test((Optional<T>) result));
+    logStatisticsPeriodically();
+    return (Optional<T>) value;
+  }
+
+  private void logStatisticsPeriodically() {
+    var statistics = cache.statistics();
+    if ((statistics.hits() + statistics.misses()) % STATISTICS_LOG_INTERVAL == 0) {
+      logger.info(STATISTICS_MESSAGE, statistics);
+    }
+  }
+
+  /** Time to live for the entries whose URI contains a match of the pattern. */
+  public record TimeToLive(Pattern pattern, Duration duration) {}
+
+  private enum Kind {
+    RAW_CONTENT,
+    RESPONSE,
+    MODEL
+  }
+
+  private record CacheKey(Kind kind, URI uri, String mediaType) {}
+}
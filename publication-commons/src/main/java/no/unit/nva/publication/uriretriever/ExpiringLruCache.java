@@ -0,0 +1,133 @@
+package no.unit.nva.publication.uriretriever;
+
+import static java.util.Objects.nonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A size-bounded cache where every entry expires after its own time to live. When the cache is full
+ * the least recently used entry is evicted. Concurrent misses for the same key are collapsed into a
+ * single load, and the other callers wait for its result.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class ExpiringLruCache<K, V> {
+
+  private final int maximumSize;
+  private final Function<K, Duration> timeToLive;
+  private final Clock clock;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LinkedHashMap<K, Entry<V>> entries;
+  private final Map<K, CompletableFuture<V>> loadsInFlight = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public ExpiringLruCache(int maximumSize, Function<K, Duration> timeToLive, Clock clock) {
+    this.maximumSize = maximumSize;
+    this.timeToLive = timeToLive;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Returns the cached value for the key, or loads it. Loaded values are only cached when they
+   * match {@code cacheable}, so that failed lookups are retried on the next call.
+   */
+  public V get(K key, Function<K, V> loader, Predicate<V> cacheable) {
+    var cached = lookup(key);
+    if (nonNull(cached)) {
+      hits.increment();
+      return cached;
+    }
+    var load = new CompletableFuture<V>();
+    var loadInFlight = loadsInFlight.putIfAbsent(key, load);
+    if (nonNull(loadInFlight)) {
+      hits.increment();
+      return join(loadInFlight);
+    }
+    misses.increment();
+    try {
+      var value = loader.apply(key);
+      if (cacheable.test(value)) {
+        store(key, value);
+      }
+      load.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      loadsInFlight.remove(key, load);
+    }
+  }
+
+  public CacheStatistics statistics() {
+    lock.lock();
+    try {
+      return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private V lookup(K key) {
+    lock.lock();
+    try {
+      var entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.isExpiredAt(clock.instant())) {
+        entries.remove(key);
+        evictions.increment();
+        return null;
+      }
+      return entry.value();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void store(K key, V value) {
+    lock.lock();
+    try {
+      entries.put(key, new Entry<>(value, clock.instant().plus(timeToLive.apply(key))));
+      var iterator = entries.entrySet().iterator();
+      while (entries.size() > maximumSize && iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+        evictions.increment();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static <V> V join(CompletableFuture<V> load) {
+    try {
+      return load.join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+  }
+
+  private record Entry<V>(V value, Instant expiresAt) {
+
+    boolean isExpiredAt(Instant now) {
+      return !now.isBefore(expiresAt);
+    }
+  }
+}
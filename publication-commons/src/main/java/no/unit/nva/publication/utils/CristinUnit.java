@@ -3,7 +3,6 @@ package no.unit.nva.publication.utils;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import java.util.ArrayList;
 import no.unit.nva.commons.json.JsonSerializable;
 
 /**
@@ -15,7 +14,6 @@ import no.unit.nva.commons.json.JsonSerializable;
 @JsonInclude(Include.NON_NULL)
 record CristinUnit(
     @JsonProperty(CRISTIN_UNIT_ID) String id,
-    ArrayList<CristinUnit> children,
     @JsonProperty(PARENT_UNIT) CristinParentUnit parentUnit)
     implements JsonSerializable {
 
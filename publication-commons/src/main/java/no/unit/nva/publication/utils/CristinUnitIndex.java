@@ -0,0 +1,260 @@
+package no.unit.nva.publication.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An immutable index of the Cristin unit hierarchy. Unit ids are interned to positions, and the
+ * parent, top level and ancestors of every unit are computed once into primitive arrays, so lookups
+ * never walk parent links. The hierarchy is validated when the index is built: no unit may be its
+ * own ancestor. A unit whose parent is not a known unit is logged and indexed as a top level unit,
+ * so that one unit missing from the data does not fail the lookups of all the others.
+ *
+ * <p>The index can be written to a snapshot file that is mapped into memory when read back, which
+ * avoids parsing the unit JSON on a cold start.
+ */
+final class CristinUnitIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(CristinUnitIndex.class);
+  private static final int SNAPSHOT_MAGIC = 0x43554958;
+  private static final int SNAPSHOT_VERSION = 1;
+  private static final int NO_PARENT = -1;
+  private static final int UNRESOLVED = -1;
+  private static final int IN_PROGRESS = -2;
+
+  private final String[] ids;
+  private final Map<String, Integer> positions;
+  private final int[] parents;
+  private final int[] topLevels;
+  private final int[] ancestorOffsets;
+  private final int[] ancestors;
+  private final Instant createdAt;
+
+  private CristinUnitIndex(
+      String[] ids,
+      int[] parents,
+      int[] topLevels,
+      int[] ancestorOffsets,
+      int[] ancestors,
+      Instant createdAt) {
+    this.ids = ids;
+    this.positions = positionsOf(ids);
+    this.parents = parents;
+    this.topLevels = topLevels;
+    this.ancestorOffsets = ancestorOffsets;
+    this.ancestors = ancestors;
+    this.createdAt = createdAt;
+  }
+
+  /**
+   * Builds the index from a list of units. When a unit id occurs more than once, the last
+   * occurrence wins.
+   *
+   * @throws IllegalArgumentException when the units form a cycle
+   */
+  static CristinUnitIndex build(Collection<CristinUnit> units, Instant createdAt) {
+    var parentIds = new HashMap<String, String>();
+    for (var unit : units) {
+      parentIds.put(unit.id(), isNull(unit.parentUnit()) ? null : unit.parentUnit().id());
+    }
+    var ids = parentIds.keySet().stream().sorted().toArray(String[]::new);
+    var positions = positionsOf(ids);
+    var parents = new int[ids.length];
+    for (var position = 0; position < ids.length; position++) {
+      parents[position] = parentPosition(ids[position], parentIds.get(ids[position]), positions);
+    }
+
+    var depths = new int[ids.length];
+    var topLevels = new int[ids.length];
+    Arrays.fill(depths, UNRESOLVED);
+    for (var position = 0; position < ids.length; position++) {
+      resolve(position, ids, parents, depths, topLevels);
+    }
+
+    var ancestorOffsets = new int[ids.length + 1];
+    for (var position = 0; position < ids.length; position++) {
+      ancestorOffsets[position + 1] = ancestorOffsets[position] + depths[position];
+    }
+    var ancestors = new int[ancestorOffsets[ids.length]];
+    for (var position = 0; position < ids.length; position++) {
+      var offset = ancestorOffsets[position];
+      for (var parent = parents[position]; parent != NO_PARENT; parent = parents[parent]) {
+        ancestors[offset++] = parent;
+      }
+    }
+    return new CristinUnitIndex(ids, parents, topLevels, ancestorOffsets, ancestors, createdAt);
+  }
+
+  /** Reads a snapshot written by {@link #writeSnapshot(Path)} by mapping the file into memory. */
+  static CristinUnitIndex readSnapshot(Path path) throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+        throw new IOException("Not a Cristin unit snapshot: " + path);
+      }
+      var createdAt = Instant.ofEpochMilli(buffer.getLong());
+      var unitCount = buffer.getInt();
+      var ancestorCount = buffer.getInt();
+      var parents = readInts(buffer, unitCount);
+      var topLevels = readInts(buffer, unitCount);
+      var ancestorOffsets = readInts(buffer, unitCount + 1);
+      var ancestors = readInts(buffer, ancestorCount);
+      var ids = new String[unitCount];
+      for (var position = 0; position < unitCount; position++) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        ids[position] = new String(bytes, UTF_8);
+      }
+      return new CristinUnitIndex(ids, parents, topLevels, ancestorOffsets, ancestors, createdAt);
+    }
+  }
+
+  /** Writes the index to a snapshot file. The file is replaced atomically. */
+  void writeSnapshot(Path path) throws IOException {
+    var temporaryFile = Files.createTempFile(path.toAbsolutePath().getParent(), "units", ".tmp");
+    try (var output =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+      output.writeInt(SNAPSHOT_MAGIC);
+      output.writeInt(SNAPSHOT_VERSION);
+      output.writeLong(createdAt.toEpochMilli());
+      output.writeInt(ids.length);
+      output.writeInt(ancestors.length);
+      writeInts(output, parents);
+      writeInts(output, topLevels);
+      writeInts(output, ancestorOffsets);
+      writeInts(output, ancestors);
+      for (var id : ids) {
+        var bytes = id.getBytes(UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+      }
+    }
+    Files.move(
+        temporaryFile,
+        path,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  Optional<String> topLevel(String unitId) {
+    return position(unitId).map(position -> ids[topLevels[position]]);
+  }
+
+  Optional<String> parent(String unitId) {
+    return position(unitId)
+        .filter(position -> parents[position] != NO_PARENT)
+        .map(position -> ids[parents[position]]);
+  }
+
+  /** Returns the ancestors of the unit, nearest first, or an empty list for unknown units. */
+  List<String> ancestors(String unitId) {
+    return position(unitId).map(this::ancestorsOf).orElse(Collections.emptyList());
+  }
+
+  OptionalInt depth(String unitId) {
+    return position(unitId)
+        .map(position -> OptionalInt.of(ancestorOffsets[position + 1] - ancestorOffsets[position]))
+        .orElse(OptionalInt.empty());
+  }
+
+  int size() {
+    return ids.length;
+  }
+
+  Instant createdAt() {
+    return createdAt;
+  }
+
+  private Optional<Integer> position(String unitId) {
+    return Optional.ofNullable(positions.get(unitId));
+  }
+
+  private List<String> ancestorsOf(int position) {
+    var result = new ArrayList<String>(ancestorOffsets[position + 1] - ancestorOffsets[position]);
+    for (var offset = ancestorOffsets[position]; offset < ancestorOffsets[position + 1]; offset++) {
+      result.add(ids[ancestors[offset]]);
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  private static int parentPosition(
+      String unitId, String parentId, Map<String, Integer> positions) {
+    if (isNull(parentId)) {
+      return NO_PARENT;
+    }
+    var parentPosition = positions.get(parentId);
+    if (isNull(parentPosition)) {
+      logger.warn("Cristin unit {} has unknown parent {}, indexed as top level", unitId, parentId);
+      return NO_PARENT;
+    }
+    return parentPosition;
+  }
+
+  private static void resolve(
+      int position, String[] ids, int[] parents, int[] depths, int[] topLevels) {
+    var path = new ArrayList<Integer>();
+    var current = position;
+    while (depths[current] == UNRESOLVED) {
+      if (parents[current] == NO_PARENT) {
+        depths[current] = 0;
+        topLevels[current] = current;
+        break;
+      }
+      depths[current] = IN_PROGRESS;
+      path.add(current);
+      current = parents[current];
+    }
+    if (depths[current] == IN_PROGRESS) {
+      throw new IllegalArgumentException(
+          String.format("Cristin unit %s is its own ancestor", ids[current]));
+    }
+    for (var index = path.size() - 1; index >= 0; index--) {
+      var child = path.get(index);
+      depths[child] = depths[parents[child]] + 1;
+      topLevels[child] = topLevels[parents[child]];
+    }
+  }
+
+  private static Map<String, Integer> positionsOf(String[] ids) {
+    var positions = new HashMap<String, Integer>(ids.length * 2);
+    for (var position = 0; position < ids.length; position++) {
+      positions.put(ids[position], position);
+    }
+    return Collections.unmodifiableMap(positions);
+  }
+
+  private static int[] readInts(ByteBuffer buffer, int count) {
+    var values = new int[count];
+    buffer.asIntBuffer().get(values);
+    buffer.position(buffer.position() + count * Integer.BYTES);
+    return values;
+  }
+
+  private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+    for (var value : values) {
+      output.writeInt(value);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package no.unit.nva.publication.utils;
 
 import java.net.URI;
+import java.nio.file.Path;
 import nva.commons.core.Environment;
 import nva.commons.core.JacocoGenerated;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -8,12 +9,16 @@ import software.amazon.awssdk.services.s3.S3Client;
 public interface CristinUnitsUtil {
 
   String CRISTIN_UNITS_S3_URI_ENV = "CRISTIN_UNITS_S3_URI";
+  String CRISTIN_UNITS_SNAPSHOT_PATH_ENV = "CRISTIN_UNITS_SNAPSHOT_PATH";
 
   URI getTopLevel(URI unitId);
 
   @JacocoGenerated
   static CristinUnitsUtil defaultInstance() {
+    var environment = new Environment();
     return new CristinUnitsUtilImpl(
-        S3Client.create(), new Environment().readEnv(CRISTIN_UNITS_S3_URI_ENV));
+        S3Client.create(),
+        environment.readEnv(CRISTIN_UNITS_S3_URI_ENV),
+        environment.readEnvOpt(CRISTIN_UNITS_SNAPSHOT_PATH_ENV).map(Path::of).orElse(null));
   }
 }
@@ -4,11 +4,19 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static nva.commons.core.attempt.Try.attempt;
 
+import java.io.IOException;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import no.unit.nva.commons.json.JsonUtils;
 import nva.commons.core.paths.UriWrapper;
 import org.slf4j.Logger;
@@ -19,17 +27,29 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 /**
  * Utility class for retrieving all Norwegian cristin units where you want to do repeated lookups
  * and keep a large cache like migrations and other bulk operations.
+ *
+ * <p>The units are loaded once per S3 object into an immutable {@link CristinUnitIndex}. When the
+ * index gets older than a day it is reloaded in the background and swapped in atomically, while
+ * lookups keep using the previous index. If a snapshot path is given, the index is read from that
+ * snapshot while it is fresh, and written to it after every load from S3.
  */
 public class CristinUnitsUtilImpl implements CristinUnitsUtil {
 
   private static final Logger logger = LoggerFactory.getLogger(CristinUnitsUtilImpl.class);
-  private static final Map<String, CristinUnit> allUnits = new HashMap<>();
+  private static final Duration REFRESH_INTERVAL = Duration.ofDays(1);
+  private static final Map<URI, IndexHolder> indexes = new ConcurrentHashMap<>();
   private final S3Client s3Client;
   private final URI objectUri;
+  private final Path snapshotPath;
 
   public CristinUnitsUtilImpl(S3Client s3Client, String unitsS3ObjectUri) {
+    this(s3Client, unitsS3ObjectUri, null);
+  }
+
+  public CristinUnitsUtilImpl(S3Client s3Client, String unitsS3ObjectUri, Path snapshotPath) {
     this.s3Client = s3Client;
     this.objectUri = URI.create(unitsS3ObjectUri);
+    this.snapshotPath = snapshotPath;
   }
 
   /**
@@ -44,51 +64,77 @@ public class CristinUnitsUtilImpl implements CristinUnitsUtil {
       throw new IllegalArgumentException("unitId cannot be null");
     }
 
-    if (allUnits.isEmpty()) {
-      loadAllData();
-      buildTree();
-      logger.info("Loaded cristin unit count: {}", allUnits.size());
-    }
-
     var lookupId = UriWrapper.fromUri(unitId).getLastPathElement();
 
-    return findTopLevelUnitOrSelf(lookupId)
-        .map(a -> URI.create(unitId.toString().replace(lookupId, a.id())))
+    return index()
+        .topLevel(lookupId)
+        .map(topLevelId -> URI.create(unitId.toString().replace(lookupId, topLevelId)))
         .orElse(null);
   }
 
-  private static void buildTree() {
-    for (var unit : allUnits.values()) {
-      if (nonNull(unit.parentUnit())) {
-        var parent = allUnits.get(unit.parentUnit().id());
-        if (parent.children() == null) {
-          parent = new CristinUnit(parent.id(), new ArrayList<>(), parent.parentUnit());
-        }
-        parent.children().add(unit);
-      }
+  private CristinUnitIndex index() {
+    var holder = indexes.computeIfAbsent(objectUri, ignored -> new IndexHolder(loadIndex()));
+    var index = holder.index().get();
+    if (isStale(index)) {
+      refreshInBackground(holder);
+    }
+    return index;
+  }
+
+  private void refreshInBackground(IndexHolder holder) {
+    if (!holder.refreshing().compareAndSet(false, true)) {
+      return;
+    }
+    CompletableFuture.supplyAsync(this::loadIndexFromS3)
+        .whenComplete(
+            (index, failure) -> {
+              if (nonNull(index)) {
+                holder.index().set(index);
+              } else {
+                logger.warn("Could not refresh cristin units from {}", objectUri, failure);
+              }
+              holder.refreshing().set(false);
+            });
+  }
+
+  private CristinUnitIndex loadIndex() {
+    return readSnapshot().filter(index -> !isStale(index)).orElseGet(this::loadIndexFromS3);
+  }
+
+  private Optional<CristinUnitIndex> readSnapshot() {
+    if (isNull(snapshotPath) || !Files.isRegularFile(snapshotPath)) {
+      return Optional.empty();
     }
+    return attempt(() -> CristinUnitIndex.readSnapshot(snapshotPath))
+        .toOptional(
+            failure ->
+                logger.warn("Could not read snapshot {}", snapshotPath, failure.getException()));
   }
 
-  private void loadAllData() {
+  private CristinUnitIndex loadIndexFromS3() {
     var s3Response = fetchUnitsFromS3();
     var units =
         attempt(() -> JsonUtils.dtoObjectMapper.readValue(s3Response, CristinUnit[].class))
             .orElseThrow();
-
-    for (var unit : units) {
-      allUnits.put(unit.id(), unit);
-    }
+    var index = CristinUnitIndex.build(Arrays.asList(units), Instant.now());
+    logger.info("Loaded cristin unit count: {}", index.size());
+    writeSnapshot(index);
+    return index;
   }
 
-  private static Optional<CristinUnit> findTopLevelUnitOrSelf(String unitId) {
-    var unit = allUnits.get(unitId);
-    if (isNull(unit)) {
-      return Optional.empty();
+  private void writeSnapshot(CristinUnitIndex index) {
+    if (isNull(snapshotPath)) {
+      return;
     }
-    while (nonNull(unit.parentUnit())) {
-      unit = allUnits.get(unit.parentUnit().id());
+    try {
+      index.writeSnapshot(snapshotPath);
+    } catch (IOException exception) {
+      logger.warn("Could not write snapshot {}", snapshotPath, exception);
     }
-    return Optional.of(unit);
+  }
+
+  private static boolean isStale(CristinUnitIndex index) {
+    return index.createdAt().plus(REFRESH_INTERVAL).isBefore(Instant.now());
   }
 
   private String fetchUnitsFromS3() {
@@ -101,4 +147,12 @@ public class CristinUnitsUtilImpl implements CristinUnitsUtil {
                 .build())
         .asUtf8String();
   }
+
+  private record IndexHolder(
+      AtomicReference<CristinUnitIndex> index, AtomicBoolean refreshing) {
+
+    private IndexHolder(CristinUnitIndex index) {
+      this(new AtomicReference<>(index), new AtomicBoolean());
+    }
+  }
 }
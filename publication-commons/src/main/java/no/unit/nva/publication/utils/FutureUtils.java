@@ -0,0 +1,26 @@
+package no.unit.nva.publication.utils;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+public final class FutureUtils {
+
+  private FutureUtils() {}
+
+  /**
+   * Waits for the result of the future. Runtime exceptions thrown by the task are rethrown as they
+   * are, and other failures are wrapped in an {@link IllegalStateException}.
+   */
+  public static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException runtimeException
+          ? runtimeException
+          : new IllegalStateException(e.getCause());
+    }
+  }
+}
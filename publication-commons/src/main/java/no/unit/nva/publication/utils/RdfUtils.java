@@ -10,6 +10,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Optional;
 import no.unit.nva.auth.uriretriever.RawContentRetriever;
+import no.unit.nva.publication.uriretriever.CachingRawContentRetriever;
 import nva.commons.core.JacocoGenerated;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecutionFactory;
@@ -30,9 +31,8 @@ public class RdfUtils {
 
   public static List<URI> getAllNestedPartOfs(
       RawContentRetriever uriRetriever, URI organizationId) {
-    return attempt(() -> uriRetriever.getRawContent(organizationId, APPLICATION_JSON.getMimeType()))
+    return attempt(() -> fetchModel(uriRetriever, organizationId))
         .map(Optional::orElseThrow)
-        .map(str -> createModel(stringToStream(str)))
         .map(model -> model.listObjectsOfProperty(model.createProperty(PART_OF_PROPERTY)))
         .map(
             nodeIterator ->
@@ -41,23 +41,31 @@ public class RdfUtils {
   }
 
   public static URI getTopLevelOrgUri(RawContentRetriever uriRetriever, URI id) {
-    var data =
-        attempt(() -> uriRetriever.getRawContent(id, APPLICATION_JSON.getMimeType())).orElseThrow();
+    var model = attempt(() -> fetchModel(uriRetriever, id)).orElseThrow();
 
-    if (data.isEmpty()) {
+    if (model.isEmpty()) {
       return null;
     }
 
-    var model = createModel(stringToStream(data.get()));
     var query = getTopLevelQuery();
 
-    return Optional.ofNullable(getFirstResultFromQuery(query, model))
-        .orElseGet(() -> logAndReturnDefaultId(id, data.get()));
+    return Optional.ofNullable(getFirstResultFromQuery(query, model.get()))
+        .orElseGet(() -> logAndReturnDefaultId(id));
   }
 
-  private static URI logAndReturnDefaultId(URI id, String data) {
+  /**
+   * Fetches the organization as a model. When the retriever caches, the parsed model is shared with
+   * earlier lookups of the same organization instead of being downloaded and parsed again.
+   */
+  private static Optional<Model> fetchModel(RawContentRetriever uriRetriever, URI id) {
+    var mediaType = APPLICATION_JSON.getMimeType();
+    return uriRetriever instanceof CachingRawContentRetriever cachingRetriever
+        ? cachingRetriever.getModel(id, mediaType)
+        : uriRetriever.getRawContent(id, mediaType).map(data -> createModel(stringToStream(data)));
+  }
+
+  private static URI logAndReturnDefaultId(URI id) {
     logger.warn("Could not find topLevel of org {}", id);
-    logger.warn(data);
     return id;
   }
 
@@ -0,0 +1,51 @@
+package no.unit.nva.publication.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static no.unit.nva.testutils.RandomDataGenerator.randomString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Base64;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class PageCursorTest {
+
+  @Test
+  void shouldDecodeEncodedStartMarker() {
+    var startMarker =
+        Map.of(
+            "PK0", AttributeValue.fromS(randomString()),
+            "SK0", AttributeValue.fromS(randomString()));
+
+    var cursor = PageCursor.encode(startMarker);
+
+    assertThat(PageCursor.decode(cursor), is(equalTo(startMarker)));
+  }
+
+  @Test
+  void shouldReturnNullWhenThereIsNoNextPage() {
+    assertThat(PageCursor.encode(null), is(nullValue()));
+    assertThat(PageCursor.encode(Map.of()), is(nullValue()));
+    assertThat(PageCursor.decode(null), is(nullValue()));
+  }
+
+  @Test
+  void shouldThrowWhenCursorIsNotBase64() {
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"{}", "{\"PK0\":null}", "[]", "not json"})
+  void shouldThrowWhenCursorDoesNotContainStartMarker(String content) {
+    var cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(content.getBytes(UTF_8));
+
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(cursor));
+  }
+}
@@ -0,0 +1,123 @@
+package no.unit.nva.publication.model;
+
+import static no.unit.nva.publication.model.PageRequest.CURSOR_QUERY_PARAMETER;
+import static no.unit.nva.publication.model.PageRequest.SIZE_QUERY_PARAMETER;
+import static no.unit.nva.testutils.RandomDataGenerator.randomString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import no.unit.nva.publication.exception.InvalidStartMarkerException;
+import nva.commons.apigateway.RequestInfo;
+import nva.commons.apigateway.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class PageRequestTest {
+
+  private static final int DEFAULT_PAGE_SIZE = 10;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  @Test
+  void shouldNotBePaginatedWhenThereIsNeitherSizeNorCursor() {
+    assertThat(PageRequest.isPaginated(requestInfo(null, null)), is(false));
+    assertThat(PageRequest.isPaginated(requestInfo("5", null)), is(true));
+    assertThat(PageRequest.isPaginated(requestInfo(null, randomString())), is(true));
+  }
+
+  @Test
+  void shouldReadDefaultPageSizeAndNoStartMarkerForFirstPage() throws BadRequestException {
+    var pageRequest =
+        PageRequest.fromRequestInfo(requestInfo(null, null), DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+
+    assertThat(pageRequest.pageSize(), is(equalTo(DEFAULT_PAGE_SIZE)));
+    assertThat(pageRequest.startMarker(), is(nullValue()));
+  }
+
+  @Test
+  void shouldReadStartMarkerFromCursor() throws BadRequestException {
+    var startMarker = Map.of("PK0", AttributeValue.fromS(randomString()));
+    var requestInfo = requestInfo("5", PageCursor.encode(startMarker));
+
+    var pageRequest = PageRequest.fromRequestInfo(requestInfo, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+
+    assertThat(pageRequest.pageSize(), is(equalTo(5)));
+    assertThat(pageRequest.startMarker(), is(equalTo(startMarker)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "-1", "101", "not a number"})
+  void shouldThrowBadRequestWhenSizeIsInvalid(String size) {
+    var requestInfo = requestInfo(size, null);
+
+    assertThrows(
+        BadRequestException.class,
+        () -> PageRequest.fromRequestInfo(requestInfo, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+  }
+
+  @Test
+  void shouldThrowBadRequestWhenCursorIsInvalid() {
+    var requestInfo = requestInfo(null, "not a cursor");
+
+    assertThrows(
+        BadRequestException.class,
+        () -> PageRequest.fromRequestInfo(requestInfo, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+  }
+
+  @Test
+  void shouldThrowBadRequestWhenStartMarkerBelongsToAnotherListing() {
+    var pageRequest = new PageRequest(DEFAULT_PAGE_SIZE, null);
+
+    assertThrows(
+        BadRequestException.class,
+        () ->
+            pageRequest.read(
+                (pageSize, startMarker) -> {
+                  throw new InvalidStartMarkerException(randomString());
+                }));
+  }
+
+  @Test
+  void shouldNotReportOtherFailuresWhenReadingPageAsBadRequest() {
+    var pageRequest = new PageRequest(DEFAULT_PAGE_SIZE, null);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            pageRequest.read(
+                (pageSize, startMarker) -> {
+                  throw new IllegalArgumentException(randomString());
+                }));
+  }
+
+  @Test
+  void shouldReadPageWithRequestedSizeAndStartMarker() throws BadRequestException {
+    var startMarker = Map.of("PK0", AttributeValue.fromS(randomString()));
+    var pageRequest = new PageRequest(DEFAULT_PAGE_SIZE, startMarker);
+
+    var page =
+        pageRequest.read(
+            (pageSize, marker) -> new ListingResult<>(List.of(pageSize), marker, false));
+
+    assertThat(page.getDatabaseEntries(), is(equalTo(List.of(DEFAULT_PAGE_SIZE))));
+    assertThat(page.getStartMarker(), is(equalTo(startMarker)));
+  }
+
+  private static RequestInfo requestInfo(String size, String cursor) {
+    var requestInfo = mock(RequestInfo.class);
+    when(requestInfo.getQueryParameterOpt(SIZE_QUERY_PARAMETER))
+        .thenReturn(Optional.ofNullable(size));
+    when(requestInfo.getQueryParameterOpt(CURSOR_QUERY_PARAMETER))
+        .thenReturn(Optional.ofNullable(cursor));
+    return requestInfo;
+  }
+}
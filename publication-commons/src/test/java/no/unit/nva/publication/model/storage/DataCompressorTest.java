@@ -1,11 +1,28 @@
 package no.unit.nva.publication.model.storage;
 
+import static java.util.zip.Deflater.BEST_COMPRESSION;
 import static no.unit.nva.model.testing.PublicationGenerator.randomPublication;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomOpenFile;
+import static no.unit.nva.publication.model.business.StorageModelConfig.dynamoDbObjectMapper;
+import static no.unit.nva.publication.model.storage.DynamoEntry.CONTAINED_DATA_FIELD_NAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.model.business.UserInstance;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 class DataCompressorTest {
 
@@ -26,4 +43,63 @@ class DataCompressorTest {
     var badDao = new ResourceDao();
     assertThrows(IllegalArgumentException.class, () -> DataCompressor.compressDaoData(badDao));
   }
+
+  @Test
+  void shouldDecodeRowsWrittenWithJsonStringRoundTripsToSameDao() throws IOException {
+    var publicationDao = new ResourceDao(Resource.fromPublication(randomPublication()));
+    var legacyRow = legacyCompressDaoData(publicationDao);
+
+    var decoded = DataCompressor.decompressDao(legacyRow, Dao.class);
+
+    assertEquals(publicationDao, decoded);
+    assertEquals(publicationDao.getIdentifier(), decoded.getIdentifier());
+  }
+
+  @Test
+  void shouldWriteSameKeyAttributesAsJsonStringRoundTrips() throws IOException {
+    var publicationDao = new ResourceDao(Resource.fromPublication(randomPublication()));
+    var expected = legacyCompressDaoData(publicationDao);
+
+    var actual = DataCompressor.compressDaoData(publicationDao);
+
+    expected.remove(CONTAINED_DATA_FIELD_NAME);
+    actual.remove(CONTAINED_DATA_FIELD_NAME);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void shouldRoundTripDaosCreatedWithJsonCreator() {
+    var publication = randomPublication();
+    var fileEntry =
+        FileEntry.create(
+            randomOpenFile(), publication.getIdentifier(), UserInstance.fromPublication(publication));
+    var fileDao = FileDao.fromFileEntry(fileEntry);
+
+    var decoded =
+        DataCompressor.decompressDao(DataCompressor.compressDaoData(fileDao), FileDao.class);
+
+    assertEquals(fileDao.getData(), decoded.getData());
+    assertEquals(fileDao.getResourceIdentifier(), decoded.getResourceIdentifier());
+  }
+
+  private static Map<String, AttributeValue> legacyCompressDaoData(Dao dao) throws IOException {
+    var keys = dynamoDbObjectMapper.convertValue(dao, JsonNode.class);
+    var attributeValues =
+        new HashMap<>(
+            EnhancedDocument.fromJson(dynamoDbObjectMapper.writeValueAsString(keys)).toMap());
+    var data = dynamoDbObjectMapper.convertValue(dao.getData(), JsonNode.class).toString();
+    attributeValues.put(
+        CONTAINED_DATA_FIELD_NAME,
+        AttributeValue.fromB(SdkBytes.fromByteArray(deflate(data))));
+    return attributeValues;
+  }
+
+  private static byte[] deflate(String data) throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    try (var deflaterOutputStream =
+        new DeflaterOutputStream(outputStream, new Deflater(BEST_COMPRESSION, true))) {
+      deflaterOutputStream.write(data.getBytes(StandardCharsets.UTF_8));
+    }
+    return outputStream.toByteArray();
+  }
 }
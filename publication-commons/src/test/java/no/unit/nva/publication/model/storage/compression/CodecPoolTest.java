@@ -0,0 +1,91 @@
+package no.unit.nva.publication.model.storage.compression;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static no.unit.nva.testutils.RandomDataGenerator.randomString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class CodecPoolTest {
+
+  private static final int LEVEL = 1;
+
+  @Test
+  void shouldReuseReleasedDeflatersAndInflaters() {
+    var pool = new CodecPool(1);
+
+    var deflater = pool.borrowDeflater(LEVEL);
+    pool.release(LEVEL, deflater);
+    var inflater = pool.borrowInflater();
+    pool.release(inflater);
+
+    assertThat(pool.borrowDeflater(LEVEL), is(sameInstance(deflater)));
+    assertThat(pool.borrowInflater(), is(sameInstance(inflater)));
+    assertThat(pool.statistics().hits(), is(equalTo(2L)));
+    assertThat(pool.statistics().misses(), is(equalTo(2L)));
+  }
+
+  @Test
+  void shouldNotShareDeflatersBetweenLevels() {
+    var pool = new CodecPool(1);
+    pool.release(LEVEL, pool.borrowDeflater(LEVEL));
+
+    pool.borrowDeflater(LEVEL + 1);
+
+    assertThat(pool.statistics().hits(), is(equalTo(0L)));
+  }
+
+  @Test
+  void shouldDiscardInstancesReleasedWhenPoolIsFull() {
+    var pool = new CodecPool(1);
+    var first = pool.borrowInflater();
+    var second = pool.borrowInflater();
+
+    pool.release(first);
+    pool.release(second);
+
+    assertThat(pool.statistics().discarded(), is(equalTo(1L)));
+  }
+
+  @Test
+  void shouldCountBytesThroughPooledStreams() throws IOException {
+    var pool = new CodecPool(1);
+    var codec = new DeflateCodec(pool);
+    var data = randomString().getBytes(UTF_8);
+
+    var outputStream = new ByteArrayOutputStream();
+    try (var compressingStream = codec.compressingStream(outputStream, LEVEL)) {
+      compressingStream.write(data);
+    }
+    byte[] decompressed;
+    try (var decompressingStream =
+        codec.decompressingStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+      decompressed = decompressingStream.readAllBytes();
+    }
+
+    var compressedSize = outputStream.size();
+    assertThat(decompressed, is(equalTo(data)));
+    assertThat(pool.statistics().bytesIn(), is(equalTo((long) data.length + compressedSize)));
+    assertThat(pool.statistics().bytesOut(), is(equalTo((long) compressedSize + data.length)));
+  }
+
+  @Test
+  void shouldReturnInstanceOnlyOnceWhenStreamIsClosedTwice() throws IOException {
+    var pool = new CodecPool(2);
+    var codec = new DeflateCodec(pool);
+
+    var compressingStream = codec.compressingStream(new ByteArrayOutputStream(), LEVEL);
+    compressingStream.close();
+    compressingStream.close();
+
+    pool.borrowDeflater(LEVEL);
+    pool.borrowDeflater(LEVEL);
+    assertThat(pool.statistics().hits(), is(equalTo(1L)));
+  }
+}
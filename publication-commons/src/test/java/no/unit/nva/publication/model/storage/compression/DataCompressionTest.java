@@ -0,0 +1,123 @@
+package no.unit.nva.publication.model.storage.compression;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static no.unit.nva.publication.model.storage.compression.DataCompression.LEGACY_DEFLATE;
+import static no.unit.nva.testutils.RandomDataGenerator.randomString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.jupiter.api.Test;
+
+class DataCompressionTest {
+
+  private static final int FASTEST = 1;
+
+  @Test
+  void shouldReadLegacyHeaderlessDeflateWrittenAtBestCompression() throws IOException {
+    var data = randomString().getBytes(UTF_8);
+    var legacyBlob = legacyDeflate(data);
+
+    var compression = DataCompression.create(DeflateCodec.NAME, FASTEST);
+
+    assertThat(compression.decompress(legacyBlob), is(equalTo(data)));
+  }
+
+  @Test
+  void shouldWriteLegacyHeaderlessDeflateWhenLegacyCodecIsConfigured() throws IOException {
+    var data = randomString().getBytes(UTF_8);
+    var compression = DataCompression.create(LEGACY_DEFLATE, Deflater.BEST_COMPRESSION);
+
+    assertThat(compression.compress(data), is(equalTo(legacyDeflate(data))));
+  }
+
+  @Test
+  void shouldReadBlobsFromAllCodecsRegardlessOfWriterCodec() throws IOException {
+    var data = randomString().getBytes(UTF_8);
+    var fakeCodec = new UncompressedCodec();
+    var writers =
+        List.of(
+            DataCompression.create(LEGACY_DEFLATE, FASTEST, List.of(fakeCodec)),
+            DataCompression.create(DeflateCodec.NAME, FASTEST, List.of(fakeCodec)),
+            DataCompression.create(UncompressedCodec.NAME, FASTEST, List.of(fakeCodec)));
+    var reader = DataCompression.create(LEGACY_DEFLATE, FASTEST, List.of(fakeCodec));
+
+    for (var writer : writers) {
+      assertThat(reader.decompress(writer.compress(data)), is(equalTo(data)));
+    }
+  }
+
+  @Test
+  void shouldDetectWhetherBlobIsWrittenWithWriterCodec() throws IOException {
+    var data = randomString().getBytes(UTF_8);
+    var legacy = DataCompression.create(LEGACY_DEFLATE, FASTEST);
+    var framed = DataCompression.create(DeflateCodec.NAME, FASTEST);
+
+    var legacyBlob = legacy.compress(data);
+    var framedBlob = framed.compress(data);
+
+    assertThat(legacy.isWrittenByWriter(legacyBlob), is(true));
+    assertThat(legacy.isWrittenByWriter(framedBlob), is(false));
+    assertThat(framed.isWrittenByWriter(legacyBlob), is(false));
+    assertThat(framed.isWrittenByWriter(framed.recompress(legacyBlob)), is(true));
+  }
+
+  @Test
+  void shouldThrowWhenWriterCodecIsUnknown() {
+    assertThrows(IllegalArgumentException.class, () -> DataCompression.create(randomString(), 1));
+  }
+
+  @Test
+  void shouldThrowWhenBlobIsWrittenWithUnregisteredCodec() throws IOException {
+    var data = randomString().getBytes(UTF_8);
+    var blob =
+        DataCompression.create(UncompressedCodec.NAME, FASTEST, List.of(new UncompressedCodec()))
+            .compress(data);
+
+    var reader = DataCompression.create(LEGACY_DEFLATE, FASTEST);
+
+    assertThrows(IllegalStateException.class, () -> reader.decompress(blob));
+  }
+
+  private static byte[] legacyDeflate(byte[] data) throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    try (var deflaterOutputStream =
+        new DeflaterOutputStream(outputStream, new Deflater(Deflater.BEST_COMPRESSION, true))) {
+      deflaterOutputStream.write(data);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static final class UncompressedCodec implements CompressionCodec {
+
+    private static final String NAME = "none";
+
+    @Override
+    public int identifier() {
+      return 31;
+    }
+
+    @Override
+    public String name() {
+      return NAME;
+    }
+
+    @Override
+    public OutputStream compressingStream(OutputStream target, int level) {
+      return target;
+    }
+
+    @Override
+    public InputStream decompressingStream(InputStream source) {
+      return source;
+    }
+  }
+}
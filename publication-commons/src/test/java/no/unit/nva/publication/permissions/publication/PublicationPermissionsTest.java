@@ -0,0 +1,218 @@
+package no.unit.nva.publication.permissions.publication;
+
+import static no.unit.nva.PublicationUtil.PROTECTED_DEGREE_INSTANCE_TYPES;
+import static no.unit.nva.model.testing.PublicationGenerator.randomPublication;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomFinalizedFiles;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomNonFinalizedFiles;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomOpenFile;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomPendingOpenFile;
+import static no.unit.nva.publication.permissions.PermissionsTestUtils.setContributor;
+import static no.unit.nva.publication.permissions.PermissionsTestUtils.setPublicationChannelWithinScope;
+import static no.unit.nva.testutils.RandomDataGenerator.randomBoolean;
+import static no.unit.nva.testutils.RandomDataGenerator.randomElement;
+import static nva.commons.core.attempt.Try.attempt;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import no.unit.nva.model.PublicationOperation;
+import no.unit.nva.model.PublicationStatus;
+import no.unit.nva.model.ResourceOwner;
+import no.unit.nva.model.Username;
+import no.unit.nva.model.associatedartifacts.file.File;
+import no.unit.nva.model.instancetypes.degree.DegreeMaster;
+import no.unit.nva.model.instancetypes.journal.AcademicArticle;
+import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.model.business.UserClientType;
+import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.model.business.publicationchannel.ChannelPolicy;
+import no.unit.nva.publication.permissions.PermissionsTestUtils.Institution;
+import no.unit.nva.publication.permissions.PermissionsTestUtils.InstitutionSuite;
+import no.unit.nva.publication.permissions.PermissionsTestUtils.User;
+import nva.commons.apigateway.AccessRight;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+class PublicationPermissionsTest {
+
+  private static final int REPETITIONS = 500;
+  private static final Map<String, Class<?>> INSTANCE_TYPES =
+      Map.of("AcademicArticle", AcademicArticle.class, "DegreeMaster", DegreeMaster.class);
+  private static final Map<String, Supplier<File>> FILES =
+      Map.of("PendingOpenFile", () -> randomPendingOpenFile(), "OpenFile", () -> randomOpenFile());
+
+  @RepeatedTest(REPETITIONS)
+  void shouldResolveAllOperationsInOnePassLikeEachOperationIsAuthorizedOnItsOwn() {
+    var suite = InstitutionSuite.random();
+    var resource = randomResource(suite);
+    var userInstance = randomUserInstance(suite, resource);
+
+    var allowedActions =
+        PublicationPermissions.create(resource, userInstance).getAllAllowedActions();
+
+    assertThat(allowedActions, is(equalTo(authorizedOneByOne(resource, userInstance))));
+  }
+
+  /**
+   * Checks the operations recorded in {@code permissions/publication_permissions.csv} for each
+   * role, status, instance type and kind of file. The table was recorded when the strategies were
+   * made to share their facts, which did not change what they allow.
+   */
+  @ParameterizedTest(name = "{0} may perform [{4}] on {2} in status {1} with {3}")
+  @CsvFileSource(resources = "/permissions/publication_permissions.csv", numLinesToSkip = 1)
+  void shouldAllowRecordedOperationsForRoleAndPublicationState(
+      Role role,
+      PublicationStatus status,
+      String instanceType,
+      String file,
+      String allowedOperations) {
+    var suite = InstitutionSuite.random();
+    var resource = resource(suite, status, instanceType, file);
+    var userInstance = role.userInstance(suite);
+
+    var allowedActions =
+        PublicationPermissions.create(resource, userInstance).getAllAllowedActions();
+
+    assertThat(allowedActions, is(equalTo(parseOperations(allowedOperations))));
+  }
+
+  private static EnumSet<PublicationOperation> authorizedOneByOne(
+      Resource resource, UserInstance userInstance) {
+    var authorized = EnumSet.noneOf(PublicationOperation.class);
+    for (var operation : PublicationOperation.values()) {
+      var permissions = PublicationPermissions.create(resource, userInstance);
+      if (attempt(() -> authorize(permissions, operation)).isSuccess()) {
+        authorized.add(operation);
+      }
+    }
+    return authorized;
+  }
+
+  private static PublicationOperation authorize(
+      PublicationPermissions permissions, PublicationOperation operation) throws Exception {
+    permissions.authorize(operation);
+    return operation;
+  }
+
+  private static Resource randomResource(InstitutionSuite suite) {
+    var owner = suite.owningInstitution().registrator();
+    var instanceType =
+        randomBoolean() ? randomElement(PROTECTED_DEGREE_INSTANCE_TYPES) : AcademicArticle.class;
+    var publication =
+        randomPublication(instanceType)
+            .copy()
+            .withStatus(randomElement(PublicationStatus.values()))
+            .withResourceOwner(
+                new ResourceOwner(new Username(owner.name()), owner.topLevelCristinId()))
+            .withAssociatedArtifacts(
+                randomBoolean() ? randomFinalizedFiles() : randomNonFinalizedFiles())
+            .build();
+    setContributor(publication, suite.curatingInstitution().contributor());
+    var resource = Resource.fromPublication(publication);
+    if (randomBoolean()) {
+      setPublicationChannelWithinScope(
+          resource,
+          randomInstitution(suite),
+          randomElement(ChannelPolicy.values()),
+          randomElement(ChannelPolicy.values()));
+    }
+    return resource;
+  }
+
+  private static UserInstance randomUserInstance(InstitutionSuite suite, Resource resource) {
+    var institution = randomInstitution(suite);
+    var user =
+        randomElement(
+            institution.registrator(),
+            institution.contributor(),
+            institution.curator(),
+            institution.thesisCurator(),
+            institution.editor(),
+            suite.curatingInstitution().contributor(),
+            User.random());
+    var name = randomBoolean() ? user.name() : resource.getResourceOwner().getOwner().getValue();
+    return new UserInstance(
+        name,
+        user.customer(),
+        user.topLevelCristinId(),
+        null,
+        user.cristinId(),
+        randomBoolean() ? user.accessRights() : randomAccessRights(),
+        randomElement(UserClientType.values()),
+        null);
+  }
+
+  private static Institution randomInstitution(InstitutionSuite suite) {
+    return randomElement(
+        suite.owningInstitution(), suite.curatingInstitution(), suite.nonCuratingInstitution());
+  }
+
+  private static List<AccessRight> randomAccessRights() {
+    return Arrays.stream(AccessRight.values()).filter(ignored -> randomBoolean()).toList();
+  }
+
+  private static Resource resource(
+      InstitutionSuite suite, PublicationStatus status, String instanceType, String file) {
+    var owner = suite.owningInstitution().registrator();
+    var publication =
+        randomPublication(INSTANCE_TYPES.get(instanceType))
+            .copy()
+            .withStatus(status)
+            .withResourceOwner(
+                new ResourceOwner(new Username(owner.name()), owner.topLevelCristinId()))
+            .withAssociatedArtifacts(List.of(FILES.get(file).get()))
+            .withAdditionalIdentifiers(Set.of())
+            .build();
+    setContributor(publication, suite.curatingInstitution().contributor());
+    return Resource.fromPublication(publication);
+  }
+
+  private static Set<PublicationOperation> parseOperations(String operations) {
+    var parsed = EnumSet.noneOf(PublicationOperation.class);
+    Optional.ofNullable(operations).stream()
+        .flatMap(value -> Arrays.stream(value.split(" ")))
+        .map(PublicationOperation::valueOf)
+        .forEach(parsed::add);
+    return parsed;
+  }
+
+  private enum Role {
+    OWNER,
+    CONTRIBUTOR,
+    CURATOR,
+    THESIS_CURATOR,
+    EDITOR,
+    FOREIGN_CURATOR,
+    STRANGER;
+
+    private UserInstance userInstance(InstitutionSuite suite) {
+      var user =
+          switch (this) {
+            case OWNER -> suite.owningInstitution().registrator();
+            case CONTRIBUTOR -> suite.curatingInstitution().contributor();
+            case CURATOR -> suite.owningInstitution().curator();
+            case THESIS_CURATOR -> suite.owningInstitution().thesisCurator();
+            case EDITOR -> suite.owningInstitution().editor();
+            case FOREIGN_CURATOR -> suite.nonCuratingInstitution().curator();
+            case STRANGER -> User.random();
+          };
+      return new UserInstance(
+          user.name(),
+          user.customer(),
+          user.topLevelCristinId(),
+          null,
+          user.cristinId(),
+          user.accessRights(),
+          UserClientType.INTERNAL,
+          null);
+    }
+  }
+}
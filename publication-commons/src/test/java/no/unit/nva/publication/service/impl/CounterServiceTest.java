@@ -3,11 +3,20 @@ package no.unit.nva.publication.service.impl;
 import static no.unit.nva.model.testing.PublicationGenerator.randomPublication;
 import static no.unit.nva.publication.storage.model.DatabaseConstants.RESOURCES_TABLE_NAME;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import no.unit.nva.model.Publication;
 import no.unit.nva.model.additionalidentifiers.CristinIdentifier;
 import no.unit.nva.model.additionalidentifiers.SourceName;
@@ -21,6 +30,9 @@ import org.junit.jupiter.api.Test;
 
 class CounterServiceTest extends ResourcesLocalTest {
 
+  private static final int NUMBER_OF_ALLOCATORS = 4;
+  private static final int IDENTIFIERS_PER_TASK = 250;
+
   private CounterService counterService;
   private ResourceService resourceService;
 
@@ -80,6 +92,72 @@ class CounterServiceTest extends ResourcesLocalTest {
     assertEquals(peristedResource.getCristinIdentifier().orElseThrow(), existingCristinIdentifier);
   }
 
+  @Test
+  void shouldHandOutConsecutiveIdentifiersFromReservedBlock() {
+    var blockCounter = newBlockAllocatingCounterService();
+
+    var identifiers = IntStream.range(0, 5).mapToObj(i -> blockCounter.next().value()).toList();
+
+    assertThat(
+        identifiers,
+        is(equalTo(List.of(10_000_000, 10_000_001, 10_000_002, 10_000_003, 10_000_004))));
+  }
+
+  @Test
+  void shouldContinueAfterIdentifiersHandedOutOneByOne() {
+    counterService.next();
+    var blockCounter = newBlockAllocatingCounterService();
+
+    assertEquals(CounterDao.fromValue(10_000_001), blockCounter.next());
+  }
+
+  @Test
+  void shouldReserveLargerBlocksWhenIdentifiersAreAllocatedQuickly() {
+    var blockCounter = newBlockAllocatingCounterService();
+
+    IntStream.range(0, 100).forEach(i -> blockCounter.next());
+
+    var reserved = counterService.fetch().value() - 10_000_000 + 1;
+    assertThat(reserved, is(greaterThan(100)));
+  }
+
+  @Test
+  void shouldHandOutUniqueIdentifiersAcrossConcurrentAllocators() throws Exception {
+    var allocators =
+        IntStream.range(0, NUMBER_OF_ALLOCATORS)
+            .mapToObj(i -> newBlockAllocatingCounterService())
+            .toList();
+    var identifiers = ConcurrentHashMap.<Integer>newKeySet();
+    var allocated = new AtomicInteger();
+
+    try (var executor = Executors.newFixedThreadPool(NUMBER_OF_ALLOCATORS * 2)) {
+      var tasks =
+          IntStream.range(0, NUMBER_OF_ALLOCATORS * 2)
+              .mapToObj(i -> allocators.get(i % NUMBER_OF_ALLOCATORS))
+              .map(allocator -> (Callable<Void>) () -> allocate(allocator, identifiers, allocated))
+              .toList();
+      for (var future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    }
+
+    assertThat(identifiers, hasSize(allocated.get()));
+  }
+
+  private static Void allocate(
+      CounterService allocator, Set<Integer> identifiers, AtomicInteger allocated) {
+    for (var i = 0; i < IDENTIFIERS_PER_TASK; i++) {
+      identifiers.add(allocator.next().value());
+      allocated.incrementAndGet();
+    }
+    return null;
+  }
+
+  private BlockAllocatingCounterService newBlockAllocatingCounterService() {
+    return new BlockAllocatingCounterService(
+        new CristinIdentifierCounterService(super.client, RESOURCES_TABLE_NAME));
+  }
+
   private static Publication randomPublicationWithAdditionalIdentifier(
       CristinIdentifier existingCristinIdentifier) {
     return randomPublication()
@@ -30,11 +30,14 @@ import static no.unit.nva.testutils.RandomDataGenerator.randomUri;
 import static nva.commons.core.attempt.Try.attempt;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -62,6 +65,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -103,14 +107,18 @@ import no.unit.nva.model.role.Role;
 import no.unit.nva.model.role.RoleType;
 import no.unit.nva.model.testing.PublicationGenerator;
 import no.unit.nva.model.validation.ValidationException;
+import no.unit.nva.publication.exception.InvalidStartMarkerException;
 import no.unit.nva.publication.exception.TransactionFailedException;
 import no.unit.nva.publication.model.ListingResult;
 import no.unit.nva.publication.model.PublicationSummary;
+import no.unit.nva.publication.model.ResourceVersion;
+import no.unit.nva.publication.model.TicketWithMessages;
 import no.unit.nva.publication.model.business.DoiRequest;
 import no.unit.nva.publication.model.business.Entity;
 import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.FilesApprovalThesis;
 import no.unit.nva.publication.model.business.GeneralSupportRequest;
+import no.unit.nva.publication.model.business.Message;
 import no.unit.nva.publication.model.business.PublishingRequestCase;
 import no.unit.nva.publication.model.business.PublishingWorkflow;
 import no.unit.nva.publication.model.business.Resource;
@@ -284,6 +292,74 @@ class ResourceServiceTest extends ResourcesLocalTest {
     assertThat(savedResource, is(equalTo(sampleResource)));
   }
 
+  @Test
+  void shouldReturnResourcesByIdentifiersInInputOrderLeavingOutMissingResources()
+      throws ApiGatewayException {
+    var first = createPersistedPublicationWithDoi();
+    var second = createPersistedPublicationWithDoi();
+    var identifiers =
+        List.of(second.getIdentifier(), SortableIdentifier.next(), first.getIdentifier());
+
+    var resources = resourceService.getResourcesByIdentifiers(identifiers);
+
+    var expectedResources =
+        List.of(
+            resourceService.getResourceByIdentifier(second.getIdentifier()),
+            resourceService.getResourceByIdentifier(first.getIdentifier()));
+    assertThat(resources, is(equalTo(expectedResources)));
+  }
+
+  @Test
+  void shouldReturnVersionAttributesOfResourceWithoutReadingTheResource()
+      throws ApiGatewayException {
+    var publication = createPersistedPublicationWithDoi();
+    var resource = resourceService.getResourceByIdentifier(publication.getIdentifier());
+
+    var resourceVersion = resourceService.getResourceVersion(publication.getIdentifier());
+
+    assertThat(resourceVersion.orElseThrow(), is(equalTo(ResourceVersion.fromResource(resource))));
+  }
+
+  @Test
+  void shouldReturnEmptyVersionWhenResourceDoesNotExist() {
+    assertThat(resourceService.getResourceVersion(SortableIdentifier.next()).isEmpty(), is(true));
+  }
+
+  @Test
+  void shouldReturnResourceWithOnlyTheRequestedFiles() throws ApiGatewayException {
+    var publication =
+        randomPublication()
+            .copy()
+            .withAssociatedArtifacts(
+                new AssociatedArtifactList(
+                    randomOpenFile(), randomOpenFile(), randomPendingOpenFile()))
+            .build();
+    var persisted =
+        Resource.fromPublication(publication)
+            .persistNew(resourceService, UserInstance.fromPublication(publication));
+    var resource = resourceService.getResourceByIdentifier(persisted.getIdentifier());
+    var requested =
+        resource.getFileEntries().stream().skip(1).map(FileEntry::getIdentifier).toList();
+
+    var resourceWithFiles =
+        resourceService.getResourceWithFiles(persisted.getIdentifier(), requested);
+
+    var expectedFiles =
+        requested.stream().map(resource::getFileEntry).map(Optional::orElseThrow).toList();
+    assertThat(resourceWithFiles.getFileEntries(), containsInAnyOrder(expectedFiles.toArray()));
+    assertThat(
+        resourceWithFiles.getPublicationChannels(), is(equalTo(resource.getPublicationChannels())));
+    assertThat(
+        resourceWithFiles.getEntityDescription(), is(equalTo(resource.getEntityDescription())));
+  }
+
+  @Test
+  void shouldThrowNotFoundWhenFetchingFilesOfResourceThatDoesNotExist() {
+    assertThrows(
+        NotFoundException.class,
+        () -> resourceService.getResourceWithFiles(SortableIdentifier.next(), List.of()));
+  }
+
   @Test
   void resourceIsUpdatedWhenResourceUpdateIsReceived() throws ApiGatewayException {
     Publication resource = createPersistedPublicationWithDoi();
@@ -401,6 +477,60 @@ class ResourceServiceTest extends ResourcesLocalTest {
         actualResourcesSet, containsInAnyOrder(userResources.toArray(PublicationSummary[]::new)));
   }
 
+  @Test
+  void shouldReturnAllResourcesOwnedByUserWhenPagingWithStartMarker() {
+    var userInstance = randomUserInstance();
+    var userResources =
+        createSamplePublicationsOfSingleOwner(userInstance).stream()
+            .map(PublicationSummary::create)
+            .collect(Collectors.toSet());
+
+    var actualResources = new ArrayList<PublicationSummary>();
+    Map<String, AttributeValue> startMarker = null;
+    ListingResult<PublicationSummary> page;
+    do {
+      page = resourceService.getPublicationSummaryByOwner(userInstance, 1, startMarker);
+      assertThat(page.getDatabaseEntries(), hasSize(lessThanOrEqualTo(1)));
+      actualResources.addAll(page.getDatabaseEntries());
+      startMarker = page.getStartMarker();
+    } while (page.isTruncated());
+
+    assertThat(
+        actualResources, containsInAnyOrder(userResources.toArray(PublicationSummary[]::new)));
+  }
+
+  @Test
+  void shouldListUpdatedSummaryWhenResourceIsUpdatedAndPublished() throws ApiGatewayException {
+    var publication = createPersistedPublicationWithDoi();
+    var userInstance = UserInstance.fromPublication(publication);
+    publication.getEntityDescription().setMainTitle(randomString());
+    resourceService.updatePublication(publication);
+    Resource.fromPublication(publication).publish(resourceService, userInstance);
+    var expectedSummary =
+        PublicationSummary.create(
+            resourceService.getPublicationByIdentifier(publication.getIdentifier()));
+
+    var listedSummaries =
+        resourceService.getPublicationSummaryByOwner(userInstance, 1, null).getDatabaseEntries();
+
+    assertThat(listedSummaries, contains(expectedSummary));
+    assertThat(listedSummaries.getFirst().getStatus(), is(equalTo(PUBLISHED)));
+  }
+
+  @Test
+  void shouldRejectStartMarkerFromAnotherOwnersListing() {
+    var otherUser = randomUserInstance();
+    createSamplePublicationsOfSingleOwner(otherUser);
+    var foreignStartMarker =
+        resourceService.getPublicationSummaryByOwner(otherUser, 1, null).getStartMarker();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            resourceService.getPublicationSummaryByOwner(
+                randomUserInstance(), 1, foreignStartMarker));
+  }
+
   @Test
   void getResourcesByCristinIdentifierReturnsAllResourcesWithCristinIdentifier() {
     String cristinIdentifier = randomString();
@@ -843,7 +973,7 @@ class ResourceServiceTest extends ResourcesLocalTest {
     var userInstance = randomUserInstance();
     var userResources = createSamplePublicationsOfSingleOwner(userInstance);
     // correctness of this test rely on number of publications generated above does not exceed
-    // ResourceService.MAX_SIZE_OF_BATCH_REQUEST
+    // DynamoBatchWriter.MAX_ITEMS_PER_BATCH
     var resources =
         userResources.stream().map(Resource::fromPublication).map(Entity.class::cast).toList();
 
@@ -2036,6 +2166,98 @@ class ResourceServiceTest extends ResourcesLocalTest {
             .isEmpty());
   }
 
+  @Test
+  void shouldFetchTicketsTogetherWithTheirOwnMessages() throws ApiGatewayException {
+    var publication = createPublishedResource();
+    var userInstance = UserInstance.fromPublication(publication);
+    var resource = Resource.fromPublication(publication);
+    createTickets(resource, userInstance);
+    var expectedMessages = createMessagesForAllTickets(resource, userInstance);
+
+    var tickets = resourceService.fetchTicketsWithMessages(resource, true);
+
+    assertThat(tickets, hasSize(expectedMessages.size()));
+    assertThat(messageIdentifiersByTicket(tickets), is(equalTo(expectedMessages)));
+  }
+
+  @Test
+  void shouldFetchTicketsWithoutMessagesWhenMessagesAreNotIncluded() throws ApiGatewayException {
+    var publication = createPublishedResource();
+    var userInstance = UserInstance.fromPublication(publication);
+    var resource = Resource.fromPublication(publication);
+    createTickets(resource, userInstance);
+    createMessagesForAllTickets(resource, userInstance);
+
+    var tickets = resourceService.fetchTicketsWithMessages(resource, false);
+
+    assertThat(tickets, hasSize(5));
+    assertThat(tickets.stream().map(TicketWithMessages::messages).toList(), everyItem(empty()));
+  }
+
+  @Test
+  void shouldPageThroughTicketsTogetherWithTheirOwnMessages() throws ApiGatewayException {
+    var publication = createPublishedResource();
+    var userInstance = UserInstance.fromPublication(publication);
+    var resource = Resource.fromPublication(publication);
+    createTickets(resource, userInstance);
+    var expectedMessages = createMessagesForAllTickets(resource, userInstance);
+
+    var tickets = new ArrayList<TicketWithMessages>();
+    Map<String, AttributeValue> startMarker = null;
+    ListingResult<TicketWithMessages> page;
+    do {
+      page = resourceService.fetchTicketsWithMessages(resource, true, 2, startMarker);
+      assertThat(page.getDatabaseEntries().size(), is(lessThanOrEqualTo(2)));
+      tickets.addAll(page.getDatabaseEntries());
+      startMarker = page.getStartMarker();
+    } while (page.isTruncated());
+
+    assertThat(messageIdentifiersByTicket(tickets), is(equalTo(expectedMessages)));
+  }
+
+  @Test
+  void shouldRejectTicketPageStartMarkerOfAnotherResource() throws ApiGatewayException {
+    var publication = createPublishedResource();
+    var userInstance = UserInstance.fromPublication(publication);
+    var resource = Resource.fromPublication(publication);
+    createTickets(resource, userInstance);
+    var startMarker =
+        resourceService.fetchTicketsWithMessages(resource, true, 1, null).getStartMarker();
+    var otherResource = Resource.fromPublication(createPublishedResource());
+
+    assertThrows(
+        InvalidStartMarkerException.class,
+        () -> resourceService.fetchTicketsWithMessages(otherResource, true, 1, startMarker));
+  }
+
+  private Map<SortableIdentifier, Set<SortableIdentifier>> createMessagesForAllTickets(
+      Resource resource, UserInstance userInstance) {
+    var tickets = resourceService.fetchAllTicketsForResource(resource).toList();
+    var messages = new HashMap<SortableIdentifier, Set<SortableIdentifier>>();
+    for (var index = 0; index < tickets.size(); index++) {
+      var ticket = tickets.get(index);
+      var ticketMessages = new HashSet<SortableIdentifier>();
+      for (var count = 0; count < index % 3; count++) {
+        ticketMessages.add(
+            messageService.createMessage(ticket, userInstance, randomString()).getIdentifier());
+      }
+      messages.put(ticket.getIdentifier(), ticketMessages);
+    }
+    return messages;
+  }
+
+  private static Map<SortableIdentifier, Set<SortableIdentifier>> messageIdentifiersByTicket(
+      List<TicketWithMessages> tickets) {
+    return tickets.stream()
+        .collect(
+            Collectors.toMap(
+                ticket -> ticket.ticket().getIdentifier(),
+                ticket ->
+                    ticket.messages().stream()
+                        .map(Message::getIdentifier)
+                        .collect(Collectors.toSet())));
+  }
+
   private void createTickets(Resource resource, UserInstance userInstance)
       throws ApiGatewayException {
     GeneralSupportRequest.create(resource, userInstance).persistNewTicket(ticketService);
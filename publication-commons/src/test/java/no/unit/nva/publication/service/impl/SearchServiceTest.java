@@ -7,12 +7,14 @@ import static no.unit.nva.publication.ticket.test.TicketTestUtils.createPersiste
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static no.unit.nva.testutils.RandomDataGenerator.randomUri;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.emptyIterable;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
@@ -22,6 +24,7 @@ import java.util.Map;
 import java.util.Optional;
 import no.unit.nva.auth.uriretriever.UriRetriever;
 import no.unit.nva.identifiers.SortableIdentifier;
+import no.unit.nva.model.Publication;
 import no.unit.nva.model.PublicationStatus;
 import no.unit.nva.publication.model.ResourceWithId;
 import no.unit.nva.publication.model.SearchResourceApiResponse;
@@ -29,7 +32,6 @@ import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.service.ResourcesLocalTest;
 import no.unit.nva.publication.service.impl.SearchService.SearchServiceException;
 import nva.commons.apigateway.exceptions.ApiGatewayException;
-import nva.commons.apigateway.exceptions.NotFoundException;
 import nva.commons.core.paths.UriWrapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,22 +65,96 @@ class SearchServiceTest extends ResourcesLocalTest {
     assertThat(fetchedPublications, hasItem(resource));
   }
 
+  @Test
+  void shouldReturnResourcesInTheOrderOfTheSearchHits() throws ApiGatewayException {
+    var publications =
+        List.of(
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService),
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService),
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService));
+    var hits =
+        publications.reversed().stream()
+            .map(Publication::getIdentifier)
+            .map(identifier -> new ResourceWithId(createPublicationId(identifier)))
+            .toList();
+    var responseBody = new SearchResourceApiResponse(hits.size(), hits);
+    var response = httpResponse(HTTP_OK, responseBody.toJsonString());
+    when(uriRetriever.fetchResponse(any(), any())).thenReturn(Optional.of(response));
+
+    var fetchedIdentifiers =
+        searchService.searchPublicationsByParam(Map.of(randomString(), randomString())).stream()
+            .map(Resource::getIdentifier)
+            .toList();
+
+    var expectedIdentifiers =
+        publications.reversed().stream().map(Publication::getIdentifier).toList();
+    assertThat(fetchedIdentifiers, is(equalTo(expectedIdentifiers)));
+  }
+
   @Test
   void shouldFilterOutPublicationsThatDoesNotLongerExist() throws ApiGatewayException {
-    var existingPublication =
-        createPersistedPublication(PublicationStatus.PUBLISHED, resourceService);
-    var searchParams = Map.of(randomString(), randomString());
-    var id = createPublicationId(existingPublication.getIdentifier());
-    var responseBody = new SearchResourceApiResponse(1, List.of(new ResourceWithId(id)));
+    var publications =
+        List.of(
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService),
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService),
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService));
+    var deletedPublication = publications.get(1);
+    resourceService.deleteAllResourceAssociatedEntries(
+        deletedPublication.getPublisher().getId(), deletedPublication.getIdentifier());
+    var hits =
+        publications.stream()
+            .map(Publication::getIdentifier)
+            .map(identifier -> new ResourceWithId(createPublicationId(identifier)))
+            .toList();
+    var responseBody = new SearchResourceApiResponse(hits.size(), hits);
+    var response = httpResponse(HTTP_OK, responseBody.toJsonString());
+    when(uriRetriever.fetchResponse(any(), any())).thenReturn(Optional.of(response));
+
+    var fetchedIdentifiers =
+        searchService.searchPublicationsByParam(Map.of(randomString(), randomString())).stream()
+            .map(Resource::getIdentifier)
+            .toList();
+
+    var expectedIdentifiers =
+        List.of(publications.get(0).getIdentifier(), publications.get(2).getIdentifier());
+    assertThat(fetchedIdentifiers, is(equalTo(expectedIdentifiers)));
+  }
+
+  @Test
+  void shouldLeaveOutHitThatCannotBeReadWhenReadingTheHitsTogetherFails()
+      throws ApiGatewayException {
+    var publications =
+        List.of(
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService),
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService),
+            createPersistedPublication(PublicationStatus.PUBLISHED, resourceService));
+    var unreadableIdentifier = publications.get(1).getIdentifier();
+    var failingResourceService = spy(resourceService);
+    doThrow(new IllegalStateException(randomString()))
+        .when(failingResourceService)
+        .getResourcesByIdentifiers(any());
+    doThrow(new IllegalStateException(randomString()))
+        .when(failingResourceService)
+        .getResourceByIdentifier(unreadableIdentifier);
+    var hits =
+        publications.stream()
+            .map(Publication::getIdentifier)
+            .map(identifier -> new ResourceWithId(createPublicationId(identifier)))
+            .toList();
+    var responseBody = new SearchResourceApiResponse(hits.size(), hits);
     var response = httpResponse(HTTP_OK, responseBody.toJsonString());
     when(uriRetriever.fetchResponse(any(), any())).thenReturn(Optional.of(response));
-    resourceService = mock(ResourceService.class);
-    when(resourceService.getPublicationByIdentifier(any())).thenThrow(NotFoundException.class);
 
-    var fetchedPublications =
-        SearchService.create(uriRetriever, resourceService).searchPublicationsByParam(searchParams);
+    var fetchedIdentifiers =
+        SearchService.create(uriRetriever, failingResourceService)
+            .searchPublicationsByParam(Map.of(randomString(), randomString()))
+            .stream()
+            .map(Resource::getIdentifier)
+            .toList();
 
-    assertThat(fetchedPublications, is(emptyIterable()));
+    var expectedIdentifiers =
+        List.of(publications.get(0).getIdentifier(), publications.get(2).getIdentifier());
+    assertThat(fetchedIdentifiers, is(equalTo(expectedIdentifiers)));
   }
 
   @Test
@@ -0,0 +1,97 @@
+package no.unit.nva.publication.storage;
+
+import static no.unit.nva.testutils.RandomDataGenerator.randomString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+class DynamoBatchReaderTest {
+
+  private static final String TABLE_NAME = "table";
+  private static final int MAX_ATTEMPTS = 3;
+  private static final BatchRetryPolicy NO_DELAY_POLICY =
+      new BatchRetryPolicy(4, MAX_ATTEMPTS, Duration.ZERO, Duration.ZERO);
+
+  private DynamoDbClient client;
+  private DynamoBatchReader reader;
+
+  @BeforeEach
+  void setUp() {
+    client = mock(DynamoDbClient.class);
+    reader = new DynamoBatchReader(client, TABLE_NAME, NO_DELAY_POLICY);
+  }
+
+  @Test
+  void shouldResubmitUnprocessedKeysAndReturnAllItems() {
+    var keys = keys(2);
+    when(client.batchGetItem(any(BatchGetItemRequest.class)))
+        .thenReturn(response(List.of(keys.get(0)), List.of(keys.get(1))))
+        .thenReturn(response(List.of(keys.get(1)), List.of()));
+
+    var items = reader.read(keys);
+
+    assertThat(items, containsInAnyOrder(keys.toArray()));
+    verify(client, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+  }
+
+  @Test
+  void shouldSplitKeysIntoBatchesOfOneHundred() {
+    when(client.batchGetItem(any(BatchGetItemRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              BatchGetItemRequest request = invocation.getArgument(0);
+              return response(request.requestItems().get(TABLE_NAME).keys(), List.of());
+            });
+
+    var items = reader.read(keys(250));
+
+    assertThat(items, hasSize(250));
+    verify(client, times(3)).batchGetItem(any(BatchGetItemRequest.class));
+  }
+
+  @Test
+  void shouldThrowWhenKeysAreStillUnprocessedAfterLastAttempt() {
+    var keys = keys(1);
+    when(client.batchGetItem(any(BatchGetItemRequest.class)))
+        .thenReturn(response(List.of(), keys));
+
+    assertThrows(IllegalStateException.class, () -> reader.read(keys));
+    verify(client, times(MAX_ATTEMPTS)).batchGetItem(any(BatchGetItemRequest.class));
+  }
+
+  private static List<Map<String, AttributeValue>> keys(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> Map.of("PK0", AttributeValue.fromS(randomString())))
+        .toList();
+  }
+
+  private static BatchGetItemResponse response(
+      List<Map<String, AttributeValue>> items, List<Map<String, AttributeValue>> unprocessed) {
+    var unprocessedKeys =
+        unprocessed.isEmpty()
+            ? Map.<String, KeysAndAttributes>of()
+            : Map.of(TABLE_NAME, KeysAndAttributes.builder().keys(unprocessed).build());
+    return BatchGetItemResponse.builder()
+        .responses(Map.of(TABLE_NAME, items))
+        .unprocessedKeys(unprocessedKeys)
+        .build();
+  }
+}
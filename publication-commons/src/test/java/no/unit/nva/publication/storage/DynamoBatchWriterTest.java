@@ -0,0 +1,157 @@
+package no.unit.nva.publication.storage;
+
+import static no.unit.nva.testutils.RandomDataGenerator.randomString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+class DynamoBatchWriterTest {
+
+  private static final String TABLE_NAME = "table";
+  private static final int MAX_ATTEMPTS = 3;
+  private static final BatchRetryPolicy NO_DELAY_POLICY =
+      new BatchRetryPolicy(4, MAX_ATTEMPTS, Duration.ZERO, Duration.ZERO);
+
+  private DynamoDbClient client;
+  private DynamoBatchWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    client = mock(DynamoDbClient.class);
+    writer = new DynamoBatchWriter(client, TABLE_NAME, NO_DELAY_POLICY);
+  }
+
+  @Test
+  void shouldPartitionRequestsIntoBatchesOfAtMostTwentyFiveItems() {
+    var batches = DynamoBatchWriter.partition(writeRequests(60));
+
+    assertThat(batches.stream().map(List::size).toList(), is(equalTo(List.of(25, 25, 10))));
+  }
+
+  @Test
+  void shouldStartNewBatchWhenRequestSizeLimitWouldBeExceeded() {
+    var oneMegabyte = "x".repeat(1024 * 1024);
+    var requests = IntStream.range(0, 25).mapToObj(i -> writeRequest(oneMegabyte)).toList();
+
+    var batches = DynamoBatchWriter.partition(requests);
+
+    var batchSizes =
+        batches.stream()
+            .map(batch -> batch.stream().mapToLong(DynamoBatchWriterTest::sizeOf).sum())
+            .toList();
+    assertThat(batches.stream().map(List::size).toList(), is(equalTo(List.of(15, 10))));
+    assertThat(batchSizes, everyItem(lessThanOrEqualTo(DynamoBatchWriter.MAX_BYTES_PER_BATCH)));
+  }
+
+  @Test
+  void shouldResubmitUnprocessedItemsUntilAllAreWritten() {
+    var requests = writeRequests(3);
+    when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+        .thenReturn(responseWithUnprocessed(requests.subList(1, 3)))
+        .thenReturn(responseWithUnprocessed(requests.subList(2, 3)))
+        .thenReturn(responseWithUnprocessed(List.of()));
+
+    var result = writer.write(requests);
+
+    assertThat(result.succeededBatches(), is(equalTo(1)));
+    assertThat(result.writtenItems(), is(equalTo(3)));
+    assertThat(result.retries(), is(equalTo(2)));
+    verify(client, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  @Test
+  void shouldRetryWhenRequestIsThrottled() {
+    when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+        .thenThrow(ProvisionedThroughputExceededException.builder().message("slow down").build())
+        .thenReturn(responseWithUnprocessed(List.of()));
+
+    var result = writer.write(writeRequests(2));
+
+    assertThat(result.hasFailures(), is(false));
+    assertThat(result.writtenItems(), is(equalTo(2)));
+  }
+
+  @Test
+  void shouldReportItemsThatAreStillUnprocessedAfterLastAttempt() {
+    var requests = writeRequests(2);
+    when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+        .thenReturn(responseWithUnprocessed(requests.subList(1, 2)));
+
+    var result = writer.write(requests);
+
+    assertThat(result.failedBatches(), is(equalTo(1)));
+    assertThat(result.writtenItems(), is(equalTo(1)));
+    var failedBatch = result.failures().getFirst();
+    assertThat(failedBatch.unprocessedItems(), is(equalTo(requests.subList(1, 2))));
+    verify(client, times(MAX_ATTEMPTS)).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  @Test
+  void shouldReportFailedBatchAndContinueWithOtherBatchesWhenErrorIsNotRetryable() {
+    var requests = writeRequests(30);
+    when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              BatchWriteItemRequest request = invocation.getArgument(0);
+              if (request.requestItems().get(TABLE_NAME).size() == 25) {
+                throw DynamoDbException.builder().message("broken").build();
+              }
+              return responseWithUnprocessed(List.of());
+            });
+
+    var result = writer.write(requests);
+
+    assertThat(result.succeededBatches(), is(equalTo(1)));
+    assertThat(result.failedBatches(), is(equalTo(1)));
+    assertThat(result.writtenItems(), is(equalTo(5)));
+    assertThat(result.failures().getFirst().cause(), is(instanceOf(DynamoDbException.class)));
+  }
+
+  private static List<WriteRequest> writeRequests(int count) {
+    return IntStream.range(0, count).mapToObj(i -> writeRequest(randomString())).toList();
+  }
+
+  private static WriteRequest writeRequest(String value) {
+    var item =
+        Map.of(
+            "PK0", AttributeValue.fromS(randomString()), "data", AttributeValue.fromS(value));
+    return WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build();
+  }
+
+  private static long sizeOf(WriteRequest writeRequest) {
+    return ItemSize.of(writeRequest.putRequest().item());
+  }
+
+  private static BatchWriteItemResponse responseWithUnprocessed(
+      Collection<WriteRequest> unprocessed) {
+    var unprocessedItems =
+        unprocessed.isEmpty()
+            ? Map.<String, List<WriteRequest>>of()
+            : Map.of(TABLE_NAME, List.copyOf(unprocessed));
+    return BatchWriteItemResponse.builder().unprocessedItems(unprocessedItems).build();
+  }
+}
@@ -0,0 +1,178 @@
+package no.unit.nva.publication.uriretriever;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import no.unit.nva.auth.uriretriever.RawContentRetriever;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingRawContentRetrieverTest {
+
+  private static final String MEDIA_TYPE = "application/ld+json";
+  private static final URI ORGANIZATION =
+      URI.create("https://api.test.nva.aws.unit.no/cristin/organization/20754.0.0.0");
+  private static final URI OTHER_ORGANIZATION =
+      URI.create("https://api.test.nva.aws.unit.no/cristin/organization/185.0.0.0");
+  private static final URI NVI_CANDIDATE =
+      URI.create("https://api.test.nva.aws.unit.no/scientific-index/publication/0190");
+  private static final String ORGANIZATION_JSON_LD =
+      """
+      {
+        "@context": {"@vocab": "https://nva.sikt.no/ontology/publication#"},
+        "@id": "https://api.test.nva.aws.unit.no/cristin/organization/20754.0.0.0",
+        "@type": "Organization"
+      }
+      """;
+
+  private RawContentRetriever delegate;
+  private MutableClock clock;
+  private CachingRawContentRetriever retriever;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(RawContentRetriever.class);
+    clock = new MutableClock();
+    var timesToLive =
+        List.of(
+            new CachingRawContentRetriever.TimeToLive(
+                Pattern.compile("/cristin/organization/"), Duration.ofHours(1)));
+    retriever = new CachingRawContentRetriever(delegate, 1, timesToLive, clock);
+  }
+
+  @Test
+  void shouldReturnCachedContentWithoutCallingDelegateAgain() {
+    when(delegate.getRawContent(ORGANIZATION, MEDIA_TYPE))
+        .thenReturn(Optional.of(ORGANIZATION_JSON_LD));
+
+    retriever.getRawContent(ORGANIZATION, MEDIA_TYPE);
+    var content = retriever.getRawContent(ORGANIZATION, MEDIA_TYPE);
+
+    assertThat(content, is(equalTo(Optional.of(ORGANIZATION_JSON_LD))));
+    verify(delegate, times(1)).getRawContent(ORGANIZATION, MEDIA_TYPE);
+    assertThat(retriever.statistics().hits(), is(equalTo(1L)));
+    assertThat(retriever.statistics().misses(), is(equalTo(1L)));
+  }
+
+  @Test
+  void shouldNotCacheMissingContent() {
+    when(delegate.getRawContent(ORGANIZATION, MEDIA_TYPE)).thenReturn(Optional.empty());
+
+    retriever.getRawContent(ORGANIZATION, MEDIA_TYPE);
+    retriever.getRawContent(ORGANIZATION, MEDIA_TYPE);
+
+    verify(delegate, times(2)).getRawContent(ORGANIZATION, MEDIA_TYPE);
+  }
+
+  @Test
+  void shouldFetchContentAgainWhenTimeToLiveHasPassed() {
+    when(delegate.getRawContent(ORGANIZATION, MEDIA_TYPE))
+        .thenReturn(Optional.of(ORGANIZATION_JSON_LD));
+
+    retriever.getRawContent(ORGANIZATION, MEDIA_TYPE);
+    clock.advance(Duration.ofHours(1));
+    retriever.getRawContent(ORGANIZATION, MEDIA_TYPE);
+
+    verify(delegate, times(2)).getRawContent(ORGANIZATION, MEDIA_TYPE);
+    assertThat(retriever.statistics().evictions(), is(equalTo(1L)));
+  }
+
+  @Test
+  void shouldFetchUriThatMatchesNoTimeToLiveOnEveryCall() {
+    when(delegate.getRawContent(NVI_CANDIDATE, MEDIA_TYPE)).thenReturn(Optional.of("{}"));
+    retriever = new CachingRawContentRetriever(delegate);
+
+    retriever.getRawContent(NVI_CANDIDATE, MEDIA_TYPE);
+    retriever.getRawContent(NVI_CANDIDATE, MEDIA_TYPE);
+
+    verify(delegate, times(2)).getRawContent(NVI_CANDIDATE, MEDIA_TYPE);
+    assertThat(retriever.statistics().size(), is(equalTo(0)));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntryWhenCacheIsFull() {
+    when(delegate.getRawContent(any(), any())).thenReturn(Optional.of(ORGANIZATION_JSON_LD));
+
+    retriever.getRawContent(ORGANIZATION, MEDIA_TYPE);
+    retriever.getRawContent(OTHER_ORGANIZATION, MEDIA_TYPE);
+    retriever.getRawContent(ORGANIZATION, MEDIA_TYPE);
+
+    verify(delegate, times(2)).getRawContent(ORGANIZATION, MEDIA_TYPE);
+    assertThat(retriever.statistics().size(), is(equalTo(1)));
+  }
+
+  @Test
+  void shouldShareParsedModelBetweenLookups() {
+    retriever = new CachingRawContentRetriever(delegate);
+    when(delegate.getRawContent(ORGANIZATION, MEDIA_TYPE))
+        .thenReturn(Optional.of(ORGANIZATION_JSON_LD));
+
+    var first = retriever.getModel(ORGANIZATION, MEDIA_TYPE).orElseThrow();
+    var second = retriever.getModel(ORGANIZATION, MEDIA_TYPE).orElseThrow();
+
+    assertThat(first == second, is(true));
+    verify(delegate, times(1)).getRawContent(ORGANIZATION, MEDIA_TYPE);
+  }
+
+  @Test
+  void shouldCollapseConcurrentMissesIntoSingleLookup() throws Exception {
+    var release = new CountDownLatch(1);
+    when(delegate.getRawContent(ORGANIZATION, MEDIA_TYPE))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              return Optional.of(ORGANIZATION_JSON_LD);
+            });
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var first = executor.submit(() -> retriever.getRawContent(ORGANIZATION, MEDIA_TYPE));
+      var second = executor.submit(() -> retriever.getRawContent(ORGANIZATION, MEDIA_TYPE));
+      Thread.sleep(50);
+      release.countDown();
+
+      assertThat(first.get(), is(equalTo(second.get())));
+    }
+    verify(delegate, times(1)).getRawContent(ORGANIZATION, MEDIA_TYPE);
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
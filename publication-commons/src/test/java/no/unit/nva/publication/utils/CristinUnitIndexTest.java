@@ -0,0 +1,132 @@
+package no.unit.nva.publication.utils;
+
+import static nva.commons.core.attempt.Try.attempt;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import no.unit.nva.commons.json.JsonUtils;
+import nva.commons.core.ioutils.IoUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CristinUnitIndexTest {
+
+  private static final Instant CREATED_AT = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+  @Test
+  void shouldResolveTopLevelAndAncestorsLikeWalkingParentLinksForEveryUnit() {
+    var units = norwegianUnits();
+    var index = CristinUnitIndex.build(units, CREATED_AT);
+
+    var unitsById = units.stream().collect(Collectors.toMap(CristinUnit::id, Function.identity()));
+    for (var unit : units) {
+      var ancestors = walkParentLinks(unit, unitsById);
+      var topLevel = ancestors.isEmpty() ? unit.id() : ancestors.getLast();
+      assertThat(index.ancestors(unit.id()), is(equalTo(ancestors)));
+      assertThat(index.topLevel(unit.id()).orElseThrow(), is(equalTo(topLevel)));
+      assertThat(index.depth(unit.id()), is(equalTo(OptionalInt.of(ancestors.size()))));
+    }
+  }
+
+  @Test
+  void shouldReturnAncestorsNearestFirst() {
+    var index = CristinUnitIndex.build(norwegianUnits(), CREATED_AT);
+
+    assertThat(index.ancestors("217.6.6.1"), contains("217.6.6.0", "217.6.0.0", "217.0.0.0"));
+    assertThat(index.parent("217.6.6.1").orElseThrow(), is(equalTo("217.6.6.0")));
+  }
+
+  @Test
+  void shouldReturnEmptyResultsForUnknownUnit() {
+    var index = CristinUnitIndex.build(norwegianUnits(), CREATED_AT);
+
+    assertThat(index.topLevel("999.6.6.1").isEmpty(), is(true));
+    assertThat(index.ancestors("999.6.6.1").isEmpty(), is(true));
+    assertThat(index.depth("999.6.6.1").isEmpty(), is(true));
+  }
+
+  @Test
+  void shouldIndexUnitWithUnknownParentAsTopLevelAndResolveTheOtherUnits() {
+    var units =
+        List.of(
+            unit("1.0.0.0", null),
+            unit("1.1.0.0", "1.0.0.0"),
+            unit("1.1.1.0", "1.1.0.0"),
+            unit("3.1.0.0", "2.0.0.0"),
+            unit("3.1.1.0", "3.1.0.0"));
+
+    var index = CristinUnitIndex.build(units, CREATED_AT);
+
+    assertThat(index.size(), is(equalTo(units.size())));
+    assertThat(index.topLevel("1.1.1.0").orElseThrow(), is(equalTo("1.0.0.0")));
+    assertThat(index.ancestors("1.1.1.0"), contains("1.1.0.0", "1.0.0.0"));
+    assertThat(index.topLevel("3.1.0.0").orElseThrow(), is(equalTo("3.1.0.0")));
+    assertThat(index.parent("3.1.0.0").isEmpty(), is(true));
+    assertThat(index.topLevel("3.1.1.0").orElseThrow(), is(equalTo("3.1.0.0")));
+  }
+
+  @Test
+  void shouldRejectUnitsThatAreTheirOwnAncestors() {
+    var units =
+        List.of(
+            unit("1.0.0.0", null),
+            unit("1.1.0.0", "1.3.0.0"),
+            unit("1.2.0.0", "1.1.0.0"),
+            unit("1.3.0.0", "1.2.0.0"));
+
+    assertThrows(IllegalArgumentException.class, () -> CristinUnitIndex.build(units, CREATED_AT));
+  }
+
+  @Test
+  void shouldReadSnapshotWithSameContentAsWrittenIndex(@TempDir Path directory)
+      throws IOException {
+    var units = norwegianUnits();
+    var index = CristinUnitIndex.build(units, CREATED_AT);
+    var snapshot = directory.resolve("units.idx");
+
+    index.writeSnapshot(snapshot);
+    var restored = CristinUnitIndex.readSnapshot(snapshot);
+
+    assertThat(restored.size(), is(equalTo(index.size())));
+    assertThat(restored.createdAt(), is(equalTo(CREATED_AT)));
+    for (var unit : units) {
+      assertThat(restored.ancestors(unit.id()), is(equalTo(index.ancestors(unit.id()))));
+      assertThat(restored.topLevel(unit.id()), is(equalTo(index.topLevel(unit.id()))));
+    }
+  }
+
+  private static List<String> walkParentLinks(CristinUnit unit, Map<String, CristinUnit> units) {
+    var ancestors = new ArrayList<String>();
+    var current = unit;
+    while (current.parentUnit() != null) {
+      ancestors.add(current.parentUnit().id());
+      current = units.get(current.parentUnit().id());
+    }
+    return ancestors;
+  }
+
+  private static CristinUnit unit(String id, String parentId) {
+    return new CristinUnit(id, parentId == null ? null : new CristinParentUnit(parentId));
+  }
+
+  private static List<CristinUnit> norwegianUnits() {
+    var json = IoUtils.stringFromResources(Path.of("cristinUnits/units-norway.json"));
+    return Arrays.asList(
+        attempt(() -> JsonUtils.dtoObjectMapper.readValue(json, CristinUnit[].class))
+            .orElseThrow());
+  }
+}
@@ -134,7 +134,7 @@ public class DataEntryUpdateEvent implements JsonSerializable {
     return nonNull(oldData) || nonNull(newData);
   }
 
-  private static Boolean shouldIgnoreBatchScan(Environment environment) {
+  public static boolean shouldIgnoreBatchScan(Environment environment) {
     return environment.readEnvOpt(SHOULD_IGNORE_BATCH_SCAN).map(Boolean::valueOf).orElse(true);
   }
 
@@ -34,9 +34,9 @@ public class PublicationChannelsBatchUpdateService {
 
     var updatedChannels =
         publicationChannels.stream().map(channel -> update(channel, event)).toList();
-    resourceService.batchUpdateChannels(updatedChannels);
+    var result = resourceService.batchUpdateChannels(updatedChannels);
 
-    logger.info(UPDATED_PUBLICATION_CHANNELS_MESSAGE, updatedChannels.size(), identifier);
+    logger.info(UPDATED_PUBLICATION_CHANNELS_MESSAGE, result.writtenItems(), identifier);
   }
 
   private static ClaimedPublicationChannel updateClaimedChannel(
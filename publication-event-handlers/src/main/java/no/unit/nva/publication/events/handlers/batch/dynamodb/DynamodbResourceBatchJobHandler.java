@@ -27,6 +27,7 @@ import no.unit.nva.commons.json.JsonUtils;
 import no.unit.nva.publication.events.handlers.batch.dynamodb.jobs.FixFileOwnershipJob;
 import no.unit.nva.publication.events.handlers.batch.dynamodb.jobs.MigrateResourceJob;
 import no.unit.nva.publication.events.handlers.batch.dynamodb.jobs.NoGsiResultsException;
+import no.unit.nva.publication.events.handlers.batch.dynamodb.jobs.RecompressDataJob;
 import no.unit.nva.publication.events.handlers.batch.dynamodb.jobs.ReindexRecordJob;
 import no.unit.nva.publication.events.handlers.batch.dynamodb.jobs.UpdateVerificationStatusJob;
 import nva.commons.core.Environment;
@@ -53,7 +54,8 @@ public class DynamodbResourceBatchJobHandler implements RequestHandler<SQSEvent,
     new ReindexRecordJob(),
     new MigrateResourceJob(),
     new UpdateVerificationStatusJob(),
-    new FixFileOwnershipJob()
+    new FixFileOwnershipJob(),
+    new RecompressDataJob()
   };
   private static final String DEFAULT_TO_ONE_ITEM = "1";
   private static final String APPROXIMATE_RECEIVE_COUNT = "ApproximateReceiveCount";
@@ -16,6 +16,7 @@ import no.unit.nva.commons.json.JsonUtils;
 import no.unit.nva.events.handlers.EventHandler;
 import no.unit.nva.events.models.AwsEventBridgeEvent;
 import no.unit.nva.publication.model.ScanResultWrapper;
+import no.unit.nva.publication.model.storage.compression.CodecPool;
 import no.unit.nva.publication.service.impl.ResourceService;
 import nva.commons.core.CollectionUtils;
 import nva.commons.core.Environment;
@@ -163,6 +164,10 @@ public class LoadDynamodbResourceBatchJobHandler
         scan.items().size(),
         workItems.size(),
         messagesQueued);
+    logger.info(
+        "Segment {} compression pool statistics: {}",
+        input.segment(),
+        CodecPool.shared().statistics());
 
     var totalItemsScanned = input.currentItemsProcessed() + scan.scannedCount();
     if (scan.isTruncated() && totalItemsScanned >= MAX_SCANNED_ITEMS_PER_SEGMENT) {
@@ -0,0 +1,136 @@
+package no.unit.nva.publication.events.handlers.batch.dynamodb.jobs;
+
+import static java.util.Objects.isNull;
+import static no.unit.nva.publication.model.storage.DynamoEntry.CONTAINED_DATA_FIELD_NAME;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import no.unit.nva.publication.events.handlers.batch.dynamodb.BatchWorkItem;
+import no.unit.nva.publication.events.handlers.batch.dynamodb.DynamodbResourceBatchJobExecutor;
+import no.unit.nva.publication.model.storage.compression.DataCompression;
+import nva.commons.core.Environment;
+import nva.commons.core.JacocoGenerated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+/**
+ * Re-encodes the compressed {@code data} attribute of rows that were written with another codec
+ * than the one currently configured through {@link DataCompression}. Only the blob is rewritten;
+ * the {@code version} is used as an optimistic lock and left unchanged, so the rows are not
+ * reindexed.
+ */
+public class RecompressDataJob implements DynamodbResourceBatchJobExecutor {
+
+  private static final String JOB_TYPE = "RECOMPRESS_DATA";
+  private static final Logger logger = LoggerFactory.getLogger(RecompressDataJob.class);
+  private static final String TABLE_NAME_ENV = "TABLE_NAME";
+  private static final String VERSION_FIELD = "version";
+  private static final String DATA_NAME = "#data";
+  private static final String VERSION_NAME = "#version";
+  private static final String DATA_VALUE = ":data";
+  private static final String VERSION_VALUE = ":version";
+
+  private final DynamoDbClient dynamoDbClient;
+  private final String tableName;
+  private final DataCompression compression;
+
+  @JacocoGenerated
+  public RecompressDataJob() {
+    this(
+        DynamoDbClient.create(),
+        new Environment().readEnv(TABLE_NAME_ENV),
+        DataCompression.defaultCompression());
+  }
+
+  public RecompressDataJob(
+      DynamoDbClient dynamoDbClient, String tableName, DataCompression compression) {
+    this.dynamoDbClient = dynamoDbClient;
+    this.tableName = tableName;
+    this.compression = compression;
+  }
+
+  @Override
+  public void executeBatch(List<BatchWorkItem> workItems) {
+    var recompressed =
+        workItems.stream()
+            .map(workItem -> workItem.dynamoDbKey().toPrimaryKey())
+            .filter(this::recompress)
+            .count();
+    logger.info(
+        "Recompressed {} of {} records with codec {}",
+        recompressed,
+        workItems.size(),
+        compression.writerName());
+  }
+
+  @Override
+  public String getJobType() {
+    return JOB_TYPE;
+  }
+
+  private boolean recompress(Map<String, AttributeValue> key) {
+    var item = fetchDataAndVersion(key);
+    var data = item.get(CONTAINED_DATA_FIELD_NAME);
+    if (isNull(data) || isNull(data.b()) || compression.isWrittenByWriter(data.b().asByteArray())) {
+      return false;
+    }
+    try {
+      dynamoDbClient.updateItem(createUpdateRequest(key, item, reencode(data)));
+      return true;
+    } catch (ConditionalCheckFailedException e) {
+      logger.info("Record {} changed while recompressing, skipping it", key);
+      return false;
+    }
+  }
+
+  private Map<String, AttributeValue> fetchDataAndVersion(Map<String, AttributeValue> key) {
+    var request =
+        GetItemRequest.builder()
+            .tableName(tableName)
+            .key(key)
+            .projectionExpression(DATA_NAME + ", " + VERSION_NAME)
+            .expressionAttributeNames(
+                Map.of(DATA_NAME, CONTAINED_DATA_FIELD_NAME, VERSION_NAME, VERSION_FIELD))
+            .build();
+    return dynamoDbClient.getItem(request).item();
+  }
+
+  private AttributeValue reencode(AttributeValue data) {
+    try {
+      var blob = compression.recompress(data.b().asByteArray());
+      return AttributeValue.fromB(SdkBytes.fromByteArray(blob));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to recompress data", e);
+    }
+  }
+
+  private UpdateItemRequest createUpdateRequest(
+      Map<String, AttributeValue> key, Map<String, AttributeValue> item, AttributeValue data) {
+    var version = item.get(VERSION_FIELD);
+    var builder =
+        UpdateItemRequest.builder()
+            .tableName(tableName)
+            .key(key)
+            .updateExpression("SET %s = %s".formatted(DATA_NAME, DATA_VALUE));
+    return isNull(version)
+        ? builder
+            .conditionExpression("attribute_not_exists(%s)".formatted(VERSION_NAME))
+            .expressionAttributeNames(
+                Map.of(DATA_NAME, CONTAINED_DATA_FIELD_NAME, VERSION_NAME, VERSION_FIELD))
+            .expressionAttributeValues(Map.of(DATA_VALUE, data))
+            .build()
+        : builder
+            .conditionExpression("%s = %s".formatted(VERSION_NAME, VERSION_VALUE))
+            .expressionAttributeNames(
+                Map.of(DATA_NAME, CONTAINED_DATA_FIELD_NAME, VERSION_NAME, VERSION_FIELD))
+            .expressionAttributeValues(Map.of(DATA_VALUE, data, VERSION_VALUE, version))
+            .build();
+  }
+}
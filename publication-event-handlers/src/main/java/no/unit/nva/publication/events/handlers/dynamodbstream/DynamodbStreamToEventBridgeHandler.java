@@ -1,5 +1,6 @@
 package no.unit.nva.publication.events.handlers.dynamodbstream;
 
+import static java.util.Objects.nonNull;
 import static no.unit.nva.publication.events.handlers.ConfigurationForPushingDirectlyToEventBridge.EVENT_BUS_NAME;
 import static no.unit.nva.publication.events.handlers.PublicationEventsConfig.EVENTS_BUCKET;
 import static no.unit.nva.publication.events.handlers.PublicationEventsConfig.defaultEventBridgeClient;
@@ -14,20 +15,29 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
 import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse.BatchItemFailure;
 import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import no.unit.nva.commons.json.JsonUtils;
 import no.unit.nva.events.models.AwsEventBridgeDetail;
 import no.unit.nva.events.models.EventReference;
 import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.publication.events.bodies.DataEntryUpdateEvent;
+import no.unit.nva.publication.events.handlers.fanout.StreamRecordChange;
 import no.unit.nva.publication.model.business.Entity;
 import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Message;
@@ -36,16 +46,19 @@ import no.unit.nva.publication.model.business.TicketEntry;
 import no.unit.nva.publication.queue.QueueClient;
 import no.unit.nva.publication.queue.RecoveryEntry;
 import no.unit.nva.publication.queue.ResourceQueueClient;
+import no.unit.nva.publication.utils.FutureUtils;
 import no.unit.nva.s3.S3Driver;
 import nva.commons.core.Environment;
 import nva.commons.core.JacocoGenerated;
-import nva.commons.core.attempt.Failure;
+import nva.commons.core.attempt.Try;
 import nva.commons.core.paths.UnixPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
 import software.amazon.awssdk.services.s3.S3Client;
 
 /**
@@ -55,15 +68,28 @@ import software.amazon.awssdk.services.s3.S3Client;
  * <p>Notice a DynamoDB stream can only have two streams attached before it can lead into throttling
  * and performance issues with DynamodDB, this is why we have this handler to publish it to
  * EventBridge.
+ *
+ * <p>The blobs of all records in a stream batch are written to S3 concurrently, and the event
+ * references are sent in as few PutEvents requests as EventBridge allows. Records that fail on the
+ * way are placed on the recovery queue, and records that cannot even be placed there are reported
+ * back to Lambda as batch item failures so that the stream is retried from them.
  */
 public class DynamodbStreamToEventBridgeHandler
-    implements RequestHandler<DynamodbEvent, EventReference> {
+    implements RequestHandler<DynamodbEvent, StreamsEventResponse> {
 
+  public static final int MAX_CONCURRENT_UPLOADS = 8;
+  public static final int MAX_ENTRIES_PER_REQUEST = 10;
+  public static final int MAX_REQUEST_SIZE_IN_BYTES = 256_000; // 256KB with some slack
+  private static final int TIMESTAMP_SIZE_IN_BYTES = 14;
   private static final String PROCESSING_EVENT_MESSAGE = "Processing event for identifier: {}";
   private static final String DETAIL_TYPE_NOT_IMPORTANT = "See event topic";
   private static final String EMITTED_EVENT_MESSAGE = "Emitted Event:{}";
   private static final String SENT_TO_RECOVERY_QUEUE_MESSAGE =
       "DateEntry has been sent to recovery queue: {}";
+  private static final String RECOVERY_QUEUE_FAILED_MESSAGE =
+      "Could not send DataEntry to recovery queue: {}";
+  private static final String REJECTED_ENTRY_MESSAGE = "EventBridge rejected entry: %s %s";
+  private static final String STREAM_RECORD_CHANGES_MESSAGE = "Stream records by change: {}";
   private static final String DYNAMO_DB_STREAM_SOURCE = "DynamoDbStream";
   private static final String RECOVERY_QUEUE = new Environment().readEnv("RECOVERY_QUEUE");
   private static final Logger logger =
@@ -94,16 +120,83 @@ public class DynamodbStreamToEventBridgeHandler
   }
 
   @Override
-  public EventReference handleRequest(DynamodbEvent inputEvent, Context context) {
-    inputEvent.getRecords().forEach(record -> processRecord(record, context));
-    return null;
+  public StreamsEventResponse handleRequest(DynamodbEvent inputEvent, Context context) {
+    var changes = new EnumMap<StreamRecordChange, Integer>(StreamRecordChange.class);
+    var updates =
+        inputEvent.getRecords().stream()
+            .filter(record -> shouldDecode(record, changes))
+            .map(record -> new StreamUpdate(record, convertToDataEntryUpdateEvent(record)))
+            .filter(update -> update.event().shouldProcessUpdate(environment))
+            .toList();
+    logger.info(STREAM_RECORD_CHANGES_MESSAGE, changes);
+    var batchItemFailures = new ArrayList<BatchItemFailure>();
+    var pendingEntries = new ArrayList<PendingEntry>();
+    var blobUris = saveBlobsToS3(updates);
+    for (var index = 0; index < updates.size(); index++) {
+      var update = updates.get(index);
+      var pendingEntry =
+          blobUris
+              .get(index)
+              .map(blobUri -> new EventReference(update.event().getTopic(), blobUri))
+              .map(eventReference -> createPendingEntry(update, eventReference, context));
+      if (pendingEntry.isSuccess()) {
+        pendingEntries.add(pendingEntry.get());
+      } else {
+        sendToRecoveryQueue(update, pendingEntry.getException(), batchItemFailures);
+      }
+    }
+    packIntoRequests(pendingEntries).forEach(request -> sendEvents(request, batchItemFailures));
+    return StreamsEventResponse.builder().withBatchItemFailures(batchItemFailures).build();
+  }
+
+  /**
+   * Decides from the uncompressed attributes whether the images of a record need to be decoded.
+   * Records that leave the data unchanged keep their modified date, so like any other update
+   * without a new modified date they are only forwarded when batch scans are not ignored. An entity
+   * without a modified date counts as updated by a user, so for those records the new image is
+   * decoded to look for one.
+   */
+  private boolean shouldDecode(
+      DynamodbStreamRecord record, Map<StreamRecordChange, Integer> changes) {
+    var change = StreamRecordChange.classify(record);
+    changes.merge(change, 1, Integer::sum);
+    return switch (change) {
+      case CONTENT_CHANGE -> true;
+      case REINDEX, NO_OP ->
+          !DataEntryUpdateEvent.shouldIgnoreBatchScan(environment) || hasNoModifiedDate(record);
+    };
+  }
+
+  private boolean hasNoModifiedDate(DynamodbStreamRecord record) {
+    return Optional.ofNullable(getEntity(record.getDynamodb().getNewImage()))
+        .map(Entity::getModifiedDate)
+        .isEmpty();
   }
 
-  private void processRecord(DynamodbStreamRecord record, Context context) {
-    var dataEntryUpdateEvent = convertToDataEntryUpdateEvent(record);
-    if (dataEntryUpdateEvent.shouldProcessUpdate(environment)) {
-      sendEvent(dataEntryUpdateEvent, context);
+  /**
+   * Packs the entries into as few requests as possible, keeping within the EventBridge limits of
+   * entries and bytes per PutEvents request.
+   */
+  private static List<List<PendingEntry>> packIntoRequests(List<PendingEntry> entries) {
+    var requests = new ArrayList<List<PendingEntry>>();
+    var current = new ArrayList<PendingEntry>();
+    var currentSize = 0;
+    for (var entry : entries) {
+      var exceedsLimits =
+          current.size() == MAX_ENTRIES_PER_REQUEST
+              || currentSize + entry.size() > MAX_REQUEST_SIZE_IN_BYTES;
+      if (!current.isEmpty() && exceedsLimits) {
+        requests.add(current);
+        current = new ArrayList<>();
+        currentSize = 0;
+      }
+      current.add(entry);
+      currentSize += entry.size();
+    }
+    if (!current.isEmpty()) {
+      requests.add(current);
     }
+    return requests;
   }
 
   private static SortableIdentifier getIdentifier(DataEntryUpdateEvent blobObject) {
@@ -118,16 +211,6 @@ public class DynamodbStreamToEventBridgeHandler
     return JsonUtils.dtoObjectMapper.writeValueAsString(detail);
   }
 
-  private EventReference processRecoveryMessage(
-      Failure<EventReference> failure, DataEntryUpdateEvent event) {
-    var identifier = getIdentifier(event);
-    RecoveryEntry.create(findType(event), identifier)
-        .withException(failure.getException())
-        .persist(sqsClient);
-    logger.error(SENT_TO_RECOVERY_QUEUE_MESSAGE, identifier);
-    return null;
-  }
-
   private static String findType(DataEntryUpdateEvent dataEntryUpdateEvent) {
     var entity =
         Optional.ofNullable(dataEntryUpdateEvent.getOldData())
@@ -141,23 +224,97 @@ public class DynamodbStreamToEventBridgeHandler
     };
   }
 
-  private void sendEvent(DataEntryUpdateEvent blob, Context context) {
-    logger.info(PROCESSING_EVENT_MESSAGE, getIdentifier(blob));
-    attempt(() -> saveBlobToS3(blob))
-        .map(blobUri -> new EventReference(blob.getTopic(), blobUri))
-        .map(eventReference -> sendEvent(eventReference, context))
-        .orElse(failure -> processRecoveryMessage(failure, blob));
+  private static int sizeOf(PutEventsRequestEntry entry) {
+    return entry.source().getBytes(StandardCharsets.UTF_8).length
+        + entry.detail().getBytes(StandardCharsets.UTF_8).length
+        + entry.detailType().getBytes(StandardCharsets.UTF_8).length
+        + entry.resources().stream()
+            .mapToInt(resource -> resource.getBytes(StandardCharsets.UTF_8).length)
+            .sum()
+        + TIMESTAMP_SIZE_IN_BYTES;
   }
 
-  private EventReference sendEvent(EventReference eventReference, Context context)
-      throws JsonProcessingException {
-    var eventRequest = createPutEventRequest(context, eventReference);
-    eventBridgeClient.putEvents(eventRequest);
-    logger.info(EMITTED_EVENT_MESSAGE, eventReference.toJsonString());
-    return eventReference;
+  private void sendToRecoveryQueue(
+      StreamUpdate update, Exception exception, List<BatchItemFailure> batchItemFailures) {
+    var identifier = getIdentifier(update.event());
+    var persisted =
+        attempt(
+            () -> {
+              RecoveryEntry.create(findType(update.event()), identifier)
+                  .withException(exception)
+                  .persist(sqsClient);
+              return identifier;
+            });
+    if (persisted.isSuccess()) {
+      logger.error(SENT_TO_RECOVERY_QUEUE_MESSAGE, identifier);
+    } else {
+      logger.error(RECOVERY_QUEUE_FAILED_MESSAGE, identifier, persisted.getException());
+      batchItemFailures.add(
+          new BatchItemFailure(update.record().getDynamodb().getSequenceNumber()));
+    }
+  }
+
+  private void sendEvents(List<PendingEntry> request, List<BatchItemFailure> batchItemFailures) {
+    var putEventsRequest =
+        PutEventsRequest.builder().entries(request.stream().map(PendingEntry::entry).toList());
+    var response = attempt(() -> eventBridgeClient.putEvents(putEventsRequest.build()));
+    if (response.isFailure()) {
+      request.forEach(
+          entry -> sendToRecoveryQueue(entry.update(), response.getException(), batchItemFailures));
+      return;
+    }
+    for (var index = 0; index < request.size(); index++) {
+      var entry = request.get(index);
+      var rejection = findRejection(response.get(), index);
+      if (rejection.isPresent()) {
+        sendToRecoveryQueue(entry.update(), rejection.get(), batchItemFailures);
+      } else {
+        logger.info(EMITTED_EVENT_MESSAGE, entry.eventReference().toJsonString());
+      }
+    }
+  }
+
+  private static Optional<Exception> findRejection(PutEventsResponse response, int index) {
+    if (!response.hasEntries() || index >= response.entries().size()) {
+      return Optional.empty();
+    }
+    return Optional.of(response.entries().get(index))
+        .filter(result -> nonNull(result.errorCode()))
+        .map(DynamodbStreamToEventBridgeHandler::toRejection);
+  }
+
+  private static Exception toRejection(PutEventsResultEntry result) {
+    return new IllegalStateException(
+        REJECTED_ENTRY_MESSAGE.formatted(result.errorCode(), result.errorMessage()));
   }
 
-  private PutEventsRequest createPutEventRequest(Context context, EventReference eventReference)
+  @SuppressWarnings("PMD.DoNotUseThreads")
+  private List<Try<URI>> saveBlobsToS3(List<StreamUpdate> updates) {
+    var permits = new Semaphore(MAX_CONCURRENT_UPLOADS);
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures =
+          updates.stream()
+              .map(update -> executor.submit(() -> saveBlobToS3(update.event(), permits)))
+              .toList();
+      return futures.stream().map(FutureUtils::await).toList();
+    }
+  }
+
+  private Try<URI> saveBlobToS3(DataEntryUpdateEvent blob, Semaphore permits) {
+    logger.info(PROCESSING_EVENT_MESSAGE, getIdentifier(blob));
+    return attempt(
+        () -> {
+          permits.acquire();
+          try {
+            return saveBlobToS3(blob);
+          } finally {
+            permits.release();
+          }
+        });
+  }
+
+  private PendingEntry createPendingEntry(
+      StreamUpdate update, EventReference eventReference, Context context)
       throws JsonProcessingException {
     var entry =
         PutEventsRequestEntry.builder()
@@ -168,7 +325,7 @@ public class DynamodbStreamToEventBridgeHandler
             .resources(context.getInvokedFunctionArn())
             .detail(toEvenBridgeDetail(eventReference))
             .build();
-    return PutEventsRequest.builder().entries(entry).build();
+    return new PendingEntry(update, eventReference, entry, sizeOf(entry));
   }
 
   private URI saveBlobToS3(DataEntryUpdateEvent blob) throws IOException {
@@ -185,4 +342,9 @@ public class DynamodbStreamToEventBridgeHandler
   private Entity getEntity(Map<String, AttributeValue> image) {
     return attempt(() -> toEntity(image)).toOptional().flatMap(Function.identity()).orElse(null);
   }
+
+  private record StreamUpdate(DynamodbStreamRecord record, DataEntryUpdateEvent event) {}
+
+  private record PendingEntry(
+      StreamUpdate update, EventReference eventReference, PutEventsRequestEntry entry, int size) {}
 }
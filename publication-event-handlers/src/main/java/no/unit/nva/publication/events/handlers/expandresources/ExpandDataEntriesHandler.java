@@ -31,6 +31,7 @@ import no.unit.nva.publication.queue.RecoveryEntry;
 import no.unit.nva.publication.queue.ResourceQueueClient;
 import no.unit.nva.publication.service.impl.ResourceService;
 import no.unit.nva.publication.service.impl.TicketService;
+import no.unit.nva.publication.uriretriever.CachingRawContentRetriever;
 import no.unit.nva.s3.S3Driver;
 import nva.commons.core.Environment;
 import nva.commons.core.JacocoGenerated;
@@ -124,11 +125,12 @@ public class ExpandDataEntriesHandler
 
   @JacocoGenerated
   private static ResourceExpansionService defaultResourceExpansionService() {
-    var uriRetriever = new UriRetriever();
+    var uriRetriever = new CachingRawContentRetriever(new UriRetriever());
     var authorizedUriRetriever =
-        new AuthorizedBackendUriRetriever(
-            ENVIRONMENT.readEnv(BACKEND_CLIENT_AUTH_URL),
-            ENVIRONMENT.readEnv(BACKEND_CLIENT_SECRET_NAME));
+        new CachingRawContentRetriever(
+            new AuthorizedBackendUriRetriever(
+                ENVIRONMENT.readEnv(BACKEND_CLIENT_AUTH_URL),
+                ENVIRONMENT.readEnv(BACKEND_CLIENT_SECRET_NAME)));
     return new ResourceExpansionServiceImpl(
         defaultResourceService(),
         TicketService.defaultService(),
@@ -0,0 +1,46 @@
+package no.unit.nva.publication.events.handlers.fanout;
+
+import static java.util.Objects.isNull;
+import static no.unit.nva.publication.model.storage.Dao.VERSION_FIELD;
+import static no.unit.nva.publication.model.storage.DynamoEntry.CONTAINED_DATA_FIELD_NAME;
+
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.OperationType;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Classifies a DynamoDB stream record from its uncompressed attributes only, so that records which
+ * do not change the stored data can be recognised without decompressing and parsing the images.
+ */
+public enum StreamRecordChange {
+  /** The record was inserted or removed, or its data attribute changed. */
+  CONTENT_CHANGE,
+  /** Only the version attribute changed, which is how a record is marked for reindexing. */
+  REINDEX,
+  /** Neither the data nor the version attribute changed. */
+  NO_OP;
+
+  public static StreamRecordChange classify(DynamodbStreamRecord record) {
+    var oldImage = record.getDynamodb().getOldImage();
+    var newImage = record.getDynamodb().getNewImage();
+    if (!isModification(record) || isNull(oldImage) || isNull(newImage)) {
+      return CONTENT_CHANGE;
+    }
+    if (isNull(oldImage.get(CONTAINED_DATA_FIELD_NAME))
+        || !sameAttribute(oldImage, newImage, CONTAINED_DATA_FIELD_NAME)) {
+      return CONTENT_CHANGE;
+    }
+    return sameAttribute(oldImage, newImage, VERSION_FIELD) ? NO_OP : REINDEX;
+  }
+
+  private static boolean isModification(DynamodbStreamRecord record) {
+    return OperationType.MODIFY.toString().equals(record.getEventName());
+  }
+
+  private static boolean sameAttribute(
+      Map<String, AttributeValue> oldImage, Map<String, AttributeValue> newImage, String name) {
+    return Objects.equals(oldImage.get(name), newImage.get(name));
+  }
+}
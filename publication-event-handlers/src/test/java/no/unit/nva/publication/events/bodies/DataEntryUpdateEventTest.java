@@ -9,6 +9,7 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +81,17 @@ public class DataEntryUpdateEventTest {
     assertFalse(dataEntryUpdateEvent.shouldProcessUpdate(environment));
   }
 
+  @Test
+  void shouldProcessUpdateOfEntityWithoutModifiedDateWhenIgnoringBatchScan() {
+    var resource = Resource.fromPublication(randomPublication());
+    resource.setModifiedDate(null);
+    var dataEntryUpdateEvent = new DataEntryUpdateEvent(randomString(), resource, resource);
+    var environment = mock(Environment.class);
+    when(environment.readEnvOpt("SHOULD_IGNORE_BATCH_SCAN")).thenReturn(Optional.of("true"));
+
+    assertTrue(dataEntryUpdateEvent.shouldProcessUpdate(environment));
+  }
+
   private static boolean isTypeWithSubtypes(Type type) {
     return type.value().getAnnotationsByType(JsonSubTypes.class).length > 0;
   }
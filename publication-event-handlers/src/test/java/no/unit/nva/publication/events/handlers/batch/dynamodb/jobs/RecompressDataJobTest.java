@@ -0,0 +1,126 @@
+package no.unit.nva.publication.events.handlers.batch.dynamodb.jobs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static no.unit.nva.publication.model.storage.compression.DataCompression.LEGACY_DEFLATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import no.unit.nva.publication.events.handlers.batch.dynamodb.BatchWorkItem;
+import no.unit.nva.publication.events.handlers.batch.dynamodb.DynamodbResourceBatchDynamoDbKey;
+import no.unit.nva.publication.model.storage.compression.DataCompression;
+import no.unit.nva.publication.model.storage.compression.DeflateCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+@ExtendWith(MockitoExtension.class)
+class RecompressDataJobTest {
+
+  private static final String TEST_TABLE_NAME = "test-table";
+  private static final String TEST_PARTITION_KEY = "Resource:0190e0e7-5eef-7d23-b716-02c670833fcd";
+  private static final String TEST_SORT_KEY = "Resource";
+  private static final byte[] DATA = "{\"type\":\"Resource\"}".getBytes(UTF_8);
+  private static final int FASTEST = 1;
+
+  @Mock private DynamoDbClient mockDynamoDbClient;
+
+  private DataCompression compression;
+  private RecompressDataJob recompressDataJob;
+
+  @BeforeEach
+  void setUp() {
+    compression = DataCompression.create(DeflateCodec.NAME, FASTEST);
+    recompressDataJob = new RecompressDataJob(mockDynamoDbClient, TEST_TABLE_NAME, compression);
+  }
+
+  @Test
+  void shouldReturnCorrectJobType() {
+    assertThat(recompressDataJob.getJobType(), is(equalTo("RECOMPRESS_DATA")));
+  }
+
+  @Test
+  void shouldRewriteLegacyBlobWithWriterCodecAndKeepVersion() throws IOException {
+    var version = AttributeValue.fromS(UUID.randomUUID().toString());
+    var legacyBlob = DataCompression.create(LEGACY_DEFLATE, 9).compress(DATA);
+    mockStoredItem(legacyBlob, version);
+    when(mockDynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+        .thenReturn(UpdateItemResponse.builder().build());
+
+    recompressDataJob.executeBatch(List.of(createWorkItem()));
+
+    var request = captureUpdateRequest();
+    var rewrittenBlob = request.expressionAttributeValues().get(":data").b().asByteArray();
+    assertThat(compression.isWrittenByWriter(rewrittenBlob), is(true));
+    assertThat(compression.decompress(rewrittenBlob), is(equalTo(DATA)));
+    assertThat(request.expressionAttributeValues().get(":version"), is(equalTo(version)));
+    assertThat(request.conditionExpression(), is(equalTo("#version = :version")));
+  }
+
+  @Test
+  void shouldNotRewriteBlobAlreadyWrittenWithWriterCodec() throws IOException {
+    mockStoredItem(compression.compress(DATA), AttributeValue.fromS(UUID.randomUUID().toString()));
+
+    recompressDataJob.executeBatch(List.of(createWorkItem()));
+
+    verify(mockDynamoDbClient, never()).updateItem(any(UpdateItemRequest.class));
+  }
+
+  @Test
+  void shouldSkipRecordsUpdatedConcurrently() throws IOException {
+    var legacyBlob = DataCompression.create(LEGACY_DEFLATE, 9).compress(DATA);
+    mockStoredItem(legacyBlob, AttributeValue.fromS(UUID.randomUUID().toString()));
+    when(mockDynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+        .thenThrow(ConditionalCheckFailedException.builder().message("changed").build());
+
+    assertDoesNotThrow(() -> recompressDataJob.executeBatch(List.of(createWorkItem())));
+  }
+
+  @Test
+  void shouldIgnoreRecordsThatNoLongerExist() {
+    when(mockDynamoDbClient.getItem(any(GetItemRequest.class)))
+        .thenReturn(GetItemResponse.builder().build());
+
+    recompressDataJob.executeBatch(List.of(createWorkItem()));
+
+    verify(mockDynamoDbClient, never()).updateItem(any(UpdateItemRequest.class));
+  }
+
+  private static BatchWorkItem createWorkItem() {
+    var key = new DynamodbResourceBatchDynamoDbKey(TEST_PARTITION_KEY, TEST_SORT_KEY);
+    return new BatchWorkItem(key, "RECOMPRESS_DATA");
+  }
+
+  private void mockStoredItem(byte[] blob, AttributeValue version) {
+    var item =
+        Map.of("data", AttributeValue.fromB(SdkBytes.fromByteArray(blob)), "version", version);
+    when(mockDynamoDbClient.getItem(any(GetItemRequest.class)))
+        .thenReturn(GetItemResponse.builder().item(item).build());
+  }
+
+  private UpdateItemRequest captureUpdateRequest() {
+    var captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+    verify(mockDynamoDbClient).updateItem(captor.capture());
+    return captor.getValue();
+  }
+}
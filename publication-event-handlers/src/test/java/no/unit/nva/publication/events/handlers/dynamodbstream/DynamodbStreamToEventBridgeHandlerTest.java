@@ -11,20 +11,28 @@ import static no.unit.nva.publication.events.handlers.fanout.DynamodbStreamRecor
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static nva.commons.core.attempt.Try.attempt;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
 import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
 import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
 import com.amazonaws.services.lambda.runtime.events.models.dynamodb.OperationType;
 import com.amazonaws.services.lambda.runtime.events.models.dynamodb.StreamRecord;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse.BatchItemFailure;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -35,6 +43,8 @@ import no.unit.nva.publication.model.business.Entity;
 import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.model.storage.Dao;
+import no.unit.nva.publication.queue.QueueClient;
 import no.unit.nva.publication.service.FakeSqsClient;
 import no.unit.nva.s3.S3Driver;
 import no.unit.nva.stubs.FakeContext;
@@ -50,10 +60,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 class DynamodbStreamToEventBridgeHandlerTest {
 
@@ -168,6 +184,108 @@ class DynamodbStreamToEventBridgeHandlerTest {
     assertEquals(numberOfEvents - 1, singleFailureS3Client.getSuccessRequest().size());
   }
 
+  @Test
+  void shouldPackEventReferencesIntoPutEventsRequestsOfAtMostTenEntries() {
+    var eventBridgeClient = new RecordingEventBridgeClient();
+    handler =
+        new DynamodbStreamToEventBridgeHandler(
+            s3Client, eventBridgeClient, fakeSqsClient, new Environment());
+
+    handler.handleRequest(randomEventWithMultipleRecords(25), context);
+
+    var requestSizes =
+        eventBridgeClient.getRequests().stream().map(request -> request.entries().size()).toList();
+    assertThat(requestSizes, is(equalTo(List.of(10, 10, 5))));
+  }
+
+  @Test
+  void shouldPlaceEntryRejectedByEventBridgeOnRecoveryQueue() {
+    var eventBridgeClient = new RecordingEventBridgeClient(rejectedEntry());
+    handler =
+        new DynamodbStreamToEventBridgeHandler(
+            s3Client, eventBridgeClient, fakeSqsClient, new Environment());
+
+    var response = handler.handleRequest(randomEventWithMultipleRecords(3), context);
+
+    assertThat(fakeSqsClient.getDeliveredMessages().size(), is(equalTo(1)));
+    assertThat(response.getBatchItemFailures(), is(empty()));
+  }
+
+  @Test
+  void shouldReportBatchItemFailureWhenRecordCannotBePlacedOnRecoveryQueue() {
+    var event =
+        randomEventWithSingleDynamoRecord(
+            OperationType.MODIFY,
+            Resource.fromPublication(randomPublication()),
+            Resource.fromPublication(randomPublication()));
+    var sequenceNumber = randomString();
+    event.getRecords().getFirst().getDynamodb().setSequenceNumber(sequenceNumber);
+    handler =
+        new DynamodbStreamToEventBridgeHandler(
+            createFailingS3Client(), eventBridgeClient, failingQueueClient(), new Environment());
+
+    var response = handler.handleRequest(event, context);
+
+    var failedSequenceNumbers =
+        response.getBatchItemFailures().stream().map(BatchItemFailure::getItemIdentifier).toList();
+    assertThat(failedSequenceNumbers, contains(sequenceNumber));
+  }
+
+  @Test
+  void shouldNotWriteVersionOnlyRefreshToS3WhenBatchScansAreIgnored() {
+    var event = new DynamodbEvent();
+    var image = toDynamoDbFormat(Resource.fromPublication(randomPublication()));
+    var refreshedImage = new HashMap<>(image);
+    refreshedImage.put(Dao.VERSION_FIELD, new AttributeValue(randomString()));
+    event.setRecords(
+        List.of(randomRecord(randomDynamoRecord(OperationType.MODIFY), image, refreshedImage)));
+
+    handler.handleRequest(event, context);
+
+    var persistedEvents = new S3Driver(s3Client, EVENTS_BUCKET).getFiles(UnixPath.ROOT_PATH);
+    assertThat(persistedEvents, is(empty()));
+  }
+
+  @Test
+  void shouldWriteVersionOnlyRefreshWithoutModifiedDateToS3WhenBatchScansAreIgnored() {
+    var event = new DynamodbEvent();
+    var resource = Resource.fromPublication(randomPublication());
+    resource.setModifiedDate(null);
+    var image = toDynamoDbFormat(resource);
+    var refreshedImage = new HashMap<>(image);
+    refreshedImage.put(Dao.VERSION_FIELD, new AttributeValue(randomString()));
+    event.setRecords(
+        List.of(randomRecord(randomDynamoRecord(OperationType.MODIFY), image, refreshedImage)));
+
+    handler.handleRequest(event, context);
+
+    var persistedEvents = new S3Driver(s3Client, EVENTS_BUCKET).getFiles(UnixPath.ROOT_PATH);
+    assertThat(persistedEvents, hasSize(1));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldWriteRecordWithUnchangedDataToS3WhenBatchScansAreNotIgnored(boolean newVersion) {
+    var environment = mock(Environment.class);
+    when(environment.readEnvOpt("SHOULD_IGNORE_BATCH_SCAN")).thenReturn(Optional.of("false"));
+    handler =
+        new DynamodbStreamToEventBridgeHandler(
+            s3Client, eventBridgeClient, fakeSqsClient, environment);
+    var event = new DynamodbEvent();
+    var image = toDynamoDbFormat(Resource.fromPublication(randomPublication()));
+    var newImage = new HashMap<>(image);
+    if (newVersion) {
+      newImage.put(Dao.VERSION_FIELD, new AttributeValue(randomString()));
+    }
+    event.setRecords(
+        List.of(randomRecord(randomDynamoRecord(OperationType.MODIFY), image, newImage)));
+
+    handler.handleRequest(event, context);
+
+    var persistedEvents = new S3Driver(s3Client, EVENTS_BUCKET).getFiles(UnixPath.ROOT_PATH);
+    assertThat(persistedEvents, hasSize(1));
+  }
+
   private static FileEntry randomFileEntry() {
     return FileEntry.create(
         randomOpenFile(),
@@ -265,13 +383,14 @@ class DynamodbStreamToEventBridgeHandlerTest {
     @Override
     public void close() {}
 
-    public List<PutObjectRequest> getSuccessRequest() {
+    public synchronized List<PutObjectRequest> getSuccessRequest() {
       return successRequest;
     }
 
     @SuppressWarnings("PMD.CloseResource")
     @Override
-    public PutObjectResponse putObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+    public synchronized PutObjectResponse putObject(
+        PutObjectRequest putObjectRequest, RequestBody requestBody) {
       if (!hasFailed) {
         hasFailed = true;
         throw new RuntimeException(EXPECTED_EXCEPTION_MESSAGE);
@@ -293,4 +412,54 @@ class DynamodbStreamToEventBridgeHandlerTest {
   private Entity getEntity(Map<String, AttributeValue> image) {
     return attempt(() -> toEntity(image)).toOptional().flatMap(Function.identity()).orElse(null);
   }
+
+  private static PutEventsResultEntry rejectedEntry() {
+    return PutEventsResultEntry.builder()
+        .errorCode("InternalFailure")
+        .errorMessage(EXPECTED_EXCEPTION_MESSAGE)
+        .build();
+  }
+
+  private static QueueClient failingQueueClient() {
+    return new FakeSqsClient() {
+      @Override
+      public void sendMessage(SendMessageRequest sendMessageRequest) {
+        throw new RuntimeException(EXPECTED_EXCEPTION_MESSAGE);
+      }
+    };
+  }
+
+  private static class RecordingEventBridgeClient implements EventBridgeClient {
+
+    private final List<PutEventsRequest> requests = new ArrayList<>();
+    private final List<PutEventsResultEntry> leadingResults;
+
+    RecordingEventBridgeClient(PutEventsResultEntry... leadingResults) {
+      this.leadingResults = List.of(leadingResults);
+    }
+
+    List<PutEventsRequest> getRequests() {
+      return requests;
+    }
+
+    @Override
+    public String serviceName() {
+      return "";
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public PutEventsResponse putEvents(PutEventsRequest putEventsRequest) {
+      requests.add(putEventsRequest);
+      var results = new ArrayList<>(leadingResults);
+      while (results.size() < putEventsRequest.entries().size()) {
+        results.add(PutEventsResultEntry.builder().eventId(randomString()).build());
+      }
+      var failedEntries =
+          (int) results.stream().filter(result -> nonNull(result.errorCode())).count();
+      return PutEventsResponse.builder().entries(results).failedEntryCount(failedEntries).build();
+    }
+  }
 }
@@ -0,0 +1,71 @@
+package no.unit.nva.publication.events.handlers.fanout;
+
+import static no.unit.nva.model.testing.PublicationGenerator.randomPublication;
+import static no.unit.nva.publication.model.storage.Dao.VERSION_FIELD;
+import static no.unit.nva.testutils.RandomDataGenerator.randomString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent.DynamodbStreamRecord;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.OperationType;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.StreamRecord;
+import java.util.HashMap;
+import java.util.Map;
+import no.unit.nva.publication.events.handlers.dynamodbstream.DynamoDbEventTestFactory;
+import no.unit.nva.publication.model.business.Resource;
+import org.junit.jupiter.api.Test;
+
+class StreamRecordChangeTest {
+
+  @Test
+  void shouldClassifyInsertAsContentChange() {
+    var record = streamRecord(OperationType.INSERT, null, randomImage());
+
+    assertThat(StreamRecordChange.classify(record), is(equalTo(StreamRecordChange.CONTENT_CHANGE)));
+  }
+
+  @Test
+  void shouldClassifyModificationOfDataAsContentChange() {
+    var record = streamRecord(OperationType.MODIFY, randomImage(), randomImage());
+
+    assertThat(StreamRecordChange.classify(record), is(equalTo(StreamRecordChange.CONTENT_CHANGE)));
+  }
+
+  @Test
+  void shouldClassifyModificationOfVersionOnlyAsReindex() {
+    var oldImage = randomImage();
+    var newImage = new HashMap<>(oldImage);
+    newImage.put(VERSION_FIELD, new AttributeValue(randomString()));
+    var record = streamRecord(OperationType.MODIFY, oldImage, newImage);
+
+    assertThat(StreamRecordChange.classify(record), is(equalTo(StreamRecordChange.REINDEX)));
+  }
+
+  @Test
+  void shouldClassifyModificationOfNeitherDataNorVersionAsNoOp() {
+    var oldImage = randomImage();
+    var record = streamRecord(OperationType.MODIFY, oldImage, new HashMap<>(oldImage));
+
+    assertThat(StreamRecordChange.classify(record), is(equalTo(StreamRecordChange.NO_OP)));
+  }
+
+  private static Map<String, AttributeValue> randomImage() {
+    var dao = Resource.fromPublication(randomPublication()).toDao();
+    return DynamoDbEventTestFactory.toEventImage(dao.toDynamoFormat());
+  }
+
+  private static DynamodbStreamRecord streamRecord(
+      OperationType operationType,
+      Map<String, AttributeValue> oldImage,
+      Map<String, AttributeValue> newImage) {
+    var record = new DynamodbStreamRecord();
+    record.setEventName(operationType);
+    var dynamodb = new StreamRecord();
+    dynamodb.setOldImage(oldImage);
+    dynamodb.setNewImage(newImage);
+    record.setDynamodb(dynamodb);
+    return record;
+  }
+}
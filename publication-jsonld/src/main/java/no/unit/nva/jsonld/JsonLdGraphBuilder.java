@@ -0,0 +1,551 @@
+package no.unit.nva.jsonld;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.apache.jena.vocabulary.RDF;
+
+/**
+ * Builds the RDF graph of a JSON-LD document by walking its Jackson tree, instead of serializing
+ * the document to text and having a JSON-LD processor parse it back. The graph is isomorphic to the
+ * one Jena reads from the same document.
+ *
+ * <p>Only the JSON-LD 1.1 features used by the publication context are supported: {@code @vocab},
+ * keyword aliases, compact IRIs, type coercion, {@code @set} and {@code @language} containers, and
+ * property-scoped contexts. Contexts must be embedded in the document. A document using any other
+ * feature is rejected with an {@link UnsupportedJsonLdException}, so that the caller can fall back
+ * to a JSON-LD processor.
+ */
+public final class JsonLdGraphBuilder {
+
+  private static final String CONTEXT = "@context";
+  private static final String ID = "@id";
+  private static final String TYPE = "@type";
+  private static final String VOCAB = "@vocab";
+  private static final String LANGUAGE = "@language";
+  private static final String CONTAINER = "@container";
+  private static final String NONE = "@none";
+  private static final String JSON = "@json";
+  private static final Set<String> KEYWORDS =
+      Set.of(
+          "@base",
+          CONTAINER,
+          CONTEXT,
+          "@direction",
+          "@graph",
+          ID,
+          "@import",
+          "@included",
+          "@index",
+          JSON,
+          LANGUAGE,
+          "@list",
+          "@nest",
+          NONE,
+          "@prefix",
+          "@propagate",
+          "@protected",
+          "@reverse",
+          "@set",
+          TYPE,
+          "@value",
+          "@version",
+          VOCAB);
+  private static final Set<String> NON_DATATYPE_MAPPINGS = Set.of(ID, VOCAB, NONE, JSON);
+  private static final Set<String> IGNORED_CONTEXT_ENTRIES = Set.of("@version", "@protected");
+  private static final Pattern KEYWORD_FORM = Pattern.compile("@[a-zA-Z]+");
+  private static final Pattern ABSOLUTE_IRI = Pattern.compile("[a-zA-Z][a-zA-Z0-9+.-]*:\\S*");
+  private static final String BLANK_NODE_PREFIX = "_:";
+  private static final String GENERAL_DELIMITERS = ":/?#[]@";
+  private static final String DOUBLE_PATTERN = "0.0##############E0";
+  private static final TermDefinition UNMAPPED_TERM =
+      new TermDefinition(null, null, false, null, false);
+  private static final int MAX_DOCUMENT_CONTEXTS = 16;
+  private static final ThreadLocal<DecimalFormat> DOUBLE_FORMAT =
+      ThreadLocal.withInitial(JsonLdGraphBuilder::doubleFormat);
+  private static final Map<String, ActiveContext> DOCUMENT_CONTEXTS = new ConcurrentHashMap<>();
+
+  private final Graph graph = GraphFactory.createDefaultGraph();
+  private final Map<String, Node> blankNodes = new HashMap<>();
+
+  private JsonLdGraphBuilder() {}
+
+  /**
+   * Returns the graph of the document.
+   *
+   * @throws UnsupportedJsonLdException if the document uses a feature that is not supported
+   */
+  public static Graph toGraph(JsonNode document) {
+    var builder = new JsonLdGraphBuilder();
+    builder.emitTopLevel(document);
+    return builder.graph;
+  }
+
+  /**
+   * Returns the graph of the document as a model.
+   *
+   * @throws UnsupportedJsonLdException if the document uses a feature that is not supported
+   */
+  public static Model toModel(JsonNode document) {
+    return ModelFactory.createModelForGraph(toGraph(document));
+  }
+
+  private void emitTopLevel(JsonNode document) {
+    if (document.isArray()) {
+      document.forEach(this::emitTopLevel);
+    } else if (document.isObject()) {
+      emitNode((ObjectNode) document, ActiveContext.EMPTY);
+    }
+  }
+
+  private Optional<Node> emitNode(ObjectNode object, ActiveContext outerContext) {
+    var context =
+        object.has(CONTEXT) ? withEmbeddedContext(outerContext, object.get(CONTEXT)) : outerContext;
+    var subject = subjectOf(object, context);
+    for (var field : object.properties()) {
+      var key = field.getKey();
+      var expandedKey = context.expandIri(key, true, false);
+      if (isNull(expandedKey) || CONTEXT.equals(key) || ID.equals(expandedKey)) {
+        continue;
+      }
+      if (TYPE.equals(expandedKey)) {
+        subject.ifPresent(node -> emitTypes(node, field.getValue(), context));
+      } else if (KEYWORDS.contains(expandedKey)) {
+        throw new UnsupportedJsonLdException(expandedKey);
+      } else if (isAbsoluteIri(expandedKey)) {
+        var property = NodeFactory.createURI(expandedKey);
+        emitProperty(subject, property, key, field.getValue(), context);
+      }
+    }
+    return subject;
+  }
+
+  private static ActiveContext withEmbeddedContext(ActiveContext context, JsonNode localContext) {
+    return context == ActiveContext.EMPTY
+        ? documentContext(localContext)
+        : context.with(localContext);
+  }
+
+  /**
+   * Returns the processed top-level context of a document. Documents usually embed one of a few
+   * contexts, so these are kept, keyed by their text so that a caller changing its tree later does
+   * not change the key. A copy of the context is processed, since the term definitions keep parts
+   * of it. At most {@value #MAX_DOCUMENT_CONTEXTS} contexts are kept, and others are processed for
+   * every document.
+   */
+  private static ActiveContext documentContext(JsonNode localContext) {
+    var key = localContext.toString();
+    var cached = DOCUMENT_CONTEXTS.get(key);
+    if (nonNull(cached)) {
+      return cached;
+    }
+    var processed = ActiveContext.EMPTY.with(localContext.deepCopy());
+    if (DOCUMENT_CONTEXTS.size() < MAX_DOCUMENT_CONTEXTS) {
+      DOCUMENT_CONTEXTS.putIfAbsent(key, processed);
+    }
+    return processed;
+  }
+
+  private Optional<Node> subjectOf(ObjectNode object, ActiveContext context) {
+    JsonNode identifier = null;
+    for (var field : object.properties()) {
+      if (ID.equals(context.expandIri(field.getKey(), true, false))) {
+        identifier = field.getValue();
+      }
+    }
+    if (isNull(identifier) || identifier.isNull()) {
+      return Optional.of(NodeFactory.createBlankNode());
+    }
+    if (!identifier.isTextual()) {
+      throw new UnsupportedJsonLdException(ID);
+    }
+    return toResourceNode(context.expandIri(identifier.textValue(), false, true));
+  }
+
+  private void emitTypes(Node subject, JsonNode types, ActiveContext context) {
+    if (types.isArray()) {
+      types.forEach(type -> emitTypes(subject, type, context));
+    } else if (types.isTextual()) {
+      toResourceNode(context.expandIri(types.textValue(), true, true))
+          .ifPresent(type -> graph.add(subject, RDF.type.asNode(), type));
+    } else if (!types.isNull()) {
+      throw new UnsupportedJsonLdException(TYPE);
+    }
+  }
+
+  private void emitProperty(
+      Optional<Node> subject, Node property, String key, JsonNode value, ActiveContext context) {
+    var term = context.term(key);
+    var valueContext = context.withScopedContextOf(term);
+    if (nonNull(term) && term.languageContainer() && value.isObject()) {
+      emitLanguageMap(subject, property, value, valueContext);
+    } else {
+      emitValue(subject, property, value, valueContext, valueContext.term(key));
+    }
+  }
+
+  private void emitLanguageMap(
+      Optional<Node> subject, Node property, JsonNode languageMap, ActiveContext context) {
+    for (var entry : languageMap.properties()) {
+      var isNone = NONE.equals(context.expandIri(entry.getKey(), true, false));
+      emitLanguageValues(subject, property, entry.getValue(), isNone ? null : entry.getKey());
+    }
+  }
+
+  private void emitLanguageValues(
+      Optional<Node> subject, Node property, JsonNode values, String language) {
+    if (values.isArray()) {
+      values.forEach(value -> emitLanguageValues(subject, property, value, language));
+    } else if (values.isTextual()) {
+      var literal =
+          isNull(language)
+              ? NodeFactory.createLiteralString(values.textValue())
+              : NodeFactory.createLiteralLang(values.textValue(), language);
+      subject.ifPresent(node -> graph.add(node, property, literal));
+    } else if (!values.isNull()) {
+      throw new UnsupportedJsonLdException(LANGUAGE);
+    }
+  }
+
+  private void emitValue(
+      Optional<Node> subject,
+      Node property,
+      JsonNode value,
+      ActiveContext context,
+      TermDefinition term) {
+    if (value.isArray()) {
+      value.forEach(element -> emitValue(subject, property, element, context, term));
+      return;
+    }
+    var object =
+        value.isObject()
+            ? emitNode((ObjectNode) value, context)
+            : toValueNode(value, context, term);
+    if (subject.isPresent() && object.isPresent()) {
+      graph.add(subject.get(), property, object.get());
+    }
+  }
+
+  private Optional<Node> toValueNode(JsonNode value, ActiveContext context, TermDefinition term) {
+    var typeMapping = nonNull(term) ? term.typeMapping() : null;
+    if (value.isTextual()) {
+      return toStringNode(value.textValue(), context, typeMapping);
+    }
+    var datatype = isDatatype(typeMapping) ? Optional.of(typeMapping) : Optional.<String>empty();
+    if (value.isBoolean()) {
+      return Optional.of(
+          literal(value.asText(), datatype.orElse(XSDDatatype.XSDboolean.getURI())));
+    }
+    if (value.isNumber()) {
+      return Optional.of(toNumberNode(value, datatype));
+    }
+    if (value.isNull()) {
+      return Optional.empty();
+    }
+    throw new UnsupportedJsonLdException(value.getNodeType().toString());
+  }
+
+  private Optional<Node> toStringNode(String value, ActiveContext context, String typeMapping) {
+    if (ID.equals(typeMapping)) {
+      return toResourceNode(context.expandIri(value, false, true));
+    }
+    if (VOCAB.equals(typeMapping)) {
+      return toResourceNode(context.expandIri(value, true, true));
+    }
+    return Optional.of(
+        isDatatype(typeMapping)
+            ? literal(value, typeMapping)
+            : NodeFactory.createLiteralString(value));
+  }
+
+  /**
+   * Writes numbers like JSON-LD does: integral numbers as xsd:integer, and other numbers as
+   * xsd:double in canonical form, unless the term coerces them to another datatype.
+   */
+  private static Node toNumberNode(JsonNode value, Optional<String> datatype) {
+    var integral =
+        value.isIntegralNumber() || value.isBigDecimal() && value.decimalValue().scale() == 0;
+    var isDouble = datatype.filter(XSDDatatype.XSDdouble.getURI()::equals).isPresent();
+    if (integral && !isDouble) {
+      return literal(
+          value.bigIntegerValue().toString(),
+          datatype.orElse(XSDDatatype.XSDinteger.getURI()));
+    }
+    return literal(
+        DOUBLE_FORMAT.get().format(value.doubleValue()),
+        datatype.orElse(XSDDatatype.XSDdouble.getURI()));
+  }
+
+  private static DecimalFormat doubleFormat() {
+    var format = new DecimalFormat(DOUBLE_PATTERN, new DecimalFormatSymbols(Locale.ENGLISH));
+    format.setMinimumFractionDigits(1);
+    return format;
+  }
+
+  private static Node literal(String lexicalForm, String datatype) {
+    return NodeFactory.createLiteralDT(
+        lexicalForm, TypeMapper.getInstance().getSafeTypeByName(datatype));
+  }
+
+  private static boolean isDatatype(String typeMapping) {
+    return nonNull(typeMapping) && !NON_DATATYPE_MAPPINGS.contains(typeMapping);
+  }
+
+  /** Relative IRIs are left out, because documents are read without a base IRI. */
+  private Optional<Node> toResourceNode(String iri) {
+    if (isNull(iri)) {
+      return Optional.empty();
+    }
+    if (iri.startsWith(BLANK_NODE_PREFIX)) {
+      return Optional.of(blankNodes.computeIfAbsent(iri, label -> NodeFactory.createBlankNode()));
+    }
+    return isAbsoluteIri(iri) ? Optional.of(NodeFactory.createURI(iri)) : Optional.empty();
+  }
+
+  private static boolean isAbsoluteIri(String iri) {
+    return ABSOLUTE_IRI.matcher(iri).matches();
+  }
+
+  /**
+   * Expands a term, compact IRI or IRI with the IRI expansion algorithm of JSON-LD 1.1. Relative
+   * IRIs are returned unchanged when {@code documentRelative} is set, since there is no base IRI.
+   */
+  private static String expandIri(
+      String value,
+      boolean vocabularyRelative,
+      boolean documentRelative,
+      String vocabulary,
+      Map<String, TermDefinition> terms) {
+    if (KEYWORDS.contains(value)) {
+      return value;
+    }
+    if (KEYWORD_FORM.matcher(value).matches()) {
+      return null;
+    }
+    if (vocabularyRelative && terms.containsKey(value)) {
+      return terms.get(value).iri();
+    }
+    var colon = value.indexOf(':');
+    if (colon > 0) {
+      var prefix = value.substring(0, colon);
+      var suffix = value.substring(colon + 1);
+      if ("_".equals(prefix) || suffix.startsWith("//")) {
+        return value;
+      }
+      var prefixTerm = terms.get(prefix);
+      if (nonNull(prefixTerm) && nonNull(prefixTerm.iri()) && prefixTerm.prefix()) {
+        return prefixTerm.iri() + suffix;
+      }
+      if (isAbsoluteIri(value)) {
+        return value;
+      }
+    }
+    if (vocabularyRelative && nonNull(vocabulary)) {
+      return vocabulary + value;
+    }
+    return documentRelative ? value : null;
+  }
+
+  /** Thrown when a document uses a JSON-LD feature that the builder does not support. */
+  public static final class UnsupportedJsonLdException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    UnsupportedJsonLdException(String feature) {
+      super("Unsupported JSON-LD feature: " + feature);
+    }
+  }
+
+  private record TermDefinition(
+      String iri,
+      String typeMapping,
+      boolean languageContainer,
+      JsonNode scopedContext,
+      boolean prefix) {}
+
+  /**
+   * The vocabulary and terms in effect for part of a document. Contexts are immutable, and the
+   * contexts derived from property-scoped contexts are kept, so that each is processed once.
+   */
+  private static final class ActiveContext {
+
+    private static final ActiveContext EMPTY = new ActiveContext(null, Map.of());
+
+    private final String vocabulary;
+    private final Map<String, TermDefinition> terms;
+    private final Map<JsonNode, ActiveContext> scopedContexts = new ConcurrentHashMap<>();
+
+    private ActiveContext(String vocabulary, Map<String, TermDefinition> terms) {
+      this.vocabulary = vocabulary;
+      this.terms = terms;
+    }
+
+    TermDefinition term(String key) {
+      return terms.get(key);
+    }
+
+    String expandIri(String value, boolean vocabularyRelative, boolean documentRelative) {
+      return JsonLdGraphBuilder.expandIri(
+          value, vocabularyRelative, documentRelative, vocabulary, terms);
+    }
+
+    ActiveContext withScopedContextOf(TermDefinition term) {
+      return nonNull(term) && nonNull(term.scopedContext())
+          ? scopedContexts.computeIfAbsent(term.scopedContext(), this::with)
+          : this;
+    }
+
+    ActiveContext with(JsonNode localContext) {
+      if (localContext.isArray()) {
+        var result = this;
+        for (var element : localContext) {
+          result = result.with(element);
+        }
+        return result;
+      }
+      if (localContext.isNull()) {
+        return EMPTY;
+      }
+      if (!localContext.isObject()) {
+        throw new UnsupportedJsonLdException("remote context");
+      }
+      return new ContextProcessor(this, (ObjectNode) localContext).process();
+    }
+  }
+
+  /**
+   * Creates the term definitions of a local context. Terms are defined on demand, so that a term
+   * can refer to a term defined later in the same context, like {@code xsd:dateTime} does.
+   */
+  private static final class ContextProcessor {
+
+    private final ObjectNode localContext;
+    private final Map<String, TermDefinition> terms;
+    private final Map<String, Boolean> defined = new HashMap<>();
+    private String vocabulary;
+
+    ContextProcessor(ActiveContext activeContext, ObjectNode localContext) {
+      this.localContext = localContext;
+      this.terms = new HashMap<>(activeContext.terms);
+      this.vocabulary = activeContext.vocabulary;
+    }
+
+    ActiveContext process() {
+      var vocabularyMapping = localContext.get(VOCAB);
+      if (nonNull(vocabularyMapping)) {
+        vocabulary = vocabularyMapping.isNull() ? null : expand(vocabularyMapping.textValue());
+      }
+      for (var field : localContext.properties()) {
+        var key = field.getKey();
+        if (VOCAB.equals(key) || IGNORED_CONTEXT_ENTRIES.contains(key)) {
+          continue;
+        }
+        if (KEYWORDS.contains(key)) {
+          throw new UnsupportedJsonLdException(key);
+        }
+        define(key);
+      }
+      return new ActiveContext(vocabulary, Map.copyOf(terms));
+    }
+
+    private void define(String term) {
+      var state = defined.get(term);
+      if (Boolean.TRUE.equals(state)) {
+        return;
+      }
+      if (Boolean.FALSE.equals(state)) {
+        throw new UnsupportedJsonLdException("cyclic IRI mapping of " + term);
+      }
+      defined.put(term, false);
+      terms.put(term, createDefinition(term, localContext.get(term)));
+      defined.put(term, true);
+    }
+
+    private TermDefinition createDefinition(String term, JsonNode value) {
+      if (value.isNull()) {
+        return UNMAPPED_TERM;
+      }
+      if (value.isTextual()) {
+        var iri = iriMappingOf(term, value.textValue());
+        return new TermDefinition(iri, null, false, null, endsWithGeneralDelimiter(iri));
+      }
+      if (!value.isObject()) {
+        throw new UnsupportedJsonLdException("term definition of " + term);
+      }
+      var explicitIri = value.get(ID);
+      var iri = iriMappingOf(term, nonNull(explicitIri) ? explicitIri.textValue() : term);
+      var type = value.get(TYPE);
+      var typeMapping = nonNull(type) ? typeMappingOf(type.textValue()) : null;
+      var languageContainer = isLanguageContainer(value.get(CONTAINER));
+      return new TermDefinition(iri, typeMapping, languageContainer, value.get(CONTEXT), false);
+    }
+
+    private String iriMappingOf(String term, String value) {
+      if (isNull(value)) {
+        return null;
+      }
+      if (term.equals(value) && !value.contains(":")) {
+        if (isNull(vocabulary)) {
+          throw new UnsupportedJsonLdException("term without vocabulary: " + term);
+        }
+        return vocabulary + value;
+      }
+      return expand(value);
+    }
+
+    private String typeMappingOf(String type) {
+      return NON_DATATYPE_MAPPINGS.contains(type) ? type : expand(type);
+    }
+
+    private static boolean isLanguageContainer(JsonNode container) {
+      if (isNull(container)) {
+        return false;
+      }
+      if (container.isArray()) {
+        for (var element : container) {
+          if (LANGUAGE.equals(element.textValue())) {
+            return true;
+          }
+        }
+        return false;
+      }
+      return LANGUAGE.equals(container.textValue());
+    }
+
+    private String expand(String value) {
+      if (localContext.has(value) && !KEYWORDS.contains(value)) {
+        define(value);
+      }
+      var colon = value.indexOf(':');
+      if (colon > 0 && localContext.has(value.substring(0, colon))) {
+        define(value.substring(0, colon));
+      }
+      return expandIri(value, true, true, vocabulary, terms);
+    }
+
+    private static boolean endsWithGeneralDelimiter(String iri) {
+      return nonNull(iri)
+          && !iri.isEmpty()
+          && GENERAL_DELIMITERS.indexOf(iri.charAt(iri.length() - 1)) >= 0;
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package no.unit.nva.jsonld;
+
+import static no.unit.nva.model.testing.PublicationGenerator.randomPublication;
+import static nva.commons.core.attempt.Try.attempt;
+import static nva.commons.core.ioutils.IoUtils.stringToStream;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.net.URI;
+import java.util.stream.Stream;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.model.Publication;
+import no.unit.nva.model.testing.PublicationInstanceBuilder;
+import no.unit.nva.jsonld.JsonLdGraphBuilder.UnsupportedJsonLdException;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonLdGraphBuilderTest {
+
+  private static final URI BASE_URI = URI.create("https://api.test.nva.aws.unit.no");
+  private static final String CONTEXT = "@context";
+  private static final String ID = "id";
+
+  public static Stream<Class<?>> publicationInstanceProvider() {
+    return PublicationInstanceBuilder.listPublicationInstanceTypes().stream();
+  }
+
+  @ParameterizedTest
+  @MethodSource("publicationInstanceProvider")
+  void shouldBuildGraphIsomorphicWithParsedJsonLdForEveryInstanceType(Class<?> instanceType) {
+    var document = toDocument(randomPublication(instanceType));
+
+    var model = JsonLdGraphBuilder.toModel(document);
+
+    assertThat(model.isIsomorphicWith(parse(document)), is(true));
+  }
+
+  @Test
+  void shouldBuildGraphIsomorphicWithParsedJsonLdForLanguageMapsAndCoercedValues() {
+    var document =
+        toJsonNode(
+            """
+            {
+              "@context": {
+                "@vocab": "https://nva.sikt.no/ontology/publication#",
+                "xsd": "http://www.w3.org/2001/XMLSchema#",
+                "id": "@id",
+                "type": "@type",
+                "labels": {"@id": "label", "@container": "@language"},
+                "sameAs": {"@type": "@id"},
+                "year": {"@type": "xsd:gYear"},
+                "kind": {"@type": "@vocab"},
+                "owner": {"@context": {"name": "https://example.org/vocab#name"}}
+              },
+              "id": "https://example.org/publication/1",
+              "type": "Publication",
+              "labels": {"nb": "Tittel", "en": "Title"},
+              "sameAs": "https://example.org/other/1",
+              "year": "2024",
+              "kind": "Article",
+              "count": 3,
+              "ratio": 0.25,
+              "open": true,
+              "owner": {"id": "_:owner", "name": "Someone"},
+              "tags": ["a", "b", null]
+            }
+            """);
+
+    var model = JsonLdGraphBuilder.toModel(document);
+
+    assertThat(model.isIsomorphicWith(parse(document)), is(true));
+  }
+
+  @Test
+  void shouldNotReuseContextOfEarlierDocumentWhenItsTreeIsChangedAfterwards() {
+    var json =
+        """
+        {
+          "@context": {"@vocab": "https://example.org/first#", "id": "@id"},
+          "id": "https://example.org/publication/1",
+          "name": "Some name"
+        }
+        """;
+    var earlierDocument = toJsonNode(json);
+    JsonLdGraphBuilder.toModel(earlierDocument);
+    ((ObjectNode) earlierDocument.get(CONTEXT)).put("@vocab", "https://example.org/second#");
+
+    var changedDocument = toJsonNode(earlierDocument.toString());
+    var unchangedDocument = toJsonNode(json);
+
+    assertThat(
+        JsonLdGraphBuilder.toModel(changedDocument).isIsomorphicWith(parse(changedDocument)),
+        is(true));
+    assertThat(
+        JsonLdGraphBuilder.toModel(unchangedDocument).isIsomorphicWith(parse(unchangedDocument)),
+        is(true));
+  }
+
+  @Test
+  void shouldThrowUnsupportedJsonLdExceptionWhenContextIsRemote() {
+    var document =
+        toJsonNode(
+            """
+            {
+              "@context": "https://example.org/context.json",
+              "id": "https://example.org/publication/1"
+            }
+            """);
+
+    assertThrows(UnsupportedJsonLdException.class, () -> JsonLdGraphBuilder.toModel(document));
+  }
+
+  private static JsonNode toDocument(Publication publication) {
+    ObjectNode document = JsonUtils.dtoObjectMapper.valueToTree(publication);
+    document.put(ID, BASE_URI + "/publication/" + publication.getIdentifier());
+    document.set(CONTEXT, toJsonNode(Publication.getJsonLdContext(BASE_URI)));
+    return document;
+  }
+
+  private static JsonNode toJsonNode(String json) {
+    return attempt(() -> JsonUtils.dtoObjectMapper.readTree(json)).orElseThrow();
+  }
+
+  private static Model parse(JsonNode document) {
+    var model = ModelFactory.createDefaultModel();
+    RDFDataMgr.read(model, stringToStream(document.toString()), Lang.JSONLD);
+    return model;
+  }
+}
@@ -5,6 +5,8 @@ import static java.net.HttpURLConnection.HTTP_OK;
 import com.amazonaws.services.lambda.runtime.Context;
 import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.model.PublicationOperation;
+import no.unit.nva.publication.model.PageCursor;
+import no.unit.nva.publication.model.PageRequest;
 import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.model.business.UserInstance;
 import no.unit.nva.publication.permissions.publication.PublicationPermissions;
@@ -12,6 +14,7 @@ import no.unit.nva.publication.service.impl.ResourceService;
 import nva.commons.apigateway.ApiGatewayHandler;
 import nva.commons.apigateway.RequestInfo;
 import nva.commons.apigateway.exceptions.ApiGatewayException;
+import nva.commons.apigateway.exceptions.BadRequestException;
 import nva.commons.apigateway.exceptions.ForbiddenException;
 import nva.commons.apigateway.exceptions.NotFoundException;
 import nva.commons.apigateway.exceptions.UnauthorizedException;
@@ -21,6 +24,8 @@ import nva.commons.core.JacocoGenerated;
 public class FetchPublicationLogHandler extends ApiGatewayHandler<Void, PublicationLogResponse> {
 
   public static final String PUBLICATION_IDENTIFIER = "publicationIdentifier";
+  public static final int DEFAULT_PAGE_SIZE = 100;
+  public static final int MAX_PAGE_SIZE = 1000;
   private final ResourceService resourceService;
 
   @JacocoGenerated
@@ -50,6 +55,9 @@ public class FetchPublicationLogHandler extends ApiGatewayHandler<Void, Publicat
 
     validateUserRights(requestInfo, resource);
 
+    if (PageRequest.isPaginated(requestInfo)) {
+      return fetchPage(resource, requestInfo);
+    }
     var logEntries = resource.fetchLogEntries(resourceService);
     return PublicationLogResponse.fromLogEntries(logEntries);
   }
@@ -60,6 +68,17 @@ public class FetchPublicationLogHandler extends ApiGatewayHandler<Void, Publicat
     return HTTP_OK;
   }
 
+  private PublicationLogResponse fetchPage(Resource resource, RequestInfo requestInfo)
+      throws BadRequestException {
+    var page =
+        PageRequest.fromRequestInfo(requestInfo, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE)
+            .read(
+                (pageSize, startMarker) ->
+                    resourceService.getLogEntriesForResource(resource, pageSize, startMarker));
+    return PublicationLogResponse.fromLogEntries(
+        page.getDatabaseEntries(), PageCursor.encode(page.getStartMarker()));
+  }
+
   private static void validateUserRights(RequestInfo requestInfo, Resource resource)
       throws UnauthorizedException, ForbiddenException {
     if (userHasNoAccessToLog(requestInfo, resource)) {
@@ -1,5 +1,7 @@
 package no.unit.nva.publication.log.rest;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
 import com.fasterxml.jackson.annotation.JsonTypeName;
@@ -12,13 +14,19 @@ import no.unit.nva.publication.model.business.logentry.TicketLogEntry;
 
 @JsonTypeInfo(use = Id.NAME, property = "type")
 @JsonTypeName(PublicationLogResponse.TYPE)
-public record PublicationLogResponse(List<LogEntryDto> logEntries) {
+public record PublicationLogResponse(
+    List<LogEntryDto> logEntries, @JsonInclude(Include.NON_NULL) String nextCursor) {
 
   public static final String TYPE = "PublicationLog";
 
   public static PublicationLogResponse fromLogEntries(Collection<LogEntry> logEntries) {
+    return fromLogEntries(logEntries, null);
+  }
+
+  public static PublicationLogResponse fromLogEntries(
+      Collection<LogEntry> logEntries, String nextCursor) {
     var logEntriesDto = logEntries.stream().map(PublicationLogResponse::toLogEntryDto).toList();
-    return new PublicationLogResponse(logEntriesDto);
+    return new PublicationLogResponse(logEntriesDto, nextCursor);
   }
 
   private static LogEntryDto toLogEntryDto(LogEntry logEntry) {
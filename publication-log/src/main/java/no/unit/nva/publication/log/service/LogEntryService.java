@@ -1,13 +1,17 @@
 package no.unit.nva.publication.log.service;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static nva.commons.core.attempt.Try.attempt;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import no.unit.nva.clients.IdentityServiceClient;
 import no.unit.nva.clients.UserDto;
 import no.unit.nva.clients.cristin.CristinClient;
+import no.unit.nva.clients.cristin.CristinOrganizationDto;
 import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.publication.model.business.DoiRequest;
 import no.unit.nva.publication.model.business.Entity;
@@ -22,9 +26,16 @@ import no.unit.nva.publication.model.business.publicationstate.ImportEvent;
 import no.unit.nva.publication.model.business.publicationstate.ImportSourceProvider;
 import no.unit.nva.publication.model.business.publicationstate.ResourceEvent;
 import no.unit.nva.publication.service.impl.ResourceService;
+import no.unit.nva.publication.uriretriever.ExpiringLruCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Persists log entries for the events of resources, files and tickets. The users and organizations
+ * that performed the events are looked up in the identity service and Cristin, and successful
+ * lookups are cached for as long as the service lives, which is the lifetime of the Lambda
+ * container. Concurrent lookups of the same user or organization share a single request.
+ */
 public class LogEntryService {
 
   public static final String PERSISTING_LOG_ENTRY_MESSAGE =
@@ -32,17 +43,33 @@ public class LogEntryService {
   public static final String PERSISTING_FILE_LOG_ENTRY_MESSAGE =
       "Persisting log entry for event {} for file {} for" + " resource {}";
   public static final Logger logger = LoggerFactory.getLogger(LogEntryService.class);
+  private static final int MAXIMUM_CACHE_SIZE = 1_000;
+  private static final Duration USER_TIME_TO_LIVE = Duration.ofMinutes(10);
+  private static final Duration ORGANIZATION_TIME_TO_LIVE = Duration.ofHours(1);
   private final ResourceService resourceService;
   private final IdentityServiceClient identityServiceClient;
   private final CristinClient cristinClient;
+  private final ExpiringLruCache<User, Optional<LogUser>> users;
+  private final ExpiringLruCache<URI, Optional<CristinOrganizationDto>> organizations;
 
   public LogEntryService(
       ResourceService resourceService,
       IdentityServiceClient identityServiceClient,
       CristinClient cristinClient) {
+    this(resourceService, identityServiceClient, cristinClient, Clock.systemUTC());
+  }
+
+  public LogEntryService(
+      ResourceService resourceService,
+      IdentityServiceClient identityServiceClient,
+      CristinClient cristinClient,
+      Clock clock) {
     this.resourceService = resourceService;
     this.identityServiceClient = identityServiceClient;
     this.cristinClient = cristinClient;
+    this.users = new ExpiringLruCache<>(MAXIMUM_CACHE_SIZE, key -> USER_TIME_TO_LIVE, clock);
+    this.organizations =
+        new ExpiringLruCache<>(MAXIMUM_CACHE_SIZE, key -> ORGANIZATION_TIME_TO_LIVE, clock);
   }
 
   public void persistLogEntry(Entity entity) {
@@ -107,12 +134,17 @@ public class LogEntryService {
   }
 
   private LogOrganization createLogOrganization(URI organizationId) {
-    return cristinClient
-        .getOrganization(organizationId)
+    return getOrganization(organizationId)
         .map(LogOrganization::fromCristinOrganization)
         .orElse(LogOrganization.fromCristinId(organizationId));
   }
 
+  private Optional<CristinOrganizationDto> getOrganization(URI organizationId) {
+    return isNull(organizationId)
+        ? cristinClient.getOrganization(organizationId)
+        : organizations.get(organizationId, cristinClient::getOrganization, Optional::isPresent);
+  }
+
   private void persistFileLogEntry(FileEntry fileEntry) {
     var fileEvent = fileEntry.getFileEvent();
     if (fileEvent instanceof ImportEvent importEvent) {
@@ -137,19 +169,22 @@ public class LogEntryService {
   }
 
   private LogUser createLogUser(User user, URI institution) {
+    return isNull(user)
+        ? LogUser.fromResourceEvent(user, institution)
+        : users
+            .get(user, this::fetchLogUser, Optional::isPresent)
+            .orElseGet(() -> LogUser.fromResourceEvent(user, institution));
+  }
+
+  private Optional<LogUser> fetchLogUser(User user) {
     try {
       var userDto = getUser(user);
       var cristinPersonDto = cristinClient.getPerson(userDto.cristinId()).orElse(null);
-      var cristinOrganizationDto =
-          cristinClient.getOrganization(userDto.institutionCristinId()).orElse(null);
-      return LogUser.create(cristinPersonDto, cristinOrganizationDto);
+      var cristinOrganizationDto = getOrganization(userDto.institutionCristinId()).orElse(null);
+      return Optional.of(LogUser.create(cristinPersonDto, cristinOrganizationDto));
     } catch (Exception e) {
-      logger.warn(
-          "Failed to enrich LogUser for user {} (institution {}); falling back to minimal record",
-          user,
-          institution,
-          e);
-      return LogUser.fromResourceEvent(user, institution);
+      logger.warn("Failed to enrich LogUser for user {}; falling back to minimal record", user, e);
+      return Optional.empty();
     }
   }
 
@@ -1,10 +1,12 @@
 package no.unit.nva.publication.log.rest;
 
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+import static java.util.Objects.nonNull;
 import static no.unit.nva.model.testing.PublicationGenerator.randomPublication;
 import static no.unit.nva.model.testing.PublicationGenerator.randomUri;
 import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomOpenFile;
@@ -23,10 +25,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
 import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.model.Publication;
 import no.unit.nva.model.instancetypes.journal.AcademicArticle;
+import no.unit.nva.publication.model.PageRequest;
 import no.unit.nva.publication.model.business.DoiRequest;
 import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Resource;
@@ -145,6 +150,55 @@ class FetchPublicationLogHandlerTest extends ResourcesLocalTest {
     assertFalse(response.getBodyObject(PublicationLogResponse.class).logEntries().isEmpty());
   }
 
+  @Test
+  void shouldPageThroughPublicationLogWhenPageSizeIsGiven()
+      throws IOException, ApiGatewayException {
+    var publication = createPublishedPublication();
+    persistLogEntries(publication);
+    handler.handleRequest(createAuthorizedRequest(publication), output, context);
+    var expectedLogEntries =
+        GatewayResponse.fromOutputStream(output, PublicationLogResponse.class)
+            .getBodyObject(PublicationLogResponse.class)
+            .logEntries();
+
+    var actualLogEntries = new ArrayList<LogEntryDto>();
+    String cursor = null;
+    do {
+      output = new ByteArrayOutputStream();
+      var queryParameters = new HashMap<>(Map.of(PageRequest.SIZE_QUERY_PARAMETER, "2"));
+      if (nonNull(cursor)) {
+        queryParameters.put(PageRequest.CURSOR_QUERY_PARAMETER, cursor);
+      }
+      handler.handleRequest(
+          createAuthorizedRequest(publication, queryParameters), output, context);
+      var page =
+          GatewayResponse.fromOutputStream(output, PublicationLogResponse.class)
+              .getBodyObject(PublicationLogResponse.class);
+      assertTrue(page.logEntries().size() <= 2);
+      actualLogEntries.addAll(page.logEntries());
+      cursor = page.nextCursor();
+    } while (nonNull(cursor));
+
+    assertEquals(3, expectedLogEntries.size());
+    assertEquals(expectedLogEntries, actualLogEntries);
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenCursorIsInvalid() throws IOException, BadRequestException {
+    var publication = createPublishedPublication();
+
+    handler.handleRequest(
+        createAuthorizedRequest(
+            publication,
+            Map.of(PageRequest.CURSOR_QUERY_PARAMETER, randomString())),
+        output,
+        context);
+
+    var response = GatewayResponse.fromOutputStream(output, Problem.class);
+
+    assertEquals(HTTP_BAD_REQUEST, response.getStatusCode());
+  }
+
   private void persistLogEntries(Publication publication) throws ApiGatewayException {
     var user =
         new LogUser(
@@ -191,8 +245,15 @@ class FetchPublicationLogHandlerTest extends ResourcesLocalTest {
 
   private InputStream createAuthorizedRequest(Publication publication)
       throws JsonProcessingException {
+    return createAuthorizedRequest(publication, Map.of());
+  }
+
+  private InputStream createAuthorizedRequest(
+      Publication publication, Map<String, String> queryParameters)
+      throws JsonProcessingException {
     return new HandlerRequestBuilder<InputStream>(dtoObjectMapper)
         .withPathParameters(Map.of("publicationIdentifier", publication.getIdentifier().toString()))
+        .withQueryParameters(queryParameters)
         .withUserName(randomString())
         .withTopLevelCristinOrgId(publication.getResourceOwner().getOwnerAffiliation())
         .withPersonCristinId(randomUri())
@@ -16,15 +16,25 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import no.unit.nva.clients.CustomerDto;
 import no.unit.nva.clients.IdentityServiceClient;
 import no.unit.nva.clients.UserDto;
 import no.unit.nva.clients.cristin.CristinClient;
+import no.unit.nva.clients.cristin.CristinOrganizationDto;
+import no.unit.nva.clients.cristin.CristinPersonDto;
+import no.unit.nva.clients.cristin.TypedValue;
+import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.model.ImportSource;
 import no.unit.nva.model.Publication;
 import no.unit.nva.model.PublicationStatus;
@@ -58,6 +68,7 @@ class LogEntryServiceTest extends ResourcesLocalTest {
   private ResourceService resourceService;
   private TicketService ticketService;
   private IdentityServiceClient identityServiceClient;
+  private CristinClient cristinClient;
   private LogEntryService logEntryService;
 
   @BeforeEach
@@ -66,7 +77,7 @@ class LogEntryServiceTest extends ResourcesLocalTest {
     ticketService = getTicketService();
     resourceService = getResourceService(client);
     identityServiceClient = mock(IdentityServiceClient.class);
-    var cristinClient = mock(CristinClient.class);
+    cristinClient = mock(CristinClient.class);
     when(identityServiceClient.getUser(any())).thenReturn(randomUser());
     when(identityServiceClient.getCustomerByCristinId(any())).thenReturn(randomCustomer());
     logEntryService = new LogEntryService(resourceService, identityServiceClient, cristinClient);
@@ -137,6 +148,27 @@ class LogEntryServiceTest extends ResourcesLocalTest {
     assertEquals(FILE_UPLOADED, logEntries.getFirst().topic());
   }
 
+  @Test
+  void shouldCreateLogEntryWithInstitutionOnlyWhenResourceEventHasNoUser()
+      throws BadRequestException {
+    var publication = createPublishedPublication();
+    var resource = Resource.fromPublication(publication);
+    var userInstance = UserInstance.fromPublication(publication);
+    var institution = userInstance.getTopLevelOrgCristinId();
+    resource.setResourceEvent(
+        new CreatedResourceEvent(
+            Instant.now(), null, institution, SortableIdentifier.next(), null));
+    resourceService.updateResource(resource, userInstance);
+
+    logEntryService.persistLogEntry(resource);
+
+    var logEntries = Resource.fromPublication(publication).fetchLogEntries(resourceService);
+
+    var logUser = (LogUser) logEntries.getFirst().performedBy();
+    assertNull(logUser.username());
+    assertEquals(institution, logUser.onBehalfOf().id());
+  }
+
   @Test
   void shouldCreateFileLogEntryWithUserUsernameOnlyWhenFailingWhenFetchingUser()
       throws BadRequestException, NotFoundException {
@@ -259,6 +291,49 @@ class LogEntryServiceTest extends ResourcesLocalTest {
     assertEquals(LogTopic.DOI_REQUESTED, logEntries.getFirst().topic());
   }
 
+  @Test
+  void shouldLookUpUserOnceWhenSameUserPerformsSeveralEvents()
+      throws BadRequestException, NotFoundException {
+    var person = randomCristinPerson();
+    when(cristinClient.getPerson(any())).thenReturn(Optional.of(person));
+    when(cristinClient.getOrganization(any())).thenReturn(Optional.of(randomCristinOrganization()));
+    var userInstance = UserInstance.fromPublication(randomPublication(AcademicArticle.class));
+    var publications =
+        List.of(createPublishedPublication(userInstance), createPublishedPublication(userInstance));
+
+    publications.forEach(
+        publication -> logEntryService.persistLogEntry(Resource.fromPublication(publication)));
+
+    for (var publication : publications) {
+      assertEquals(person.id(), performedBy(publication).id());
+    }
+    verify(identityServiceClient, times(1)).getUser(any());
+    verify(cristinClient, times(1)).getPerson(any());
+    verify(cristinClient, times(1)).getOrganization(any());
+  }
+
+  @Test
+  void shouldLookUpUserAgainWhenPreviousLookupFailed()
+      throws BadRequestException, NotFoundException {
+    when(identityServiceClient.getUser(any()))
+        .thenThrow(new NotFoundException("User not found"))
+        .thenReturn(randomUser());
+    when(cristinClient.getPerson(any())).thenReturn(Optional.of(randomCristinPerson()));
+    when(cristinClient.getOrganization(any())).thenReturn(Optional.of(randomCristinOrganization()));
+    var userInstance = UserInstance.fromPublication(randomPublication(AcademicArticle.class));
+    var first = createPublishedPublication(userInstance);
+    var second = createPublishedPublication(userInstance);
+
+    logEntryService.persistLogEntry(Resource.fromPublication(first));
+    logEntryService.persistLogEntry(Resource.fromPublication(second));
+
+    var firstUser = performedBy(first);
+    var secondUser = performedBy(second);
+    assertNull(firstUser.id());
+    assertNotNull(secondUser.id());
+    verify(identityServiceClient, times(2)).getUser(any());
+  }
+
   private TicketEntry createDoiRequestWithEvent(Resource resource, Publication publication)
       throws ApiGatewayException {
     var doiRequest = DoiRequest.create(resource, UserInstance.fromPublication(publication));
@@ -276,6 +351,41 @@ class LogEntryServiceTest extends ResourcesLocalTest {
         .toPublication();
   }
 
+  private Publication createPublishedPublication(UserInstance userInstance)
+      throws BadRequestException {
+    var publication =
+        resourceService.createPublication(userInstance, randomPublication(AcademicArticle.class));
+    return Resource.fromPublication(publication)
+        .publish(resourceService, userInstance)
+        .toPublication();
+  }
+
+  private LogUser performedBy(Publication publication) {
+    var logEntries = Resource.fromPublication(publication).fetchLogEntries(resourceService);
+    return (LogUser) logEntries.getFirst().performedBy();
+  }
+
+  private static CristinPersonDto randomCristinPerson() {
+    return new CristinPersonDto(
+        randomUri(),
+        Set.of(),
+        Set.of(new TypedValue(LogUser.PREFERRED_FIRST_NAME, randomString())),
+        Set.of(),
+        false);
+  }
+
+  private static CristinOrganizationDto randomCristinOrganization() {
+    return new CristinOrganizationDto(
+        randomUri(),
+        randomUri(),
+        randomString(),
+        List.of(),
+        List.of(),
+        randomString(),
+        Map.of(),
+        randomString());
+  }
+
   private UserDto randomUser() {
     return UserDto.builder()
         .withInstitutionCristinId(randomUri())
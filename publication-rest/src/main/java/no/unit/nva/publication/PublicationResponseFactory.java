@@ -16,7 +16,6 @@ import no.unit.nva.model.associatedartifacts.file.FileDto;
 import no.unit.nva.model.associatedartifacts.file.HiddenFile;
 import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.model.business.UserInstance;
-import no.unit.nva.publication.permissions.file.FilePermissions;
 import no.unit.nva.publication.permissions.publication.PublicationPermissions;
 import nva.commons.apigateway.RequestInfo;
 
@@ -30,9 +29,9 @@ public final class PublicationResponseFactory {
     var publicationPermissions = PublicationPermissions.create(resource, userInstance);
 
     if (hasAuthenticatedAccessOnPublication(publicationPermissions)) {
-      return createAuthenticatedResponse(publicationPermissions, resource, userInstance);
+      return createAuthenticatedResponse(publicationPermissions, resource);
     } else {
-      return createPublicResponse(publicationPermissions, resource, userInstance);
+      return createPublicResponse(publicationPermissions, resource);
     }
   }
 
@@ -41,42 +40,46 @@ public final class PublicationResponseFactory {
   }
 
   private static PublicationResponse createPublicResponse(
-      PublicationPermissions publicationPermissions, Resource resource, UserInstance userInstance) {
+      PublicationPermissions publicationPermissions, Resource resource) {
     var publicationResponse =
         PublicationMapper.convertValue(resource.toPublication(), PublicationResponse.class);
     publicationResponse.setAllowedOperations(emptySet());
     publicationResponse.setAssociatedArtifacts(
-        extractFilteredAssociatedArtifactsList(publicationPermissions, resource, userInstance));
+        extractFilteredAssociatedArtifactsList(publicationPermissions, resource));
     return publicationResponse;
   }
 
   private static PublicationResponseElevatedUser createAuthenticatedResponse(
-      PublicationPermissions strategy, Resource resource, UserInstance userInstance) {
+      PublicationPermissions strategy, Resource resource) {
     var publicationResponse =
         PublicationMapper.convertValue(
             resource.toPublication(), PublicationResponseElevatedUser.class);
     publicationResponse.setAllowedOperations(strategy.getAllAllowedActions());
 
     publicationResponse.setAssociatedArtifacts(
-        extractFilteredAssociatedArtifactsList(strategy, resource, userInstance));
+        extractFilteredAssociatedArtifactsList(strategy, resource));
     return publicationResponse;
   }
 
   private static List<AssociatedArtifactDto> extractFilteredAssociatedArtifactsList(
-      PublicationPermissions publicationPermissions, Resource resource, UserInstance userInstance) {
+      PublicationPermissions publicationPermissions, Resource resource) {
 
     return resource.getAssociatedArtifacts().stream()
         .filter(associatedArtifact -> isVisibleArtifact(publicationPermissions, associatedArtifact))
         .map(AssociatedArtifact::toDto)
-        .map(artifact -> getFileDtoWithArtifactOperations(artifact, userInstance, resource))
+        .map(
+            artifact ->
+                getFileDtoWithArtifactOperations(artifact, publicationPermissions, resource))
         .toList();
   }
 
   private static AssociatedArtifactDto getFileDtoWithArtifactOperations(
-      AssociatedArtifactDto artifact, UserInstance userInstance, Resource resource) {
+      AssociatedArtifactDto artifact,
+      PublicationPermissions publicationPermissions,
+      Resource resource) {
     if (artifact instanceof FileDto fileDto) {
       var file = resource.getFileEntry(fileDto.identifier()).orElseThrow();
-      var filePermissions = FilePermissions.create(file, userInstance, resource);
+      var filePermissions = publicationPermissions.filePermissions(file);
       return fileDto.copy().withAllowedOperations(filePermissions.getAllAllowedActions()).build();
     }
 
@@ -0,0 +1,102 @@
+package no.unit.nva.publication.download;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static nva.commons.core.attempt.Try.attempt;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import no.unit.nva.clients.IdentityServiceClient;
+import no.unit.nva.publication.RequestUtil;
+import no.unit.nva.publication.service.impl.ResourceService;
+import no.unit.nva.publication.services.UriShortenerImpl;
+import nva.commons.apigateway.ApiGatewayHandler;
+import nva.commons.apigateway.RequestInfo;
+import nva.commons.apigateway.exceptions.ApiGatewayException;
+import nva.commons.apigateway.exceptions.BadRequestException;
+import nva.commons.core.Environment;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * Presigns download URLs for several files of one publication in a single request. The resource is
+ * read with the requested files only, and files that do not exist or that the user may not
+ * download are left out of the response.
+ */
+public class CreatePresignedDownloadUrlsHandler
+    extends ApiGatewayHandler<PresignedUrisRequest, PresignedUrisResponse> {
+
+  public static final int MAX_FILES_PER_REQUEST = 100;
+  public static final String INVALID_FILE_IDENTIFIERS_MESSAGE =
+      "Request must contain between 1 and " + MAX_FILES_PER_REQUEST + " file identifiers";
+  private static final String API_HOST_ENV = "API_HOST";
+  private static final String CUSTOM_DOMAIN_BASE_PATH_ENV = "CUSTOM_DOMAIN_BASE_PATH";
+  private final ResourceService resourceService;
+  private final IdentityServiceClient identityServiceClient;
+  private final FileDownloadPresigner fileDownloadPresigner;
+
+  @JacocoGenerated
+  public CreatePresignedDownloadUrlsHandler() {
+    this(
+        ResourceService.defaultService(),
+        new FileDownloadPresigner(
+            CreatePresignedDownloadUrlHandler.defaultS3Presigner(),
+            UriShortenerImpl.createDefault(new Environment().readEnv(API_HOST_ENV)),
+            new Environment(),
+            new Environment().readEnv(CUSTOM_DOMAIN_BASE_PATH_ENV)),
+        new Environment(),
+        IdentityServiceClient.prepare());
+  }
+
+  public CreatePresignedDownloadUrlsHandler(
+      ResourceService resourceService,
+      FileDownloadPresigner fileDownloadPresigner,
+      Environment environment,
+      IdentityServiceClient identityServiceClient) {
+    super(PresignedUrisRequest.class, environment);
+    this.resourceService = resourceService;
+    this.fileDownloadPresigner = fileDownloadPresigner;
+    this.identityServiceClient = identityServiceClient;
+  }
+
+  @Override
+  protected void validateRequest(
+      PresignedUrisRequest input, RequestInfo requestInfo, Context context)
+      throws ApiGatewayException {
+    if (isNull(input)
+        || isNull(input.fileIdentifiers())
+        || input.fileIdentifiers().isEmpty()
+        || input.fileIdentifiers().size() > MAX_FILES_PER_REQUEST) {
+      throw new BadRequestException(INVALID_FILE_IDENTIFIERS_MESSAGE);
+    }
+  }
+
+  @Override
+  protected PresignedUrisResponse processInput(
+      PresignedUrisRequest input, RequestInfo requestInfo, Context context)
+      throws ApiGatewayException {
+    var publicationId = RequestUtil.getIdentifier(requestInfo);
+    var fileIdentifiers = new LinkedHashSet<>(input.fileIdentifiers());
+    var publication = resourceService.getResourceWithFiles(publicationId, fileIdentifiers);
+    var userInstance =
+        attempt(() -> RequestUtil.createUserInstanceFromRequest(requestInfo, identityServiceClient))
+            .toOptional()
+            .orElse(null);
+
+    var presignedUris = new ArrayList<PresignedUriResponse>();
+    for (var fileIdentifier : fileIdentifiers) {
+      var fileEntry = publication.getFileEntry(fileIdentifier).orElse(null);
+      if (nonNull(fileEntry)
+          && FileDownloadPresigner.allowsDownload(publication, fileEntry, userInstance)) {
+        presignedUris.add(fileDownloadPresigner.presign(publication, fileEntry, userInstance));
+      }
+    }
+    return new PresignedUrisResponse(presignedUris);
+  }
+
+  @Override
+  protected Integer getSuccessStatusCode(PresignedUrisRequest input, PresignedUrisResponse output) {
+    return HTTP_OK;
+  }
+}
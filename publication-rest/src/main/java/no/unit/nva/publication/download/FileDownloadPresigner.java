@@ -0,0 +1,162 @@
+package no.unit.nva.publication.download;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
+import static nva.commons.core.attempt.Try.attempt;
+
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import no.unit.nva.model.FileOperation;
+import no.unit.nva.model.associatedartifacts.file.File;
+import no.unit.nva.publication.download.exception.S3ServiceException;
+import no.unit.nva.publication.model.business.FileEntry;
+import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.permissions.file.FilePermissions;
+import no.unit.nva.publication.services.UriShortener;
+import nva.commons.core.Environment;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Presigns and shortens download URLs for the files of a resource. Expirations are rounded up to
+ * fixed buckets, so that every download of a file by the same class of user within a bucket shares
+ * one short link, and presigned URLs are kept in memory until shortly before they expire.
+ *
+ * <p>Files that anyone may download get a short link derived from a hash of the file and the
+ * bucket, so that it is shared between containers. Its inputs are public, so links to files that
+ * only some users may download get a random identifier instead, which cannot be derived from the
+ * file identifier and the username.
+ */
+public class FileDownloadPresigner {
+
+  private static final Duration MINIMUM_VALIDITY = Duration.ofSeconds(180);
+  private static final long EXPIRATION_BUCKET_SECONDS = 300;
+  private static final Duration SAFETY_MARGIN = Duration.ofSeconds(60);
+  private static final int LINK_KEY_LENGTH = 32;
+  private static final String PUBLIC_USER_CLASS = "public";
+  private static final String USER_CLASS_PREFIX = "user:";
+  private static final String LINK_KEY_DELIMITER = "|";
+  private static final String BUCKET_NAME_ENV = "NVA_PERSISTED_STORAGE_BUCKET_NAME";
+  private final S3Presigner s3Presigner;
+  private final UriShortener uriShortener;
+  private final Environment environment;
+  private final String basePath;
+  private final Clock clock;
+  private final Map<DownloadLink, PresignedUriResponse> presignedDownloads =
+      new ConcurrentHashMap<>();
+
+  public FileDownloadPresigner(
+      S3Presigner s3Presigner,
+      UriShortener uriShortener,
+      Environment environment,
+      String basePath) {
+    this(s3Presigner, uriShortener, environment, basePath, Clock.systemDefaultZone());
+  }
+
+  public FileDownloadPresigner(
+      S3Presigner s3Presigner,
+      UriShortener uriShortener,
+      Environment environment,
+      String basePath,
+      Clock clock) {
+    this.s3Presigner = s3Presigner;
+    this.uriShortener = uriShortener;
+    this.environment = environment;
+    this.basePath = basePath;
+    this.clock = clock;
+  }
+
+  public static boolean allowsDownload(
+      Resource resource, FileEntry fileEntry, UserInstance userInstance) {
+    return FilePermissions.create(fileEntry, userInstance, resource)
+        .allowsAction(FileOperation.DOWNLOAD);
+  }
+
+  /**
+   * Presigns the file for a user that is allowed to download it. Files that anyone may download
+   * share their link between all users, while other files get a link per user.
+   */
+  public PresignedUriResponse presign(
+      Resource resource, FileEntry fileEntry, UserInstance userInstance)
+      throws S3ServiceException {
+    var now = clock.instant();
+    var file = fileEntry.getFile();
+    var link =
+        new DownloadLink(
+            file.getIdentifier(), userClass(resource, fileEntry, userInstance), expiration(now));
+    var cached = presignedDownloads.get(link);
+    if (nonNull(cached) && isValidAt(cached, now)) {
+      return cached;
+    }
+    presignedDownloads.values().removeIf(presignedDownload -> !isValidAt(presignedDownload, now));
+    var presignedDownload = presign(file, link);
+    presignedDownloads.put(link, presignedDownload);
+    return presignedDownload;
+  }
+
+  private PresignedUriResponse presign(File file, DownloadLink link) throws S3ServiceException {
+    var preSignedUriLong = getPresignedDownloadUrl(file, link.expiration());
+    var shortenedPresignUri =
+        link.isPublic()
+            ? uriShortener.shorten(link.key(), preSignedUriLong.id(), basePath, link.expiration())
+            : uriShortener.shorten(preSignedUriLong.id(), basePath, link.expiration());
+    return new PresignedUriResponse(
+        file.getIdentifier().toString(),
+        preSignedUriLong.id(),
+        link.expiration(),
+        shortenedPresignUri);
+  }
+
+  private PresignedUri getPresignedDownloadUrl(File file, Instant expiration)
+      throws S3ServiceException {
+    return PresignedUri.builder()
+        .withFileIdentifier(file.getIdentifier())
+        .withBucket(environment.readEnv(BUCKET_NAME_ENV))
+        .withMime(file.getMimeType())
+        .withExpiration(expiration)
+        .build()
+        .create(s3Presigner);
+  }
+
+  private static String userClass(
+      Resource resource, FileEntry fileEntry, UserInstance userInstance) {
+    return allowsDownload(resource, fileEntry, null)
+        ? PUBLIC_USER_CLASS
+        : USER_CLASS_PREFIX + userInstance.getUsername();
+  }
+
+  private static Instant expiration(Instant now) {
+    var earliestExpiration = now.plus(MINIMUM_VALIDITY).getEpochSecond();
+    var bucket = Math.ceilDiv(earliestExpiration, EXPIRATION_BUCKET_SECONDS);
+    return Instant.ofEpochSecond(bucket * EXPIRATION_BUCKET_SECONDS);
+  }
+
+  private static boolean isValidAt(PresignedUriResponse presignedDownload, Instant now) {
+    return now.plus(SAFETY_MARGIN).isBefore(presignedDownload.expires());
+  }
+
+  private record DownloadLink(UUID fileIdentifier, String userClass, Instant expiration) {
+
+    boolean isPublic() {
+      return PUBLIC_USER_CLASS.equals(userClass);
+    }
+
+    String key() {
+      var value =
+          String.join(
+              LINK_KEY_DELIMITER,
+              fileIdentifier.toString(),
+              userClass,
+              String.valueOf(expiration.getEpochSecond()));
+      var digest = attempt(() -> MessageDigest.getInstance("SHA-256")).orElseThrow();
+      var hash = HexFormat.of().formatHex(digest.digest(value.getBytes(UTF_8)));
+      return hash.substring(0, LINK_KEY_LENGTH);
+    }
+  }
+}
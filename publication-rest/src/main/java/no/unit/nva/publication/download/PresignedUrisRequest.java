@@ -0,0 +1,8 @@
+package no.unit.nva.publication.download;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import no.unit.nva.identifiers.SortableIdentifier;
+
+public record PresignedUrisRequest(
+    @JsonProperty("fileIdentifiers") List<SortableIdentifier> fileIdentifiers) {}
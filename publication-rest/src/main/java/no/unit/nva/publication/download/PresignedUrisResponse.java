@@ -0,0 +1,7 @@
+package no.unit.nva.publication.download;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.util.List;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+public record PresignedUrisResponse(List<PresignedUriResponse> presignedUris) {}
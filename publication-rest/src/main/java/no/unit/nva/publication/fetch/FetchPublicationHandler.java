@@ -2,12 +2,17 @@ package no.unit.nva.publication.fetch;
 
 import static java.net.HttpURLConnection.HTTP_MOVED_PERM;
 import static java.net.HttpURLConnection.HTTP_SEE_OTHER;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static java.util.Collections.emptySet;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static no.unit.nva.model.PublicationOperation.UPDATE;
+import static no.unit.nva.model.PublicationStatus.DRAFT;
+import static no.unit.nva.model.PublicationStatus.PUBLISHED;
 import static no.unit.nva.model.PublicationStatus.UNPUBLISHED;
 import static no.unit.nva.publication.PublicationServiceConfig.ENVIRONMENT;
 import static no.unit.nva.publication.RequestUtil.getETagValueFromIfNoneMatchHeader;
+import static no.unit.nva.publication.RequestUtil.getInstantFromIfModifiedSinceHeader;
 import static no.unit.nva.publication.service.impl.ReadResourceService.PUBLICATION_NOT_FOUND_CLIENT_MESSAGE;
 import static nva.commons.apigateway.MediaType.ANY_TEXT_TYPE;
 import static nva.commons.apigateway.MediaType.HTML_UTF_8;
@@ -19,13 +24,20 @@ import static nva.commons.apigateway.MediaTypes.SCHEMA_ORG;
 import static nva.commons.core.attempt.Try.attempt;
 import static nva.commons.core.paths.UriWrapper.HTTPS;
 import static org.apache.hc.core5.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
+import static org.apache.http.HttpHeaders.AUTHORIZATION;
 import static org.apache.http.HttpHeaders.CACHE_CONTROL;
 import static org.apache.http.HttpHeaders.ETAG;
+import static org.apache.http.HttpHeaders.LAST_MODIFIED;
 import static org.apache.http.HttpHeaders.LOCATION;
+import static org.apache.http.HttpHeaders.VARY;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +49,7 @@ import no.unit.nva.doi.DataCiteMetadataDtoMapper;
 import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.publication.PublicationResponseFactory;
 import no.unit.nva.publication.RequestUtil;
+import no.unit.nva.publication.model.ResourceVersion;
 import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.permissions.publication.PublicationPermissions;
 import no.unit.nva.publication.service.impl.ResourceService;
@@ -65,6 +78,8 @@ public class FetchPublicationHandler extends ApiGatewayHandler<Void, String> {
   private static final String REGISTRATION_PATH = "registration";
   public static final String DO_NOT_REDIRECT_QUERY_PARAM = "doNotRedirect";
   public static final String NO_BODY = "";
+  public static final String PUBLIC_CACHE_CONTROL = "public, max-age=60";
+  public static final String PRIVATE_CACHE_CONTROL = "private, no-cache";
   private final IdentityServiceClient identityServiceClient;
   private final ResourceService resourceService;
   private final RawContentRetriever authorizedBackendUriRetriever;
@@ -121,13 +136,12 @@ public class FetchPublicationHandler extends ApiGatewayHandler<Void, String> {
     statusCode = HttpURLConnection.HTTP_OK; // make sure to reset to default on each invocation
 
     var identifier = RequestUtil.getIdentifier(requestInfo);
-    var resource = fetchResource(identifier);
-
-    if (eTagMatches(requestInfo, resource)) {
-      statusCode = HttpURLConnection.HTTP_NOT_MODIFIED;
-      return NO_BODY;
+    var unmodifiedVersion = fetchUnmodifiedVersion(requestInfo, identifier);
+    if (unmodifiedVersion.isPresent()) {
+      return produceNotModifiedResponse(requestInfo, unmodifiedVersion.get());
     }
 
+    var resource = fetchResource(identifier);
     return switch (resource.getStatus()) {
       case DRAFT, PUBLISHED -> producePublicationResponse(requestInfo, resource);
       case UNPUBLISHED, DELETED -> produceRemovedPublicationResponse(resource, requestInfo);
@@ -135,14 +149,89 @@ public class FetchPublicationHandler extends ApiGatewayHandler<Void, String> {
     };
   }
 
-  private boolean eTagMatches(RequestInfo requestInfo, Resource resource) {
-    var clientETag = getETagValueFromIfNoneMatchHeader(requestInfo).map(ETag::fromString);
-    var serverETag = ETag.create(getUsername(requestInfo), getResourceVersion(resource));
-    return clientETag.map(etag -> etag.equals(serverETag)).orElse(false);
+  /**
+   * Answers conditional requests from the version attributes of the resource row alone, so that an
+   * unchanged resource is never read in full. Requests without conditional headers skip the lookup.
+   *
+   * <p>An ETag is only handed out with a full response, and any change of status gives the resource
+   * a new version, so a matching ETag always stands for such a response. A modification date can be
+   * sent by any client, so it is only honoured when the resource would otherwise be returned with
+   * status 200. Removed resources and landing page redirects are always decided on the full
+   * resource.
+   */
+  private Optional<ResourceVersion> fetchUnmodifiedVersion(
+      RequestInfo requestInfo, SortableIdentifier identifier) {
+    var clientETag = getETagValueFromIfNoneMatchHeader(requestInfo);
+    var ifModifiedSince = getInstantFromIfModifiedSinceHeader(requestInfo);
+    if (clientETag.isEmpty() && ifModifiedSince.isEmpty()) {
+      return Optional.empty();
+    }
+    return resourceService
+        .getResourceVersion(identifier)
+        .filter(
+            resourceVersion ->
+                clientETag.isPresent()
+                    ? eTagMatches(requestInfo, clientETag.get(), resourceVersion)
+                    : isNotModifiedSince(ifModifiedSince.get(), resourceVersion)
+                        && isReturnedWithContent(requestInfo, resourceVersion));
+  }
+
+  private boolean isReturnedWithContent(RequestInfo requestInfo, ResourceVersion resourceVersion) {
+    var contentType = attempt(() -> getDefaultResponseContentTypeHeaderValue(requestInfo));
+    return (DRAFT == resourceVersion.status() || PUBLISHED == resourceVersion.status())
+        && contentType.isSuccess()
+        && !isLandingPageRequest(contentType.get());
+  }
+
+  private static boolean isLandingPageRequest(MediaType contentType) {
+    return contentType.matches(ANY_TEXT_TYPE) || XHTML_UTF_8.equals(contentType);
+  }
+
+  private static boolean eTagMatches(
+      RequestInfo requestInfo, String clientETag, ResourceVersion resourceVersion) {
+    return ETag.fromString(clientETag).equals(createETag(requestInfo, resourceVersion));
+  }
+
+  // HTTP dates have whole seconds, so the modified date is compared at the same precision
+  private static boolean isNotModifiedSince(Instant since, ResourceVersion resourceVersion) {
+    return nonNull(resourceVersion.modifiedDate())
+        && !resourceVersion.modifiedDate().truncatedTo(ChronoUnit.SECONDS).isAfter(since);
+  }
+
+  private String produceNotModifiedResponse(
+      RequestInfo requestInfo, ResourceVersion resourceVersion) {
+    statusCode = HttpURLConnection.HTTP_NOT_MODIFIED;
+    var headers = cacheHeaders(requestInfo, resourceVersion);
+    addAdditionalHeaders(() -> headers);
+    return NO_BODY;
+  }
+
+  private static Map<String, String> cacheHeaders(
+      RequestInfo requestInfo, ResourceVersion resourceVersion) {
+    var headers = new HashMap<String, String>();
+    headers.put(ETAG, createETag(requestInfo, resourceVersion).toString());
+    headers.put(ACCESS_CONTROL_EXPOSE_HEADERS, ETAG);
+    headers.put(CACHE_CONTROL, cacheControl(requestInfo, resourceVersion));
+    headers.put(VARY, AUTHORIZATION);
+    Optional.ofNullable(resourceVersion.modifiedDate())
+        .map(FetchPublicationHandler::toHttpDate)
+        .ifPresent(lastModified -> headers.put(LAST_MODIFIED, lastModified));
+    return headers;
+  }
+
+  // Only anonymous responses for published resources are the same for every caller
+  private static String cacheControl(RequestInfo requestInfo, ResourceVersion resourceVersion) {
+    return isNull(getUsername(requestInfo)) && PUBLISHED == resourceVersion.status()
+        ? PUBLIC_CACHE_CONTROL
+        : PRIVATE_CACHE_CONTROL;
+  }
+
+  private static String toHttpDate(Instant instant) {
+    return RFC_1123_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC));
   }
 
-  private static String getResourceVersion(Resource resource) {
-    return resource.getVersion().toString();
+  private static ETag createETag(RequestInfo requestInfo, ResourceVersion resourceVersion) {
+    return ETag.create(getUsername(requestInfo), resourceVersion.version().toString());
   }
 
   private static String getUsername(RequestInfo requestInfo) {
@@ -231,13 +320,11 @@ public class FetchPublicationHandler extends ApiGatewayHandler<Void, String> {
       response = createDataCiteMetadata(resource);
     } else if (SCHEMA_ORG.equals(contentType)) {
       response = createSchemaOrgRepresentation(resource);
-    } else if (contentType.matches(ANY_TEXT_TYPE) || XHTML_UTF_8.equals(contentType)) {
+    } else if (isLandingPageRequest(contentType)) {
       statusCode = HTTP_SEE_OTHER;
       headers.put(LOCATION, landingPageLocation(resource.getIdentifier()).toString());
     } else {
-      headers.put(
-          ETAG, ETag.create(getUsername(requestInfo), getResourceVersion(resource)).toString());
-      headers.put(ACCESS_CONTROL_EXPOSE_HEADERS, ETAG);
+      headers.putAll(cacheHeaders(requestInfo, ResourceVersion.fromResource(resource)));
       response = createPublicationResponse(requestInfo, resource);
     }
     addAdditionalHeaders(() -> headers);
@@ -253,11 +340,8 @@ public class FetchPublicationHandler extends ApiGatewayHandler<Void, String> {
 
   private String createPublicationResponse(RequestInfo requestInfo, Resource resource) {
     var response = PublicationResponseFactory.create(resource, requestInfo, identityServiceClient);
-    addAdditionalHeaders(
-        () ->
-            Map.of(
-                ETAG,
-                ETag.create(getUsername(requestInfo), getResourceVersion(resource)).toString()));
+    var eTag = createETag(requestInfo, ResourceVersion.fromResource(resource)).toString();
+    addAdditionalHeaders(() -> Map.of(ETAG, eTag));
     return attempt(() -> getObjectMapper(requestInfo).writeValueAsString(response)).orElseThrow();
   }
 
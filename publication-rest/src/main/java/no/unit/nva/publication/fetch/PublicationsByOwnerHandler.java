@@ -4,10 +4,15 @@ import static no.unit.nva.publication.RequestUtil.createUserInstanceFromRequest;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import no.unit.nva.clients.IdentityServiceClient;
+import no.unit.nva.publication.model.PageCursor;
+import no.unit.nva.publication.model.PageRequest;
+import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.service.impl.ReadResourceService;
 import no.unit.nva.publication.service.impl.ResourceService;
 import nva.commons.apigateway.ApiGatewayHandler;
 import nva.commons.apigateway.RequestInfo;
 import nva.commons.apigateway.exceptions.ApiGatewayException;
+import nva.commons.apigateway.exceptions.BadRequestException;
 import nva.commons.core.Environment;
 import nva.commons.core.JacocoGenerated;
 import org.apache.http.HttpStatus;
@@ -15,6 +20,9 @@ import org.apache.http.HttpStatus;
 public class PublicationsByOwnerHandler
     extends ApiGatewayHandler<Void, PublicationsByOwnerResponse> {
 
+  public static final int DEFAULT_PAGE_SIZE = ReadResourceService.DEFAULT_LIMIT;
+  public static final int MAX_PAGE_SIZE = 1000;
+
   private final ResourceService resourceService;
   private final IdentityServiceClient identityServiceClient;
 
@@ -49,10 +57,25 @@ public class PublicationsByOwnerHandler
 
     var userInstance = createUserInstanceFromRequest(requestInfo, identityServiceClient);
 
+    if (PageRequest.isPaginated(requestInfo)) {
+      return fetchPage(userInstance, requestInfo);
+    }
     return new PublicationsByOwnerResponse(
         resourceService.getPublicationSummaryByOwner(userInstance));
   }
 
+  private PublicationsByOwnerResponse fetchPage(
+      UserInstance userInstance, RequestInfo requestInfo) throws BadRequestException {
+    var page =
+        PageRequest.fromRequestInfo(requestInfo, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE)
+            .read(
+                (pageSize, startMarker) ->
+                    resourceService.getPublicationSummaryByOwner(
+                        userInstance, pageSize, startMarker));
+    return new PublicationsByOwnerResponse(
+        page.getDatabaseEntries(), PageCursor.encode(page.getStartMarker()));
+  }
+
   @Override
   protected Integer getSuccessStatusCode(Void input, PublicationsByOwnerResponse output) {
     return HttpStatus.SC_OK;
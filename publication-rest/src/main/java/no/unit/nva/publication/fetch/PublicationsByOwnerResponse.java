@@ -1,17 +1,41 @@
 package no.unit.nva.publication.fetch;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import no.unit.nva.publication.model.PublicationSummary;
 
 public class PublicationsByOwnerResponse {
 
+  private static final String PUBLICATIONS_FIELD = "publications";
+  private static final String NEXT_CURSOR_FIELD = "nextCursor";
+
+  @JsonProperty(PUBLICATIONS_FIELD)
   private final List<PublicationSummary> publications;
 
+  @JsonProperty(NEXT_CURSOR_FIELD)
+  @JsonInclude(Include.NON_NULL)
+  private final String nextCursor;
+
   public PublicationsByOwnerResponse(List<PublicationSummary> publications) {
+    this(publications, null);
+  }
+
+  @JsonCreator
+  public PublicationsByOwnerResponse(
+      @JsonProperty(PUBLICATIONS_FIELD) List<PublicationSummary> publications,
+      @JsonProperty(NEXT_CURSOR_FIELD) String nextCursor) {
     this.publications = publications;
+    this.nextCursor = nextCursor;
   }
 
   public List<PublicationSummary> getPublications() {
     return publications;
   }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
 }
@@ -6,4 +6,10 @@ import java.time.Instant;
 public interface UriShortener {
 
   URI shorten(URI longUri, String basePath, Instant expirationDate);
+
+  /**
+   * Shortens the long URI under a short link derived from the link key. Shortening with a key that
+   * has been used before returns the same short link and keeps the stored long URI.
+   */
+  URI shorten(String linkKey, URI longUri, String basePath, Instant expirationDate);
 }
@@ -34,4 +34,11 @@ public class UriShortenerImpl implements UriShortener {
     uriShortenerWriteClient.insertUriMap(uriMap);
     return uriMap.shortenedUri();
   }
+
+  @Override
+  public URI shorten(String linkKey, URI longUri, String basePath, Instant expiration) {
+    var uriMap = UriMap.create(linkKey, longUri, expiration, apiHostWrapper.addChild(basePath));
+    uriShortenerWriteClient.insertUriMapIfAbsent(uriMap);
+    return uriMap.shortenedUri();
+  }
 }
@@ -11,7 +11,9 @@ import no.unit.nva.publication.services.model.UriMap;
 import no.unit.nva.publication.services.storage.UriMapDao;
 import nva.commons.core.attempt.Failure;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
@@ -35,6 +37,27 @@ public class UriShortenerWriteClient {
     sendTransactionWriteRequest(transactWriteItemsRequest);
   }
 
+  /**
+   * Inserts the URI map unless a map with the same shortened URI is stored already, in which case
+   * the stored map is kept.
+   */
+  public void insertUriMapIfAbsent(UriMap uriMap) {
+    var putItemRequest =
+        PutItemRequest.builder()
+            .item(new UriMapDao(uriMap).toDynamoFormat())
+            .tableName(tableName)
+            .conditionExpression(KEY_NOT_EXISTS_CONDITION)
+            .expressionAttributeNames(PRIMARY_KEY_EQUALITY_CONDITION_ATTRIBUTE_NAMES)
+            .build();
+    try {
+      client.putItem(putItemRequest);
+    } catch (ConditionalCheckFailedException existingUriMap) {
+      // The short link has been written by an earlier request and is reused as it is
+    } catch (RuntimeException exception) {
+      throw new TransactionFailedException(exception);
+    }
+  }
+
   private TransactWriteItemsRequest newPutTransactWriteItemsRequest(UriMapDao data) {
     var transactWriteItem = newPutTransactionItem(data);
     return newTransactWriteItemsRequest(transactWriteItem);
@@ -21,6 +21,17 @@ public record UriMap(URI shortenedUri, URI longUri, Instant createdDate, Long ex
         expiresDate.getEpochSecond());
   }
 
+  /** Creates a map whose short version is derived from the link key instead of being random. */
+  public static UriMap create(
+      String linkKey, URI longVersion, Instant expiresDate, UriWrapper endpointWrapper) {
+    validateRequest(longVersion, expiresDate);
+    return new UriMap(
+        createShortVersion(endpointWrapper, linkKey),
+        longVersion,
+        Instant.now(),
+        expiresDate.getEpochSecond());
+  }
+
   private static void validateRequest(URI longVersion, Instant expiresDate) {
     if (isNull(longVersion) || StringUtils.isBlank(longVersion.toString()) || isNull(expiresDate)) {
       throw new IllegalArgumentException("Missing required parameters");
@@ -28,9 +39,10 @@ public record UriMap(URI shortenedUri, URI longUri, Instant createdDate, Long ex
   }
 
   private static URI createNewShortVersion(UriWrapper endpointWrapper) {
-    return endpointWrapper
-        .addChild(SHORTENED_PATH)
-        .addChild(SortableIdentifier.next().toString())
-        .getUri();
+    return createShortVersion(endpointWrapper, SortableIdentifier.next().toString());
+  }
+
+  private static URI createShortVersion(UriWrapper endpointWrapper, String identifier) {
+    return endpointWrapper.addChild(SHORTENED_PATH).addChild(identifier).getUri();
   }
 }
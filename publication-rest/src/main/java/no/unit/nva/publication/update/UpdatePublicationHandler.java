@@ -39,6 +39,7 @@ import no.unit.nva.publication.model.business.FileEntry;
 import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.model.business.UserInstance;
 import no.unit.nva.publication.permissions.file.FilePermissions;
+import no.unit.nva.publication.permissions.publication.PublicationAccessFacts;
 import no.unit.nva.publication.permissions.publication.PublicationPermissions;
 import no.unit.nva.publication.rightsretention.FileRightsRetentionService;
 import no.unit.nva.publication.service.impl.ResourceService;
@@ -348,8 +349,9 @@ public class UpdatePublicationHandler
   private static void authorizeFileEntries(
       Resource existingResource, UserInstance userInstance, List<FileEntry> existingFiles)
       throws UnauthorizedException {
+    var resourceFacts = new PublicationAccessFacts(existingResource, userInstance);
     for (var file : existingFiles) {
-      new FilePermissions(file, userInstance, existingResource).authorize(WRITE_METADATA);
+      FilePermissions.create(file, resourceFacts).authorize(WRITE_METADATA);
     }
   }
 
@@ -26,6 +26,7 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -286,7 +287,7 @@ class CreatePresignedDownloadUrlHandlerTest extends ResourcesLocalTest {
     var publication =
         buildPublication(DRAFT, pendingFileWithoutEmbargo(APPLICATION_PDF, FILE_IDENTIFIER));
     var handler = getCreatePresignedDownloadUrlHandler();
-    when(resourceService.getResourceByIdentifier(publication.getIdentifier()))
+    when(resourceService.getResourceWithFiles(eq(publication.getIdentifier()), any()))
         .thenThrow(new nva.commons.apigateway.exceptions.NotFoundException("test"));
 
     handler.handleRequest(
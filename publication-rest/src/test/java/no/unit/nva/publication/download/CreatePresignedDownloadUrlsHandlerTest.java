@@ -0,0 +1,186 @@
+package no.unit.nva.publication.download;
+
+import static no.unit.nva.commons.json.JsonUtils.dtoObjectMapper;
+import static no.unit.nva.model.PublicationStatus.PUBLISHED;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomOpenFile;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomPendingOpenFile;
+import static no.unit.nva.testutils.RandomDataGenerator.randomUri;
+import static nva.commons.apigateway.ApiGatewayHandler.ALLOWED_ORIGIN_ENV;
+import static nva.commons.core.attempt.Try.attempt;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import no.unit.nva.clients.IdentityServiceClient;
+import no.unit.nva.identifiers.SortableIdentifier;
+import no.unit.nva.model.Publication;
+import no.unit.nva.model.associatedartifacts.AssociatedArtifactList;
+import no.unit.nva.model.associatedartifacts.file.File;
+import no.unit.nva.model.instancetypes.book.AcademicMonograph;
+import no.unit.nva.model.testing.PublicationGenerator;
+import no.unit.nva.publication.RequestUtil;
+import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.service.ResourcesLocalTest;
+import no.unit.nva.publication.services.UriShortener;
+import no.unit.nva.testutils.HandlerRequestBuilder;
+import nva.commons.apigateway.GatewayResponse;
+import nva.commons.core.Environment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zalando.problem.Problem;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+class CreatePresignedDownloadUrlsHandlerTest extends ResourcesLocalTest {
+
+  private static final String PRESIGNED_DOWNLOAD_URL = "https://example.com/download/12345";
+  private static final String ANY_ORIGIN = "*";
+  private static final String APPLICATION_PDF = "application/pdf";
+  private Context context;
+  private ByteArrayOutputStream output;
+  private CreatePresignedDownloadUrlsHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    super.init();
+    context = mock(Context.class);
+    output = new ByteArrayOutputStream();
+
+    var environment = mock(Environment.class);
+    when(environment.readEnv(ALLOWED_ORIGIN_ENV)).thenReturn(ANY_ORIGIN);
+    when(environment.readEnv("BACKEND_CLIENT_AUTH_URL")).thenReturn("https://example.com");
+    when(environment.readEnv("COGNITO_AUTHORIZER_URLS")).thenReturn("http://localhost:3000");
+
+    var s3Presigner = mock(S3Presigner.class);
+    var presignedRequest = mock(PresignedGetObjectRequest.class);
+    var presignedUrl = attempt(() -> URI.create(PRESIGNED_DOWNLOAD_URL).toURL()).orElseThrow();
+    when(presignedRequest.url()).thenReturn(presignedUrl);
+    when(presignedRequest.expiration()).thenReturn(Instant.now());
+    when(s3Presigner.presignGetObject((GetObjectPresignRequest) any()))
+        .thenReturn(presignedRequest);
+
+    var presigner =
+        new FileDownloadPresigner(
+            s3Presigner, mock(UriShortener.class), environment, randomUri().getPath());
+    handler =
+        new CreatePresignedDownloadUrlsHandler(
+            getResourceService(client),
+            presigner,
+            environment,
+            mock(IdentityServiceClient.class));
+  }
+
+  @Test
+  void shouldPresignEveryRequestedFileTheUserMayDownload() throws IOException {
+    var firstFile = openFile();
+    var secondFile = openFile();
+    var publication = persistPublishedPublication(firstFile, secondFile, openFile());
+
+    handler.handleRequest(
+        createAnonymousRequest(publication.getIdentifier(), firstFile, secondFile),
+        output,
+        context);
+
+    var response = GatewayResponse.fromOutputStream(output, PresignedUrisResponse.class);
+    assertThat(response.getStatusCode(), is(equalTo(SC_OK)));
+    assertThat(presignedFileIdentifiers(response), contains(identifiers(firstFile, secondFile)));
+  }
+
+  @Test
+  void shouldLeaveOutFilesThatDoNotExistOrMayNotBeDownloaded() throws IOException {
+    var openFile = openFile();
+    var pendingFile = randomPendingOpenFile();
+    var publication = persistPublishedPublication(openFile, pendingFile);
+
+    handler.handleRequest(
+        createAnonymousRequest(publication.getIdentifier(), openFile, pendingFile, openFile()),
+        output,
+        context);
+
+    var response = GatewayResponse.fromOutputStream(output, PresignedUrisResponse.class);
+    assertThat(response.getStatusCode(), is(equalTo(SC_OK)));
+    assertThat(presignedFileIdentifiers(response), contains(identifiers(openFile)));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenNoFilesAreRequested() throws IOException {
+    var publication = persistPublishedPublication(openFile());
+
+    handler.handleRequest(createAnonymousRequest(publication.getIdentifier()), output, context);
+
+    var response = GatewayResponse.fromOutputStream(output, Problem.class);
+    assertThat(response.getStatusCode(), is(equalTo(SC_BAD_REQUEST)));
+  }
+
+  @Test
+  void shouldReturnNotFoundWhenPublicationDoesNotExist() throws IOException {
+    handler.handleRequest(
+        createAnonymousRequest(SortableIdentifier.next(), openFile()), output, context);
+
+    var response = GatewayResponse.fromOutputStream(output, Problem.class);
+    assertThat(response.getStatusCode(), is(equalTo(SC_NOT_FOUND)));
+  }
+
+  private static File openFile() {
+    return randomOpenFile().copy().withMimeType(APPLICATION_PDF).buildOpenFile();
+  }
+
+  private static String[] identifiers(File... files) {
+    return List.of(files).stream()
+        .map(File::getIdentifier)
+        .map(Object::toString)
+        .toArray(String[]::new);
+  }
+
+  private static List<String> presignedFileIdentifiers(
+      GatewayResponse<PresignedUrisResponse> response) throws IOException {
+    return response.getBodyObject(PresignedUrisResponse.class).presignedUris().stream()
+        .map(PresignedUriResponse::fileIdentifier)
+        .toList();
+  }
+
+  private static InputStream createAnonymousRequest(
+      SortableIdentifier publicationIdentifier, File... files) throws IOException {
+    var fileIdentifiers =
+        List.of(files).stream()
+            .map(file -> new SortableIdentifier(file.getIdentifier().toString()))
+            .toList();
+    return new HandlerRequestBuilder<PresignedUrisRequest>(dtoObjectMapper)
+        .withBody(new PresignedUrisRequest(fileIdentifiers))
+        .withPathParameters(
+            Map.of(RequestUtil.PUBLICATION_IDENTIFIER, publicationIdentifier.toString()))
+        .build();
+  }
+
+  private Publication persistPublishedPublication(File... files) {
+    var publication =
+        PublicationGenerator.randomPublication(AcademicMonograph.class)
+            .copy()
+            .withStatus(PUBLISHED)
+            .withAssociatedArtifacts(new AssociatedArtifactList(files))
+            .build();
+    var userInstance = UserInstance.fromPublication(publication);
+    return attempt(
+            () ->
+                Resource.fromPublication(publication)
+                    .persistNew(getResourceService(client), userInstance))
+        .orElseThrow();
+  }
+}
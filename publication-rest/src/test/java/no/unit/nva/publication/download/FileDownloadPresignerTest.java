@@ -0,0 +1,175 @@
+package no.unit.nva.publication.download;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static no.unit.nva.model.PublicationStatus.PUBLISHED;
+import static no.unit.nva.model.testing.PublicationGenerator.randomPublication;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomOpenFile;
+import static no.unit.nva.model.testing.associatedartifacts.AssociatedArtifactsGenerator.randomPendingOpenFile;
+import static no.unit.nva.testutils.RandomDataGenerator.randomBoolean;
+import static no.unit.nva.testutils.RandomDataGenerator.randomString;
+import static no.unit.nva.testutils.RandomDataGenerator.randomUri;
+import static nva.commons.core.attempt.Try.attempt;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import no.unit.nva.model.Publication;
+import no.unit.nva.model.associatedartifacts.AssociatedArtifactList;
+import no.unit.nva.model.associatedartifacts.file.File;
+import no.unit.nva.model.instancetypes.book.AcademicMonograph;
+import no.unit.nva.publication.download.exception.S3ServiceException;
+import no.unit.nva.publication.download.utils.UriShortenerLocalDynamoDb;
+import no.unit.nva.publication.model.business.FileEntry;
+import no.unit.nva.publication.model.business.Resource;
+import no.unit.nva.publication.model.business.UserInstance;
+import no.unit.nva.publication.services.UriResolverImpl;
+import no.unit.nva.publication.services.UriShortenerImpl;
+import no.unit.nva.publication.services.UriShortenerWriteClient;
+import nva.commons.apigateway.exceptions.ApiGatewayException;
+import nva.commons.core.Environment;
+import nva.commons.core.paths.UriWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+class FileDownloadPresignerTest extends UriShortenerLocalDynamoDb {
+
+  private static final String TABLE_NAME = "url_shortener";
+  private static final int DOWNLOADS = 200;
+  private static final Duration EXPIRATION_BUCKET = Duration.ofMinutes(5);
+  private S3Presigner s3Presigner;
+  private Resource resource;
+  private FileEntry fileEntry;
+  private UriWrapper apiHost;
+  private String basePath;
+  private Clock clock;
+
+  @BeforeEach
+  void initialize() {
+    super.init(TABLE_NAME);
+    s3Presigner = mock(S3Presigner.class);
+    when(s3Presigner.presignGetObject((GetObjectPresignRequest) any()))
+        .thenAnswer(invocation -> presignedRequest());
+    var file = randomOpenFile();
+    var publication = publicationWithFile(file);
+    resource = Resource.fromPublication(publication);
+    fileEntry =
+        FileEntry.create(file, resource.getIdentifier(), UserInstance.fromPublication(publication));
+    apiHost = UriWrapper.fromUri(randomUri());
+    basePath = randomString();
+    clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+  }
+
+  @Test
+  void shouldPresignAndStoreOneShortLinkForRepeatedDownloadsOfPublicFile()
+      throws S3ServiceException {
+    var presigner = newPresigner(clock);
+
+    var aliases = new ArrayList<URI>();
+    for (var download = 0; download < DOWNLOADS; download++) {
+      aliases.add(presigner.presign(resource, fileEntry, randomUser()).alias());
+    }
+
+    assertThat(aliases, everyItem(is(equalTo(aliases.getFirst()))));
+    assertThat(storedShortLinks(), is(equalTo(1)));
+    verify(s3Presigner, times(1)).presignGetObject((GetObjectPresignRequest) any());
+  }
+
+  @Test
+  void shouldReuseStoredShortLinkWhenAnotherPresignerHasWrittenIt() throws ApiGatewayException {
+    var first = newPresigner(clock).presign(resource, fileEntry, randomUser());
+    var second = newPresigner(clock).presign(resource, fileEntry, randomUser());
+
+    assertThat(second.alias(), is(equalTo(first.alias())));
+    assertThat(storedShortLinks(), is(equalTo(1)));
+    assertThat(new UriResolverImpl(client, TABLE_NAME).resolve(second.alias()), is(first.id()));
+  }
+
+  @Test
+  void shouldCreateNewShortLinkInTheNextExpirationBucket() throws S3ServiceException {
+    var first = newPresigner(clock).presign(resource, fileEntry, randomUser());
+    var later = Clock.offset(clock, EXPIRATION_BUCKET);
+    var second = newPresigner(later).presign(resource, fileEntry, randomUser());
+
+    assertThat(second.alias(), is(not(equalTo(first.alias()))));
+    assertThat(storedShortLinks(), is(equalTo(2)));
+  }
+
+  @Test
+  void shouldNotDeriveShortLinkOfRestrictedFileFromPublicInputs() throws S3ServiceException {
+    var file = randomPendingOpenFile();
+    var publication = publicationWithFile(file);
+    var owner = UserInstance.fromPublication(publication);
+    var restrictedResource = Resource.fromPublication(publication);
+    var restrictedEntry = FileEntry.create(file, restrictedResource.getIdentifier(), owner);
+
+    var first = newPresigner(clock).presign(restrictedResource, restrictedEntry, owner);
+    var second = newPresigner(clock).presign(restrictedResource, restrictedEntry, owner);
+
+    var linkFromPublicInputs = hashOfPublicInputs(file, owner, first.expires());
+    assertThat(
+        UriWrapper.fromUri(first.alias()).getLastPathElement(),
+        is(not(equalTo(linkFromPublicInputs))));
+    assertThat(second.alias(), is(not(equalTo(first.alias()))));
+  }
+
+  private static Publication publicationWithFile(File file) {
+    return randomPublication(AcademicMonograph.class)
+        .copy()
+        .withStatus(PUBLISHED)
+        .withAssociatedArtifacts(new AssociatedArtifactList(file))
+        .build();
+  }
+
+  private static String hashOfPublicInputs(File file, UserInstance user, Instant expiration) {
+    var value =
+        String.join(
+            "|",
+            file.getIdentifier().toString(),
+            "user:" + user.getUsername(),
+            String.valueOf(expiration.getEpochSecond()));
+    var digest = attempt(() -> MessageDigest.getInstance("SHA-256")).orElseThrow();
+    return HexFormat.of().formatHex(digest.digest(value.getBytes(UTF_8))).substring(0, 32);
+  }
+
+  private FileDownloadPresigner newPresigner(Clock clock) {
+    var uriShortener =
+        new UriShortenerImpl(apiHost, new UriShortenerWriteClient(client, TABLE_NAME));
+    return new FileDownloadPresigner(
+        s3Presigner, uriShortener, mock(Environment.class), basePath, clock);
+  }
+
+  private int storedShortLinks() {
+    return client.scan(ScanRequest.builder().tableName(TABLE_NAME).build()).count();
+  }
+
+  private static UserInstance randomUser() {
+    return randomBoolean() ? null : UserInstance.create(randomString(), randomUri());
+  }
+
+  private static PresignedGetObjectRequest presignedRequest() {
+    var request = mock(PresignedGetObjectRequest.class);
+    var url = attempt(() -> randomUri().toURL()).orElseThrow();
+    when(request.url()).thenReturn(url);
+    when(request.expiration()).thenReturn(Instant.now());
+    return request;
+  }
+}
@@ -4,6 +4,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static java.util.UUID.randomUUID;
 import static no.unit.nva.PublicationUtil.PROTECTED_DEGREE_INSTANCE_TYPES;
 import static no.unit.nva.model.testing.PublicationGenerator.fromInstanceClassesExcluding;
@@ -17,6 +18,8 @@ import static no.unit.nva.publication.RequestUtil.PUBLICATION_IDENTIFIER;
 import static no.unit.nva.publication.fetch.FetchPublicationHandler.ALLOWED_ORIGIN_ENV;
 import static no.unit.nva.publication.fetch.FetchPublicationHandler.DO_NOT_REDIRECT_QUERY_PARAM;
 import static no.unit.nva.publication.fetch.FetchPublicationHandler.ENV_NAME_NVA_FRONTEND_DOMAIN;
+import static no.unit.nva.publication.fetch.FetchPublicationHandler.PRIVATE_CACHE_CONTROL;
+import static no.unit.nva.publication.fetch.FetchPublicationHandler.PUBLIC_CACHE_CONTROL;
 import static no.unit.nva.publication.testing.http.RandomPersonServiceResponse.randomUri;
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static nva.commons.apigateway.ApiGatewayHandler.RESOURCE;
@@ -24,11 +27,15 @@ import static nva.commons.core.attempt.Try.attempt;
 import static org.apache.hc.core5.http.HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN;
 import static org.apache.hc.core5.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
 import static org.apache.http.HttpHeaders.ACCEPT;
+import static org.apache.http.HttpHeaders.AUTHORIZATION;
 import static org.apache.http.HttpHeaders.CACHE_CONTROL;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 import static org.apache.http.HttpHeaders.ETAG;
+import static org.apache.http.HttpHeaders.IF_MODIFIED_SINCE;
 import static org.apache.http.HttpHeaders.IF_NONE_MATCH;
+import static org.apache.http.HttpHeaders.LAST_MODIFIED;
 import static org.apache.http.HttpHeaders.LOCATION;
+import static org.apache.http.HttpHeaders.VARY;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_OK;
@@ -45,7 +52,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.amazonaws.services.lambda.runtime.Context;
@@ -59,6 +71,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -149,7 +164,7 @@ class FetchPublicationHandlerTest extends ResourcesLocalTest {
     when(environment.readEnv(COGNITO_AUTHORIZER_URLS)).thenReturn("http://localhost:3000");
     lenient().when(environment.readEnv(ENV_NAME_NVA_FRONTEND_DOMAIN)).thenReturn("localhost");
 
-    publicationService = getResourceService(client);
+    publicationService = spy(getResourceService(client));
     output = new ByteArrayOutputStream();
     var uriRetriever = new UriRetriever(WiremockHttpClient.create());
     fetchPublicationHandler =
@@ -665,6 +680,158 @@ class FetchPublicationHandlerTest extends ResourcesLocalTest {
     assertThat(gatewayResponse.getStatusCode(), is(equalTo(HTTP_OK)));
   }
 
+  @Test
+  void shouldAnswerMatchingIfNoneMatchHeaderWithoutReadingTheFullResource()
+      throws ApiGatewayException, IOException {
+    var publication = createPublication();
+    var version =
+        Resource.fromPublication(publication).fetch(publicationService).orElseThrow().getVersion();
+    clearInvocations(publicationService);
+
+    fetchPublicationHandler.handleRequest(
+        generateHandlerRequest(
+            publication.getIdentifier().toString(),
+            Map.of(IF_NONE_MATCH, version.toString()),
+            NO_QUERY_PARAMS),
+        output,
+        context);
+    var gatewayResponse = parseHandlerResponse();
+
+    assertThat(gatewayResponse.getStatusCode(), is(equalTo(HttpURLConnection.HTTP_NOT_MODIFIED)));
+    assertEquals(version.toString(), gatewayResponse.getHeaders().get(ETAG));
+    verify(publicationService, never()).getResourceByIdentifier(any());
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhenPublicationIsNotModifiedSinceIfModifiedSinceHeader()
+      throws ApiGatewayException, IOException {
+    var publication = createPublication();
+    var ifModifiedSince = toHttpDate(publication.getModifiedDate().plus(1, ChronoUnit.DAYS));
+
+    fetchPublicationHandler.handleRequest(
+        generateHandlerRequest(
+            publication.getIdentifier().toString(),
+            Map.of(IF_MODIFIED_SINCE, ifModifiedSince),
+            NO_QUERY_PARAMS),
+        output,
+        context);
+    var gatewayResponse = parseHandlerResponse();
+
+    assertNull(gatewayResponse.getBody());
+    assertThat(gatewayResponse.getStatusCode(), is(equalTo(HttpURLConnection.HTTP_NOT_MODIFIED)));
+    assertEquals(
+        toHttpDate(publication.getModifiedDate()), gatewayResponse.getHeaders().get(LAST_MODIFIED));
+  }
+
+  @Test
+  void shouldReturnOkWithBodyWhenPublicationIsModifiedSinceIfModifiedSinceHeader()
+      throws ApiGatewayException, IOException {
+    var publication = createPublication();
+    var ifModifiedSince = toHttpDate(publication.getModifiedDate().minus(1, ChronoUnit.DAYS));
+
+    fetchPublicationHandler.handleRequest(
+        generateHandlerRequest(
+            publication.getIdentifier().toString(),
+            Map.of(IF_MODIFIED_SINCE, ifModifiedSince, ACCEPT, "application/json"),
+            NO_QUERY_PARAMS),
+        output,
+        context);
+    var gatewayResponse = parseHandlerResponse();
+
+    assertNotNull(gatewayResponse.getBody());
+    assertThat(gatewayResponse.getStatusCode(), is(equalTo(HTTP_OK)));
+  }
+
+  @Test
+  void shouldReturnGoneWhenUnpublishedPublicationIsNotModifiedSinceIfModifiedSinceHeader()
+      throws ApiGatewayException, IOException {
+    var publication = createUnpublishedPublicationWithDuplicate(null);
+    var ifModifiedSince = toHttpDate(publication.getModifiedDate().plus(1, ChronoUnit.DAYS));
+
+    fetchPublicationHandler.handleRequest(
+        generateHandlerRequest(
+            publication.getIdentifier().toString(),
+            Map.of(IF_MODIFIED_SINCE, ifModifiedSince),
+            NO_QUERY_PARAMS),
+        output,
+        context);
+    var gatewayResponse = parseFailureResponse();
+
+    assertThat(gatewayResponse.getStatusCode(), is(equalTo(HttpURLConnection.HTTP_GONE)));
+  }
+
+  @Test
+  void shouldRedirectToDuplicateWhenPublicationIsNotModifiedSinceIfModifiedSinceHeader()
+      throws ApiGatewayException, IOException {
+    var publication = createUnpublishedPublicationWithDuplicate(randomUri());
+    var ifModifiedSince = toHttpDate(publication.getModifiedDate().plus(1, ChronoUnit.DAYS));
+
+    fetchPublicationHandler.handleRequest(
+        generateHandlerRequest(
+            publication.getIdentifier().toString(),
+            Map.of(IF_MODIFIED_SINCE, ifModifiedSince),
+            NO_QUERY_PARAMS),
+        output,
+        context);
+    var gatewayResponse = parseHandlerResponse();
+
+    assertThat(gatewayResponse.getStatusCode(), is(equalTo(HttpURLConnection.HTTP_MOVED_PERM)));
+  }
+
+  @Test
+  void shouldRedirectToLandingPageWhenPublicationIsNotModifiedSinceIfModifiedSinceHeader()
+      throws ApiGatewayException, IOException {
+    var publication = createPublication();
+    var ifModifiedSince = toHttpDate(publication.getModifiedDate().plus(1, ChronoUnit.DAYS));
+
+    fetchPublicationHandler.handleRequest(
+        generateHandlerRequest(
+            publication.getIdentifier().toString(),
+            Map.of(IF_MODIFIED_SINCE, ifModifiedSince, ACCEPT, "text/html"),
+            NO_QUERY_PARAMS),
+        output,
+        context);
+    var gatewayResponse = parseHandlerResponse();
+
+    assertThat(gatewayResponse.getStatusCode(), is(equalTo(HttpURLConnection.HTTP_SEE_OTHER)));
+  }
+
+  @Test
+  void shouldReturnPublicCacheControlHeaderForAnonymousRequestForPublishedPublication()
+      throws ApiGatewayException, IOException {
+    var publication = createNondegreePublication();
+    Resource.fromPublication(publication)
+        .publish(publicationService, UserInstance.fromPublication(publication));
+
+    fetchPublicationHandler.handleRequest(
+        generateHandlerRequest(publication.getIdentifier().toString()), output, context);
+    var gatewayResponse = parseHandlerResponse();
+
+    assertEquals(PUBLIC_CACHE_CONTROL, gatewayResponse.getHeaders().get(CACHE_CONTROL));
+    assertEquals(AUTHORIZATION, gatewayResponse.getHeaders().get(VARY));
+    assertThat(gatewayResponse.getHeaders(), hasKey(LAST_MODIFIED));
+  }
+
+  @Test
+  void shouldReturnPrivateCacheControlHeaderForAuthenticatedRequest()
+      throws ApiGatewayException, IOException {
+    var publication = createNondegreePublication();
+    Resource.fromPublication(publication)
+        .publish(publicationService, UserInstance.fromPublication(publication));
+
+    fetchPublicationHandler.handleRequest(
+        generateAuthenticatedRequest(publication, Map.of(ACCEPT, "application/json")),
+        output,
+        context);
+    var gatewayResponse = parseHandlerResponse();
+
+    assertEquals(PRIVATE_CACHE_CONTROL, gatewayResponse.getHeaders().get(CACHE_CONTROL));
+  }
+
+  private static String toHttpDate(Instant instant) {
+    return RFC_1123_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC));
+  }
+
   private static Organization createExpectedPublisher(WireMockRuntimeInfo wireMockRuntimeInfo) {
     return new Organization.Builder()
         .withId(URI.create(wireMockRuntimeInfo.getHttpsBaseUrl() + "/customer/" + randomUUID()))
@@ -13,19 +13,29 @@ import static org.apache.http.HttpStatus.SC_OK;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsMapContaining.hasKey;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import com.amazonaws.services.lambda.runtime.Context;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import no.unit.nva.clients.GetExternalClientResponse;
 import no.unit.nva.clients.IdentityServiceClient;
+import no.unit.nva.publication.model.ListingResult;
+import no.unit.nva.publication.model.PageCursor;
 import no.unit.nva.publication.model.PublicationSummary;
 import no.unit.nva.publication.model.business.UserInstance;
 import no.unit.nva.publication.service.impl.ResourceService;
@@ -39,8 +49,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.zalando.problem.Problem;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 @ExtendWith(MockitoExtension.class)
 class PublicationsByOwnerHandlerTest {
@@ -126,6 +140,69 @@ class PublicationsByOwnerHandlerTest {
     assertThat(gatewayResponse.getHeaders(), hasKey(ACCESS_CONTROL_ALLOW_ORIGIN));
   }
 
+  @Test
+  void shouldReturnPageWithNextCursorWhenSizeIsGiven() throws IOException {
+    var startMarker = Map.of("PK0", AttributeValue.fromS(randomString()));
+    when(resourceService.getPublicationSummaryByOwner(any(UserInstance.class), eq(2), isNull()))
+        .thenReturn(new ListingResult<>(publicationSummaries(), startMarker, true));
+
+    publicationsByOwnerHandler.handleRequest(
+        requestWithQueryParameters(Map.of("size", "2")), output, context);
+
+    var gatewayResponse =
+        GatewayResponse.fromOutputStream(output, PublicationsByOwnerResponse.class);
+    var body = gatewayResponse.getBodyObject(PublicationsByOwnerResponse.class);
+    assertEquals(SC_OK, gatewayResponse.getStatusCode());
+    assertThat(PageCursor.decode(body.getNextCursor()), is(equalTo(startMarker)));
+  }
+
+  @Test
+  void shouldPassDecodedCursorAsStartMarker() throws IOException {
+    var startMarker = Map.of("PK0", AttributeValue.fromS(randomString()));
+    when(resourceService.getPublicationSummaryByOwner(
+            any(UserInstance.class), anyInt(), eq(startMarker)))
+        .thenReturn(new ListingResult<>(publicationSummaries(), null, false));
+
+    publicationsByOwnerHandler.handleRequest(
+        requestWithQueryParameters(Map.of("cursor", PageCursor.encode(startMarker))),
+        output,
+        context);
+
+    var gatewayResponse =
+        GatewayResponse.fromOutputStream(output, PublicationsByOwnerResponse.class);
+    var body = gatewayResponse.getBodyObject(PublicationsByOwnerResponse.class);
+    assertEquals(SC_OK, gatewayResponse.getStatusCode());
+    assertThat(body.getNextCursor(), is(nullValue()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "1001", "abc"})
+  void shouldReturnBadRequestWhenSizeIsInvalid(String size) throws IOException {
+    publicationsByOwnerHandler.handleRequest(
+        requestWithQueryParameters(Map.of("size", size)), output, context);
+
+    var gatewayResponse = GatewayResponse.fromOutputStream(output, Problem.class);
+    assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, gatewayResponse.getStatusCode());
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenCursorIsInvalid() throws IOException {
+    publicationsByOwnerHandler.handleRequest(
+        requestWithQueryParameters(Map.of("cursor", randomString())), output, context);
+
+    var gatewayResponse = GatewayResponse.fromOutputStream(output, Problem.class);
+    assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, gatewayResponse.getStatusCode());
+  }
+
+  private static InputStream requestWithQueryParameters(Map<String, String> queryParameters)
+      throws JsonProcessingException {
+    return new HandlerRequestBuilder<Void>(restApiMapper)
+        .withNvaUsername(randomString())
+        .withCurrentCustomer(randomUri())
+        .withQueryParameters(queryParameters)
+        .build();
+  }
+
   private List<PublicationSummary> publicationSummaries() {
     return Stream.of(randomPublication(), randomPublication(), randomPublication())
         .map(PublicationSummary::create)
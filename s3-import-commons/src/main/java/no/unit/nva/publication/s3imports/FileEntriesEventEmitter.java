@@ -5,20 +5,15 @@ import static no.unit.nva.publication.s3imports.ApplicationConstants.defaultS3Cl
 import static no.unit.nva.publication.s3imports.FileImportUtils.timestampToString;
 import static no.unit.nva.publication.s3imports.FilenameEventEmitter.SUBTOPIC_SEND_EVENT_TO_BRAGE_PATCH_EVENT_CONSUMER;
 import static no.unit.nva.publication.s3imports.FilenameEventEmitter.SUPPORTED_SUBTOPICS;
-import static no.unit.nva.publication.s3imports.S3ImportsConfig.s3ImportsMapper;
 import static nva.commons.core.attempt.Try.attempt;
 
 import com.amazonaws.services.lambda.runtime.Context;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
-import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.stream.Gatherers;
 import no.unit.nva.events.handlers.EventHandler;
 import no.unit.nva.events.models.AwsEventBridgeEvent;
 import no.unit.nva.events.models.EventReference;
@@ -28,17 +23,23 @@ import no.unit.nva.s3.S3Driver;
 import nva.commons.core.Environment;
 import nva.commons.core.JacocoGenerated;
 import nva.commons.core.attempt.Failure;
-import nva.commons.core.attempt.Try;
 import nva.commons.core.paths.UnixPath;
 import nva.commons.core.paths.UriWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 /**
  * The body of the event (field "detail") is of type {@link FileContentsEvent} and it contains the
  * data of the file located in the s3Location defined in {@link EventReference#getUri()} ()}.
+ *
+ * <p>The file is read as a stream with {@link ImportFileReader}, and the entries are placed on the
+ * queue in small batches while the file is read, so that memory use does not grow with the size of
+ * the file. When reading fails after some batches were placed on the queue, the error report
+ * contains the entries that were placed, and the handler fails. Entries are placed on the queue at
+ * least once: when the event is retried, the entries before the error are placed again.
  */
 @JacocoGenerated
 public class FileEntriesEventEmitter extends EventHandler<EventReference, PutSqsMessageResult> {
@@ -50,13 +51,11 @@ public class FileEntriesEventEmitter extends EventHandler<EventReference, PutSqs
       "PublicationService.DataImport.DataEntry";
   public static final String EXPECTED_INPUT_TOPIC =
       FilenameEventEmitter.FILENAME_EMISSION_EVENT_TOPIC;
-  private static final boolean SEQUENTIAL = false;
   private static final Logger logger = LoggerFactory.getLogger(FileEntriesEventEmitter.class);
-  private static final String CONSECUTIVE_JSON_OBJECTS = "}\\s*\\{";
-  private static final String NODES_IN_ARRAY = "},{";
-  private static final Object END_OF_ARRAY = "]";
-  private static final String BEGINNING_OF_ARRAY = "[";
+  private static final int EMISSION_BATCH_SIZE = 100;
   public static final String WRONG_SUBTOPIC = "event does not contain the correct subtopic: ";
+  public static final String PARTIAL_EMISSION_ERROR =
+      "Failed after %d entries were placed on the queue. They are placed again if retried.";
 
   private final QueueMessageSender messageSender;
   private final S3Client s3Client;
@@ -86,21 +85,37 @@ public class FileEntriesEventEmitter extends EventHandler<EventReference, PutSqs
   }
 
   private PutSqsMessageResult attemptToPlaceMessagesOnQueue(EventReference input) {
-    var s3Driver = new S3Driver(s3Client, input.extractBucketName());
-    return attempt(() -> fetchFileFromS3(input, s3Driver))
-        .map(this::parseContents)
-        .map(jsonNodes -> generateMessageBodies(input, jsonNodes))
-        .map(this::createEventReferences)
-        .map(entries -> placeOnQueue(entries, input))
-        .map(result -> storePartialFailuresToS3(result, input))
-        .orElseThrow(failure -> storeCompleteFailureReport(failure, input));
+    var result = new PutSqsMessageResult();
+    return attempt(() -> emitFileEntries(input, result))
+        .map(emitted -> storePartialFailuresToS3(emitted, input))
+        .orElseThrow(failure -> storeFailureReport(failure, result, input));
+  }
+
+  private PutSqsMessageResult emitFileEntries(EventReference input, PutSqsMessageResult result)
+      throws IOException {
+    try (var entries = ImportFileReader.open(fetchFileFromS3(input))) {
+      var batches =
+          entries.stream()
+              .map(json -> createEventReference(input, json))
+              .gather(Gatherers.windowFixed(EMISSION_BATCH_SIZE))
+              .iterator();
+      while (batches.hasNext()) {
+        result.combine(placeOnQueue(batches.next(), input));
+      }
+      return result;
+    }
   }
 
-  private RuntimeException storeCompleteFailureReport(
-      Failure<PutSqsMessageResult> failure, EventReference input) {
-    var reportContent = failure.getException().toString();
+  private RuntimeException storeFailureReport(
+      Failure<PutSqsMessageResult> failure, PutSqsMessageResult result, EventReference input) {
+    if (result.getSuccesses().isEmpty() && result.getFailures().isEmpty()) {
+      storeReportContentToS3(failure.getException().toString(), input);
+      throw new RuntimeException(failure.getException());
+    }
+    var reportContent = failure.getException() + System.lineSeparator() + result.toJsonString();
     storeReportContentToS3(reportContent, input);
-    throw new RuntimeException(failure.getException());
+    throw new RuntimeException(
+        PARTIAL_EMISSION_ERROR.formatted(result.getSuccesses().size()), failure.getException());
   }
 
   private PutSqsMessageResult storePartialFailuresToS3(
@@ -134,19 +149,14 @@ public class FileEntriesEventEmitter extends EventHandler<EventReference, PutSqs
     return filename + FILE_EXTENSION_ERROR;
   }
 
-  private Stream<FileContentsEvent<JsonNode>> generateMessageBodies(
-      EventReference input, List<JsonNode> contents) {
-    var fileUri = input.getUri();
-    var timestamp = input.getTimestamp();
-    return contents.stream()
-        .map(
-            json ->
-                new FileContentsEvent<>(
-                    FILE_CONTENTS_EMISSION_EVENT_TOPIC,
-                    input.getSubtopic(),
-                    fileUri,
-                    timestamp,
-                    json));
+  private EventReference createEventReference(EventReference input, JsonNode json) {
+    return new FileContentsEvent<>(
+            FILE_CONTENTS_EMISSION_EVENT_TOPIC,
+            input.getSubtopic(),
+            input.getUri(),
+            input.getTimestamp(),
+            json)
+        .toBragePatchEventReference();
   }
 
   private PutSqsMessageResult placeOnQueue(List<EventReference> eventBodies, EventReference input) {
@@ -158,16 +168,14 @@ public class FileEntriesEventEmitter extends EventHandler<EventReference, PutSqs
     return subtopicToQueueUrl.get(input.getSubtopic());
   }
 
-  private List<EventReference> createEventReferences(
-      Stream<FileContentsEvent<JsonNode>> eventBodies) {
-    return eventBodies
-        .map(FileContentsEvent::toBragePatchEventReference)
-        .collect(Collectors.toList());
-  }
-
-  private String fetchFileFromS3(EventReference input, S3Driver s3Driver) {
+  private InputStream fetchFileFromS3(EventReference input) {
+    var request =
+        GetObjectRequest.builder()
+            .bucket(input.extractBucketName())
+            .key(UriWrapper.fromUri(input.getUri()).toS3bucketPath().toString())
+            .build();
     try {
-      return s3Driver.readEvent(input.getUri());
+      return s3Client.getObject(request);
     } catch (NoSuchKeyException exception) {
       throw new IllegalArgumentException(FILE_NOT_FOUND_ERROR + input.getUri(), exception);
     }
@@ -183,46 +191,4 @@ public class FileEntriesEventEmitter extends EventHandler<EventReference, PutSqs
       throw new IllegalArgumentException(WRONG_SUBTOPIC + event.getDetail().getSubtopic());
     }
   }
-
-  private List<JsonNode> parseContents(String content) {
-    Try<List<JsonNode>> result = attempt(() -> parseContentAsJsonArray(content));
-    if (result.isFailure()) {
-      result = attempt(() -> parseContentsAsIndependentConsecutiveJsonObjects(content));
-    }
-    if (result.isFailure()) {
-      result = attempt(() -> parseContentsAsIonFormat(content));
-    }
-    return result.orElseThrow();
-  }
-
-  private List<JsonNode> parseContentsAsIonFormat(String content) {
-    return S3IonReader.extractJsonNodesFromIonContent(content).collect(Collectors.toList());
-  }
-
-  private List<JsonNode> parseContentsAsIndependentConsecutiveJsonObjects(String content) {
-
-    return attempt(() -> content.replaceAll(CONSECUTIVE_JSON_OBJECTS, NODES_IN_ARRAY))
-        .map(jsonObjectStrings -> BEGINNING_OF_ARRAY + jsonObjectStrings + END_OF_ARRAY)
-        .map(jsonArrayString -> (ArrayNode) s3ImportsMapper.readTree(jsonArrayString))
-        .map(array -> toStream(array).collect(Collectors.toList()))
-        .orElseThrow();
-  }
-
-  private Stream<JsonNode> toStream(ArrayNode root) {
-    return StreamSupport.stream(
-        Spliterators.spliteratorUnknownSize(root.elements(), Spliterator.ORDERED), SEQUENTIAL);
-  }
-
-  private List<JsonNode> parseContentAsJsonArray(String content) throws JsonProcessingException {
-    return toStream(parseAsArrayNode(content)).collect(Collectors.toList());
-  }
-
-  private ArrayNode parseAsArrayNode(String content) throws JsonProcessingException {
-    JsonNode jsonNode = s3ImportsMapper.readTree(content);
-    if (jsonNode.isArray()) {
-      return (ArrayNode) jsonNode;
-    } else {
-      throw new IllegalArgumentException("Content is not array node");
-    }
-  }
 }
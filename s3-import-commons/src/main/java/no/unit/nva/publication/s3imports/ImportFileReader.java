@@ -0,0 +1,230 @@
+package no.unit.nva.publication.s3imports;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.nonNull;
+import static no.unit.nva.publication.s3imports.S3ImportsConfig.s3ImportsMapper;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the entries of an import file one at a time, so that only the current entry is held in
+ * memory. The format is detected from the first bytes of the input:
+ *
+ * <ul>
+ *   <li>gzip compressed input is decompressed and detected again,
+ *   <li>binary Ion and Ion text (e.g. DynamoDB exports) are read with an Ion reader,
+ *   <li>JSON arrays and consecutive JSON objects (e.g. JSON lines) are read with a JSON parser.
+ * </ul>
+ *
+ * <p>Text input is read as JSON unless the first object has an unquoted field name or the input
+ * does not start with an object or an array. Top-level arrays and Ion lists are unwrapped, so that
+ * their elements are returned as entries.
+ */
+public final class ImportFileReader implements Iterator<JsonNode>, Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int DETECTION_LENGTH = 8 * 1024;
+  private static final byte[] GZIP_MAGIC = {(byte) 0x1F, (byte) 0x8B};
+  private static final byte[] ION_BINARY_VERSION_MARKER = {
+    (byte) 0xE0, (byte) 0x01, (byte) 0x00, (byte) 0xEA
+  };
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+  private static final boolean SEQUENTIAL = false;
+
+  private final EntrySource source;
+  private JsonNode next;
+
+  private ImportFileReader(EntrySource source) {
+    this.source = source;
+  }
+
+  /** Opens a reader over the input. Closing the reader closes the input. */
+  public static ImportFileReader open(InputStream input) throws IOException {
+    var buffered = new BufferedInputStream(input, BUFFER_SIZE);
+    var prefix = peek(buffered);
+    if (startsWith(prefix, GZIP_MAGIC)) {
+      return open(new GZIPInputStream(buffered, BUFFER_SIZE));
+    }
+    return isIon(prefix)
+        ? new ImportFileReader(new IonEntries(buffered))
+        : new ImportFileReader(new JsonEntries(buffered));
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nonNull(next)) {
+      return true;
+    }
+    try {
+      next = source.read();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return nonNull(next);
+  }
+
+  @Override
+  public JsonNode next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    var entry = next;
+    next = null;
+    return entry;
+  }
+
+  public Stream<JsonNode> stream() {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), SEQUENTIAL);
+  }
+
+  @Override
+  public void close() throws IOException {
+    source.close();
+  }
+
+  private static byte[] peek(BufferedInputStream input) throws IOException {
+    input.mark(DETECTION_LENGTH);
+    var prefix = input.readNBytes(DETECTION_LENGTH);
+    input.reset();
+    return prefix;
+  }
+
+  private static boolean startsWith(byte[] prefix, byte[] marker) {
+    return prefix.length >= marker.length
+        && Arrays.equals(prefix, 0, marker.length, marker, 0, marker.length);
+  }
+
+  private static boolean isIon(byte[] prefix) {
+    return startsWith(prefix, ION_BINARY_VERSION_MARKER) || isIonText(new String(prefix, UTF_8));
+  }
+
+  private static boolean isIonText(String prefix) {
+    var position = skipWhitespace(prefix, 0);
+    if (position == prefix.length()) {
+      return false;
+    }
+    if (prefix.charAt(position) != '{' && prefix.charAt(position) != '[') {
+      return true;
+    }
+    while (position < prefix.length() && prefix.charAt(position) == '[') {
+      position = skipWhitespace(prefix, position + 1);
+    }
+    if (position == prefix.length() || prefix.charAt(position) != '{') {
+      return false;
+    }
+    position = skipWhitespace(prefix, position + 1);
+    return position < prefix.length() && isUnquotedFieldNameStart(prefix.charAt(position));
+  }
+
+  private static boolean isUnquotedFieldNameStart(char character) {
+    return Character.isLetter(character) || character == '$' || character == '_';
+  }
+
+  private static int skipWhitespace(String text, int position) {
+    while (position < text.length()
+        && (Character.isWhitespace(text.charAt(position))
+            || text.charAt(position) == BYTE_ORDER_MARK)) {
+      position++;
+    }
+    return position;
+  }
+
+  private interface EntrySource extends Closeable {
+
+    /** Returns the next entry, or null when the input is exhausted. */
+    JsonNode read() throws IOException;
+  }
+
+  private static final class JsonEntries implements EntrySource {
+
+    private final JsonParser parser;
+    private boolean inTopLevelArray;
+
+    private JsonEntries(InputStream input) throws IOException {
+      this.parser = s3ImportsMapper.getFactory().createParser(input);
+    }
+
+    @Override
+    public JsonNode read() throws IOException {
+      var token = parser.nextToken();
+      while (nonNull(token)) {
+        if (!inTopLevelArray && token == JsonToken.START_ARRAY) {
+          inTopLevelArray = true;
+        } else if (inTopLevelArray && token == JsonToken.END_ARRAY) {
+          inTopLevelArray = false;
+        } else {
+          return s3ImportsMapper.readTree(parser);
+        }
+        token = parser.nextToken();
+      }
+      return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+      parser.close();
+    }
+  }
+
+  private static final class IonEntries implements EntrySource {
+
+    private final InputStream input;
+    private final IonReader reader;
+
+    private IonEntries(InputStream input) {
+      this.input = input;
+      this.reader = IonReaderBuilder.standard().build(input);
+    }
+
+    @Override
+    public JsonNode read() throws IOException {
+      while (true) {
+        var type = reader.next();
+        if (type == null && reader.getDepth() == 0) {
+          return null;
+        } else if (type == null) {
+          reader.stepOut();
+        } else if (type == IonType.LIST && reader.getDepth() == 0 && !reader.isNullValue()) {
+          reader.stepIn();
+        } else {
+          return toJsonNode();
+        }
+      }
+    }
+
+    private JsonNode toJsonNode() throws IOException {
+      var json = new StringBuilder();
+      try (var writer = IonTextWriterBuilder.json().withCharset(UTF_8).build(json)) {
+        writer.writeValue(reader);
+      }
+      return s3ImportsMapper.readTree(json.toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+      try (input) {
+        reader.close();
+      }
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package no.unit.nva.publication.s3imports;
 
+import java.util.ArrayList;
 import java.util.List;
 import no.unit.nva.commons.json.JsonSerializable;
 import no.unit.nva.events.models.EventReference;
@@ -10,8 +11,8 @@ public class PutSqsMessageResult implements JsonSerializable {
   private List<EventReference> successes;
 
   public PutSqsMessageResult() {
-    failures = List.of();
-    successes = List.of();
+    failures = new ArrayList<>();
+    successes = new ArrayList<>();
   }
 
   public List<PutSqsMessageResultFailureEntry> getFailures() {
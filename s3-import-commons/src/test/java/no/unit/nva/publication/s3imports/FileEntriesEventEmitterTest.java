@@ -3,6 +3,7 @@ package no.unit.nva.publication.s3imports;
 import static no.unit.nva.publication.s3imports.ApplicationConstants.ERRORS_FOLDER;
 import static no.unit.nva.publication.s3imports.FileEntriesEventEmitter.FILE_CONTENTS_EMISSION_EVENT_TOPIC;
 import static no.unit.nva.publication.s3imports.FileEntriesEventEmitter.FILE_EXTENSION_ERROR;
+import static no.unit.nva.publication.s3imports.FileEntriesEventEmitter.PARTIAL_EMISSION_ERROR;
 import static no.unit.nva.publication.s3imports.FileImportUtils.timestampToString;
 import static no.unit.nva.publication.s3imports.FilenameEventEmitter.FILENAME_EMISSION_EVENT_TOPIC;
 import static no.unit.nva.publication.s3imports.FilenameEventEmitter.SUBTOPIC_SEND_EVENT_TO_BRAGE_PATCH_EVENT_CONSUMER;
@@ -142,6 +143,58 @@ class FileEntriesEventEmitterTest {
     assertThat(collectUrisOfEmittedEventReferences(), contains(fileUri, fileUri));
   }
 
+  @Test
+  void shouldSendOneMessagePerEntryWhenFileContainsMoreEntriesThanAreSentAtOnce()
+      throws IOException {
+    var entries = 250;
+    var fileContents =
+        Stream.generate(SampleObject::random)
+            .limit(entries)
+            .map(SampleObject::toJsonString)
+            .collect(Collectors.joining(System.lineSeparator()));
+    var fileUri = s3Driver.insertFile(randomPath(), fileContents);
+    var input = toInputStream(createInputEventForFile(fileUri));
+    handler.handleRequest(input, outputStream, CONTEXT);
+
+    assertThat(collectUrisOfEmittedEventReferences(), hasSize(entries));
+    assertThat(parseOutPut(outputStream).getSuccesses(), hasSize(entries));
+  }
+
+  @Test
+  void shouldReportEntriesAlreadySentWhenReadingFailsAfterTheFirstBatch() throws IOException {
+    var entries = 150;
+    var fileContents =
+        Stream.generate(SampleObject::random)
+                .limit(entries)
+                .map(SampleObject::toJsonString)
+                .collect(Collectors.joining(System.lineSeparator()))
+            + System.lineSeparator()
+            + "{\"unterminated\": ";
+    var filePath = randomPath();
+    var fileUri = s3Driver.insertFile(filePath, fileContents);
+    var inputEvent = createInputEventForFile(fileUri);
+
+    Executable action =
+        () -> handler.handleRequest(toInputStream(inputEvent), outputStream, CONTEXT);
+    var exception = assertThrows(RuntimeException.class, action);
+
+    var sentEntries = collectUrisOfEmittedEventReferences();
+    assertThat(sentEntries, hasSize(100));
+    assertThat(
+        exception.getMessage(),
+        is(equalTo(PARTIAL_EMISSION_ERROR.formatted(sentEntries.size()))));
+    var expectedErrorFileLocation =
+        ERRORS_FOLDER
+            .addChild(timestampToString(inputEvent.getDetail().getTimestamp()))
+            .addChild(filePath.getParent().orElseThrow())
+            .addChild(filePath.getLastPathElement() + FILE_EXTENSION_ERROR)
+            .toString();
+    var s3Driver = new S3Driver(s3Client, SOME_BUCKETNAME);
+    var errorReport = s3Driver.getFile(UnixPath.of(expectedErrorFileLocation));
+    assertThat(errorReport, containsString(exception.getCause().toString()));
+    assertThat(errorReport, containsString("\"successes\""));
+  }
+
   @Test
   void shouldSendMessageToCorrectQueue() throws IOException {
     var sampleObject = SampleObject.random();
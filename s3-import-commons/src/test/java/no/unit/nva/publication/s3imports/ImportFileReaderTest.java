@@ -0,0 +1,226 @@
+package no.unit.nva.publication.s3imports;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static no.unit.nva.publication.s3imports.S3ImportsConfig.s3ImportsMapper;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ImportFileReaderTest {
+
+  private static final int LARGE_FIELD_LENGTH = 8 * 1024;
+
+  @Test
+  void shouldReadElementsOfJsonArrayAsEntries() throws IOException {
+    var objects = sampleObjects();
+    var contents = s3ImportsMapper.writeValueAsString(objects);
+
+    assertThat(readEntries(toStream(contents)), contains(toJsonNodes(objects)));
+  }
+
+  @Test
+  void shouldReadConsecutiveJsonObjectsAsEntries() throws IOException {
+    var objects = sampleObjects();
+    var contents =
+        Arrays.stream(objects)
+            .map(SampleObject::toJsonString)
+            .collect(Collectors.joining(System.lineSeparator()));
+
+    assertThat(readEntries(toStream(contents)), contains(toJsonNodes(objects)));
+  }
+
+  @Test
+  void shouldReadConsecutiveIonValuesAsEntries() throws IOException {
+    var objects = sampleObjects();
+    var contents =
+        Arrays.stream(objects)
+            .map(SampleObject::toJsonString)
+            .map(ImportFileReaderTest::jsonToIon)
+            .collect(Collectors.joining(System.lineSeparator()));
+
+    assertThat(readEntries(toStream(contents)), contains(toJsonNodes(objects)));
+  }
+
+  @Test
+  void shouldReadElementsOfIonListAsEntries() throws IOException {
+    var objects = sampleObjects();
+    var contents = jsonToIon(s3ImportsMapper.writeValueAsString(objects));
+
+    assertThat(readEntries(toStream(contents)), contains(toJsonNodes(objects)));
+  }
+
+  @Test
+  void shouldReadBinaryIonAsEntries() throws IOException {
+    var objects = sampleObjects();
+    var contents = jsonToBinaryIon(s3ImportsMapper.writeValueAsString(objects));
+
+    assertThat(readEntries(new ByteArrayInputStream(contents)), contains(toJsonNodes(objects)));
+  }
+
+  @Test
+  void shouldDecompressGzippedInput() throws IOException {
+    var objects = sampleObjects();
+    var contents = gzip(s3ImportsMapper.writeValueAsString(objects));
+
+    assertThat(readEntries(new ByteArrayInputStream(contents)), contains(toJsonNodes(objects)));
+  }
+
+  @Test
+  void shouldReturnNoEntriesForEmptyInput() throws IOException {
+    assertThat(readEntries(toStream(" ")), is(empty()));
+  }
+
+  @Tag("largeFile")
+  @ParameterizedTest
+  @EnumSource(LargeFileFormat.class)
+  void shouldReadFileLargerThanHeapWithoutHoldingItInMemory(LargeFileFormat format)
+      throws IOException {
+    var entry = format.entry(largeSampleObject());
+    var count = Runtime.getRuntime().maxMemory() / entry.length() + 1;
+
+    var entries = 0L;
+    JsonNode lastEntry = null;
+    try (var reader = ImportFileReader.open(format.file(entry, count))) {
+      while (reader.hasNext()) {
+        lastEntry = reader.next();
+        entries++;
+      }
+    }
+
+    assertThat(count * entry.length(), is(greaterThan(Runtime.getRuntime().maxMemory())));
+    assertThat(entries, is(count));
+    assertThat(lastEntry, is(s3ImportsMapper.readTree(largeSampleObject().toJsonString())));
+  }
+
+  @Test
+  void shouldThrowWhenReadingPastTheLastEntry() throws IOException {
+    try (var reader = ImportFileReader.open(toStream(SampleObject.random().toJsonString()))) {
+      reader.next();
+      assertThrows(NoSuchElementException.class, reader::next);
+    }
+  }
+
+  private static List<JsonNode> readEntries(InputStream input) throws IOException {
+    try (var reader = ImportFileReader.open(input)) {
+      return reader.stream().toList();
+    }
+  }
+
+  private static SampleObject[] sampleObjects() {
+    return new SampleObject[] {SampleObject.random(), SampleObject.random()};
+  }
+
+  private static SampleObject largeSampleObject() {
+    return new SampleObject(1, "a".repeat(LARGE_FIELD_LENGTH), "b".repeat(LARGE_FIELD_LENGTH));
+  }
+
+  private static JsonNode[] toJsonNodes(SampleObject... objects) {
+    return Arrays.stream(objects)
+        .map(object -> s3ImportsMapper.convertValue(object, JsonNode.class))
+        .toArray(JsonNode[]::new);
+  }
+
+  private static InputStream toStream(String contents) {
+    return new ByteArrayInputStream(contents.getBytes(UTF_8));
+  }
+
+  private static String jsonToIon(String json) {
+    var ion = new StringBuilder();
+    try (var reader = IonReaderBuilder.standard().build(json);
+        var writer = IonTextWriterBuilder.standard().build(ion)) {
+      writer.writeValues(reader);
+    } catch (IOException exception) {
+      throw new IllegalStateException(exception);
+    }
+    return ion.toString();
+  }
+
+  private static byte[] jsonToBinaryIon(String json) throws IOException {
+    var output = new ByteArrayOutputStream();
+    try (var reader = IonReaderBuilder.standard().build(json);
+        var writer = IonBinaryWriterBuilder.standard().build(output)) {
+      writer.writeValues(reader);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] gzip(String contents) throws IOException {
+    var output = new ByteArrayOutputStream();
+    try (var gzip = new GZIPOutputStream(output)) {
+      gzip.write(contents.getBytes(UTF_8));
+    }
+    return output.toByteArray();
+  }
+
+  private enum LargeFileFormat {
+    JSON_ARRAY("[", ",", "]"),
+    JSON_LINES("", System.lineSeparator(), ""),
+    ION("$ion_1_0 ", System.lineSeparator(), "");
+
+    private final String prefix;
+    private final String separator;
+    private final String suffix;
+
+    LargeFileFormat(String prefix, String separator, String suffix) {
+      this.prefix = prefix;
+      this.separator = separator;
+      this.suffix = suffix;
+    }
+
+    private String entry(SampleObject object) {
+      return this == ION ? jsonToIon(object.toJsonString()) : object.toJsonString();
+    }
+
+    /** Generates the file while it is read, so that the file itself is never held in memory. */
+    private InputStream file(String entry, long count) {
+      var entryBytes = entry.getBytes(UTF_8);
+      var separatorBytes = separator.getBytes(UTF_8);
+      var parts =
+          new Enumeration<InputStream>() {
+            private long position = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+              return position < 2 * count;
+            }
+
+            @Override
+            public InputStream nextElement() {
+              position++;
+              if (position == 0) {
+                return toStream(prefix);
+              } else if (position == 2 * count) {
+                return toStream(suffix);
+              } else if (position % 2 == 0) {
+                return new ByteArrayInputStream(separatorBytes);
+              }
+              return new ByteArrayInputStream(entryBytes);
+            }
+          };
+      return new SequenceInputStream(parts);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package no.unit.nva.schemaorg;
 
 import static nva.commons.core.attempt.Try.attempt;
 import static nva.commons.core.ioutils.IoUtils.stringFromResources;
+import static nva.commons.core.ioutils.IoUtils.stringToStream;
 
 import com.apicatalog.jsonld.JsonLd;
 import com.apicatalog.jsonld.JsonLdError;
@@ -17,17 +18,23 @@ import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import no.unit.nva.PublicationMapper;
 import no.unit.nva.api.PublicationResponse;
 import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.jsonld.JsonLdGraphBuilder;
+import no.unit.nva.jsonld.JsonLdGraphBuilder.UnsupportedJsonLdException;
 import no.unit.nva.model.Publication;
 import nva.commons.core.SingletonCollector;
+import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecutionFactory;
 import org.apache.jena.query.QueryFactory;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.sparql.graph.GraphReadOnly;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,13 +42,14 @@ public final class SchemaOrgDocument {
 
   public static final Logger logger = LoggerFactory.getLogger(SchemaOrgDocument.class);
   public static final ObjectMapper MAPPER = JsonUtils.dtoObjectMapper;
-  public static final String QUERY = stringFromResources(Path.of("schema_org_conversion.sparql"));
-  public static final String JSON_LD_FRAME_TEMPLATE =
-      stringFromResources(Path.of("json_ld_frame.json"));
-  public static final String CONSTRUCT_SCHEMA_VIEW_QUERY =
-      stringFromResources(Path.of("type_selector.sparql"));
   public static final String EMPTY_JSON_OBJECT = "{}";
-  public static final String MAPPINGS = stringFromResources(Path.of("subtype_mappings.ttl"));
+  private static final String UNSUPPORTED_JSON_LD_MESSAGE = "Parsing publication as JSON-LD: {}";
+  private static final String JSON_LD_FRAME_TEMPLATE =
+      stringFromResources(Path.of("json_ld_frame.json"));
+  private static final Query CONVERSION_QUERY = compile(Path.of("schema_org_conversion.sparql"));
+  private static final Query TYPE_SELECTOR_QUERY = compile(Path.of("type_selector.sparql"));
+  private static final Model MAPPINGS = loadMappings(Path.of("subtype_mappings.ttl"));
+  private static final Map<String, JsonDocument> FRAMES = new ConcurrentHashMap<>();
 
   private SchemaOrgDocument() {
     // NO-OP
@@ -55,23 +63,42 @@ public final class SchemaOrgDocument {
   }
 
   private static Model extractSchemaRepresentation(Publication publication) {
-    var query = QueryFactory.create(QUERY);
     try (var queryExecution =
-        QueryExecutionFactory.create(query, getModelWithMappings(publication))) {
+        QueryExecutionFactory.create(CONVERSION_QUERY, getModelWithMappings(publication))) {
       return queryExecution.execConstruct();
     }
   }
 
   private static Model getModelWithMappings(Publication publication) {
     var publicationResponse = toPublicationResponse(publication);
-    var model = ModelFactory.createDefaultModel();
-    RDFDataMgr.read(model, toInputStream(publicationResponse), Lang.JSONLD);
-    RDFDataMgr.read(model, loadMappings(), Lang.TURTLE);
-    return model;
+    return ModelFactory.createUnion(toModel(publicationResponse), MAPPINGS);
+  }
+
+  private static Model toModel(PublicationResponse publicationResponse) {
+    try {
+      return JsonLdGraphBuilder.toModel(MAPPER.valueToTree(publicationResponse));
+    } catch (UnsupportedJsonLdException exception) {
+      logger.warn(UNSUPPORTED_JSON_LD_MESSAGE, exception.getMessage());
+      var model = ModelFactory.createDefaultModel();
+      RDFDataMgr.read(model, toInputStream(publicationResponse), Lang.JSONLD);
+      return model;
+    }
   }
 
-  private static InputStream loadMappings() {
-    return new ByteArrayInputStream(MAPPINGS.getBytes(StandardCharsets.UTF_8));
+  /**
+   * Parses the query once, and sets its result variables up front so that executions sharing the
+   * query across threads only read it.
+   */
+  private static Query compile(Path path) {
+    var query = QueryFactory.create(stringFromResources(path));
+    query.setResultVars();
+    return query;
+  }
+
+  private static Model loadMappings(Path path) {
+    var model = ModelFactory.createDefaultModel();
+    RDFDataMgr.read(model, stringToStream(stringFromResources(path)), Lang.TURTLE);
+    return ModelFactory.createModelForGraph(new GraphReadOnly(model.getGraph()));
   }
 
   private static InputStream toInputStream(PublicationResponse publication) {
@@ -85,7 +112,8 @@ public final class SchemaOrgDocument {
     RDFDataMgr.write(byteArrayOutputStream, result, Lang.JSONLD);
     try (var inputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray())) {
       var jsonDocument = JsonDocument.of(MediaType.JSON_LD, inputStream);
-      var frame = createFrame(extractTypeForFrame(result));
+      var frame =
+          FRAMES.computeIfAbsent(extractTypeForFrame(result), SchemaOrgDocument::createFrame);
       return write(JsonLd.frame(jsonDocument, frame).get());
     } catch (IOException | JsonLdError e) {
       throw new RuntimeException(e);
@@ -112,8 +140,7 @@ public final class SchemaOrgDocument {
   }
 
   private static String extractTypeForFrame(Model model) {
-    var query = QueryFactory.create(CONSTRUCT_SCHEMA_VIEW_QUERY);
-    try (var queryExecution = QueryExecutionFactory.create(query, model)) {
+    try (var queryExecution = QueryExecutionFactory.create(TYPE_SELECTOR_QUERY, model)) {
       var results = queryExecution.execSelect();
       var queryParameter = results.getResultVars().stream().collect(SingletonCollector.collect());
       return results.next().get(queryParameter).asResource().getLocalName();
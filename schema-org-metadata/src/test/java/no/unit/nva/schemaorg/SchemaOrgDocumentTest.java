@@ -9,17 +9,22 @@ import static uk.co.datumedge.hamcrest.json.SameJSONAs.sameJSONAs;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import no.unit.nva.commons.json.JsonUtils;
 import no.unit.nva.model.Publication;
 import no.unit.nva.model.instancetypes.PublicationInstance;
+import no.unit.nva.model.testing.PublicationGenerator;
 import no.unit.nva.publication.testing.TypeProvider;
 import no.unit.nva.schemaorg.document.FramedSchemaOrgDocumentBuilder;
 import nva.commons.core.paths.UriWrapper;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -49,6 +54,26 @@ class SchemaOrgDocumentTest {
     assertThat(actual, sameJSONAs(expected).allowingAnyArrayOrdering());
   }
 
+  @Test
+  void shouldGenerateSameDocumentWhenPublicationsAreConvertedConcurrently() throws Exception {
+    var publications =
+        instanceTypeProvider().map(Named::getPayload).map(PublicationGenerator::randomPublication);
+    var expected = new ArrayList<String>();
+    var conversions = new ArrayList<Future<String>>();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      publications.forEach(
+          publication -> {
+            expected.add(SchemaOrgDocument.fromPublication(publication));
+            conversions.add(executor.submit(() -> SchemaOrgDocument.fromPublication(publication)));
+          });
+      for (var index = 0; index < conversions.size(); index++) {
+        assertThat(
+            conversions.get(index).get(),
+            sameJSONAs(expected.get(index)).allowingAnyArrayOrdering());
+      }
+    }
+  }
+
   private String generateExpected(
       Publication publication, Class<? extends PublicationInstance<?>> instance) {
     return attempt(
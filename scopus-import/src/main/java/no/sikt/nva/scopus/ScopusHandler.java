@@ -8,9 +8,8 @@ import static nva.commons.core.attempt.Try.attempt;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.SQSEvent;
-import jakarta.xml.bind.JAXB;
+import jakarta.xml.bind.JAXBException;
 import java.io.IOException;
-import java.io.StringReader;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpClient.Redirect;
@@ -22,15 +21,18 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicReference;
 import no.scopus.generated.DocTp;
 import no.sikt.nva.scopus.conversion.ContributorExtractor;
 import no.sikt.nva.scopus.conversion.CristinConnection;
 import no.sikt.nva.scopus.conversion.PiaConnection;
 import no.sikt.nva.scopus.conversion.PublicationChannelConnection;
+import no.sikt.nva.scopus.conversion.ScopusDocumentReader;
 import no.sikt.nva.scopus.conversion.files.ScopusFileConverter;
 import no.sikt.nva.scopus.conversion.files.TikaUtils;
+import no.sikt.nva.scopus.throttling.ScopusThrottling;
+import no.sikt.nva.scopus.throttling.ThrottleSignal;
 import no.sikt.nva.scopus.update.ScopusUpdater;
 import no.unit.nva.auth.uriretriever.AuthorizedBackendUriRetriever;
 import no.unit.nva.auth.uriretriever.UriRetriever;
@@ -41,7 +43,6 @@ import no.unit.nva.model.EntityDescription;
 import no.unit.nva.model.Reference;
 import no.unit.nva.model.additionalidentifiers.AdditionalIdentifierBase;
 import no.unit.nva.model.additionalidentifiers.ScopusIdentifier;
-import no.unit.nva.publication.exception.CandidateAlreadyImportedException;
 import no.unit.nva.publication.model.business.Resource;
 import no.unit.nva.publication.s3imports.ImportResult;
 import no.unit.nva.publication.service.impl.ResourceService;
@@ -55,7 +56,9 @@ import nva.commons.core.attempt.Try;
 import nva.commons.core.paths.UriWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 
 @SuppressWarnings({"PMD.GodClass", "PMD.CouplingBetweenObjects"})
 public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate> {
@@ -65,15 +68,13 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
       new Environment().readEnv("BACKEND_CLIENT_SECRET_NAME");
   private static final String BACKEND_CLIENT_AUTH_URL =
       new Environment().readEnv("BACKEND_CLIENT_AUTH_URL");
-  private static final Random RANDOM = new Random(System.currentTimeMillis());
-  private static final int MAX_EFFORTS = 10;
   private static final String PATH_SEPERATOR = "/";
   private static final String SCOPUS_IMPORT_BUCKET = "SCOPUS_IMPORT_BUCKET";
   private static final String SCOPUS_XML_BUCKET = new Environment().readEnv("XML_BUCKET_NAME");
   private static final String SUCCESS_BUCKET_PATH = "SUCCESS";
   private static final String ERROR_SAVING_IMPORT_CANDIDATE =
       "Error saving import cadidate " + "key: {} {}";
-  private static final int MAX_SLEEP_TIME = 100;
+  private static final String RATE_LIMITER_STATISTICS_MESSAGE = "Rate limiter statistics: {}";
   private static final String ERROR_BUCKET_PATH = "ERROR";
   private static final String URI_ATTRIBUTE = "uri";
   private static final String SCOPUS_IDENTIFIER = "scopusIdentifier";
@@ -86,6 +87,7 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
   private final ScopusUpdater scopusUpdater;
   private final ScopusFileConverter scopusFileConverter;
   private final SearchService searchService;
+  private final ScopusThrottling throttling;
   private static final AtomicReference<AuthorizedBackendUriRetriever>
       authorizedBackendUriRetriever = new AtomicReference<>();
 
@@ -93,7 +95,8 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
   public ScopusHandler() {
     this(
         S3Driver.defaultS3Client().build(),
-        new PublicationChannelConnection(getAuthorizedBackendUriRetriever()),
+        new PublicationChannelConnection(
+            getAuthorizedBackendUriRetriever(), ScopusThrottling.shared().publicationChannels()),
         IdentityServiceClient.prepare(),
         ResourceService.defaultService(),
         new ScopusUpdater(ResourceService.defaultService(), getAuthorizedBackendUriRetriever()),
@@ -102,7 +105,8 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
         SearchService.create(
             new UriRetriever(),
             ResourceService.defaultService(new Environment().readEnv("RESOURCES_TABLE_NAME"))),
-        new ContributorExtractor(defaultPiaConnection(), defaultCristinConnection()));
+        new ContributorExtractor(defaultPiaConnection(), defaultCristinConnection()),
+        ScopusThrottling.shared());
   }
 
   public ScopusHandler(
@@ -113,7 +117,8 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
       ScopusUpdater scopusUpdater,
       ScopusFileConverter scopusFileConverter,
       SearchService searchService,
-      ContributorExtractor contributorExtractor) {
+      ContributorExtractor contributorExtractor,
+      ScopusThrottling throttling) {
     this.s3Client = s3Client;
     this.publicationChannelConnection = publicationChannelConnection;
     this.identityServiceClient = identityServiceClient;
@@ -122,12 +127,16 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
     this.scopusFileConverter = scopusFileConverter;
     this.searchService = searchService;
     this.contributorExtractor = contributorExtractor;
+    this.throttling = throttling;
   }
 
   @Override
   public ImportCandidate handleRequest(SQSEvent event, Context context) {
     LOGGER.info("Processing event: {}", event);
-    return attempt(() -> processRequest(event)).orElse(this::handleError);
+    throttling.startInvocation(context);
+    var importCandidate = attempt(() -> processRequest(event)).orElse(this::handleError);
+    LOGGER.info(RATE_LIMITER_STATISTICS_MESSAGE, throttling.statistics());
+    return importCandidate;
   }
 
   private ImportCandidate processRequest(SQSEvent event) {
@@ -324,46 +333,17 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
             String.valueOf(now.getYear()));
   }
 
-  private Try<ImportCandidate> persistOrUpdateInDatabase(ImportCandidate importCandidate)
-      throws CandidateAlreadyImportedException, NotFoundException {
+  private Try<ImportCandidate> persistOrUpdateInDatabase(ImportCandidate importCandidate) {
     if (nonNull(importCandidate.getIdentifier())) {
       LOGGER.info("Updating existing candidate");
-      return Try.of(importCandidateService.updateImportCandidate(importCandidate));
+      return writeToDatabase(() -> importCandidateService.updateImportCandidate(importCandidate));
     }
     LOGGER.info("Persisting new candidate");
-    return persistInDatabase(importCandidate);
-  }
-
-  private Try<ImportCandidate> persistInDatabase(ImportCandidate importCandidate) {
-    var attemptSave = tryPersistingInDatabase(importCandidate);
-    for (int efforts = 0; shouldTryAgain(attemptSave, efforts); efforts++) {
-      attemptSave = tryPersistingInDatabase(importCandidate);
-      avoidCongestionInDatabase();
-    }
-    return attemptSave;
-  }
-
-  @SuppressWarnings("PMD.DoNotUseThreads")
-  private void avoidCongestionInDatabase() {
-    int sleepTime = spreadWriteRequests();
-    try {
-      Thread.sleep(sleepTime);
-    } catch (InterruptedException exception) {
-      Thread.currentThread().interrupt();
-      throw new RuntimeException(exception);
-    }
-  }
-
-  private int spreadWriteRequests() {
-    return RANDOM.nextInt(MAX_SLEEP_TIME);
-  }
-
-  private boolean shouldTryAgain(Try<ImportCandidate> attemptSave, int efforts) {
-    return attemptSave.isFailure() && efforts < MAX_EFFORTS;
+    return writeToDatabase(() -> createImportCandidate(importCandidate));
   }
 
-  private Try<ImportCandidate> tryPersistingInDatabase(ImportCandidate importCandidate) {
-    return attempt(() -> createImportCandidate(importCandidate));
+  private Try<ImportCandidate> writeToDatabase(Callable<ImportCandidate> write) {
+    return attempt(() -> throttling.database().call(write, ThrottleSignal.dynamoDb()));
   }
 
   private ImportCandidate createImportCandidate(ImportCandidate importCandidate) {
@@ -372,8 +352,7 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
 
   private ImportCandidate createImportCandidate(URI s3Uri) {
     LOGGER.info("Processing Scopus import from S3: {}", s3Uri);
-    return attempt(() -> readFile(s3Uri))
-        .map(this::parseXmlFile)
+    return attempt(() -> readDocument(s3Uri))
         .map(this::generateImportCandidate)
         .orElseThrow(fail -> logErrorAndThrowException(fail.getException()));
   }
@@ -385,10 +364,6 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
         : new RuntimeException(exception);
   }
 
-  private DocTp parseXmlFile(String file) {
-    return JAXB.unmarshal(new StringReader(file), DocTp.class);
-  }
-
   private ImportCandidate generateImportCandidate(DocTp docTp) {
     var scopusConverter =
         new ScopusConverter(
@@ -400,6 +375,17 @@ public class ScopusHandler implements RequestHandler<SQSEvent, ImportCandidate>
     return scopusConverter.generateImportCandidate();
   }
 
+  private DocTp readDocument(URI s3Uri) throws IOException, JAXBException {
+    var request =
+        GetObjectRequest.builder()
+            .bucket(SCOPUS_XML_BUCKET)
+            .key(UriWrapper.fromUri(s3Uri).toS3bucketPath().toString())
+            .build();
+    try (var input = s3Client.getObject(request, ResponseTransformer.toInputStream())) {
+      return ScopusDocumentReader.read(input);
+    }
+  }
+
   private String readFile(URI s3Uri) {
     var s3Driver = new S3Driver(s3Client, SCOPUS_XML_BUCKET);
     return s3Driver.getFile(UriWrapper.fromUri(s3Uri).toS3bucketPath());
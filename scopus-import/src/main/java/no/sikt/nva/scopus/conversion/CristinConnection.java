@@ -8,7 +8,6 @@ import static nva.commons.core.attempt.Try.attempt;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -17,6 +16,9 @@ import java.net.http.HttpResponse.BodyHandlers;
 import java.util.Optional;
 import no.sikt.nva.scopus.conversion.model.cristin.CristinPerson;
 import no.sikt.nva.scopus.conversion.model.cristin.SearchOrganizationResponse;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter;
+import no.sikt.nva.scopus.throttling.ScopusThrottling;
+import no.sikt.nva.scopus.throttling.ThrottleSignal;
 import no.unit.nva.commons.json.JsonUtils;
 import no.unit.nva.expansion.model.cristin.CristinOrganization;
 import nva.commons.core.Environment;
@@ -41,15 +43,21 @@ public class CristinConnection {
   private static final String QUERY = "query";
   private final HttpClient httpClient;
   private final Environment environment;
+  private final AdaptiveRateLimiter rateLimiter;
 
-  public CristinConnection(HttpClient httpClient, Environment environment) {
+  public CristinConnection(
+      HttpClient httpClient, Environment environment, AdaptiveRateLimiter rateLimiter) {
     this.httpClient = httpClient;
     this.environment = environment;
+    this.rateLimiter = rateLimiter;
   }
 
   @JacocoGenerated
   public CristinConnection() {
-    this(HttpClient.newBuilder().connectTimeout(HTTP_CONNECT_TIMEOUT).build(), new Environment());
+    this(
+        HttpClient.newBuilder().connectTimeout(HTTP_CONNECT_TIMEOUT).build(),
+        new Environment(),
+        ScopusThrottling.shared().cristin());
   }
 
   public Optional<CristinPerson> getCristinPersonByCristinId(URI cristinPersonId) {
@@ -138,9 +146,9 @@ public class CristinConnection {
     return response.body();
   }
 
-  private HttpResponse<String> getCristinResponse(HttpRequest httpRequest)
-      throws IOException, InterruptedException {
-    return httpClient.send(httpRequest, BodyHandlers.ofString());
+  private HttpResponse<String> getCristinResponse(HttpRequest httpRequest) throws Exception {
+    return rateLimiter.call(
+        () -> httpClient.send(httpRequest, BodyHandlers.ofString()), ThrottleSignal.http());
   }
 
   private HttpRequest createRequest(URI uri) {
@@ -8,7 +8,6 @@ import static nva.commons.core.attempt.Try.attempt;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -23,6 +22,9 @@ import java.util.List;
 import java.util.Optional;
 import no.sikt.nva.scopus.conversion.model.pia.Affiliation;
 import no.sikt.nva.scopus.conversion.model.pia.Author;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter;
+import no.sikt.nva.scopus.throttling.ScopusThrottling;
+import no.sikt.nva.scopus.throttling.ThrottleSignal;
 import no.unit.nva.commons.json.JsonUtils;
 import nva.commons.core.Environment;
 import nva.commons.core.JacocoGenerated;
@@ -61,10 +63,15 @@ public class PiaConnection {
   private final transient String piaAuthorization;
   private final String piaHost;
   private final String cristinProxyHost;
+  private final AdaptiveRateLimiter rateLimiter;
 
   public PiaConnection(
-      HttpClient httpClient, SecretsReader secretsReader, Environment environment) {
+      HttpClient httpClient,
+      SecretsReader secretsReader,
+      Environment environment,
+      AdaptiveRateLimiter rateLimiter) {
     this.httpClient = httpClient;
+    this.rateLimiter = rateLimiter;
     this.piaHost = environment.readEnv(PIA_REST_API_ENV_KEY);
     this.piaAuthorization = createAuthorization(secretsReader, environment);
     this.cristinProxyHost = environment.readEnv(API_HOST);
@@ -72,7 +79,11 @@ public class PiaConnection {
 
   @JacocoGenerated
   public PiaConnection() {
-    this(getDefaultHttpClient(), new SecretsReader(), new Environment());
+    this(
+        getDefaultHttpClient(),
+        new SecretsReader(),
+        new Environment(),
+        ScopusThrottling.shared().pia());
   }
 
   public Optional<URI> getCristinPersonIdentifier(String scopusAuthorIdentifier) {
@@ -221,8 +232,10 @@ public class PiaConnection {
     return response.body();
   }
 
-  private HttpResponse<String> getResponse(URI uri) throws IOException, InterruptedException {
-    return httpClient.send(createRequest(uri), BodyHandlers.ofString());
+  private HttpResponse<String> getResponse(URI uri) throws Exception {
+    var request = createRequest(uri);
+    return rateLimiter.call(
+        () -> httpClient.send(request, BodyHandlers.ofString()), ThrottleSignal.http());
   }
 
   private List<Author> getPiaAuthorResponse(String scopusAuid) {
@@ -11,6 +11,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 import no.sikt.nva.scopus.conversion.model.PublicationChannelResponse;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter;
+import no.sikt.nva.scopus.throttling.ThrottleSignal;
 import no.unit.nva.auth.uriretriever.AuthorizedBackendUriRetriever;
 import no.unit.nva.commons.json.JsonUtils;
 import nva.commons.core.Environment;
@@ -28,9 +30,12 @@ public class PublicationChannelConnection {
   private static final Logger LOGGER = LoggerFactory.getLogger(PublicationChannelConnection.class);
   private static final String API_HOST = new Environment().readEnv("API_HOST");
   private final AuthorizedBackendUriRetriever uriRetriever;
+  private final AdaptiveRateLimiter rateLimiter;
 
-  public PublicationChannelConnection(AuthorizedBackendUriRetriever uriRetriever) {
+  public PublicationChannelConnection(
+      AuthorizedBackendUriRetriever uriRetriever, AdaptiveRateLimiter rateLimiter) {
     this.uriRetriever = uriRetriever;
+    this.rateLimiter = rateLimiter;
   }
 
   public Optional<URI> fetchSerialPublication(
@@ -72,7 +77,7 @@ public class PublicationChannelConnection {
 
   private Optional<URI> fetchPublicationChannelId(Stream<URI> uriStream) {
     return uriStream
-        .map(uri -> uriRetriever.fetchResponse(uri, CONTENT_TYPE))
+        .map(this::fetchResponse)
         .filter(Optional::isPresent)
         .map(Optional::get)
         .map(this::handleResponse)
@@ -83,6 +88,15 @@ public class PublicationChannelConnection {
         .findFirst();
   }
 
+  private Optional<HttpResponse<String>> fetchResponse(URI uri) {
+    return attempt(
+            () ->
+                rateLimiter.call(
+                    () -> uriRetriever.fetchResponse(uri, CONTENT_TYPE),
+                    ThrottleSignal.optionalHttp()))
+        .orElseThrow();
+  }
+
   private String handleResponse(HttpResponse<String> response) {
     if (HTTP_OK != response.statusCode()) {
       LOGGER.error(
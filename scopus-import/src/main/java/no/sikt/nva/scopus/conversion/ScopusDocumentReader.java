@@ -0,0 +1,72 @@
+package no.sikt.nva.scopus.conversion;
+
+import static java.util.Objects.isNull;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import no.scopus.generated.DocTp;
+
+/**
+ * Reads Scopus documents with a StAX parser directly from a stream, so that the XML is never held
+ * in memory as text. Unmarshallers are not thread-safe, so they are borrowed from a pool over a
+ * single {@link JAXBContext}. The pool creates unmarshallers on demand and keeps at most
+ * {@value #MAX_POOLED_UNMARSHALLERS} of them for reuse.
+ */
+public final class ScopusDocumentReader {
+
+  private static final int MAX_POOLED_UNMARSHALLERS = 8;
+  private static final JAXBContext CONTEXT = createContext();
+  private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+  private static final BlockingQueue<Unmarshaller> UNMARSHALLERS =
+      new ArrayBlockingQueue<>(MAX_POOLED_UNMARSHALLERS);
+
+  private ScopusDocumentReader() {}
+
+  /**
+   * Unmarshals the document element of the input. The input is not closed.
+   *
+   * @throws JAXBException when the input is not a Scopus document
+   */
+  public static DocTp read(InputStream input) throws JAXBException {
+    var unmarshaller = borrowUnmarshaller();
+    try {
+      var reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+      try {
+        reader.nextTag();
+        return unmarshaller.unmarshal(reader, DocTp.class).getValue();
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException exception) {
+      throw new JAXBException(exception);
+    } finally {
+      UNMARSHALLERS.offer(unmarshaller);
+    }
+  }
+
+  private static Unmarshaller borrowUnmarshaller() throws JAXBException {
+    var unmarshaller = UNMARSHALLERS.poll();
+    return isNull(unmarshaller) ? CONTEXT.createUnmarshaller() : unmarshaller;
+  }
+
+  private static JAXBContext createContext() {
+    try {
+      return JAXBContext.newInstance(DocTp.class);
+    } catch (JAXBException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    var factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+}
@@ -0,0 +1,210 @@
+package no.sikt.nva.scopus.throttling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Token bucket for the calls to one upstream dependency, with a refill rate that adapts to the
+ * upstream by additive increase and multiplicative decrease (AIMD). Every call that goes through
+ * raises the rate by one permit per second per second of calls, and the rate is halved when the
+ * upstream throttles or fails, at most once per {@link Settings#decreaseInterval()} so that a burst
+ * of failed concurrent calls counts as one signal. The bucket holds at most one second of permits.
+ *
+ * <p>Throttled calls are retried with jittered exponential backoff. A call is never started when
+ * its permit or backoff would end after the deadline, so the caller gets a result in time to
+ * handle it.
+ */
+public final class AdaptiveRateLimiter {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+  private static final double DECREASE_FACTOR = 0.5;
+  private static final int MAX_SHIFT = 20;
+
+  private final String name;
+  private final Settings settings;
+  private final Supplier<Instant> deadline;
+  private final Clock clock;
+  private final Sleeper sleeper;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder throttled = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private double rate;
+  private double tokens;
+  private Instant lastRefill;
+  private Instant lastDecrease = Instant.MIN;
+
+  public AdaptiveRateLimiter(
+      String name, Settings settings, Supplier<Instant> deadline, Clock clock, Sleeper sleeper) {
+    this.name = name;
+    this.settings = settings;
+    this.deadline = deadline;
+    this.clock = clock;
+    this.sleeper = sleeper;
+    this.rate = settings.initialRate();
+    this.tokens = burstCapacity();
+    this.lastRefill = clock.instant();
+  }
+
+  /**
+   * Calls the action when a permit is available, and retries it while the signal reports the
+   * upstream as throttled. When the attempts or the time until the deadline are used up, the last
+   * throttled result is returned or the last throttled exception is thrown.
+   *
+   * @throws TimeoutException when no permit is available before the deadline
+   */
+  public <T> T call(Callable<T> action, ThrottleSignal<? super T> signal) throws Exception {
+    for (var attempt = 1; ; attempt++) {
+      acquire();
+      T result;
+      try {
+        result = action.call();
+      } catch (Exception exception) {
+        if (!signal.isThrottled(exception)) {
+          throw exception;
+        }
+        onThrottled();
+        if (!backOff(attempt)) {
+          throw exception;
+        }
+        continue;
+      }
+      if (!signal.isThrottled(result)) {
+        onSuccess();
+        return result;
+      }
+      onThrottled();
+      if (!backOff(attempt)) {
+        return result;
+      }
+    }
+  }
+
+  public Statistics statistics() {
+    lock.lock();
+    try {
+      return new Statistics(name, rate, calls.sum(), throttled.sum(), rejected.sum());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void acquire() throws InterruptedException, TimeoutException {
+    var wait = reservePermit();
+    if (wait.isNegative()) {
+      rejected.increment();
+      throw new TimeoutException("No permit for " + name + " before the deadline");
+    }
+    if (!wait.isZero()) {
+      sleeper.sleep(wait);
+    }
+    calls.increment();
+  }
+
+  /** Reserves a permit and returns how long to wait for it, or a negative duration if too late. */
+  private Duration reservePermit() {
+    lock.lock();
+    try {
+      var now = clock.instant();
+      refill(now);
+      var wait =
+          tokens >= 1
+              ? Duration.ZERO
+              : Duration.ofNanos((long) Math.ceil((1 - tokens) / rate * NANOS_PER_SECOND));
+      if (now.plus(wait).isAfter(deadline.get())) {
+        return Duration.ofNanos(-1);
+      }
+      tokens--;
+      return wait;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean backOff(int attempt) throws InterruptedException {
+    if (attempt >= settings.maxAttempts()) {
+      return false;
+    }
+    var ceiling =
+        Math.min(
+            settings.maxDelay().toMillis(),
+            settings.baseDelay().toMillis() << Math.min(attempt - 1, MAX_SHIFT));
+    var delay = Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    if (clock.instant().plus(delay).isAfter(deadline.get())) {
+      return false;
+    }
+    sleeper.sleep(delay);
+    return true;
+  }
+
+  private void onSuccess() {
+    lock.lock();
+    try {
+      refill(clock.instant());
+      rate = Math.min(settings.maximumRate(), rate + 1 / rate);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void onThrottled() {
+    throttled.increment();
+    lock.lock();
+    try {
+      var now = clock.instant();
+      refill(now);
+      if (lastDecrease.plus(settings.decreaseInterval()).isAfter(now)) {
+        return;
+      }
+      lastDecrease = now;
+      rate = Math.max(settings.minimumRate(), rate * DECREASE_FACTOR);
+      tokens = Math.min(tokens, burstCapacity());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void refill(Instant now) {
+    var elapsedNanos = Math.max(0, Duration.between(lastRefill, now).toNanos());
+    tokens = Math.min(burstCapacity(), tokens + elapsedNanos / NANOS_PER_SECOND * rate);
+    lastRefill = now;
+  }
+
+  private double burstCapacity() {
+    return Math.max(1, rate);
+  }
+
+  /** Sleeps while waiting for a permit or backing off. Tests replace it to advance a clock. */
+  @FunctionalInterface
+  public interface Sleeper {
+
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    Sleeper THREAD_SLEEP = Thread::sleep;
+
+    void sleep(Duration duration) throws InterruptedException;
+  }
+
+  /**
+   * Rates are in calls per second. Retries of throttled calls wait a random duration between zero
+   * and a ceiling that starts at the base delay and doubles for every attempt, up to the maximum.
+   */
+  public record Settings(
+      double initialRate,
+      double minimumRate,
+      double maximumRate,
+      int maxAttempts,
+      Duration baseDelay,
+      Duration maxDelay,
+      Duration decreaseInterval) {}
+
+  /** The current rate of a limiter, and the counters of its calls since it was created. */
+  public record Statistics(
+      String name, double rate, long calls, long throttled, long rejected) {}
+}
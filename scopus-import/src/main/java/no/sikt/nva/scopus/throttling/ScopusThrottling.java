@@ -0,0 +1,91 @@
+package no.sikt.nva.scopus.throttling;
+
+import static java.util.Objects.isNull;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter.Settings;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter.Sleeper;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter.Statistics;
+
+/**
+ * The rate limiters for the dependencies of the Scopus import, one for each upstream. They are
+ * shared by all invocations in a Lambda container, so that the learned rates carry over between
+ * invocations. Calls are not started when they cannot finish before the current invocation times
+ * out.
+ */
+public final class ScopusThrottling {
+
+  private static final Duration DEADLINE_MARGIN = Duration.ofSeconds(10);
+  private static final int MAX_ATTEMPTS = 5;
+  private static final Duration BASE_DELAY = Duration.ofMillis(50);
+  private static final Duration MAX_DELAY = Duration.ofSeconds(2);
+  private static final Duration DECREASE_INTERVAL = Duration.ofMillis(500);
+  private static final ScopusThrottling SHARED =
+      new ScopusThrottling(Clock.systemUTC(), Sleeper.THREAD_SLEEP);
+
+  private final Clock clock;
+  private final AdaptiveRateLimiter cristin;
+  private final AdaptiveRateLimiter pia;
+  private final AdaptiveRateLimiter publicationChannels;
+  private final AdaptiveRateLimiter database;
+  private volatile Instant deadline = Instant.MAX;
+
+  public ScopusThrottling(Clock clock, Sleeper sleeper) {
+    this.clock = clock;
+    this.cristin = limiter("cristin", 20, 100, sleeper);
+    this.pia = limiter("pia", 10, 50, sleeper);
+    this.publicationChannels = limiter("publicationChannels", 20, 100, sleeper);
+    this.database = limiter("database", 50, 500, sleeper);
+  }
+
+  public static ScopusThrottling shared() {
+    return SHARED;
+  }
+
+  /** Limits the calls to the time left of the invocation, or does not limit them without one. */
+  public void startInvocation(Context context) {
+    deadline =
+        isNull(context)
+            ? Instant.MAX
+            : clock
+                .instant()
+                .plusMillis(context.getRemainingTimeInMillis())
+                .minus(DEADLINE_MARGIN);
+  }
+
+  public AdaptiveRateLimiter cristin() {
+    return cristin;
+  }
+
+  public AdaptiveRateLimiter pia() {
+    return pia;
+  }
+
+  public AdaptiveRateLimiter publicationChannels() {
+    return publicationChannels;
+  }
+
+  public AdaptiveRateLimiter database() {
+    return database;
+  }
+
+  public List<Statistics> statistics() {
+    return List.of(
+        cristin.statistics(),
+        pia.statistics(),
+        publicationChannels.statistics(),
+        database.statistics());
+  }
+
+  private AdaptiveRateLimiter limiter(
+      String name, double initialRate, double maximumRate, Sleeper sleeper) {
+    var settings =
+        new Settings(
+            initialRate, 1, maximumRate, MAX_ATTEMPTS, BASE_DELAY, MAX_DELAY, DECREASE_INTERVAL);
+    return new AdaptiveRateLimiter(name, settings, () -> deadline, clock, sleeper);
+  }
+}
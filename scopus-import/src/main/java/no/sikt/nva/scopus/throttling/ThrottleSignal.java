@@ -0,0 +1,100 @@
+package no.sikt.nva.scopus.throttling;
+
+import static java.util.Objects.nonNull;
+
+import java.net.HttpURLConnection;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.Optional;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionConflictException;
+
+/**
+ * Tells an {@link AdaptiveRateLimiter} whether the upstream throttled or failed a call, from its
+ * result or from the exception it threw.
+ */
+public interface ThrottleSignal<T> {
+
+  int TOO_MANY_REQUESTS = 429;
+  String THROTTLING_ERROR = "ThrottlingError";
+  String TRANSACTION_CONFLICT = "TransactionConflict";
+
+  /** Signals throttling for responses with status 429 or 5xx, and for request timeouts. */
+  static ThrottleSignal<HttpResponse<?>> http() {
+    return new ThrottleSignal<>() {
+      @Override
+      public boolean isThrottled(HttpResponse<?> response) {
+        return isThrottlingStatus(response.statusCode());
+      }
+
+      @Override
+      public boolean isThrottled(Exception exception) {
+        return exception instanceof HttpTimeoutException;
+      }
+    };
+  }
+
+  /** Signals throttling like {@link #http()} for responses that may be missing. */
+  static ThrottleSignal<Optional<? extends HttpResponse<?>>> optionalHttp() {
+    return response ->
+        response
+            .map(HttpResponse::statusCode)
+            .filter(ThrottleSignal::isThrottlingStatus)
+            .isPresent();
+  }
+
+  /**
+   * Signals throttling for DynamoDB exceptions anywhere in the cause chain that report exceeded
+   * capacity, a server error or a conflicting transaction.
+   */
+  static ThrottleSignal<Object> dynamoDb() {
+    return new ThrottleSignal<>() {
+      @Override
+      public boolean isThrottled(Object result) {
+        return false;
+      }
+
+      @Override
+      public boolean isThrottled(Exception exception) {
+        for (Throwable cause = exception; nonNull(cause); cause = cause.getCause()) {
+          if (isThrottlingDynamoDbException(cause)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    };
+  }
+
+  private static boolean isThrottlingStatus(int statusCode) {
+    return statusCode == TOO_MANY_REQUESTS || statusCode >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+  }
+
+  private static boolean isThrottlingDynamoDbException(Throwable exception) {
+    return switch (exception) {
+      case ProvisionedThroughputExceededException ignored -> true;
+      case RequestLimitExceededException ignored -> true;
+      case TransactionConflictException ignored -> true;
+      case TransactionCanceledException canceled ->
+          canceled.hasCancellationReasons()
+              && canceled.cancellationReasons().stream()
+                  .anyMatch(
+                      reason ->
+                          THROTTLING_ERROR.equals(reason.code())
+                              || TRANSACTION_CONFLICT.equals(reason.code()));
+      case SdkServiceException service ->
+          service.isThrottlingException()
+              || service.statusCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+      default -> false;
+    };
+  }
+
+  boolean isThrottled(T result);
+
+  default boolean isThrottled(Exception exception) {
+    return false;
+  }
+}
@@ -15,6 +15,7 @@ import static no.sikt.nva.scopus.conversion.files.model.ContentVersion.VOR;
 import static no.sikt.nva.scopus.utils.ScopusGenerator.createWithOneAuthorGroupAndAffiliation;
 import static no.sikt.nva.scopus.utils.ScopusGenerator.randomYear;
 import static no.sikt.nva.scopus.utils.ScopusTestUtils.randomCustomer;
+import static no.sikt.nva.scopus.utils.ScopusTestUtils.throttlingWithoutWaiting;
 import static no.unit.nva.language.LanguageConstants.BOKMAAL;
 import static no.unit.nva.language.LanguageConstants.ENGLISH;
 import static no.unit.nva.language.LanguageConstants.MISCELLANEOUS;
@@ -131,6 +132,7 @@ import no.sikt.nva.scopus.conversion.model.PublicationChannelResponse;
 import no.sikt.nva.scopus.conversion.model.PublicationChannelResponse.PublicationChannelHit;
 import no.sikt.nva.scopus.conversion.model.cristin.CristinPerson;
 import no.sikt.nva.scopus.conversion.model.pia.Author;
+import no.sikt.nva.scopus.throttling.ScopusThrottling;
 import no.sikt.nva.scopus.update.ScopusUpdater;
 import no.sikt.nva.scopus.utils.ContentWrapper;
 import no.sikt.nva.scopus.utils.CristinGenerator;
@@ -233,6 +235,7 @@ class ScopusHandlerTest extends ResourcesLocalTest {
   private ScopusHandler scopusHandler;
   private ContributorExtractor contributorExtractor;
   private PublicationChannelConnection publicationChannelConnection;
+  private ScopusThrottling throttling;
   private IdentityServiceClient identityServiceClient;
   private ScopusGenerator scopusData;
   private ResourceService importCandidateService;
@@ -259,7 +262,10 @@ class ScopusHandlerTest extends ResourcesLocalTest {
     s3Driver = new S3Driver(s3Client, "ignoredValue");
     var httpClient = WiremockHttpClient.create();
     authorizedBackendUriRetriever = mock(AuthorizedBackendUriRetriever.class);
-    publicationChannelConnection = new PublicationChannelConnection(authorizedBackendUriRetriever);
+    throttling = throttlingWithoutWaiting();
+    publicationChannelConnection =
+        new PublicationChannelConnection(
+            authorizedBackendUriRetriever, throttling.publicationChannels());
     importCandidateService = getResourceService(client, importCandidateTable);
     resourcesService = getResourceService(client, resourcesTable);
     uriRetriever = mock(UriRetriever.class);
@@ -287,7 +293,8 @@ class ScopusHandlerTest extends ResourcesLocalTest {
             scopusUpdater,
             scopusFileConverter,
             mockedSearchService(Collections.emptyList()),
-            contributorExtractor);
+            contributorExtractor,
+            throttling);
     scopusData = new ScopusGenerator();
   }
 
@@ -380,7 +387,8 @@ class ScopusHandlerTest extends ResourcesLocalTest {
             scopusUpdater,
             scopusFileConverter,
             mockedSearchService(Collections.emptyList()),
-            contributorExtractor);
+            contributorExtractor,
+            throttling);
     scopusHandler.handleRequest(event, CONTEXT);
     assertThat(logRecorder.messages(), hasItem(containsString(expectedMessage)));
   }
@@ -402,7 +410,8 @@ class ScopusHandlerTest extends ResourcesLocalTest {
             scopusUpdater,
             scopusFileConverter,
             mockedSearchService(Collections.emptyList()),
-            contributorExtractor);
+            contributorExtractor,
+            throttling);
     scopusHandler.handleRequest(event, CONTEXT);
     assertThat(logRecorder.messages(), hasItem(containsString(expectedMessage)));
   }
@@ -1278,7 +1287,8 @@ class ScopusHandlerTest extends ResourcesLocalTest {
             scopusUpdater,
             scopusFileConverter,
             mockedSearchService(Collections.emptyList()),
-            contributorExtractor);
+            contributorExtractor,
+            throttling);
     assertNull(handler.handleRequest(event, CONTEXT));
     assertNotNull(extractErrorReportFromS3Client());
   }
@@ -1334,7 +1344,8 @@ class ScopusHandlerTest extends ResourcesLocalTest {
             scopusUpdater,
             scopusFileConverter,
             mockedSearchService(List.of(existingPublication)),
-            contributorExtractor);
+            contributorExtractor,
+            throttling);
     createEmptyPiaMock();
     var event = createNewScopusPublicationEvent();
     var importCandidate = handler.handleRequest(event, CONTEXT);
@@ -1361,7 +1372,8 @@ class ScopusHandlerTest extends ResourcesLocalTest {
             scopusUpdater,
             scopusFileConverter,
             mockedSearchService(existingPublications),
-            contributorExtractor);
+            contributorExtractor,
+            throttling);
     createEmptyPiaMock();
     var event = createNewScopusPublicationEvent();
     var importCandidate = handler.handleRequest(event, CONTEXT);
@@ -1385,7 +1397,8 @@ class ScopusHandlerTest extends ResourcesLocalTest {
             scopusUpdater,
             scopusFileConverter,
             mockedSearchServiceDoiLookup(existingPublications, doi, 200),
-            contributorExtractor);
+            contributorExtractor,
+            throttling);
     createEmptyPiaMock();
     var event = createNewScopusPublicationEvent();
     var importCandidate = handler.handleRequest(event, CONTEXT);
@@ -1408,7 +1421,8 @@ class ScopusHandlerTest extends ResourcesLocalTest {
             scopusUpdater,
             scopusFileConverter,
             mockedSearchServiceDoiLookup(existingPublications, doi, 502),
-            contributorExtractor);
+            contributorExtractor,
+            throttling);
     createEmptyPiaMock();
     var event = createNewScopusPublicationEvent();
     var importCandidate = handler.handleRequest(event, CONTEXT);
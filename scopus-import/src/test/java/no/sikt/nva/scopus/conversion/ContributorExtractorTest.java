@@ -10,6 +10,7 @@ import static java.net.HttpURLConnection.HTTP_OK;
 import static no.sikt.nva.scopus.conversion.ContributorExtractor.SCOPUS_AUID;
 import static no.sikt.nva.scopus.utils.CristinGenerator.generateCristinOrganizationWithCountry;
 import static no.sikt.nva.scopus.utils.ScopusTestUtils.randomCustomer;
+import static no.sikt.nva.scopus.utils.ScopusTestUtils.throttlingWithoutWaiting;
 import static no.unit.nva.publication.testing.http.RandomPersonServiceResponse.randomUri;
 import static no.unit.nva.testutils.RandomDataGenerator.randomInteger;
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
@@ -110,8 +111,9 @@ public class ContributorExtractorTest {
     var fakeSecretsManager = createFakeSecretsManager();
     var secretsReader = new SecretsReader(fakeSecretsManager);
 
-    cristinConnection = new CristinConnection(httpClient, environment);
-    piaConnection = new PiaConnection(httpClient, secretsReader, environment);
+    var throttling = throttlingWithoutWaiting();
+    cristinConnection = new CristinConnection(httpClient, environment, throttling.cristin());
+    piaConnection = new PiaConnection(httpClient, secretsReader, environment, throttling.pia());
   }
 
   @Test
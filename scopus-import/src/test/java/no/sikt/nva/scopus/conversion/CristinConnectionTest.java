@@ -7,6 +7,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static no.unit.nva.testutils.RandomDataGenerator.randomUri;
+import static no.sikt.nva.scopus.utils.ScopusTestUtils.throttlingWithoutWaiting;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -19,10 +20,12 @@ import static org.mockito.Mockito.when;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.util.List;
 import no.sikt.nva.scopus.conversion.model.cristin.CristinPerson;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter;
 import no.sikt.nva.scopus.utils.CristinGenerator;
 import no.unit.nva.expansion.model.cristin.CristinOrganization;
 import no.unit.nva.stubs.WiremockHttpClient;
@@ -35,7 +38,9 @@ import org.junit.jupiter.api.Test;
 @WireMockTest(httpsEnabled = true)
 class CristinConnectionTest {
 
+  private static final String RECOVERED = "recovered";
   private CristinConnection cristinConnection;
+  private AdaptiveRateLimiter rateLimiter;
 
   @BeforeEach
   void init(WireMockRuntimeInfo wireMockRuntimeInfo) {
@@ -43,7 +48,8 @@ class CristinConnectionTest {
     var environment = mock(Environment.class);
     when(environment.readEnv("API_HOST"))
         .thenReturn(wireMockRuntimeInfo.getHttpsBaseUrl().replace("https://", ""));
-    cristinConnection = new CristinConnection(httpClient, environment);
+    rateLimiter = throttlingWithoutWaiting().cristin();
+    cristinConnection = new CristinConnection(httpClient, environment, rateLimiter);
   }
 
   @Test
@@ -81,6 +87,19 @@ class CristinConnectionTest {
     assertThat(actualPerson.get(), is(equalTo(expectedPerson)));
   }
 
+  @Test
+  void shouldRetryWhenCristinProxyIsUnavailable(WireMockRuntimeInfo wireMockRuntimeInfo) {
+    var randomPersonUri = getRandomPersonUri(wireMockRuntimeInfo);
+    var expectedPerson = createExpectedPerson(randomPersonUri);
+    mockCristinPersonAfterUnavailable(randomPersonUri, expectedPerson.toJsonString());
+
+    var actualPerson = cristinConnection.getCristinPersonByCristinId(randomPersonUri);
+
+    assertThat(actualPerson.orElseThrow(), is(equalTo(expectedPerson)));
+    assertThat(rateLimiter.statistics().calls(), is(equalTo(2L)));
+    assertThat(rateLimiter.statistics().throttled(), is(equalTo(1L)));
+  }
+
   @Test
   void shouldReturnPeronFetchedByOrcId() {
     var orcId = randomString();
@@ -180,6 +199,20 @@ class CristinConnectionTest {
             .willReturn(aResponse().withBody(response).withStatus(HttpURLConnection.HTTP_OK)));
   }
 
+  private void mockCristinPersonAfterUnavailable(URI cristinPersonId, String response) {
+    stubFor(
+        WireMock.get(urlPathEqualTo(cristinPersonId.getPath()))
+            .inScenario(cristinPersonId.getPath())
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(aResponse().withStatus(HttpURLConnection.HTTP_UNAVAILABLE))
+            .willSetStateTo(RECOVERED));
+    stubFor(
+        WireMock.get(urlPathEqualTo(cristinPersonId.getPath()))
+            .inScenario(cristinPersonId.getPath())
+            .whenScenarioStateIs(RECOVERED)
+            .willReturn(aResponse().withBody(response).withStatus(HttpURLConnection.HTTP_OK)));
+  }
+
   private void mockCristinOrganization(URI cristinId, String organization) {
     stubFor(
         WireMock.get(urlPathEqualTo(cristinId.getPath()))
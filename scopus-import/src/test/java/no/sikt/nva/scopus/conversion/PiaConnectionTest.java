@@ -9,6 +9,7 @@ import static no.sikt.nva.scopus.conversion.PiaConnection.PIA_PASSWORD_KEY;
 import static no.sikt.nva.scopus.conversion.PiaConnection.PIA_REST_API_ENV_KEY;
 import static no.sikt.nva.scopus.conversion.PiaConnection.PIA_SECRETS_NAME_ENV_KEY;
 import static no.sikt.nva.scopus.conversion.PiaConnection.PIA_USERNAME_KEY;
+import static no.sikt.nva.scopus.utils.ScopusTestUtils.throttlingWithoutWaiting;
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -51,7 +52,8 @@ class PiaConnectionTest {
         new PiaConnection(
             WiremockHttpClient.create(),
             secretsReader,
-            createPiaConnectionEnvironment(wireMockRuntimeInfo));
+            createPiaConnectionEnvironment(wireMockRuntimeInfo),
+            throttlingWithoutWaiting().pia());
   }
 
   @Test
@@ -2,11 +2,14 @@ package no.sikt.nva.scopus.conversion;
 
 import static java.net.HttpURLConnection.HTTP_BAD_GATEWAY;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static no.sikt.nva.scopus.utils.ScopusTestUtils.throttlingWithoutWaiting;
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static no.unit.nva.testutils.RandomDataGenerator.randomUri;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -18,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 import no.sikt.nva.scopus.conversion.model.PublicationChannelResponse;
 import no.sikt.nva.scopus.conversion.model.PublicationChannelResponse.PublicationChannelHit;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter;
 import no.unit.nva.auth.uriretriever.AuthorizedBackendUriRetriever;
 import no.unit.nva.publication.testing.http.FakeHttpResponse;
 import nva.commons.logutils.LogRecorder;
@@ -26,13 +30,30 @@ import org.junit.jupiter.api.Test;
 
 class PublicationChannelConnectionTest {
 
+  private static final int TOO_MANY_REQUESTS = 429;
+
   private PublicationChannelConnection publicationChannelConnection;
   private AuthorizedBackendUriRetriever uriRetriever;
+  private AdaptiveRateLimiter rateLimiter;
 
   @BeforeEach
   void setup() {
     uriRetriever = mock(AuthorizedBackendUriRetriever.class);
-    publicationChannelConnection = new PublicationChannelConnection(uriRetriever);
+    rateLimiter = throttlingWithoutWaiting().publicationChannels();
+    publicationChannelConnection = new PublicationChannelConnection(uriRetriever, rateLimiter);
+  }
+
+  @Test
+  void shouldRetrySearchWhenChannelRegisterIsThrottling() {
+    when(uriRetriever.fetchResponse(any(), any()))
+        .thenReturn(Optional.of(FakeHttpResponse.create(randomString(), TOO_MANY_REQUESTS)))
+        .thenReturn(Optional.of(FakeHttpResponse.create(responseWithSingleHit(), HTTP_OK)));
+
+    var publisher = publicationChannelConnection.fetchPublisher(randomString(), randomString());
+
+    assertThat(publisher.isPresent(), is(true));
+    verify(uriRetriever, times(2)).fetchResponse(any(), any());
+    assertThat(rateLimiter.statistics().throttled(), is(equalTo(1L)));
   }
 
   @Test
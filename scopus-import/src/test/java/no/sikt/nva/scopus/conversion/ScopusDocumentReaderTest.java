@@ -0,0 +1,95 @@
+package no.sikt.nva.scopus.conversion;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.xml.bind.JAXB;
+import jakarta.xml.bind.JAXBException;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import no.scopus.generated.DocTp;
+import no.sikt.nva.scopus.utils.ScopusGenerator;
+import nva.commons.core.ioutils.IoUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ScopusDocumentReaderTest {
+
+  private static final int MANY_AUTHORS = 2_000;
+  private static final int CONCURRENT_READS = 32;
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2-s2.0-0000469852.xml",
+        "2-s2.0-0018132378.xml",
+        "2-s2.0-0018978799.xml",
+        "2-s2.0-1542462534.xml",
+        "2-s2.0-85175337306.xml"
+      })
+  void shouldReadSameDocumentAsJaxbUnmarshal(String filename) throws JAXBException {
+    var xml = IoUtils.stringFromResources(Path.of(filename));
+
+    var document = ScopusDocumentReader.read(toStream(xml));
+
+    assertThat(toXml(document), is(equalTo(toXml(unmarshal(xml)))));
+  }
+
+  @Test
+  void shouldReadSameDocumentAsJaxbUnmarshalForDocumentWithManyAuthors() throws JAXBException {
+    var xml = ScopusGenerator.createWithNumberOfContributorsFromAuthorTp(MANY_AUTHORS).toXml();
+
+    var document = ScopusDocumentReader.read(toStream(xml));
+
+    assertThat(toXml(document), is(equalTo(toXml(unmarshal(xml)))));
+  }
+
+  @Test
+  void shouldReadDocumentsConcurrentlyWithPooledUnmarshallers() {
+    var xml = IoUtils.stringFromResources(Path.of("2-s2.0-85175337306.xml"));
+    var expected = toXml(unmarshal(xml));
+
+    var reads =
+        IntStream.range(0, CONCURRENT_READS)
+            .mapToObj(ignored -> CompletableFuture.supplyAsync(() -> readAsXml(xml)))
+            .toList();
+
+    assertThat(reads.stream().map(CompletableFuture::join).toList(), everyItem(is(expected)));
+  }
+
+  @Test
+  void shouldThrowJaxbExceptionWhenInputIsNotXml() {
+    assertThrows(JAXBException.class, () -> ScopusDocumentReader.read(toStream("not xml")));
+  }
+
+  private static String readAsXml(String xml) {
+    try {
+      return toXml(ScopusDocumentReader.read(toStream(xml)));
+    } catch (JAXBException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  private static DocTp unmarshal(String xml) {
+    return JAXB.unmarshal(new StringReader(xml), DocTp.class);
+  }
+
+  private static String toXml(DocTp document) {
+    var writer = new StringWriter();
+    JAXB.marshal(document, writer);
+    return writer.toString();
+  }
+
+  private static ByteArrayInputStream toStream(String xml) {
+    return new ByteArrayInputStream(xml.getBytes(UTF_8));
+  }
+}
@@ -0,0 +1,245 @@
+package no.sikt.nva.scopus.throttling;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeoutException;
+import no.sikt.nva.scopus.throttling.AdaptiveRateLimiter.Settings;
+import no.unit.nva.publication.testing.http.FakeHttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+class AdaptiveRateLimiterTest {
+
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int MAX_ATTEMPTS = 5;
+  private static final int UPSTREAM_CAPACITY = 20;
+  private static final int MANY_CALLS = 3_000;
+
+  private MutableClock clock;
+  private Instant deadline;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock();
+    deadline = Instant.MAX;
+  }
+
+  @Test
+  void shouldSettleBelowCapacityOfThrottlingUpstream() throws Exception {
+    var upstream = new SimulatedUpstream(clock, UPSTREAM_CAPACITY);
+    var limiter = limiter(50, 200);
+
+    for (var call = 0; call < MANY_CALLS; call++) {
+      limiter.call(upstream::respond, ThrottleSignal.http());
+    }
+
+    var statistics = limiter.statistics();
+    assertThat(statistics.rate(), is(lessThanOrEqualTo(1.5 * UPSTREAM_CAPACITY)));
+    assertThat((double) statistics.throttled(), is(lessThan(0.05 * statistics.calls())));
+  }
+
+  @Test
+  void shouldIncreaseRateToMaximumWhileUpstreamKeepsUp() throws Exception {
+    var upstream = new SimulatedUpstream(clock, Integer.MAX_VALUE);
+    var limiter = limiter(1, 50);
+
+    for (var call = 0; call < MANY_CALLS; call++) {
+      limiter.call(upstream::respond, ThrottleSignal.http());
+    }
+
+    assertThat(limiter.statistics().rate(), is(closeTo(50, 0.001)));
+  }
+
+  @Test
+  void shouldHalveRateOnceForBurstOfThrottledCalls() throws Exception {
+    var upstream = new SimulatedUpstream(clock, Integer.MAX_VALUE);
+    upstream.throttleNext(3);
+    var limiter = limiter(40, 100);
+
+    limiter.call(upstream::respond, ThrottleSignal.http());
+
+    assertThat(limiter.statistics().rate(), is(closeTo(20 + 1 / 20d, 0.001)));
+  }
+
+  @Test
+  void shouldRetryThrottledResponsesUntilUpstreamResponds() throws Exception {
+    var upstream = new SimulatedUpstream(clock, Integer.MAX_VALUE);
+    upstream.throttleNext(2);
+    var limiter = limiter(10, 100);
+
+    var response = limiter.call(upstream::respond, ThrottleSignal.http());
+
+    assertThat(response.statusCode(), is(equalTo(HTTP_OK)));
+    assertThat(limiter.statistics().calls(), is(equalTo(3L)));
+    assertThat(limiter.statistics().throttled(), is(equalTo(2L)));
+  }
+
+  @Test
+  void shouldReturnLastThrottledResponseWhenAttemptsAreUsedUp() throws Exception {
+    var limiter = limiter(10, 100);
+
+    var response =
+        limiter.call(() -> FakeHttpResponse.create("", HTTP_UNAVAILABLE), ThrottleSignal.http());
+
+    assertThat(response.statusCode(), is(equalTo(HTTP_UNAVAILABLE)));
+    assertThat(limiter.statistics().calls(), is(equalTo((long) MAX_ATTEMPTS)));
+  }
+
+  @Test
+  void shouldRetryWritesThrottledByDynamoDb() throws Exception {
+    var database = new SimulatedDatabase();
+    var limiter = limiter(10, 100);
+
+    var result = limiter.call(database::write, ThrottleSignal.dynamoDb());
+
+    assertThat(result, is(equalTo(SimulatedDatabase.WRITTEN)));
+    assertThat(limiter.statistics().throttled(), is(equalTo(2L)));
+  }
+
+  @Test
+  void shouldNotRetryExceptionsThatAreNotThrottling() {
+    var limiter = limiter(10, 100);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            limiter.call(
+                () -> {
+                  throw new IllegalArgumentException();
+                },
+                ThrottleSignal.dynamoDb()));
+    assertThat(limiter.statistics().calls(), is(equalTo(1L)));
+  }
+
+  @Test
+  void shouldRejectCallsThatCannotStartBeforeDeadline() throws Exception {
+    var limiter = limiter(1, 1);
+    deadline = clock.instant().plusMillis(500);
+    limiter.call(() -> HTTP_OK, ignored -> false);
+
+    assertThrows(TimeoutException.class, () -> limiter.call(() -> HTTP_OK, ignored -> false));
+    assertThat(limiter.statistics().rejected(), is(equalTo(1L)));
+  }
+
+  @Test
+  void shouldNotRetryAfterDeadline() throws Exception {
+    var limiter = limiter(10, 100);
+    deadline = clock.instant().plusMillis(500);
+
+    limiter.call(this::respondSlowlyWithServiceUnavailable, ThrottleSignal.http());
+
+    assertThat(limiter.statistics().calls(), is(equalTo(1L)));
+  }
+
+  private HttpResponse<String> respondSlowlyWithServiceUnavailable() {
+    clock.advance(Duration.ofSeconds(1));
+    return FakeHttpResponse.create("", HTTP_UNAVAILABLE);
+  }
+
+  private AdaptiveRateLimiter limiter(double initialRate, double maximumRate) {
+    var settings =
+        new Settings(
+            initialRate,
+            1,
+            maximumRate,
+            MAX_ATTEMPTS,
+            Duration.ofMillis(50),
+            Duration.ofSeconds(1),
+            Duration.ofMillis(500));
+    return new AdaptiveRateLimiter("upstream", settings, () -> deadline, clock, clock::advance);
+  }
+
+  /** Answers 429 to the calls above its capacity within each second. */
+  private static final class SimulatedUpstream {
+
+    private final Clock clock;
+    private final int capacity;
+    private long currentSecond;
+    private int callsThisSecond;
+    private int throttledCalls;
+
+    private SimulatedUpstream(Clock clock, int capacity) {
+      this.clock = clock;
+      this.capacity = capacity;
+    }
+
+    private void throttleNext(int calls) {
+      throttledCalls = calls;
+    }
+
+    private HttpResponse<String> respond() {
+      var second = clock.instant().getEpochSecond();
+      if (second != currentSecond) {
+        currentSecond = second;
+        callsThisSecond = 0;
+      }
+      callsThisSecond++;
+      if (throttledCalls > 0 || callsThisSecond > capacity) {
+        throttledCalls--;
+        return FakeHttpResponse.create("", TOO_MANY_REQUESTS);
+      }
+      return FakeHttpResponse.create("", HTTP_OK);
+    }
+  }
+
+  /** Fails the first write for exceeded capacity and the second for a throttled transaction. */
+  private static final class SimulatedDatabase {
+
+    private static final String WRITTEN = "written";
+    private int writes;
+
+    private String write() {
+      writes++;
+      if (writes == 1) {
+        throw ProvisionedThroughputExceededException.builder().build();
+      }
+      if (writes == 2) {
+        throw TransactionCanceledException.builder()
+            .cancellationReasons(CancellationReason.builder().code("ThrottlingError").build())
+            .build();
+      }
+      return WRITTEN;
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -5,17 +5,27 @@ import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static no.unit.nva.testutils.RandomDataGenerator.randomUri;
 
 import java.net.URI;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import no.unit.nva.clients.CustomerDto;
+import no.sikt.nva.scopus.throttling.ScopusThrottling;
 import no.unit.nva.expansion.model.cristin.CristinOrganization;
 import no.unit.nva.publication.model.business.PublishingWorkflow;
 import no.unit.nva.testutils.RandomDataGenerator;
 
 public class ScopusTestUtils {
 
+  /**
+   * Rate limiters of their own for a test, which retry and pace calls without sleeping, so that
+   * throttled calls in one test do not slow down the calls of other tests.
+   */
+  public static ScopusThrottling throttlingWithoutWaiting() {
+    return new ScopusThrottling(Clock.systemUTC(), duration -> {});
+  }
+
   public static CustomerDto randomCustomer(URI cristinId) {
     return new CustomerDto(
         RandomDataGenerator.randomUri(),
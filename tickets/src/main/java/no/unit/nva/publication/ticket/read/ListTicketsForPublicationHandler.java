@@ -2,41 +2,48 @@ package no.unit.nva.publication.ticket.read;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import java.net.HttpURLConnection;
+import java.net.URI;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
-import no.unit.nva.identifiers.SortableIdentifier;
 import no.unit.nva.model.CuratingInstitution;
+import no.unit.nva.publication.model.PageCursor;
+import no.unit.nva.publication.model.PageRequest;
+import no.unit.nva.publication.model.TicketWithMessages;
 import no.unit.nva.publication.model.business.Resource;
-import no.unit.nva.publication.model.business.TicketEntry;
 import no.unit.nva.publication.model.business.UserInstance;
 import no.unit.nva.publication.permissions.publication.PublicationPermissions;
 import no.unit.nva.publication.permissions.ticket.TicketPermissions;
 import no.unit.nva.publication.service.impl.ResourceService;
-import no.unit.nva.publication.service.impl.TicketService;
 import no.unit.nva.publication.ticket.TicketDto;
 import no.unit.nva.publication.ticket.TicketHandler;
 import nva.commons.apigateway.RequestInfo;
 import nva.commons.apigateway.exceptions.ApiGatewayException;
+import nva.commons.apigateway.exceptions.BadRequestException;
 import nva.commons.core.Environment;
 import nva.commons.core.JacocoGenerated;
 
+/**
+ * Lists the tickets of a publication that the user may act on, with their messages. The tickets
+ * and messages are read together from the publication's partition instead of per ticket. Paging
+ * is opt-in with the {@code size} and {@code cursor} query parameters, and {@code messages=false}
+ * leaves the messages out.
+ */
 public class ListTicketsForPublicationHandler extends TicketHandler<Void, TicketCollection> {
 
-  private final ResourceService resourceService;
+  public static final String MESSAGES_QUERY_PARAMETER = "messages";
+  public static final int DEFAULT_PAGE_SIZE = 20;
+  public static final int MAX_PAGE_SIZE = 100;
 
-  private final TicketService ticketService;
+  private final ResourceService resourceService;
 
   @JacocoGenerated
   public ListTicketsForPublicationHandler() {
-    this(ResourceService.defaultService(), TicketService.defaultService(), new Environment());
+    this(ResourceService.defaultService(), new Environment());
   }
 
   public ListTicketsForPublicationHandler(
-      ResourceService resourceService, TicketService ticketService, Environment environment) {
+      ResourceService resourceService, Environment environment) {
     super(Void.class, environment);
     this.resourceService = resourceService;
-    this.ticketService = ticketService;
   }
 
   @Override
@@ -50,8 +57,14 @@ public class ListTicketsForPublicationHandler extends TicketHandler<Void, Ticket
       throws ApiGatewayException {
     var publicationIdentifier = extractPublicationIdentifierFromPath(requestInfo);
     var userInstance = UserInstance.fromRequestInfo(requestInfo);
-    var ticketDtos = fetchTickets(publicationIdentifier, userInstance);
-    return TicketCollection.fromTickets(ticketDtos);
+    var resource = resourceService.getResourceByIdentifier(publicationIdentifier);
+    var includeMessages = includeMessages(requestInfo);
+
+    if (PageRequest.isPaginated(requestInfo)) {
+      return fetchPage(resource, userInstance, includeMessages, requestInfo);
+    }
+    var tickets = resourceService.fetchTicketsWithMessages(resource, includeMessages);
+    return TicketCollection.fromTickets(toDtos(tickets, resource, userInstance));
   }
 
   @Override
@@ -59,36 +72,52 @@ public class ListTicketsForPublicationHandler extends TicketHandler<Void, Ticket
     return HttpURLConnection.HTTP_OK;
   }
 
-  private List<TicketDto> fetchTickets(
-      SortableIdentifier publicationIdentifier, UserInstance userInstance)
-      throws ApiGatewayException {
-    var resource = resourceService.getResourceByIdentifier(publicationIdentifier);
-    var publicationPermissions = PublicationPermissions.create(resource, userInstance);
-    var tickets = fetchTickets(resource);
+  private static boolean includeMessages(RequestInfo requestInfo) {
+    return requestInfo
+        .getQueryParameterOpt(MESSAGES_QUERY_PARAMETER)
+        .map(value -> !Boolean.FALSE.toString().equalsIgnoreCase(value))
+        .orElse(true);
+  }
 
-    return tickets
+  private TicketCollection fetchPage(
+      Resource resource,
+      UserInstance userInstance,
+      boolean includeMessages,
+      RequestInfo requestInfo)
+      throws BadRequestException {
+    var page =
+        PageRequest.fromRequestInfo(requestInfo, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE)
+            .read(
+                (pageSize, startMarker) ->
+                    resourceService.fetchTicketsWithMessages(
+                        resource, includeMessages, pageSize, startMarker));
+    return TicketCollection.fromTickets(
+        toDtos(page.getDatabaseEntries(), resource, userInstance),
+        PageCursor.encode(page.getStartMarker()));
+  }
+
+  private static List<TicketDto> toDtos(
+      List<TicketWithMessages> tickets, Resource resource, UserInstance userInstance) {
+    var publicationPermissions = PublicationPermissions.create(resource, userInstance);
+    var curatingInstitutions =
+        resource.getCuratingInstitutions().stream().map(CuratingInstitution::id).toList();
+    return tickets.stream()
         .map(
-            ticketEntry ->
+            ticket ->
                 createDto(
-                    ticketEntry,
-                    resource,
+                    ticket,
+                    curatingInstitutions,
                     TicketPermissions.create(
-                        ticketEntry, userInstance, resource, publicationPermissions)))
+                        ticket.ticket(), userInstance, resource, publicationPermissions)))
         .filter(ticket -> !ticket.getAllowedOperations().isEmpty())
         .toList();
   }
 
-  private Stream<TicketEntry> fetchTickets(Resource resource) {
-    return Optional.ofNullable(resource)
-        .map(resourceService::fetchAllTicketsForResource)
-        .orElseGet(Stream::empty);
-  }
-
-  private TicketDto createDto(
-      TicketEntry ticket, Resource resource, TicketPermissions ticketPermissions) {
-    var messages = ticket.fetchMessages(ticketService);
-    var curatingInstitutions =
-        resource.getCuratingInstitutions().stream().map(CuratingInstitution::id).toList();
-    return TicketDto.fromTicket(ticket, messages, curatingInstitutions, ticketPermissions);
+  private static TicketDto createDto(
+      TicketWithMessages ticket,
+      List<URI> curatingInstitutions,
+      TicketPermissions ticketPermissions) {
+    return TicketDto.fromTicket(
+        ticket.ticket(), ticket.messages(), curatingInstitutions, ticketPermissions);
   }
 }
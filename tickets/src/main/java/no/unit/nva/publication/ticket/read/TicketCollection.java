@@ -2,6 +2,9 @@ package no.unit.nva.publication.ticket.read;
 
 import static java.util.Objects.nonNull;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
@@ -13,19 +16,40 @@ import no.unit.nva.publication.ticket.TicketDto;
 public class TicketCollection {
 
   public static final String TICKETS_FIELD = "tickets";
+  public static final String NEXT_CURSOR_FIELD = "nextCursor";
 
   @JsonProperty(TICKETS_FIELD)
   private final List<TicketDto> tickets;
 
-  public TicketCollection(@JsonProperty(TICKETS_FIELD) List<TicketDto> tickets) {
+  @JsonProperty(NEXT_CURSOR_FIELD)
+  @JsonInclude(Include.NON_NULL)
+  private final String nextCursor;
+
+  public TicketCollection(List<TicketDto> tickets) {
+    this(tickets, null);
+  }
+
+  @JsonCreator
+  public TicketCollection(
+      @JsonProperty(TICKETS_FIELD) List<TicketDto> tickets,
+      @JsonProperty(NEXT_CURSOR_FIELD) String nextCursor) {
     this.tickets = tickets;
+    this.nextCursor = nextCursor;
   }
 
   public static TicketCollection fromTickets(List<TicketDto> tickets) {
     return new TicketCollection(tickets);
   }
 
+  public static TicketCollection fromTickets(List<TicketDto> tickets, String nextCursor) {
+    return new TicketCollection(tickets, nextCursor);
+  }
+
   public List<TicketDto> getTickets() {
     return nonNull(tickets) ? tickets : Collections.emptyList();
   }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
 }
@@ -1,6 +1,8 @@
 package no.unit.nva.publication.ticket.read;
 
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.Objects.nonNull;
 import static no.unit.nva.model.testing.PublicationGenerator.randomContributorWithId;
 import static no.unit.nva.testutils.RandomDataGenerator.randomString;
 import static no.unit.nva.testutils.RandomDataGenerator.randomUri;
@@ -13,6 +15,7 @@ import static nva.commons.core.attempt.Try.attempt;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyIterable;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.hamcrest.core.Is.is;
@@ -20,10 +23,13 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +41,7 @@ import no.unit.nva.model.Publication;
 import no.unit.nva.model.PublicationStatus;
 import no.unit.nva.model.TicketOperation;
 import no.unit.nva.publication.PublicationServiceConfig;
+import no.unit.nva.publication.model.PageRequest;
 import no.unit.nva.publication.model.business.DoiRequest;
 import no.unit.nva.publication.model.business.Entity;
 import no.unit.nva.publication.model.business.FilesApprovalThesis;
@@ -65,6 +72,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.zalando.problem.Problem;
 
 class ListTicketsForPublicationHandlerTest extends TicketTestLocal {
 
@@ -94,8 +102,7 @@ class ListTicketsForPublicationHandlerTest extends TicketTestLocal {
   @BeforeEach
   public void setup() {
     super.init();
-    this.handler =
-        new ListTicketsForPublicationHandler(resourceService, ticketService, new Environment());
+    this.handler = new ListTicketsForPublicationHandler(resourceService, new Environment());
     this.messageService = getMessageService();
   }
 
@@ -158,6 +165,78 @@ class ListTicketsForPublicationHandlerTest extends TicketTestLocal {
     assertThat(body.getTickets(), containsInAnyOrder(expectedTicketDto));
   }
 
+  @ParameterizedTest
+  @MethodSource(
+      "no.unit.nva.publication.ticket.test.TicketTestUtils#ticketTypeAndPublicationStatusProvider")
+  void shouldReturnTicketsWithoutMessagesWhenMessagesAreNotRequested(
+      Class<? extends TicketEntry> ticketType, PublicationStatus status)
+      throws IOException, ApiGatewayException {
+    var publication = TicketTestUtils.createPersistedPublication(status, resourceService);
+    var ticket = createPersistedTicketWithMessage(ticketType, publication);
+
+    var queryParameters =
+        Map.of(ListTicketsForPublicationHandler.MESSAGES_QUERY_PARAMETER, "false");
+    var request = ownerRequestsTicketsForPublication(publication, queryParameters);
+    handler.handleRequest(request, output, CONTEXT);
+    var response = GatewayResponse.fromOutputStream(output, TicketCollection.class);
+    var body = response.getBodyObject(TicketCollection.class);
+
+    assertThat(body.getTickets(), hasSize(1));
+    assertThat(body.getTickets().getFirst().getIdentifier(), is(equalTo(ticket.getIdentifier())));
+    assertThat(body.getTickets().getFirst().getMessages(), is(emptyIterable()));
+  }
+
+  @Test
+  void shouldPageThroughTicketsWithMessagesWhenPageSizeIsGiven()
+      throws IOException, ApiGatewayException {
+    var publication =
+        TicketTestUtils.createPersistedPublication(PublicationStatus.PUBLISHED, resourceService);
+    var expectedTickets = new ArrayList<TicketDto>();
+    for (var ticketType :
+        List.of(
+            DoiRequest.class,
+            GeneralSupportRequest.class,
+            GeneralSupportRequest.class,
+            GeneralSupportRequest.class)) {
+      expectedTickets.add(constructDto(createPersistedTicketWithMessage(ticketType, publication)));
+    }
+
+    var actualTickets = new ArrayList<TicketDto>();
+    String cursor = null;
+    do {
+      output = new ByteArrayOutputStream();
+      var queryParameters = new HashMap<>(Map.of(PageRequest.SIZE_QUERY_PARAMETER, "3"));
+      if (nonNull(cursor)) {
+        queryParameters.put(PageRequest.CURSOR_QUERY_PARAMETER, cursor);
+      }
+      handler.handleRequest(
+          ownerRequestsTicketsForPublication(publication, queryParameters), output, CONTEXT);
+      var body =
+          GatewayResponse.fromOutputStream(output, TicketCollection.class)
+              .getBodyObject(TicketCollection.class);
+      assertThat(body.getTickets().size(), is(lessThanOrEqualTo(3)));
+      actualTickets.addAll(body.getTickets());
+      cursor = body.getNextCursor();
+    } while (nonNull(cursor));
+
+    assertThat(actualTickets, containsInAnyOrder(expectedTickets.toArray()));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenCursorIsInvalid() throws IOException {
+    var publication =
+        TicketTestUtils.createPersistedPublication(PublicationStatus.PUBLISHED, resourceService);
+
+    var request =
+        ownerRequestsTicketsForPublication(
+            publication,
+            Map.of(PageRequest.CURSOR_QUERY_PARAMETER, randomString()));
+    handler.handleRequest(request, output, CONTEXT);
+    var response = GatewayResponse.fromOutputStream(output, Problem.class);
+
+    assertThat(response.getStatusCode(), is(equalTo(HTTP_BAD_REQUEST)));
+  }
+
   @ParameterizedTest
   @MethodSource(
       "no.unit.nva.publication.ticket.test.TicketTestUtils#ticketTypeAndPublicationStatusProvider")
@@ -493,8 +572,15 @@ class ListTicketsForPublicationHandlerTest extends TicketTestLocal {
 
   private static InputStream ownerRequestsTicketsForPublication(Publication publication)
       throws JsonProcessingException {
+    return ownerRequestsTicketsForPublication(publication, Map.of());
+  }
+
+  private static InputStream ownerRequestsTicketsForPublication(
+      Publication publication, Map<String, String> queryParameters)
+      throws JsonProcessingException {
     return new HandlerRequestBuilder<Void>(JsonUtils.dtoObjectMapper)
         .withPathParameters(constructPathParameters(publication))
+        .withQueryParameters(queryParameters)
         .withCurrentCustomer(publication.getPublisher().getId())
         .withUserName(publication.getResourceOwner().getOwner().getValue())
         .withPersonCristinId(randomUri())